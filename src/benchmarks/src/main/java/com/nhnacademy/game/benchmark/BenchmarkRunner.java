@@ -0,0 +1,40 @@
+package com.nhnacademy.game.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행 진입점
+ * JMH 명령행 옵션을 그대로 받되, 할당량을 함께 보도록 GC 프로파일러를 항상 붙입니다.
+ * 결과 형식을 지정하지 않으면 릴리스 간 비교를 위해 JSON 결과를 benchmark-results.json에 저장합니다.
+ *
+ * 사용 예:
+ *   java -jar target/benchmarks.jar                  (전체 실행)
+ *   java -jar target/benchmarks.jar Collision        (이름에 Collision이 들어간 벤치마크만)
+ *   java -jar target/benchmarks.jar Scenario -p ballCount=16 -rff breakout.json
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_RESULT_FILE = "benchmark-results.json";
+    
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+            .parent(commandLine)
+            .addProfiler(GCProfiler.class);
+        if (!commandLine.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
\ No newline at end of file
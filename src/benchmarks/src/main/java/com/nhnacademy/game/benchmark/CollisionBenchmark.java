@@ -0,0 +1,108 @@
+package com.nhnacademy.game.benchmark;
+
+import com.nhnacademy.game.collision.Bounds;
+import com.nhnacademy.game.entity.Ball;
+import com.nhnacademy.game.entity.Box;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충돌 검사와 충돌 처리 기본 연산 벤치마크
+ * 겹치는 경우와 겹치지 않는 경우가 섞이도록 무작위 위치의 객체 배열을 순환하며 측정합니다.
+ * getBounds()는 객체마다 하나의 Bounds를 재사용하므로 -prof gc의 할당량은 0이어야 합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+    
+    private Bounds[] bounds;
+    private double[] circleX;
+    private double[] circleY;
+    private Ball[] balls;
+    private Box[] boxes;
+    private int index = 0;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        bounds = new Bounds[SIZE];
+        circleX = new double[SIZE];
+        circleY = new double[SIZE];
+        balls = new Ball[SIZE];
+        boxes = new Box[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            bounds[i] = new Bounds(random.nextDouble() * 200, random.nextDouble() * 200,
+                                   10 + random.nextDouble() * 40, 10 + random.nextDouble() * 40);
+            circleX[i] = random.nextDouble() * 200;
+            circleY[i] = random.nextDouble() * 200;
+            balls[i] = new Ball(circleX[i], circleY[i], 5 + random.nextDouble() * 10);
+            balls[i].setVelocity(100, -100);
+            boxes[i] = new Box(random.nextDouble() * 200, random.nextDouble() * 200, 20, 20);
+            boxes[i].setVelocity(100, -100);
+        }
+    }
+    
+    private int next() {
+        index = (index + 1) & MASK;
+        return index;
+    }
+    
+    @Benchmark
+    public boolean boundsIntersects() {
+        int i = next();
+        return bounds[i].intersects(bounds[(i + 1) & MASK]);
+    }
+    
+    @Benchmark
+    public boolean boundsIntersectsCircle() {
+        int i = next();
+        return bounds[i].intersectsCircle(circleX[(i + 1) & MASK], circleY[(i + 1) & MASK], 8);
+    }
+    
+    @Benchmark
+    public boolean ballCollidesWith() {
+        int i = next();
+        return balls[i].collidesWith(boxes[(i + 1) & MASK]);
+    }
+    
+    /**
+     * 속도만 뒤집으므로 같은 객체를 반복해서 처리해도 상태가 두 값 사이를 오갈 뿐입니다.
+     */
+    @Benchmark
+    public double ballHandleCollision() {
+        int i = next();
+        Ball ball = balls[i];
+        ball.handleCollision(boxes[(i + 1) & MASK]);
+        return ball.getVelocityX() + ball.getVelocityY();
+    }
+    
+    /**
+     * 위치를 보정하므로 매번 같은 위치로 되돌린 뒤 처리합니다.
+     */
+    @Benchmark
+    public double boxHandleCollision() {
+        int i = next();
+        Box box = boxes[i];
+        Box other = boxes[(i + 1) & MASK];
+        box.setPosition(other.getX() + 5, other.getY() + 12);
+        box.handleCollision(other);
+        return box.getX() + box.getY();
+    }
+}
\ No newline at end of file
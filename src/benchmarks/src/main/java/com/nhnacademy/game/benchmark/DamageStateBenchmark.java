@@ -0,0 +1,50 @@
+package com.nhnacademy.game.benchmark;
+
+import com.nhnacademy.game.behavior.MultiHit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MultiHit.DamageState.fromHealthRatio 벤치마크
+ * 체력 비율을 고르게 섞어 모든 상태가 나오도록 합니다.
+ * values()는 호출마다 배열을 복사하므로 -prof gc에서 할당이 보이는지 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DamageStateBenchmark {
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+    
+    private float[] ratios;
+    private int index = 0;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ratios = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ratios[i] = random.nextFloat();
+        }
+    }
+    
+    @Benchmark
+    public MultiHit.DamageState fromHealthRatio() {
+        index = (index + 1) & MASK;
+        return MultiHit.DamageState.fromHealthRatio(ratios[index]);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.nhnacademy.game.benchmark;
+
+import com.nhnacademy.game.entity.Ball;
+import com.nhnacademy.game.physics.GravityEffect;
+import com.nhnacademy.game.physics.WindEffect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 물리 효과 적용 벤치마크
+ * 영역 안의 객체와 영역 밖의 객체에 효과를 적용하는 비용을 각각 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EffectBenchmark {
+    private static final double DELTA_TIME = 1.0 / 60;
+    
+    private GravityEffect gravity;
+    private WindEffect wind;
+    private Ball inside;
+    private Ball outside;
+    
+    @Setup
+    public void setUp() {
+        gravity = new GravityEffect(0, 0, 800, 600, 300);
+        wind = new WindEffect(0, 0, 800, 600, 20, 0);
+        inside = new Ball(400, 300, 10);
+        outside = new Ball(1200, 900, 10);
+    }
+    
+    @Benchmark
+    public double gravityInside() {
+        gravity.apply(inside, DELTA_TIME);
+        inside.setVelocity(0, 0);
+        return inside.getVelocityY();
+    }
+    
+    @Benchmark
+    public double gravityOutside() {
+        gravity.apply(outside, DELTA_TIME);
+        return outside.getVelocityY();
+    }
+    
+    @Benchmark
+    public double windInside() {
+        wind.apply(inside, DELTA_TIME);
+        inside.setVelocity(0, 0);
+        return inside.getVelocityX();
+    }
+    
+    @Benchmark
+    public double windOutside() {
+        wind.apply(outside, DELTA_TIME);
+        return outside.getVelocityX();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.nhnacademy.game.benchmark;
+
+import com.nhnacademy.game.physics.Vector2D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vector2D 연산 벤치마크
+ * 제자리 연산(add, scale, normalize, rotate)과 새 객체를 만드는 정적 연산을 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorBenchmark {
+    private Vector2D a;
+    private Vector2D b;
+    private double angle;
+    
+    @Setup
+    public void setUp() {
+        a = new Vector2D(3.0, 4.0);
+        b = new Vector2D(-1.5, 2.5);
+        angle = 0.01;
+    }
+    
+    @Benchmark
+    public Vector2D addInPlace() {
+        a.add(b);
+        a.subtract(b);
+        return a;
+    }
+    
+    @Benchmark
+    public Vector2D scaleInPlace() {
+        a.scale(1.0001);
+        a.scale(1 / 1.0001);
+        return a;
+    }
+    
+    @Benchmark
+    public double normalize() {
+        Vector2D v = a.copy();
+        v.normalize();
+        return v.x + v.y;
+    }
+    
+    @Benchmark
+    public Vector2D rotate() {
+        a.rotate(angle);
+        return a;
+    }
+    
+    @Benchmark
+    public double dot() {
+        return a.dot(b);
+    }
+    
+    @Benchmark
+    public double distance() {
+        return a.distance(b);
+    }
+    
+    @Benchmark
+    public double magnitude() {
+        return a.magnitude();
+    }
+    
+    @Benchmark
+    public Vector2D staticAdd() {
+        return Vector2D.add(a, b);
+    }
+    
+    @Benchmark
+    public Vector2D staticSubtract() {
+        return Vector2D.subtract(a, b);
+    }
+}
\ No newline at end of file
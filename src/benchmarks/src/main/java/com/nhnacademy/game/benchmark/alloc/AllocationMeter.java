@@ -0,0 +1,53 @@
+package com.nhnacademy.game.benchmark.alloc;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * 현재 스레드가 할당한 바이트 수를 읽는 측정기
+ * HotSpot의 com.sun.management.ThreadMXBean을 사용하며,
+ * 읽기 자체가 할당하는 양은 만들 때 재어 두었다가 매 측정에서 뺍니다.
+ */
+class AllocationMeter {
+    private static final int CALIBRATION_ROUNDS = 1000;
+    
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final long threadId;
+    private final long overhead;
+    
+    AllocationMeter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)
+            || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("이 JVM은 스레드별 할당량 측정을 지원하지 않습니다.");
+        }
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        threadId = Thread.currentThread().getId();
+        
+        long minimum = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            long after = threadBean.getThreadAllocatedBytes(threadId);
+            minimum = Math.min(minimum, after - before);
+        }
+        overhead = minimum;
+    }
+    
+    /**
+     * 측정 시작 시점의 누적 할당량을 반환합니다.
+     */
+    long start() {
+        return threadBean.getThreadAllocatedBytes(threadId);
+    }
+    
+    /**
+     * start() 이후 할당한 바이트 수를 반환합니다. 읽기 비용은 뺍니다.
+     * @param start start()가 반환한 값
+     */
+    long stop(long start) {
+        return Math.max(0, threadBean.getThreadAllocatedBytes(threadId) - start - overhead);
+    }
+    
+    long getOverhead() { return overhead; }
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+package com.nhnacademy.game.benchmark.alloc;
+
+import com.nhnacademy.breakout.objects.BreakoutBall;
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import com.nhnacademy.cannon.CannonWorld;
+import com.nhnacademy.cannon.GameMode;
+import com.nhnacademy.cannon.Projectile;
+import com.nhnacademy.cannon.ProjectileType;
+import com.nhnacademy.cannon.Target;
+import com.nhnacademy.cannon.TargetType;
+import com.nhnacademy.game.graphics.RenderQueue;
+import jdk.jfr.Recording;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 정상 상태 프레임의 무할당 보장을 확인하는 검사기
+ * 예열 뒤 수천 프레임 동안 BreakoutWorld와 CannonWorld의 update()와 record()가
+ * 할당한 바이트를 프레임마다 재고, 충돌이나 생성 이벤트가 없는 프레임에서
+ * 한 바이트라도 할당하면 실패(종료 코드 1)로 끝납니다.
+ *
+ * 벽돌이 부서지거나 공, 발사체, 표적 수가 바뀐 프레임과 파티클이 남아 있는 프레임은
+ * 이벤트 프레임으로 보고 검사에서 제외합니다.
+ * 사라진 공과 발사체는 측정 구간 밖에서 다시 채웁니다.
+ *
+ * --jfr true로 실행하면 게임 JFR 이벤트를 모두 켠 기록을 시작한 채로 같은 장면을 돌립니다.
+ * 이때는 프레임마다 이벤트 객체(FrameEvent, CollisionBatchEvent, PhaseEvent 등)를 만들므로 할당이 생기는 것이 정상이며,
+ * 실패로 보지 않고 프레임당 할당량만 출력합니다. 기록 중에 할당이 하나도 없으면 EventGate가 기록을 보지 못한 것이므로 실패입니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.alloc.ZeroAllocationCheck
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.alloc.ZeroAllocationCheck --warmup 20000 --frames 10000
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.alloc.ZeroAllocationCheck --jfr true
+ */
+public class ZeroAllocationCheck {
+    private static final double DELTA_TIME = 1.0 / 60;
+    private static final double BREAKOUT_WIDTH = 800;
+    private static final double BREAKOUT_HEIGHT = 600;
+    private static final double CANNON_WIDTH = 1000;
+    private static final double CANNON_HEIGHT = 700;
+    private static final int BALLS = 4;
+    private static final int PROJECTILES = 20;
+    private static final int TARGETS = 10;
+    
+    private int warmupFrames = 20_000;
+    private int measureFrames = 5_000;
+    private boolean jfr = false;
+    private final AllocationMeter meter = new AllocationMeter();
+    
+    /**
+     * 한 단계(update 또는 record)의 측정 결과
+     */
+    static class Result {
+        final String name;
+        int frames;
+        int eventFrames;
+        int allocatingFrames;
+        long totalBytes;
+        long maxBytes;
+        
+        Result(String name) {
+            this.name = name;
+        }
+        
+        void record(boolean event, long bytes) {
+            frames++;
+            if (event) {
+                eventFrames++;
+                return;
+            }
+            if (bytes > 0) {
+                allocatingFrames++;
+                totalBytes += bytes;
+                maxBytes = Math.max(maxBytes, bytes);
+            }
+        }
+        
+        boolean passed() {
+            return allocatingFrames == 0 && frames > eventFrames;
+        }
+        
+        double bytesPerFrame() {
+            return frames == eventFrames ? 0 : (double) totalBytes / (frames - eventFrames);
+        }
+        
+        void print(String verdict) {
+            System.out.printf("%-18s frames=%6d events=%6d allocating=%6d total=%8d B  max=%6d B  %7.1f B/frame  %s%n",
+                              name, frames, eventFrames, allocatingFrames, totalBytes, maxBytes, bytesPerFrame(),
+                              verdict);
+        }
+    }
+    
+    public static void main(String[] args) {
+        ZeroAllocationCheck check = new ZeroAllocationCheck();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--warmup":
+                    check.warmupFrames = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--frames":
+                    check.measureFrames = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--jfr":
+                    check.jfr = Boolean.parseBoolean(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        System.out.println("읽기 비용 보정: " + check.meter.getOverhead() + " B");
+        Result[] results = {
+            new Result("breakout.update"), new Result("breakout.record"),
+            new Result("cannon.update"), new Result("cannon.record")
+        };
+        if (check.jfr) {
+            check.runRecording(results);
+            return;
+        }
+        check.checkBreakout(results[0], results[1]);
+        check.checkCannon(results[2], results[3]);
+        
+        boolean passed = true;
+        for (Result result : results) {
+            result.print(result.passed() ? "OK" : "FAIL");
+            passed &= result.passed();
+        }
+        if (!passed) {
+            System.out.println("정상 상태 프레임에서 할당이 발견되었습니다.");
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * 게임 이벤트를 모두 켠 JFR 기록 아래에서 같은 장면을 돌려 프레임당 할당량을 잽니다.
+     */
+    private void runRecording(Result[] results) {
+        try (Recording recording = new Recording()) {
+            for (String event : new String[] { "com.nhnacademy.game.Frame", "com.nhnacademy.game.Phase",
+                                               "com.nhnacademy.game.CollisionBatch", "com.nhnacademy.game.Render" }) {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            checkBreakout(results[0], results[1]);
+            checkCannon(results[2], results[3]);
+            recording.stop();
+        }
+        
+        System.out.println("JFR 기록 중 (이벤트 객체 할당이 정상입니다)");
+        for (Result result : results) {
+            result.print("");
+        }
+        if (results[0].totalBytes == 0 || results[2].totalBytes == 0) {
+            System.out.println("JFR 기록 중인데 update()가 이벤트를 만들지 않았습니다.");
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * 레벨 1의 벽돌 아래에서 공 몇 개가 좌우 벽 사이를 수평으로 오가는 장면입니다.
+     * 벽과의 충돌은 매번 일어나지만 벽돌, 패들과는 부딪히지 않습니다.
+     */
+    private void checkBreakout(Result update, Result record) {
+        Random random = new Random(42);
+        BreakoutWorld world = new BreakoutWorld(BREAKOUT_WIDTH, BREAKOUT_HEIGHT);
+        world.createLevel(1);
+        RenderQueue queue = new RenderQueue(1024);
+        
+        for (int frame = 0; frame < warmupFrames + measureFrames; frame++) {
+            List<BreakoutBall> balls = world.getBalls();
+            if (balls.size() != BALLS) {
+                balls.clear();
+                for (int i = 0; i < BALLS; i++) {
+                    BreakoutBall ball = new BreakoutBall(100 + random.nextDouble() * (BREAKOUT_WIDTH - 200),
+                                                         300 + i * 25);
+                    ball.setVelocity(random.nextBoolean() ? 200 : -200, 0);
+                    balls.add(ball);
+                }
+            }
+            
+            int bricks = world.getBricks().size();
+            int score = world.getScore();
+            long start = meter.start();
+            world.update(DELTA_TIME);
+            long updateBytes = meter.stop(start);
+            
+            queue.clear();
+            start = meter.start();
+            world.record(queue);
+            long recordBytes = meter.stop(start);
+            
+            if (frame >= warmupFrames) {
+                boolean event = world.getBricks().size() != bricks || world.getScore() != score
+                                || world.getBalls().size() != BALLS || world.getParticleCount() > 0;
+                update.record(event, updateBytes);
+                record.record(event, recordBytes);
+            }
+        }
+    }
+    
+    /**
+     * 움직이는 표적 아래에서 발사체가 중력과 바람을 받으며 낮게 날아가는 장면입니다.
+     * 발사체는 표적에 닿지 않고 화면 아래로 빠져나가며, 빠져나간 프레임은 이벤트 프레임입니다.
+     */
+    private void checkCannon(Result update, Result record) {
+        Random random = new Random(42);
+        CannonWorld world = new CannonWorld(CANNON_WIDTH, CANNON_HEIGHT);
+        world.startGame(GameMode.TIME_ATTACK);
+        world.getTargets().clear();
+        world.getProjectiles().clear();
+        for (int i = 0; i < TARGETS; i++) {
+            Target target = new Target(400 + i * 50, 80, 40, 40, TargetType.MOVING, 100);
+            target.setVelocity((random.nextDouble() - 0.5) * 150, 0);
+            world.getTargets().add(target);
+        }
+        RenderQueue queue = new RenderQueue(1024);
+        
+        for (int frame = 0; frame < warmupFrames + measureFrames; frame++) {
+            List<Projectile> projectiles = world.getProjectiles();
+            while (projectiles.size() < PROJECTILES) {
+                ProjectileType type = random.nextBoolean() ? ProjectileType.STANDARD : ProjectileType.PIERCING;
+                Projectile projectile = new Projectile(50 + random.nextDouble() * 300, CANNON_HEIGHT - 60, 8, type);
+                projectile.setVelocity(100 + random.nextDouble() * 200, -150 - random.nextDouble() * 150);
+                projectiles.add(projectile);
+            }
+            
+            int targets = world.getTargets().size();
+            int score = world.getScore();
+            long start = meter.start();
+            world.update(DELTA_TIME);
+            long updateBytes = meter.stop(start);
+            
+            queue.clear();
+            start = meter.start();
+            world.record(queue);
+            long recordBytes = meter.stop(start);
+            
+            if (frame >= warmupFrames) {
+                boolean event = world.getTargets().size() != targets || world.getScore() != score
+                                || world.getProjectiles().size() != PROJECTILES || world.getParticleCount() > 0;
+                update.record(event, updateBytes);
+                record.record(event, recordBytes);
+            }
+        }
+    }
+}
\ No newline at end of file
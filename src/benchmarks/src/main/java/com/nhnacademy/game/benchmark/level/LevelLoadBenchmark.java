@@ -0,0 +1,81 @@
+package com.nhnacademy.game.benchmark.level;
+
+import com.nhnacademy.breakout.world.BreakoutLevels;
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import com.nhnacademy.game.level.LevelCompiler;
+import com.nhnacademy.game.level.LevelPack;
+import com.nhnacademy.game.level.LevelRecords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레벨 전환 벤치마크
+ * 레벨 300개짜리 레벨 팩을 만들어 두고 BreakoutWorld.createLevel()로 레벨을 차례로 바꾸는 시간을
+ * 내장 규칙(builtin)과 메모리 매핑한 레벨 팩(pack)으로 나눠 측정합니다.
+ * 팩은 열 때 헤더만 읽으므로 레벨 수와 관계없이 전환 비용은 그 레벨의 벽돌 수에만 비례해야 합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LevelLoadBenchmark {
+    private static final int LEVELS = 300;
+    
+    @Param({"builtin", "pack"})
+    public String source;
+    
+    private BreakoutWorld world;
+    private LevelPack pack;
+    private Path file;
+    private int level = 0;
+    
+    @Setup(Level.Trial)
+    public void createPack() throws IOException {
+        world = new BreakoutWorld(800, 600);
+        if (source.equals("pack")) {
+            LevelCompiler compiler = new LevelCompiler(BreakoutLevels.SCHEMA);
+            for (int i = 1; i <= LEVELS; i++) {
+                LevelRecords records = new LevelRecords(100);
+                BreakoutLevels.createBuiltin(i, 800, records);
+                compiler.addLevel(i, records);
+            }
+            file = Files.createTempFile("levels", ".lvlpack");
+            compiler.writePack(file);
+            pack = LevelPack.open(file, BreakoutLevels.SCHEMA);
+            world.setLevelPack(pack);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        if (pack != null) {
+            pack.close();
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Benchmark
+    public int nextLevel() {
+        level = level % LEVELS + 1;
+        world.createLevel(level);
+        return world.getBricks().size();
+    }
+}
\ No newline at end of file
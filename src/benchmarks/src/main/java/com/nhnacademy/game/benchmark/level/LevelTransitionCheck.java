@@ -0,0 +1,172 @@
+package com.nhnacademy.game.benchmark.level;
+
+import com.nhnacademy.breakout.world.BreakoutLevels;
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import com.nhnacademy.game.level.LevelCompiler;
+import com.nhnacademy.game.level.LevelPack;
+import com.nhnacademy.game.level.LevelRecords;
+import javafx.scene.paint.Color;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 레벨 전환 프레임이 프레임 예산을 넘지 않는지 확인하는 검사기
+ * 벽돌이 아주 많은 레벨로 레벨 팩을 만들어 BreakoutWorld에 지정하고,
+ * 레벨마다 얼마 동안 진행한 뒤 벽돌을 모두 없애 다음 레벨로 넘어가게 합니다.
+ *
+ * createLevel()로 한 번에 만들 때의 시간과, 미리 준비한 레벨을 바꿔 넣은 프레임의 update() 시간을 레벨마다 출력합니다.
+ * 준비가 끝난 레벨로 바꾼 전환 프레임 하나라도 60fps 프레임 예산(16.7ms)을 넘으면 실패(종료 코드 1)로 끝납니다.
+ *
+ * 이어서 레벨을 바꾸자마자 벽돌을 없애, 준비가 끝나기 전에 레벨 경계에 닿는 대체 경로도 따로 잽니다.
+ * 이 경로는 전환 프레임에서 남은 준비를 기다리므로 예산 검사에서는 빼고,
+ * 기다린 시간을 createLevel() 한 번과 나란히 보여 줍니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.level.LevelTransitionCheck
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.level.LevelTransitionCheck --bricks 200000 --play 30
+ */
+public class LevelTransitionCheck {
+    private static final double DELTA_TIME = 1.0 / 60;
+    private static final long FRAME_BUDGET_NANOS = 16_666_667;
+    private static final int PRELOADED_LEVELS = 7;
+    private static final int FALLBACK_LEVELS = 4;
+    private static final int LEVELS = 1 + PRELOADED_LEVELS + FALLBACK_LEVELS;
+    private static final double BRICK_WIDTH = 12;
+    private static final double BRICK_HEIGHT = 6;
+    // 벽 두께(20)보다 넉넉한 바깥 여백
+    private static final double MARGIN = 30;
+    
+    private int bricksPerLevel = 50_000;
+    private int playFrames = 60;
+    
+    public static void main(String[] args) throws IOException {
+        LevelTransitionCheck check = new LevelTransitionCheck();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--bricks")) {
+                check.bricksPerLevel = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--play")) {
+                check.playFrames = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        if (!check.run()) {
+            System.out.println("레벨 전환 검사에 실패했습니다.");
+            System.exit(1);
+        }
+    }
+    
+    private boolean run() throws IOException {
+        int cols = (int) Math.ceil(Math.sqrt(bricksPerLevel * 2.0));
+        int rows = (bricksPerLevel + cols - 1) / cols;
+        double worldWidth = 2 * MARGIN + 40 + cols * (BRICK_WIDTH + 1);
+        double worldHeight = 2 * MARGIN + 200 + rows * (BRICK_HEIGHT + 1);
+        
+        Path file = Files.createTempFile("levels", ".lvlpack");
+        try {
+            LevelCompiler compiler = new LevelCompiler(BreakoutLevels.SCHEMA);
+            LevelRecords records = new LevelRecords(bricksPerLevel);
+            for (int level = 1; level <= LEVELS; level++) {
+                fill(level, cols, records);
+                compiler.addLevel(level, records);
+            }
+            compiler.writePack(file);
+            
+            try (LevelPack pack = LevelPack.open(file, BreakoutLevels.SCHEMA)) {
+                BreakoutWorld world = new BreakoutWorld(worldWidth, worldHeight);
+                world.setLevelPack(pack);
+                
+                long start = System.nanoTime();
+                world.createLevel(1);
+                long syncNanos = System.nanoTime() - start;
+                System.out.printf("bricks=%d world=%.0fx%.0f createLevel(1)=%.2f ms%n",
+                                  world.getBricks().size(), worldWidth, worldHeight, syncNanos / 1e6);
+                
+                boolean passed = true;
+                int preloaded = 0;
+                long worstNanos = 0;
+                long worstFallbackNanos = 0;
+                for (int level = 2; level <= LEVELS; level++) {
+                    // 앞쪽 레벨은 잠시 진행하는 동안 다음 레벨이 백그라운드에서 준비되고,
+                    // 뒤쪽 레벨은 바로 넘겨 준비가 끝나기 전에 경계에 닿게 합니다.
+                    boolean fallback = level > 1 + PRELOADED_LEVELS;
+                    for (int frame = 0; !fallback && frame < playFrames; frame++) {
+                        world.update(DELTA_TIME);
+                    }
+                    world.getBricks().clear();
+                    
+                    int waits = world.getLevelWaitCount();
+                    start = System.nanoTime();
+                    world.update(DELTA_TIME);
+                    long transitionNanos = System.nanoTime() - start;
+                    if (world.getLevel() != level) {
+                        throw new IllegalStateException("레벨 " + level + "로 넘어가지 않았습니다");
+                    }
+                    
+                    if (world.getLevelWaitCount() > waits) {
+                        // 준비를 기다린 전환은 예산 검사에서 빼고 따로 보여 줍니다.
+                        worstFallbackNanos = Math.max(worstFallbackNanos, transitionNanos);
+                        System.out.printf("level %d: fallback transition=%.3f ms waited=%.3f ms bricks=%d%n",
+                                          level, transitionNanos / 1e6, world.getLastLevelWaitNanos() / 1e6,
+                                          world.getBricks().size());
+                    } else {
+                        preloaded++;
+                        worstNanos = Math.max(worstNanos, transitionNanos);
+                        boolean withinBudget = transitionNanos <= FRAME_BUDGET_NANOS;
+                        passed &= withinBudget;
+                        System.out.printf("level %d: transition=%.3f ms bricks=%d %s%n",
+                                          level, transitionNanos / 1e6, world.getBricks().size(),
+                                          withinBudget ? "" : "(프레임 예산 초과)");
+                    }
+                }
+                System.out.printf("worst preloaded transition=%.3f ms (프레임 예산의 %.1f%%, %d회)%n",
+                                  worstNanos / 1e6, worstNanos * 100.0 / FRAME_BUDGET_NANOS, preloaded);
+                System.out.printf("worst fallback transition=%.3f ms (createLevel(1)의 %.1f%%, %d회)%n",
+                                  worstFallbackNanos / 1e6, worstFallbackNanos * 100.0 / syncNanos,
+                                  LEVELS - 1 - preloaded);
+                
+                // 모든 전환이 준비를 기다렸다면 예산 검사가 아무것도 재지 않은 것입니다.
+                return passed && preloaded > 0;
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * 줄마다 색이 바뀌는 벽돌 격자로 레벨 하나를 채웁니다. 벽돌 종류는 위치에 따라 섞습니다.
+     */
+    private void fill(int level, int cols, LevelRecords out) {
+        out.clear();
+        double startX = MARGIN + 20;
+        double startY = MARGIN + 40;
+        for (int i = 0; i < bricksPerLevel; i++) {
+            int row = i / cols;
+            int col = i % cols;
+            int color = LevelRecords.rgbaOf(Color.hsb((row * 7 + level * 30) % 360, 0.8, 0.9));
+            double x = startX + col * (BRICK_WIDTH + 1);
+            double y = startY + row * (BRICK_HEIGHT + 1);
+            switch ((row + col + level) % 9) {
+                case 0:
+                    out.add(BreakoutLevels.EXPLODING, color, x, y, BRICK_WIDTH, BRICK_HEIGHT, 20);
+                    break;
+                case 1: {
+                    int brick = out.add(BreakoutLevels.MULTI_HIT, color, x, y, BRICK_WIDTH, BRICK_HEIGHT, 30);
+                    out.setParam(brick, 3);
+                    break;
+                }
+                case 2: {
+                    int brick = out.add(BreakoutLevels.POWER_UP, color, x, y, BRICK_WIDTH, BRICK_HEIGHT, 10);
+                    out.setAttribute(brick, 0, 0.3, false);
+                    break;
+                }
+                default:
+                    out.add(BreakoutLevels.SIMPLE, color, x, y, BRICK_WIDTH, BRICK_HEIGHT, 10);
+                    break;
+            }
+        }
+    }
+}
\ No newline at end of file
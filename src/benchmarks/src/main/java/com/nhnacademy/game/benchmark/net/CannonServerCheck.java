@@ -0,0 +1,257 @@
+package com.nhnacademy.game.benchmark.net;
+
+import com.nhnacademy.cannon.GameMode;
+import com.nhnacademy.cannon.ProjectileType;
+import com.nhnacademy.cannon.net.CannonClient;
+import com.nhnacademy.cannon.net.CannonServer;
+import com.nhnacademy.game.diagnostics.PhaseHistogram;
+import com.nhnacademy.game.metrics.MetricsSnapshot;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 대포 대전 서버가 많은 세션을 정해진 틱 안에 처리하는지와 상태 동기화가 정확한지 확인하는 검사기
+ * 루프백으로 서버를 띄우고 가짜 클라이언트들을 붙여 모드별 대전을 시작한 뒤,
+ * 정해진 시간 동안 클라이언트마다 초당 10번 무작위로 조준하거나 발사합니다. 대전이 끝나면 같은 모드로 다시 신청해 부하를 유지합니다.
+ * 그동안 서버의 틱 시간(초마다 공개되는 p50/p99/max)과 입력을 보낸 뒤 STATE에서 적용을 확인하기까지의 시간,
+ * 클라이언트가 받은 바이트 수를 잽니다.
+ *
+ * 끝에는 세션마다 서버가 마지막으로 보낸 상태의 요약값과 클라이언트가 같은 틱에 되살린 상태의 요약값을 비교합니다.
+ * 대전이 모두 시작되지 않았거나, 요약값이 하나라도 다르거나, 접속이 끊기거나,
+ * 어느 1초 구간에서 초당 틱 수가 정한 값의 95% 아래로 떨어지거나 틱 p50이 틱 간격의 절반을 넘으면
+ * 실패(종료 코드 1)로 끝납니다. 처음 몇 초는 JIT 컴파일이 끝나기 전이므로 판정에 넣지 않습니다.
+ * 틱 시간은 벽시계 시간이라 같은 코어의 클라이언트에게 밀린 시간도 들어가므로, p99와 max는 참고로 출력합니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.net.CannonServerCheck
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.net.CannonServerCheck --sessions 400 --seconds 30
+ */
+public class CannonServerCheck {
+    private static final long SEED = 42;
+    private static final long INPUT_INTERVAL_NANOS = 100_000_000;
+    private static final double FIRE_CHANCE = 0.3;
+    private static final int HISTORY = 256;
+    private static final int WARMUP_SECONDS = 5;
+    private static final long POLL_MILLIS = 4;
+    private static final long TIMEOUT_NANOS = 10_000_000_000L;
+    
+    private int sessions = 200;
+    private int players = 2;
+    private int seconds = 20;
+    private int tickRate = CannonServer.DEFAULT_TICK_RATE;
+    private boolean passed = true;
+    
+    /**
+     * 가짜 클라이언트 하나와 그 기록
+     */
+    private static final class Player {
+        final CannonClient client;
+        // 받은 틱마다 되살린 상태의 요약값
+        final long[] ticks = new long[HISTORY];
+        final long[] digests = new long[HISTORY];
+        // 입력 번호마다 보낸 시각
+        final long[] sentNanos = new long[64];
+        final GameMode mode;
+        int acknowledged = 0;
+        long nextInput;
+        
+        Player(CannonClient client, GameMode mode, PhaseHistogram latency) {
+            this.client = client;
+            this.mode = mode;
+            client.setStateListener(() -> {
+                int slot = client.getTick() & (HISTORY - 1);
+                ticks[slot] = client.getTick();
+                digests[slot] = client.getDecoder().digest();
+                long now = System.nanoTime();
+                while (acknowledged < client.getLastAppliedInput()) {
+                    acknowledged++;
+                    latency.record(now - sentNanos[acknowledged & 63]);
+                }
+            });
+        }
+    }
+    
+    public static void main(String[] args) throws IOException {
+        CannonServerCheck check = new CannonServerCheck();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--sessions")) {
+                check.sessions = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--players")) {
+                check.players = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--seconds")) {
+                check.seconds = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--tick-rate")) {
+                check.tickRate = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        check.run();
+        if (!check.passed) {
+            System.out.println("대전 서버 검사에 실패했습니다.");
+            System.exit(1);
+        }
+    }
+    
+    private void run() throws IOException {
+        Random random = new Random(SEED);
+        PhaseHistogram latency = new PhaseHistogram();
+        List<Player> clients = new ArrayList<>();
+        long tickBudget = 1_000_000_000L / tickRate;
+        int disconnected = 0;
+        
+        try (CannonServer server = new CannonServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                                                    tickRate)) {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+            
+            // 1. 접속하고 모드별로 대전을 신청합니다.
+            GameMode[] modes = GameMode.values();
+            for (int i = 0; i < sessions; i++) {
+                GameMode mode = modes[(i / players) % modes.length];
+                Player player = new Player(CannonClient.connect(address), mode, latency);
+                player.client.join(player.mode, players);
+                clients.add(player);
+            }
+            long deadline = System.nanoTime() + TIMEOUT_NANOS;
+            int matched = 0;
+            while (matched < sessions - sessions % players && System.nanoTime() < deadline) {
+                matched = 0;
+                for (Player player : clients) {
+                    player.client.poll();
+                    matched += player.client.isMatched() ? 1 : 0;
+                }
+                sleep(1);
+            }
+            System.out.printf("sessions=%d players=%d matched=%d tick rate=%d%n", sessions, players, matched, tickRate);
+            check("all matched", matched == sessions - sessions % players);
+            
+            // 2. 정해진 시간 동안 무작위 입력을 보내며 상태를 받습니다.
+            ProjectileType[] types = ProjectileType.values();
+            long start = System.nanoTime();
+            for (int i = 0; i < clients.size(); i++) {
+                clients.get(i).nextInput = start + INPUT_INTERVAL_NANOS * i / clients.size();
+            }
+            long end = start + seconds * 1_000_000_000L;
+            long lastReport = start;
+            long worstP50 = 0;
+            long worstP99 = 0;
+            long worstMax = 0;
+            double slowestRate = Double.MAX_VALUE;
+            long inputs = 0;
+            int rematches = 0;
+            while (System.nanoTime() < end) {
+                long now = System.nanoTime();
+                for (Player player : clients) {
+                    try {
+                        player.client.poll();
+                        if (player.client.isMatchFinished()) {
+                            player.client.join(player.mode, players);
+                            rematches++;
+                        }
+                        if (now >= player.nextInput && player.client.isMatched()) {
+                            double angle = -random.nextDouble() * Math.PI / 2;
+                            boolean fire = random.nextDouble() < FIRE_CHANCE;
+                            int sequence = player.client.sendInput(angle, 200 + random.nextDouble() * 300,
+                                                                   types[random.nextInt(types.length)], fire);
+                            player.sentNanos[sequence & 63] = now;
+                            player.nextInput += INPUT_INTERVAL_NANOS;
+                            inputs++;
+                        }
+                    } catch (IOException e) {
+                        disconnected++;
+                        player.nextInput = Long.MAX_VALUE;
+                    }
+                }
+                if (now - lastReport >= 1_000_000_000L) {
+                    MetricsSnapshot snapshot = server.getMetrics().getSnapshot();
+                    if (now - start > WARMUP_SECONDS * 1_000_000_000L) {
+                        slowestRate = Math.min(slowestRate, snapshot.getFramesPerSecond());
+                        worstP50 = Math.max(worstP50, snapshot.getUpdateP50Nanos());
+                        worstP99 = Math.max(worstP99, snapshot.getUpdateP99Nanos());
+                        worstMax = Math.max(worstMax, snapshot.getUpdateMaxNanos());
+                    }
+                    System.out.printf("  %5.1f s  ticks/s=%.1f  tick p50=%.2f ms  p99=%.2f ms  max=%.2f ms  %s%n",
+                                      (now - start) / 1e9, snapshot.getFramesPerSecond(),
+                                      snapshot.getUpdateP50Nanos() / 1e6, snapshot.getUpdateP99Nanos() / 1e6,
+                                      snapshot.getUpdateMaxNanos() / 1e6, snapshot.getEntities());
+                    lastReport = now;
+                }
+                sleep(POLL_MILLIS);
+            }
+            
+            long bytes = 0;
+            long states = 0;
+            long keyframes = 0;
+            for (Player player : clients) {
+                bytes += player.client.getBytesReceived();
+                states += player.client.getStateCount();
+                keyframes += player.client.getKeyframeCount();
+            }
+            System.out.printf("rematches=%,d  inputs=%,d  input -> ack p50=%.2f ms  p99=%.2f ms  max=%.2f ms%n",
+                              rematches, inputs, latency.getPercentile(50) / 1e6, latency.getPercentile(99) / 1e6,
+                              latency.getMax() / 1e6);
+            System.out.printf("received %,d bytes/s per client  %.1f bytes/state  states=%,d keyframes=%,d%n",
+                              bytes / clients.size() / seconds, states == 0 ? 0 : (double) bytes / states,
+                              states, keyframes);
+            System.out.printf("after warmup: slowest ticks/s=%.1f  worst tick p50=%.2f ms  p99=%.2f ms  max=%.2f ms"
+                              + "  (budget %.2f ms)%n", slowestRate, worstP50 / 1e6, worstP99 / 1e6, worstMax / 1e6,
+                              tickBudget / 1e6);
+            check("no disconnects", disconnected == 0);
+            check("tick rate held", slowestRate >= tickRate * 0.95);
+            check("tick p50 within half the budget", worstP50 <= tickBudget / 2);
+            
+            // 3. 서버가 마지막으로 보낸 상태와 클라이언트가 되살린 상태를 비교합니다.
+            List<CompletableFuture<long[]>> expected = new ArrayList<>();
+            for (Player player : clients) {
+                expected.add(server.stateDigest(player.client.getSessionId()));
+            }
+            int mismatches = 0;
+            int compared = 0;
+            for (int i = 0; i < clients.size(); i++) {
+                Player player = clients.get(i);
+                long[] state = expected.get(i).join();
+                if (state == null || state[0] < 0) {
+                    continue;
+                }
+                deadline = System.nanoTime() + TIMEOUT_NANOS;
+                while (player.client.getTick() < state[0] && System.nanoTime() < deadline) {
+                    player.client.poll();
+                    sleep(1);
+                }
+                int slot = (int) (state[0] & (HISTORY - 1));
+                if (player.ticks[slot] != state[0] || player.digests[slot] != state[1]) {
+                    mismatches++;
+                }
+                compared++;
+            }
+            System.out.printf("digests compared=%d mismatches=%d%n", compared, mismatches);
+            check("state digests", compared > 0 && mismatches == 0);
+        } finally {
+            for (Player player : clients) {
+                player.client.close();
+            }
+        }
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void check(String name, boolean condition) {
+        if (!condition) {
+            System.out.println("실패: " + name);
+            passed = false;
+        }
+    }
+}
\ No newline at end of file
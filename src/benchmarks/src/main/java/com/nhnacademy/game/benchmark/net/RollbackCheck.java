@@ -0,0 +1,316 @@
+package com.nhnacademy.game.benchmark.net;
+
+import com.nhnacademy.breakout.objects.BreakoutBall;
+import com.nhnacademy.breakout.objects.BreakoutPaddle;
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import com.nhnacademy.game.benchmark.stress.Distribution;
+import com.nhnacademy.game.benchmark.stress.StressScene;
+import com.nhnacademy.game.diagnostics.PhaseHistogram;
+import com.nhnacademy.game.snapshot.RollbackBuffer;
+import com.nhnacademy.game.snapshot.SnapshotBuffer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * 클라이언트 예측과 되감기를 확인하는 검사기
+ * 같은 프로세스 안의 가짜 서버가 벽돌깨기 월드를 권한 있게 진행하고, 클라이언트는 RollbackBuffer로
+ * 자기 입력을 먼저 적용합니다. 둘 사이의 메시지는 지연과 흔들림(jitter)을 주는 가짜 링크로 오갑니다.
+ * 시간은 흉내만 내므로 실제로 기다리지 않고, 되감기에 걸린 시간만 실제로 잽니다.
+ *
+ * 서버는 클라이언트보다 몇 프레임 늦게 시작해 입력이 도착할 여유를 둡니다.
+ * 입력이 제때 오지 않은 프레임은 직전 입력으로 진행하므로, 그 입력이 실제와 달랐으면 클라이언트가 되감아야 합니다.
+ *
+ * 장면마다 다음을 확인하고 하나라도 어긋나면 실패(종료 코드 1)로 끝납니다.
+ *   흔들림이 없고 여유가 충분하면 되감기가 한 번도 일어나지 않을 것 (시뮬레이션이 결정적)
+ *   되감기 횟수가 서버가 다르게 적용한 입력 수를 넘지 않을 것
+ *   마지막에 모든 입력을 받은 서버의 상태와 클라이언트가 예측한 상태가 바이트 단위로 같을 것
+ *   10프레임을 되감아 다시 진행하는 시간(99번째 백분위수)이 한 프레임(16.7ms) 안일 것
+ *   벽돌이 적은 장면에서는 레벨을 여러 번 넘길 것 (레벨 전환도 되감아 다시 진행할 수 있어야 합니다)
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.net.RollbackCheck
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.net.RollbackCheck --frames 36000
+ */
+public class RollbackCheck {
+    private static final long SEED = 42;
+    private static final double DELTA_TIME = 1.0 / 60;
+    private static final long FRAME_MICROS = 16_667;
+    private static final long FRAME_BUDGET_NANOS = 16_666_667;
+    private static final int BUDGET_FRAMES = 10;
+    private static final int CAPACITY = 32;
+    private static final int SNAPSHOT_CAPACITY = 64 * 1024;
+    private static final String BREAKOUT_TYPICAL = "simple=200,multiHit=40,powerUp=20,exploding=20,balls=3";
+    // 금방 깨지는 벽돌 몇 개로 시작해 레벨 전환이 되감기 범위 안에 들어오게 합니다.
+    private static final String BREAKOUT_LEVEL_CLEAR = "simple=3,balls=8";
+    
+    private int frames = 7200;
+    private boolean passed = true;
+    
+    /**
+     * 지연이 정해진 시각에 도착하는 메시지
+     */
+    private static final class Message implements Comparable<Message> {
+        final long arrival;
+        final long order;
+        final int frame;
+        final int input;
+        final ByteBuffer snapshot;
+        
+        Message(long arrival, long order, int frame, int input, ByteBuffer snapshot) {
+            this.arrival = arrival;
+            this.order = order;
+            this.frame = frame;
+            this.input = input;
+            this.snapshot = snapshot;
+        }
+        
+        @Override
+        public int compareTo(Message other) {
+            return arrival != other.arrival ? Long.compare(arrival, other.arrival) : Long.compare(order, other.order);
+        }
+    }
+    
+    /**
+     * 한 방향 링크: 보낸 메시지를 지연 ± 흔들림 뒤에 내놓습니다. 흔들림 때문에 순서가 바뀔 수 있습니다.
+     */
+    private static final class Link {
+        final PriorityQueue<Message> queue = new PriorityQueue<>();
+        final long latencyMicros;
+        final long jitterMicros;
+        final Random random;
+        long sent = 0;
+        
+        Link(long latencyMicros, long jitterMicros, Random random) {
+            this.latencyMicros = latencyMicros;
+            this.jitterMicros = jitterMicros;
+            this.random = random;
+        }
+        
+        void send(long now, int frame, int input, ByteBuffer snapshot) {
+            long jitter = jitterMicros == 0 ? 0 : (long) ((random.nextDouble() * 2 - 1) * jitterMicros);
+            queue.add(new Message(now + latencyMicros + jitter, sent++, frame, input, snapshot));
+        }
+        
+        Message poll(long now) {
+            Message next = queue.peek();
+            return next != null && next.arrival <= now ? queue.poll() : null;
+        }
+    }
+    
+    /**
+     * 권한 있는 가짜 서버: 프레임마다 그 프레임의 입력(없으면 직전 입력)으로 진행하고 상태를 보냅니다.
+     */
+    private static final class FakeServer {
+        final BreakoutWorld world;
+        final SnapshotBuffer out = SnapshotBuffer.allocate(SNAPSHOT_CAPACITY);
+        // 받은 입력과 실제로 적용한 입력 (프레임 번호로 찾는 링)
+        final int[] inputs = new int[CAPACITY * 4];
+        final int[] inputFrames = new int[CAPACITY * 4];
+        final int[] appliedInputs = new int[CAPACITY * 4];
+        int frame = 0;
+        int lastInput = 0;
+        // 늦게 와서 다른 입력으로 진행한 프레임 수
+        int substituted = 0;
+        
+        FakeServer(BreakoutWorld world) {
+            this.world = world;
+            Arrays.fill(inputFrames, -1);
+        }
+        
+        void receive(int inputFrame, int input) {
+            if (inputFrame < frame) {
+                // 이미 직전 입력으로 진행한 프레임의 입력이므로 버립니다.
+                if (input != appliedInputs[inputFrame % appliedInputs.length]) {
+                    substituted++;
+                }
+                return;
+            }
+            inputs[inputFrame % inputs.length] = input;
+            inputFrames[inputFrame % inputs.length] = inputFrame;
+        }
+        
+        ByteBuffer tick() {
+            int slot = frame % inputs.length;
+            int input = inputFrames[slot] == frame ? inputs[slot] : lastInput;
+            appliedInputs[frame % appliedInputs.length] = input;
+            lastInput = input;
+            world.step(input, DELTA_TIME);
+            frame++;
+            return copy(out, world);
+        }
+    }
+    
+    public static void main(String[] args) {
+        RollbackCheck check = new RollbackCheck();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--frames")) {
+                check.frames = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        // 이름, 장면, 한 방향 지연, 흔들림 (us), 서버가 늦게 시작하는 프레임 수
+        check.run("steady", null, 40_000, 0, 4);
+        check.run("jitter", null, 50_000, 30_000, 4);
+        check.run("high latency", null, 80_000, 20_000, 5);
+        check.run("typical scene", BREAKOUT_TYPICAL, 80_000, 20_000, 5);
+        check.run("level clear", BREAKOUT_LEVEL_CLEAR, 80_000, 20_000, 5);
+        if (!check.passed) {
+            System.out.println("예측과 되감기 검사에 실패했습니다.");
+            System.exit(1);
+        }
+    }
+    
+    private static BreakoutWorld createWorld(String spec) {
+        if (spec == null) {
+            BreakoutWorld world = new BreakoutWorld(800, 600);
+            world.createLevel(1);
+            return world;
+        }
+        return StressScene.parse(SEED, Distribution.UNIFORM, spec).createBreakout();
+    }
+    
+    private void run(String name, String spec, long latencyMicros, long jitterMicros, int leadFrames) {
+        Random random = new Random(SEED);
+        Link upstream = new Link(latencyMicros, jitterMicros, random);
+        Link downstream = new Link(latencyMicros, jitterMicros, random);
+        
+        // 서버와 클라이언트가 같은 레벨 스냅숏에서 0번 프레임을 시작합니다.
+        // (스냅숏으로 만든 파워업 벽돌은 월드의 난수를 쓰므로 드롭도 스냅숏의 난수 상태를 따릅니다.)
+        SnapshotBuffer initial = SnapshotBuffer.allocate(SNAPSHOT_CAPACITY);
+        initial.save(createWorld(spec));
+        FakeServer server = new FakeServer(createWorld(spec));
+        initial.restore(server.world);
+        BreakoutWorld client = createWorld(spec);
+        initial.restore(client);
+        RollbackBuffer rollback = new RollbackBuffer(client, input -> client.step(input, DELTA_TIME), CAPACITY,
+                                                     SNAPSHOT_CAPACITY);
+        
+        PhaseHistogram rollbackTimes = new PhaseHistogram();
+        PhaseHistogram longRollbackTimes = new PhaseHistogram();
+        PhaseHistogram stepTimes = new PhaseHistogram();
+        Random inputs = new Random(SEED + 1);
+        int stalls = 0;
+        int maxPending = 0;
+        long now = 0;
+        for (int n = 0; n < frames; n++, now += FRAME_MICROS) {
+            // 서버: 도착한 입력을 받고, 클라이언트보다 leadFrames만큼 늦게 진행합니다.
+            Message message;
+            while ((message = upstream.poll(now)) != null) {
+                server.receive(message.frame, message.input);
+            }
+            if (n >= leadFrames) {
+                ByteBuffer state = server.tick();
+                downstream.send(now, server.frame, 0, state);
+            }
+            
+            // 클라이언트: 도착한 서버 상태를 반영하고 자기 입력으로 한 프레임 예측합니다.
+            while ((message = downstream.poll(now)) != null) {
+                if (rollback.reconcile(message.frame, message.snapshot)) {
+                    rollbackTimes.record(rollback.getLastRollbackNanos());
+                    if (rollback.getLastRollbackFrames() >= BUDGET_FRAMES) {
+                        longRollbackTimes.record(rollback.getLastRollbackNanos());
+                    }
+                }
+            }
+            if (!rollback.canStep()) {
+                stalls++;
+                continue;
+            }
+            int input = chooseInput(client, inputs);
+            long start = System.nanoTime();
+            int frame = rollback.step(input);
+            stepTimes.record(System.nanoTime() - start);
+            upstream.send(now, frame, input, null);
+            maxPending = Math.max(maxPending, rollback.getPendingFrames());
+        }
+        
+        // 마지막: 서버가 이미 보낸 상태를 모두 반영한 뒤, 남은 입력을 모두 받은 서버를
+        //         클라이언트가 예측한 프레임까지 진행해 비교합니다.
+        Message message;
+        while ((message = downstream.poll(Long.MAX_VALUE)) != null) {
+            rollback.reconcile(message.frame, message.snapshot);
+        }
+        while ((message = upstream.poll(Long.MAX_VALUE)) != null) {
+            server.receive(message.frame, message.input);
+        }
+        while (server.frame < rollback.getFrame()) {
+            server.tick();
+        }
+        boolean converged = copy(SnapshotBuffer.allocate(SNAPSHOT_CAPACITY), server.world)
+            .equals(copy(SnapshotBuffer.allocate(SNAPSHOT_CAPACITY), client));
+        
+        System.out.printf("%-14s latency=%d+-%d ms lead=%d  frames=%d stalls=%d  confirmed=%d rollbacks=%d"
+                          + " (substituted inputs=%d)  pending max=%d  resimulated=%d  level=%d%n",
+                          name, latencyMicros / 1000, jitterMicros / 1000, leadFrames, rollback.getFrame(), stalls,
+                          rollback.getConfirmedCount(), rollback.getRollbackCount(), server.substituted, maxPending,
+                          rollback.getResimulatedFrames(), server.world.getLevel());
+        System.out.printf("%-14s predict step p50=%.1f us  p99=%.1f us   rollback p50=%.2f ms  p99=%.2f ms"
+                          + "  %d+ frames: count=%d p99=%.2f ms max=%.2f ms  converged=%b%n",
+                          name, stepTimes.getPercentile(50) / 1e3, stepTimes.getPercentile(99) / 1e3,
+                          rollbackTimes.getPercentile(50) / 1e6, rollbackTimes.getPercentile(99) / 1e6, BUDGET_FRAMES,
+                          longRollbackTimes.getCount(), longRollbackTimes.getPercentile(99) / 1e6,
+                          longRollbackTimes.getMax() / 1e6, converged);
+        
+        if (jitterMicros == 0 && leadFrames * FRAME_MICROS > latencyMicros) {
+            check(name + " no rollback without late inputs", rollback.getRollbackCount() == 0);
+        } else {
+            check(name + " rollbacks happened", rollback.getRollbackCount() > 0);
+        }
+        check(name + " rollbacks explained by substituted inputs", rollback.getRollbackCount() <= server.substituted);
+        check(name + " converged", converged);
+        if (spec != null && spec.equals(BREAKOUT_LEVEL_CLEAR)) {
+            check(name + " levels cleared", server.world.getLevel() > 1);
+        }
+        check(name + " rollback within frame budget", rollbackTimes.getPercentile(99) <= FRAME_BUDGET_NANOS
+                                                      && longRollbackTimes.getPercentile(99) <= FRAME_BUDGET_NANOS);
+    }
+    
+    /**
+     * 공을 따라가되 가끔 엉뚱하게 움직이는 입력을 고릅니다.
+     */
+    private static int chooseInput(BreakoutWorld world, Random random) {
+        BreakoutPaddle paddle = world.getPaddle();
+        double center = paddle.getX() + paddle.getWidth() / 2;
+        double target = center;
+        double lowest = -1;
+        for (BreakoutBall ball : world.getBalls()) {
+            if (ball.getY() > lowest) {
+                lowest = ball.getY();
+                target = ball.getX();
+            }
+        }
+        int input = random.nextInt(30) == 0 ? BreakoutWorld.INPUT_LAUNCH : 0;
+        if (random.nextInt(8) == 0) {
+            return input | (random.nextBoolean() ? BreakoutWorld.INPUT_LEFT : BreakoutWorld.INPUT_RIGHT);
+        }
+        if (target < center - 10) {
+            input |= BreakoutWorld.INPUT_LEFT;
+        } else if (target > center + 10) {
+            input |= BreakoutWorld.INPUT_RIGHT;
+        }
+        return input;
+    }
+    
+    /**
+     * 월드의 스냅숏을 떠서 그 바이트를 새 버퍼로 복사합니다. 링크로 보내는 메시지처럼 따로 들고 다닐 수 있습니다.
+     */
+    private static ByteBuffer copy(SnapshotBuffer buffer, BreakoutWorld world) {
+        buffer.save(world);
+        ByteBuffer bytes = buffer.getBuffer();
+        ByteBuffer copy = ByteBuffer.allocate(bytes.remaining());
+        copy.put(bytes).flip();
+        return copy;
+    }
+    
+    private void check(String name, boolean condition) {
+        if (!condition) {
+            System.out.println("실패: " + name);
+            passed = false;
+        }
+    }
+}
\ No newline at end of file
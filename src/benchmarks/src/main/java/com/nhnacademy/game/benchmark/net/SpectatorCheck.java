@@ -0,0 +1,673 @@
+package com.nhnacademy.game.benchmark.net;
+
+import com.nhnacademy.breakout.objects.BreakoutBall;
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import com.nhnacademy.cannon.CannonWorld;
+import com.nhnacademy.cannon.GameMode;
+import com.nhnacademy.cannon.Projectile;
+import com.nhnacademy.cannon.ProjectileType;
+import com.nhnacademy.game.core.GameWorld;
+import com.nhnacademy.game.diagnostics.PhaseHistogram;
+import com.nhnacademy.game.net.SpectatorBroadcaster;
+import com.nhnacademy.game.replay.FrameDecoder;
+import com.nhnacademy.game.replay.Replayable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관전자 방송기가 많은 관전자에게 같은 버퍼를 내보내는 비용과 느린 관전자 처리를 확인하는 검사기
+ * 월드를 60틱으로 진행하며 매 틱 SpectatorBroadcaster.tick()을 부르고, 루프백으로 관전자를 단계별로 늘려 붙입니다.
+ * 관전자 쪽은 소켓 수 제한을 나눠 쓰도록 자식 JVM(--farm)에서 열며, 대부분은 받은 바이트를 버리고
+ * 100명 중 한 명꼴로 FrameDecoder로 되살려 틱이 빠짐없이 이어지는지(건너뛰었으면 키프레임에서 다시 시작하는지)와
+ * 되살린 상태의 요약값이 월드 쪽에서 인코딩한 값과 같은지 확인합니다.
+ * 받는 창을 줄이고 전혀 읽지 않는 관전자와 15초 동안 읽지 않다가 5초 동안 몰아 읽기를 되풀이하는 관전자도 섞어,
+ * 이들이 틱을 붙잡지 않고, 멈췄다 읽는 관전자는 밀린 델타 대신 키프레임부터 다시 받으며 계속 같은 상태를 되살리는지 봅니다.
+ * 전혀 읽지 않는 관전자는 30초 분량의 틱이 지나면 끊기므로, 검사가 그보다 길면 끊긴 수에 나타납니다.
+ *
+ * 그 전에 관전자 하나로 두 가지를 먼저 봅니다. 메뉴에 있는 Cannon 월드와 레벨을 만들지 않은 Breakout 월드처럼
+ * 아직 시작하지 않은 월드를 방송하다 게임을 시작해도 틱이 이어지는지, 그리고 작은 링에 들어가지 않는 큰 레벨의 프레임은
+ * 버리고 레벨이 다시 작아지면 키프레임에서 다시 시작하는지입니다.
+ *
+ * 단계마다 방송 스레드의 CPU 시간을 관전자 수와 시간으로 나눈 값(관전자 한 명의 초당 비용)과 tick()의 시간을 출력합니다.
+ * 관전자가 가장 많을 때의 한 명당 비용이 가장 적을 때의 1.5배를 넘거나, 틱이 초당 57번 아래로 떨어지거나,
+ * 요약값이 하나라도 다르거나, 되살린 스트림이 끊기거나, tick()이 예외를 던지거나, 멈췄다 읽는 관전자가 한 번도 키프레임으로 건너뛰지 않으면
+ * 실패(종료 코드 1)로 끝납니다. 한 코어에서는 월드, 방송, 관전자 프로세스가 코어를 나눠 쓰므로
+ * tick() 시간은 참고로 출력하고 판정은 p50으로만 합니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.net.SpectatorCheck
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.net.SpectatorCheck --world cannon --spectators 2000
+ */
+public class SpectatorCheck {
+    private static final int TICK_RATE = 60;
+    private static final long TICK_NANOS = 1_000_000_000L / TICK_RATE;
+    private static final int HISTORY = 8192;
+    private static final int BALLS = 4;
+    private static final int PROJECTILES = 20;
+    private static final int SETTLE_MILLIS = 1000;
+    private static final long TIMEOUT_MILLIS = 60_000;
+    // 관전자 프로세스
+    private static final int VERIFY_EVERY = 100;
+    private static final long READ_INTERVAL_MILLIS = 100;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int SLOW_RECEIVE_BUFFER = 4096;
+    // 멈췄다 읽는 관전자는 이만큼 읽지 않았다가 다음 시간 동안 모두 읽기를 되풀이합니다.
+    private static final long PAUSE_MILLIS = 15_000;
+    private static final long RESUME_MILLIS = 5_000;
+    // 시작하지 않은 월드와 큰 프레임을 볼 때의 링 (프레임 하나는 1092바이트까지 들어갑니다)
+    private static final int SMALL_RING_SIZE = 128 * 1024;
+    private static final int SMALL_RING_FLUSH_MILLIS = 10;
+    private static final int SMALL_LEVEL = 1;
+    private static final int LARGE_LEVEL = 3;
+    
+    private String worldName = "breakout";
+    private int spectators = 10_000;
+    private int stalled = 10;
+    private int pausing = 10;
+    private int phaseSeconds = 5;
+    private int flushMillis = SpectatorBroadcaster.DEFAULT_FLUSH_MILLIS;
+    private boolean passed = true;
+    
+    // 월드 스레드가 쓰고 출력을 읽는 스레드가 비교합니다.
+    private final AtomicLongArray historyTicks = new AtomicLongArray(HISTORY);
+    private final AtomicLongArray historyDigests = new AtomicLongArray(HISTORY);
+    private final AtomicInteger compared = new AtomicInteger();
+    private final AtomicInteger mismatches = new AtomicInteger();
+    private volatile PhaseHistogram tickTimes = new PhaseHistogram();
+    private volatile boolean running = true;
+    private volatile long ticks = 0;
+    
+    public static void main(String[] args) throws Exception {
+        SpectatorCheck check = new SpectatorCheck();
+        boolean farm = false;
+        int port = 0;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--world")) {
+                check.worldName = args[i + 1];
+            } else if (args[i].equals("--spectators")) {
+                check.spectators = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--stalled")) {
+                check.stalled = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--pausing")) {
+                check.pausing = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--seconds")) {
+                check.phaseSeconds = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--flush-millis")) {
+                check.flushMillis = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--farm")) {
+                farm = true;
+                port = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        if (farm) {
+            new Farm(port, check.stalled, check.pausing).run();
+            return;
+        }
+        check.run();
+        if (!check.passed) {
+            System.out.println("관전자 방송 검사에 실패했습니다.");
+            System.exit(1);
+        }
+    }
+    
+    private void run() throws Exception {
+        // 0. 아직 시작하지 않은 월드와 링에 들어가지 않는 프레임을 관전자 하나로 확인합니다.
+        CannonWorld menu = new CannonWorld(1000, 700);
+        broadcastStages("unstarted cannon", menu, menu, () -> menu.startGame(GameMode.TIME_ATTACK));
+        BreakoutWorld empty = new BreakoutWorld(800, 600);
+        long oversized = broadcastStages("unstarted breakout", empty, empty,
+                                         () -> empty.createLevel(SMALL_LEVEL),
+                                         () -> empty.createLevel(LARGE_LEVEL),
+                                         () -> empty.createLevel(SMALL_LEVEL));
+        check("oversized frames dropped", oversized > 0);
+        
+        GameWorld world;
+        Replayable replayable;
+        Runnable refill;
+        Random random = new Random(42);
+        if (worldName.equals("breakout")) {
+            BreakoutWorld breakout = new BreakoutWorld(800, 600);
+            breakout.createLevel(1);
+            world = breakout;
+            replayable = breakout;
+            refill = () -> {
+                // 공을 잃으면 다시 채워 벽돌이 계속 부서지도록 합니다.
+                List<BreakoutBall> balls = breakout.getBalls();
+                while (balls.size() < BALLS) {
+                    BreakoutBall ball = new BreakoutBall(100 + random.nextDouble() * 600, 400);
+                    ball.setVelocity(random.nextDouble() * 400 - 200, -300);
+                    balls.add(ball);
+                }
+                if (breakout.getBricks().isEmpty() || breakout.isGameOver()) {
+                    breakout.createLevel(1);
+                }
+            };
+        } else if (worldName.equals("cannon")) {
+            CannonWorld cannon = new CannonWorld(1000, 700);
+            cannon.startGame(GameMode.TIME_ATTACK);
+            world = cannon;
+            replayable = cannon;
+            refill = () -> {
+                List<Projectile> projectiles = cannon.getProjectiles();
+                while (projectiles.size() < PROJECTILES) {
+                    Projectile projectile = new Projectile(60, 640, 8, ProjectileType.STANDARD);
+                    projectile.setVelocity(200 + random.nextDouble() * 400, -300 - random.nextDouble() * 300);
+                    projectiles.add(projectile);
+                }
+            };
+        } else {
+            throw new IllegalArgumentException("알 수 없는 월드: " + worldName);
+        }
+        
+        SpectatorBroadcaster broadcaster = new SpectatorBroadcaster(
+                replayable, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                SpectatorBroadcaster.DEFAULT_KEYFRAME_INTERVAL, SpectatorBroadcaster.DEFAULT_RING_SIZE, flushMillis);
+        Thread worldThread = new Thread(() -> runWorld(world, refill, broadcaster), "world");
+        worldThread.start();
+        
+        Process farm = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                                          "-cp", System.getProperty("java.class.path"),
+                                          SpectatorCheck.class.getName(),
+                                          "--farm", String.valueOf(broadcaster.getPort()),
+                                          "--stalled", String.valueOf(stalled),
+                                          "--pausing", String.valueOf(pausing))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        PrintStream commands = new PrintStream(farm.getOutputStream(), true, StandardCharsets.UTF_8);
+        BlockingQueue<String> replies = new LinkedBlockingQueue<>();
+        Thread output = new Thread(() -> readFarm(farm, replies), "farm-output");
+        output.setDaemon(true);
+        output.start();
+        
+        try {
+            System.out.printf("world=%s spectators=%d (stalled=%d pausing=%d) flush=%d ms keyframe interval=%d%n",
+                              worldName, spectators, stalled, pausing, flushMillis,
+                              broadcaster.getKeyframeInterval());
+            System.out.println("  viewers   broadcast CPU   per viewer   sent MB/s   ticks/s   tick p50   tick p99"
+                               + "   keyframe drops   disconnects");
+            
+            // 1. 관전자를 단계별로 늘리며 방송 스레드의 CPU 시간을 잽니다.
+            int[] phases = { spectators / 8, spectators / 4, spectators / 2, spectators };
+            double firstPerViewer = 0;
+            double lastPerViewer = 0;
+            long firstP50 = 0;
+            long lastP50 = 0;
+            double slowestRate = Double.MAX_VALUE;
+            for (int phase = 0; phase < phases.length; phase++) {
+                int target = Math.max(phases[phase], stalled + pausing + 1);
+                commands.println("connect " + target);
+                String reply = replies.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (reply == null || !reply.equals("connected " + target)) {
+                    check("connected " + target + " (" + reply + ")", false);
+                    return;
+                }
+                long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+                while (broadcaster.getSpectatorCount() + broadcaster.getDisconnects() < target
+                       && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+                Thread.sleep(SETTLE_MILLIS);
+                
+                long cpu = broadcaster.getBroadcastCpuNanos();
+                long bytes = broadcaster.getBytesSent();
+                long tickCount = ticks;
+                long drops = broadcaster.getKeyframeDrops();
+                long start = System.nanoTime();
+                tickTimes = new PhaseHistogram();
+                Thread.sleep(phaseSeconds * 1000L);
+                PhaseHistogram times = tickTimes;
+                double seconds = (System.nanoTime() - start) / 1e9;
+                cpu = broadcaster.getBroadcastCpuNanos() - cpu;
+                bytes = broadcaster.getBytesSent() - bytes;
+                double rate = (ticks - tickCount) / seconds;
+                int viewers = broadcaster.getSpectatorCount();
+                double perViewer = cpu / seconds / Math.max(1, viewers);
+                System.out.printf("  %7d   %9.1f %%   %7.2f us   %9.2f   %7.1f   %5.1f us   %5.1f us   %14d   %11d%n",
+                                  viewers, cpu * 100 / seconds / 1e9, perViewer / 1e3, bytes / seconds / 1e6, rate,
+                                  times.getPercentile(50) / 1e3, times.getPercentile(99) / 1e3,
+                                  broadcaster.getKeyframeDrops() - drops, broadcaster.getDisconnects());
+                if (phase == 0) {
+                    firstPerViewer = perViewer;
+                    firstP50 = times.getPercentile(50);
+                }
+                lastPerViewer = perViewer;
+                lastP50 = times.getPercentile(50);
+                slowestRate = Math.min(slowestRate, rate);
+            }
+            System.out.printf("per viewer cost: %.2f us/s at %d viewers, %.2f us/s at %d viewers (x%.2f)%n",
+                              firstPerViewer / 1e3, phases[0], lastPerViewer / 1e3, spectators,
+                              lastPerViewer / firstPerViewer);
+            check("all viewers connected", broadcaster.getSpectatorCount() + broadcaster.getDisconnects() >= spectators);
+            check("flat cost per viewer", lastPerViewer <= firstPerViewer * 1.5);
+            check("tick rate held", slowestRate >= TICK_RATE * 0.95);
+            check("tick p50 independent of viewers", lastP50 <= firstP50 * 2 + 20_000);
+            
+            // 2. 되살린 관전자의 스트림과 요약값을 확인합니다.
+            commands.println("stop");
+            int errors = 0;
+            int pausingDrops = 0;
+            int pausingViewers = 0;
+            String line;
+            while ((line = replies.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) != null && !line.equals("done")) {
+                String[] fields = line.split(" ");
+                if (fields[0].equals("viewer")) {
+                    // viewer 종류 마지막틱 프레임 키프레임 건너뜀 오류
+                    errors += Integer.parseInt(fields[6]);
+                    if (fields[1].equals("pausing")) {
+                        pausingViewers++;
+                        pausingDrops += Integer.parseInt(fields[5]) > 0 ? 1 : 0;
+                    }
+                } else if (fields[0].equals("total")) {
+                    System.out.printf("farm received %,d bytes  viewers closed by broadcaster=%s%n",
+                                      Long.parseLong(fields[1]), fields[2]);
+                }
+            }
+            System.out.printf("decoded viewers: stream errors=%d  digests compared=%d mismatches=%d"
+                              + "  pausing viewers dropped to keyframes=%d/%d%n",
+                              errors, compared.get(), mismatches.get(), pausingDrops, pausingViewers);
+            System.out.printf("broadcaster: keyframe drops=%d  disconnects=%d  sent=%,d bytes%n",
+                              broadcaster.getKeyframeDrops(), broadcaster.getDisconnects(), broadcaster.getBytesSent());
+            check("farm finished", "done".equals(line));
+            check("decoded streams continuous", errors == 0);
+            check("state digests", compared.get() > 0 && mismatches.get() == 0);
+            check("slow viewers dropped to keyframes", pausing == 0 || pausingDrops == pausingViewers);
+        } finally {
+            farm.destroy();
+            running = false;
+            worldThread.join();
+            broadcaster.close();
+        }
+    }
+    
+    /**
+     * 작은 링의 방송기에 관전자 하나를 붙이고, 월드를 단계마다 키프레임 간격 두 번씩 진행하며 받은 프레임을 되살려
+     * 틱이 이어지는지(건너뛰었으면 키프레임에서 다시 시작하는지)와 요약값이 같은지 확인합니다.
+     * 첫 단계는 월드를 만든 그대로 진행하고, 이후 단계는 시작할 때 주어진 작업으로 월드를 바꿉니다.
+     * @return 링에 들어가지 않아 버린 프레임 수
+     */
+    private long broadcastStages(String name, GameWorld world, Replayable replayable, Runnable... stages)
+            throws IOException, InterruptedException {
+        int interval = SpectatorBroadcaster.DEFAULT_KEYFRAME_INTERVAL;
+        int total = (stages.length + 1) * 2 * interval;
+        long[] digests = new long[total];
+        Probe probe = new Probe();
+        try (SpectatorBroadcaster broadcaster = new SpectatorBroadcaster(
+                 replayable, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                 interval, SMALL_RING_SIZE, SMALL_RING_FLUSH_MILLIS);
+             SocketChannel channel = SocketChannel.open(broadcaster.getLoopbackAddress())) {
+            channel.configureBlocking(false);
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (broadcaster.getSpectatorCount() < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            
+            try {
+                for (int tick = 0; tick < total; tick++) {
+                    if (tick > 0 && tick % (2 * interval) == 0) {
+                        stages[tick / (2 * interval) - 1].run();
+                    }
+                    world.update(1.0 / TICK_RATE);
+                    int sent = broadcaster.tick();
+                    digests[sent] = broadcaster.digest();
+                    probe.read(channel, digests);
+                    LockSupport.parkNanos(TICK_NANOS / 4);
+                }
+            } catch (RuntimeException e) {
+                check(name + " broadcast (" + e + ")", false);
+                return broadcaster.getOversizedFrames();
+            }
+            // 마지막 단계의 키프레임부터 끝까지 받을 때까지 읽습니다.
+            deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (probe.lastTick < total - 1 && probe.errors == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(SMALL_RING_FLUSH_MILLIS);
+                probe.read(channel, digests);
+            }
+            
+            System.out.printf("%s: frames=%d keyframes=%d skipped=%d oversized=%d digests=%d mismatches=%d"
+                              + " errors=%d%n", name, probe.frames, probe.keyframes, probe.drops,
+                              broadcaster.getOversizedFrames(), probe.compared, probe.mismatches, probe.errors);
+            check(name + " stream reached the last tick", probe.lastTick == total - 1);
+            check(name + " stream continuous", probe.errors == 0);
+            check(name + " digests", probe.compared > 0 && probe.mismatches == 0);
+            return broadcaster.getOversizedFrames();
+        }
+    }
+    
+    /**
+     * 월드를 60틱으로 진행하며 매 틱 방송기에 넘기고, 틱마다 요약값을 남깁니다.
+     */
+    private void runWorld(GameWorld world, Runnable refill, SpectatorBroadcaster broadcaster) {
+        double deltaTime = 1.0 / TICK_RATE;
+        long next = System.nanoTime();
+        while (running) {
+            refill.run();
+            world.update(deltaTime);
+            long start = System.nanoTime();
+            int tick = broadcaster.tick();
+            tickTimes.record(System.nanoTime() - start);
+            historyDigests.set(tick & (HISTORY - 1), broadcaster.digest());
+            historyTicks.set(tick & (HISTORY - 1), tick);
+            ticks++;
+            
+            next += TICK_NANOS;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else if (-wait > 5 * TICK_NANOS) {
+                next = System.nanoTime();
+            }
+        }
+    }
+    
+    /**
+     * 관전자 프로세스의 출력을 읽습니다. 요약값은 바로 비교하고 나머지 줄은 큐에 넘깁니다.
+     */
+    private void readFarm(Process farm, BlockingQueue<String> replies) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(farm.getInputStream(),
+                                                                             StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("digest ")) {
+                    replies.add(line);
+                    continue;
+                }
+                String[] fields = line.split(" ");
+                long tick = Long.parseLong(fields[1]);
+                long digest = Long.parseLong(fields[2]);
+                int slot = (int) (tick & (HISTORY - 1));
+                // 방송 스레드가 월드 스레드보다 먼저 보냈을 수 있으므로 그 틱의 요약값이 남을 때까지 잠시 기다립니다.
+                for (int i = 0; i < 100 && historyTicks.get(slot) < tick; i++) {
+                    Thread.sleep(1);
+                }
+                if (historyTicks.get(slot) != tick || historyDigests.get(slot) != digest) {
+                    mismatches.incrementAndGet();
+                }
+                compared.incrementAndGet();
+            }
+        } catch (IOException e) {
+            replies.add("error " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 같은 프로세스에서 프레임을 되살리며 틱마다 월드 쪽 요약값과 비교하는 관전자
+     */
+    private static final class Probe {
+        final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        final FrameDecoder decoder = new FrameDecoder();
+        int lastTick = -1;
+        int frames = 0;
+        int keyframes = 0;
+        int drops = 0;
+        int errors = 0;
+        int compared = 0;
+        int mismatches = 0;
+        
+        void read(SocketChannel channel, long[] digests) throws IOException {
+            if (channel.read(in) < 0) {
+                errors++;
+                return;
+            }
+            in.flip();
+            while (in.remaining() >= 4 && in.remaining() >= 4 + in.getInt(in.position())) {
+                int start = in.position();
+                int length = in.getInt(start);
+                int tick = in.getInt(start + 4);
+                in.position(start + SpectatorBroadcaster.FRAME_HEADER_SIZE);
+                try {
+                    if (decoder.read(in)) {
+                        keyframes++;
+                        if (lastTick >= 0 && tick != lastTick + 1) {
+                            drops++;
+                        }
+                    } else if (lastTick < 0 || tick != lastTick + 1) {
+                        errors++;
+                    }
+                    compared++;
+                    if (decoder.digest() != digests[tick]) {
+                        mismatches++;
+                    }
+                } catch (RuntimeException e) {
+                    errors++;
+                }
+                lastTick = tick;
+                frames++;
+                in.position(start + 4 + length);
+            }
+            in.compact();
+        }
+    }
+    
+    private void check(String name, boolean condition) {
+        if (!condition) {
+            System.out.println("실패: " + name);
+            passed = false;
+        }
+    }
+    
+    /**
+     * 자식 JVM에서 관전자들을 여는 쪽
+     * 표준 입력으로 "connect N"(모두 N명이 되도록 접속)과 "stop"을 받고, 표준 출력으로 결과를 알립니다.
+     * 한 스레드가 일정 간격마다 읽을 수 있는 관전자만 읽습니다.
+     */
+    private static final class Farm {
+        private final InetSocketAddress address;
+        private final int stalled;
+        private final int pausing;
+        private final Selector selector;
+        private final List<SocketChannel> channels = new ArrayList<>();
+        private final List<Viewer> decoded = new ArrayList<>();
+        private final ByteBuffer discard = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        private final Queue<String> commands = new ConcurrentLinkedQueue<>();
+        private long received = 0;
+        private int closed = 0;
+        
+        /**
+         * 받은 프레임을 되살리는 관전자
+         */
+        private static final class Viewer {
+            final String kind;
+            final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            final FrameDecoder decoder = new FrameDecoder();
+            int lastTick = -1;
+            int frames = 0;
+            int keyframes = 0;
+            int drops = 0;
+            int errors = 0;
+            
+            final long connectedMillis = System.currentTimeMillis();
+            
+            Viewer(String kind) {
+                this.kind = kind;
+            }
+            
+            /**
+             * 멈췄다 읽는 관전자가 지금 읽지 않는 때인지 확인합니다.
+             */
+            boolean isPaused() {
+                return kind.equals("pausing")
+                       && (System.currentTimeMillis() - connectedMillis) % (PAUSE_MILLIS + RESUME_MILLIS) < PAUSE_MILLIS;
+            }
+        }
+        
+        Farm(int port, int stalled, int pausing) throws IOException {
+            this.address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+            this.stalled = stalled;
+            this.pausing = pausing;
+            this.selector = Selector.open();
+        }
+        
+        void run() throws IOException {
+            Thread input = new Thread(() -> {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in,
+                                                                                     StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        commands.add(line);
+                    }
+                } catch (IOException e) {
+                    // 부모가 끝나면 표준 입력이 닫힙니다.
+                }
+                commands.add("stop");
+            }, "farm-input");
+            input.setDaemon(true);
+            input.start();
+            
+            while (true) {
+                String command = commands.poll();
+                if (command != null && command.startsWith("connect ")) {
+                    int target = Integer.parseInt(command.substring(8));
+                    while (channels.size() < target) {
+                        connect(channels.size());
+                    }
+                    System.out.println("connected " + channels.size());
+                } else if (command != null && command.equals("stop")) {
+                    break;
+                }
+                
+                selector.selectNow();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Viewer viewer = (Viewer) key.attachment();
+                    if (viewer == null || !viewer.isPaused()) {
+                        read(key, viewer);
+                    }
+                }
+                try {
+                    Thread.sleep(READ_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+            
+            for (Viewer viewer : decoded) {
+                System.out.printf("viewer %s %d %d %d %d %d%n", viewer.kind, viewer.lastTick, viewer.frames,
+                                  viewer.keyframes, viewer.drops, viewer.errors);
+            }
+            System.out.println("total " + received + " " + closed);
+            System.out.println("done");
+            for (SocketChannel channel : channels) {
+                channel.close();
+            }
+            selector.close();
+        }
+        
+        /**
+         * 관전자 하나를 엽니다. 처음 몇 명은 읽지 않거나 멈췄다 읽는 관전자이고, 나머지는 100명 중 한 명꼴로 되살립니다.
+         */
+        private void connect(int index) throws IOException {
+            SocketChannel channel = SocketChannel.open();
+            channels.add(channel);
+            if (index < stalled) {
+                // 접속만 하고 읽지 않습니다.
+                channel.setOption(StandardSocketOptions.SO_RCVBUF, SLOW_RECEIVE_BUFFER);
+                channel.connect(address);
+                return;
+            }
+            Viewer viewer = null;
+            if (index < stalled + pausing) {
+                viewer = new Viewer("pausing");
+                channel.setOption(StandardSocketOptions.SO_RCVBUF, SLOW_RECEIVE_BUFFER);
+            } else if (index % VERIFY_EVERY == 0) {
+                viewer = new Viewer("decoded");
+            }
+            channel.connect(address);
+            channel.configureBlocking(false);
+            channel.register(selector, SelectionKey.OP_READ, viewer);
+            if (viewer != null) {
+                decoded.add(viewer);
+            }
+        }
+        
+        private void read(SelectionKey key, Viewer viewer) throws IOException {
+            SocketChannel channel = (SocketChannel) key.channel();
+            ByteBuffer buffer = viewer == null ? discard : viewer.in;
+            if (viewer == null) {
+                discard.clear();
+            }
+            int read;
+            try {
+                read = channel.read(buffer);
+            } catch (IOException e) {
+                read = -1;
+            }
+            if (read < 0) {
+                key.cancel();
+                channel.close();
+                closed++;
+                return;
+            }
+            received += read;
+            if (viewer != null) {
+                decode(viewer);
+            }
+        }
+        
+        /**
+         * 받은 프레임을 되살리며 틱이 이어지는지 확인하고, 키프레임 간격의 가운데 틱마다 요약값을 알립니다.
+         */
+        private static void decode(Viewer viewer) {
+            ByteBuffer in = viewer.in;
+            in.flip();
+            while (in.remaining() >= 4 && in.remaining() >= 4 + in.getInt(in.position())) {
+                int start = in.position();
+                int length = in.getInt(start);
+                int tick = in.getInt(start + 4);
+                in.position(start + SpectatorBroadcaster.FRAME_HEADER_SIZE);
+                try {
+                    boolean keyframe = viewer.decoder.read(in);
+                    if (keyframe) {
+                        viewer.keyframes++;
+                        if (viewer.lastTick >= 0 && tick != viewer.lastTick + 1) {
+                            viewer.drops++;
+                        }
+                    } else if (viewer.lastTick < 0 || tick != viewer.lastTick + 1) {
+                        viewer.errors++;
+                    }
+                    if (tick % SpectatorBroadcaster.DEFAULT_KEYFRAME_INTERVAL
+                        == SpectatorBroadcaster.DEFAULT_KEYFRAME_INTERVAL / 2) {
+                        System.out.println("digest " + tick + " " + viewer.decoder.digest());
+                    }
+                } catch (RuntimeException e) {
+                    viewer.errors++;
+                }
+                viewer.lastTick = tick;
+                viewer.frames++;
+                in.position(start + 4 + length);
+            }
+            in.compact();
+        }
+    }
+}
\ No newline at end of file
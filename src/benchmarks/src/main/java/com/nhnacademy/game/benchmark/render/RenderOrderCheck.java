@@ -0,0 +1,198 @@
+package com.nhnacademy.game.benchmark.render;
+
+import com.nhnacademy.breakout.Brick;
+import com.nhnacademy.breakout.objects.BreakoutPaddle;
+import com.nhnacademy.breakout.objects.ExplodingBrick;
+import com.nhnacademy.breakout.objects.MultiHitBrick;
+import com.nhnacademy.breakout.objects.PowerUpBrick;
+import com.nhnacademy.breakout.objects.UnbreakableBrick;
+import com.nhnacademy.cannon.Cannon;
+import com.nhnacademy.cannon.Projectile;
+import com.nhnacademy.cannon.ProjectileType;
+import com.nhnacademy.cannon.Target;
+import com.nhnacademy.cannon.TargetType;
+import com.nhnacademy.game.behavior.PowerUpProvider;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.Renderable;
+import com.nhnacademy.game.graphics.software.SoftwareRenderer;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Arrays;
+
+/**
+ * 레이어 정렬이 객체 안의 그리기 순서를 뒤집지 않는지 확인하는 검사기
+ * 객체마다 enqueue()한 명령을 레이어 순으로 정렬해 그린 결과와,
+ * 기록하는 즉시 하나씩 그린 결과(draw(gc)와 같은 순서)를 SoftwareRenderer에서 픽셀 단위로 비교합니다.
+ * draw(gc) 자체는 JavaFX 툴킷이 있어야 그릴 수 있으므로, enqueue()가 draw(gc)를 같은 순서로 옮겨 적었다는 전제로
+ * 기록 순서를 기준 그리기 경로로 삼습니다.
+ * 하나라도 다르면 실패(종료 코드 1)로 끝납니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.render.RenderOrderCheck
+ */
+public class RenderOrderCheck {
+    private static final int WIDTH = 200;
+    private static final int HEIGHT = 160;
+    
+    private boolean passed = true;
+    
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            throw new IllegalArgumentException("알 수 없는 옵션: " + args[0]);
+        }
+        
+        // 소프트웨어 렌더러는 픽셀 중심을 덮는 선만 그리므로, 0.5px 벽돌 무늬가 테두리와 겹치도록 반 픽셀 위치에 둡니다.
+        RenderOrderCheck check = new RenderOrderCheck();
+        check.compare("UnbreakableBrick", new UnbreakableBrick(20.5, 20.5, 60, 80));
+        check.compare("ExplodingBrick", new ExplodingBrick(20.5, 20.5, 60, 20, Color.RED, 50));
+        
+        MultiHitBrick multiHit = new MultiHitBrick(20.5, 20.5, 60, 20, Color.ORANGE, 30, 3);
+        multiHit.hit(1);
+        check.compare("MultiHitBrick", multiHit);
+        
+        check.compare("PowerUpBrick", new PowerUpBrick(20.5, 20.5, 60, 20, Color.GREEN, 20,
+                                                       PowerUpProvider.PowerUpType.LASER));
+        check.compare("Brick", new Brick(20.5, 20.5, 60, 20, Color.BLUE, 10));
+        check.compare("PowerUp", new com.nhnacademy.breakout.world.PowerUp(
+                40, 40, PowerUpProvider.PowerUpType.MULTI_BALL));
+        check.compare("PowerUp (구형)", new com.nhnacademy.breakout.PowerUp(
+                40, 40, com.nhnacademy.breakout.PowerUp.Type.LASER));
+        
+        BreakoutPaddle paddle = new BreakoutPaddle(40, 100);
+        paddle.applyPowerUp(BreakoutPaddle.PowerUpType.STICKY_PADDLE, 10);
+        paddle.applyPowerUp(BreakoutPaddle.PowerUpType.LASER, 10);
+        check.compare("BreakoutPaddle", paddle);
+        
+        Target target = new Target(40.5, 40.5, 60, 40, TargetType.ARMORED);
+        target.takeDamage(50);
+        check.compare("Target", target);
+        
+        Projectile projectile = new Projectile(40, 40, 10, ProjectileType.EXPLOSIVE);
+        projectile.setVelocity(300, 200);
+        for (int i = 0; i < 20; i++) {
+            projectile.update(1.0 / 60);
+        }
+        check.compare("Projectile", projectile);
+        
+        // 포신이 바퀴와 겹치도록 아래쪽을 향한 경우도 봅니다.
+        for (double degrees : new double[] { -45, 0, 60, 90, 120 }) {
+            Cannon cannon = new Cannon(100, 80);
+            cannon.setAngle(Math.toRadians(degrees));
+            check.compare("Cannon " + (int) degrees + "°", cannon);
+        }
+        
+        if (!check.passed) {
+            System.out.println("그리기 순서 검사에 실패했습니다.");
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * 정렬해서 그린 픽셀과 기록 순서대로 그린 픽셀이 같은지 확인합니다.
+     */
+    private void compare(String name, Renderable object) {
+        SoftwareRenderer sorted = new SoftwareRenderer(WIDTH, HEIGHT);
+        RenderQueue queue = new RenderQueue(64);
+        object.enqueue(queue);
+        int commands = queue.size();
+        queue.flush(sorted);
+        
+        SoftwareRenderer expected = new SoftwareRenderer(WIDTH, HEIGHT);
+        object.enqueue(new ImmediateQueue(expected));
+        
+        int[] actual = sorted.getPixels();
+        int[] baseline = expected.getPixels();
+        int different = 0;
+        for (int i = 0; i < actual.length; i++) {
+            if (actual[i] != baseline[i]) {
+                different++;
+            }
+        }
+        // 둘 다 비어 있어서 같은 경우를 막기 위해 실제로 그려졌는지도 봅니다.
+        boolean painted = Arrays.stream(baseline).anyMatch(argb -> argb != 0);
+        boolean ok = painted && different == 0;
+        System.out.printf("%-18s commands=%3d  different=%5d px  %s%n", name, commands, different, ok ? "OK" : "FAIL");
+        passed &= ok;
+    }
+    
+    /**
+     * 명령을 기록하는 즉시 렌더러에 그리는 큐
+     * 정렬이 끼어들 여지가 없으므로 enqueue()를 부른 순서, 곧 draw(gc)의 순서대로 그려집니다.
+     * flush()가 비우는 선 굵기와 정렬 같은 현재 상태는 다음 명령을 위해 되돌려 둡니다.
+     */
+    private static class ImmediateQueue extends RenderQueue {
+        private final SoftwareRenderer renderer;
+        private double alpha = 1.0;
+        private double lineWidth = 1.0;
+        private TextAlignment textAlign = TextAlignment.LEFT;
+        
+        ImmediateQueue(SoftwareRenderer renderer) {
+            super(4);
+            this.renderer = renderer;
+        }
+        
+        @Override
+        public void setAlpha(double alpha) {
+            this.alpha = alpha;
+            super.setAlpha(alpha);
+        }
+        
+        @Override
+        public void setLineWidth(double lineWidth) {
+            this.lineWidth = lineWidth;
+            super.setLineWidth(lineWidth);
+        }
+        
+        @Override
+        public void setTextAlign(TextAlignment textAlign) {
+            this.textAlign = textAlign;
+            super.setTextAlign(textAlign);
+        }
+        
+        @Override
+        public void fillRect(int layer, Paint paint, double x, double y, double w, double h) {
+            super.fillRect(layer, paint, x, y, w, h);
+            paint();
+        }
+        
+        @Override
+        public void strokeRect(int layer, Paint paint, double x, double y, double w, double h) {
+            super.strokeRect(layer, paint, x, y, w, h);
+            paint();
+        }
+        
+        @Override
+        public void fillOval(int layer, Paint paint, double x, double y, double w, double h) {
+            super.fillOval(layer, paint, x, y, w, h);
+            paint();
+        }
+        
+        @Override
+        public void strokeOval(int layer, Paint paint, double x, double y, double w, double h) {
+            super.strokeOval(layer, paint, x, y, w, h);
+            paint();
+        }
+        
+        @Override
+        public void strokeLine(int layer, Paint paint, double x1, double y1, double x2, double y2) {
+            super.strokeLine(layer, paint, x1, y1, x2, y2);
+            paint();
+        }
+        
+        @Override
+        public void fillText(int layer, Paint paint, Font font, String text, double x, double y) {
+            super.fillText(layer, paint, font, text, x, y);
+            paint();
+        }
+        
+        private void paint() {
+            flush(renderer);
+            super.setAlpha(alpha);
+            super.setLineWidth(lineWidth);
+            super.setTextAlign(textAlign);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.nhnacademy.game.benchmark.render;
+
+import com.nhnacademy.breakout.objects.MultiHitBrick;
+import com.nhnacademy.breakout.world.BreakoutVideoExport;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.SpriteAtlas;
+import com.nhnacademy.game.graphics.software.FrameSink;
+import com.nhnacademy.game.graphics.software.PngSequenceWriter;
+import com.nhnacademy.game.graphics.software.SoftwareRenderer;
+import com.nhnacademy.game.graphics.software.Y4mWriter;
+import javafx.scene.paint.Color;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 화면 없는 영상 내보내기가 실시간보다 빠른지 확인하는 검사기
+ * BreakoutVideoExport로 800x600 플레이를 레벨마다 y4m과 PNG로 내보내며,
+ * 갱신, 그리기, 기록에 든 프레임당 시간과 초당 처리량을 출력합니다.
+ * 어느 조합이든 60fps에 못 미치면 실패(종료 코드 1)로 끝납니다.
+ *
+ * 스프라이트 명령을 기록한 뒤 원본 벽돌을 맞히고 옮겨도,
+ * SoftwareRenderer가 기록 시점의 모습과 위치로 그리는지도 픽셀 단위로 비교합니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.render.SoftwareExportCheck
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.render.SoftwareExportCheck --frames 7200 --png-frames 600
+ */
+public class SoftwareExportCheck {
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+    private static final int[] LEVELS = { 1, 4 };
+    private static final int WARMUP_FRAMES = 600;
+    
+    private int frames = 3600;
+    private int pngFrames = 300;
+    private boolean passed = true;
+    
+    public static void main(String[] args) throws IOException {
+        SoftwareExportCheck check = new SoftwareExportCheck();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--frames")) {
+                check.frames = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--png-frames")) {
+                check.pngFrames = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        check.checkCapturedSprite();
+        
+        // 측정 전에 그리기와 인코딩 경로를 JIT 컴파일해 둡니다.
+        try (FrameSink sink = new Y4mWriter(OutputStream.nullOutputStream(), BreakoutVideoExport.FRAMES_PER_SECOND)) {
+            new BreakoutVideoExport(WIDTH, HEIGHT, 1).export(sink, WARMUP_FRAMES);
+        }
+        
+        for (int level : LEVELS) {
+            // y4m은 디스크 속도를 빼고 변환과 스트림 쓰기까지만 잽니다.
+            try (FrameSink sink = new Y4mWriter(OutputStream.nullOutputStream(), BreakoutVideoExport.FRAMES_PER_SECOND)) {
+                check.run("y4m", level, sink, check.frames);
+            }
+            Path directory = Files.createTempDirectory("export-png");
+            try (FrameSink sink = new PngSequenceWriter(directory, "frame")) {
+                check.run("png", level, sink, check.pngFrames);
+            } finally {
+                deleteRecursively(directory);
+            }
+        }
+        
+        if (!check.passed) {
+            System.out.println("영상 내보내기 검사에 실패했습니다.");
+            System.exit(1);
+        }
+    }
+    
+    private void run(String format, int level, FrameSink sink, int frameCount) throws IOException {
+        BreakoutVideoExport export = new BreakoutVideoExport(WIDTH, HEIGHT, level);
+        export.export(sink, frameCount);
+        
+        double fps = export.getFramesPerSecond();
+        boolean ok = fps >= BreakoutVideoExport.FRAMES_PER_SECOND;
+        System.out.printf("%-4s level=%d frames=%5d  update=%5.2f ms  render=%5.2f ms  write=%5.2f ms  %7.1f fps (실시간의 %.1f배)  %s%n",
+                          format, level, frameCount,
+                          export.getUpdateNanos() / 1e6 / frameCount,
+                          export.getRenderNanos() / 1e6 / frameCount,
+                          export.getWriteNanos() / 1e6 / frameCount,
+                          fps, fps / BreakoutVideoExport.FRAMES_PER_SECOND, ok ? "OK" : "FAIL");
+        passed &= ok;
+    }
+    
+    /**
+     * 스프라이트 명령을 기록한 뒤 원본을 바꿔도 기록 시점의 벽돌과 같은 픽셀이 나오는지 확인합니다.
+     */
+    private void checkCapturedSprite() {
+        MultiHitBrick live = new MultiHitBrick(100, 50, 60, 20, Color.ORANGE, 30, 3);
+        RenderQueue queue = new RenderQueue(16);
+        queue.setSpriteAtlas(new SpriteAtlas());
+        live.enqueue(queue);
+        live.hit(1);
+        live.setPosition(300, 200);
+        SoftwareRenderer recorded = new SoftwareRenderer(WIDTH, HEIGHT);
+        queue.flush(recorded);
+        
+        MultiHitBrick original = new MultiHitBrick(100, 50, 60, 20, Color.ORANGE, 30, 3);
+        RenderQueue plain = new RenderQueue(16);
+        original.enqueue(plain);
+        SoftwareRenderer expected = new SoftwareRenderer(WIDTH, HEIGHT);
+        plain.flush(expected);
+        
+        // 둘 다 비어 있어서 같은 경우를 막기 위해 벽돌이 실제로 그려졌는지도 봅니다.
+        boolean painted = Arrays.stream(expected.getPixels()).anyMatch(argb -> argb != 0);
+        boolean ok = painted && Arrays.equals(recorded.getPixels(), expected.getPixels());
+        System.out.println("기록 시점 스프라이트 " + (ok ? "OK" : "FAIL"));
+        passed &= ok;
+    }
+    
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
\ No newline at end of file
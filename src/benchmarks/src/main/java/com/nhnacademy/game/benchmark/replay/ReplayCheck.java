@@ -0,0 +1,317 @@
+package com.nhnacademy.game.benchmark.replay;
+
+import com.nhnacademy.breakout.objects.BreakoutBall;
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import com.nhnacademy.cannon.CannonWorld;
+import com.nhnacademy.cannon.GameMode;
+import com.nhnacademy.cannon.Projectile;
+import com.nhnacademy.cannon.ProjectileType;
+import com.nhnacademy.game.core.GameObject;
+import com.nhnacademy.game.core.GameWorld;
+import com.nhnacademy.game.replay.FrameDecoder;
+import com.nhnacademy.game.replay.ReplayReader;
+import com.nhnacademy.game.replay.ReplayWriter;
+import com.nhnacademy.game.replay.Replayable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 리플레이 기록 비용과 파일 크기, 재생 정확도를 확인하는 검사기
+ * 각 월드를 지정한 프레임만큼 진행하며 매 프레임 기록하고,
+ * update()에 든 시간 대비 recordFrame()에 든 시간과 한 시간(60fps)당 파일 크기를 출력합니다.
+ *
+ * 기록하는 동안 일부 프레임의 상태(객체 종류와 1/16픽셀 좌표, 월드 값)를 남겨 두고,
+ * 파일을 차례로 읽었을 때와 무작위 순서로 seek()했을 때 모든 객체가 인코더의 허용 오차(1/8픽셀) 안에서 같은지 비교합니다.
+ * 꼬리를 잘라 낸 사본도 열어 비정상 종료 뒤의 복구를 확인하고,
+ * 닫는 스레드가 인터럽트된 상태에서도 close()가 꼬리까지 쓰는지 확인합니다.
+ * 하나라도 어긋나거나 한 시간 분량이 4MB를 넘으면 실패(종료 코드 1)로 끝납니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.replay.ReplayCheck
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.replay.ReplayCheck --frames 216000
+ */
+public class ReplayCheck {
+    private static final double DELTA_TIME = 1.0 / 60;
+    private static final int FRAMES_PER_HOUR = 60 * 60 * 60;
+    private static final int SAMPLE_INTERVAL = 97;
+    private static final int BALLS = 4;
+    private static final int PROJECTILES = 20;
+    private static final double MAX_MEGABYTES_PER_HOUR = 4;
+    private static final int FIELD_TOLERANCE = 2;
+    private static final int INDEX_MAGIC = 0x52494458;
+    
+    private int frames = 36_000;
+    private boolean passed = true;
+    
+    /**
+     * 한 프레임의 상태: 객체마다 종류와 1/16픽셀 필드(x, y, width, height), 월드 값
+     */
+    private static final class Sample {
+        private final String[] types;
+        private final int[] fields;
+        private final int[] values;
+        
+        Sample(int objectCount, int valueCount) {
+            types = new String[objectCount];
+            fields = new int[objectCount * 4];
+            values = new int[valueCount];
+        }
+        
+        void set(int index, String type, double x, double y, double width, double height) {
+            types[index] = type;
+            fields[index * 4] = quantize(x);
+            fields[index * 4 + 1] = quantize(y);
+            fields[index * 4 + 2] = quantize(width);
+            fields[index * 4 + 3] = quantize(height);
+        }
+        
+        /**
+         * 값이 같고, 객체마다 종류가 같고 필드가 FIELD_TOLERANCE 안인 짝이 상대에 하나씩 있는지 봅니다.
+         */
+        boolean matches(Sample other) {
+            if (!Arrays.equals(values, other.values) || types.length != other.types.length) {
+                return false;
+            }
+            boolean[] used = new boolean[other.types.length];
+            for (int i = 0; i < types.length; i++) {
+                int match = -1;
+                for (int j = 0; j < other.types.length && match < 0; j++) {
+                    if (!used[j] && types[i].equals(other.types[j]) && near(i, other, j)) {
+                        match = j;
+                    }
+                }
+                if (match < 0) {
+                    return false;
+                }
+                used[match] = true;
+            }
+            return true;
+        }
+        
+        private boolean near(int index, Sample other, int otherIndex) {
+            for (int f = 0; f < 4; f++) {
+                if (Math.abs(fields[index * 4 + f] - other.fields[otherIndex * 4 + f]) > FIELD_TOLERANCE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+    
+    public static void main(String[] args) throws IOException {
+        ReplayCheck check = new ReplayCheck();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--frames")) {
+                check.frames = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        Random random = new Random(42);
+        BreakoutWorld breakout = new BreakoutWorld(800, 600);
+        breakout.createLevel(1);
+        check.run("breakout", breakout, breakout, () -> {
+            // 공을 잃으면 다시 채워 벽돌이 계속 부서지도록 합니다.
+            List<BreakoutBall> balls = breakout.getBalls();
+            while (balls.size() < BALLS) {
+                BreakoutBall ball = new BreakoutBall(100 + random.nextDouble() * 600, 400);
+                ball.setVelocity(random.nextDouble() * 400 - 200, -300);
+                balls.add(ball);
+            }
+            if (breakout.getBricks().isEmpty() || breakout.isGameOver()) {
+                breakout.createLevel(1);
+            }
+        });
+        
+        CannonWorld cannon = new CannonWorld(1000, 700);
+        cannon.startGame(GameMode.TIME_ATTACK);
+        check.run("cannon", cannon, cannon, () -> {
+            List<Projectile> projectiles = cannon.getProjectiles();
+            while (projectiles.size() < PROJECTILES) {
+                Projectile projectile = new Projectile(60, 640, 8, ProjectileType.STANDARD);
+                projectile.setVelocity(200 + random.nextDouble() * 400, -300 - random.nextDouble() * 300);
+                projectiles.add(projectile);
+            }
+        });
+        
+        check.checkInterruptedClose();
+        
+        if (!check.passed) {
+            System.out.println("리플레이 검사에 실패했습니다.");
+            System.exit(1);
+        }
+    }
+    
+    private void run(String name, GameWorld world, Replayable replayable, Runnable refill) throws IOException {
+        Path file = Files.createTempFile("replay-" + name, ".rpl");
+        Path truncated = Files.createTempFile("replay-" + name, ".partial");
+        try {
+            List<Integer> sampleFrames = new ArrayList<>();
+            List<Sample> samples = new ArrayList<>();
+            List<GameObject> objects = new ArrayList<>();
+            int[] values = new int[ReplayWriter.MAX_VALUES];
+            
+            long updateNanos = 0;
+            long recordNanos = 0;
+            ReplayWriter writer = new ReplayWriter(file, replayable);
+            for (int frame = 0; frame < frames; frame++) {
+                refill.run();
+                long start = System.nanoTime();
+                world.update(DELTA_TIME);
+                long updated = System.nanoTime();
+                writer.recordFrame();
+                long recorded = System.nanoTime();
+                updateNanos += updated - start;
+                recordNanos += recorded - updated;
+                
+                if (frame % SAMPLE_INTERVAL == 0) {
+                    objects.clear();
+                    replayable.collectReplayObjects(objects);
+                    int valueCount = replayable.getReplayValues(values);
+                    sampleFrames.add(frame);
+                    samples.add(sample(objects, values, valueCount));
+                }
+            }
+            writer.close();
+            long bytes = Files.size(file);
+            
+            // 기록 비용은 update() 대비 비율과 60fps 프레임 예산(16.7ms) 대비 비율로 함께 보여 줍니다.
+            double megabytesPerHour = bytes * (double) FRAMES_PER_HOUR / frames / (1024 * 1024);
+            boolean small = megabytesPerHour <= MAX_MEGABYTES_PER_HOUR && writer.getDroppedFrameCount() == 0;
+            System.out.printf("%-9s frames=%7d keyframes=%5d dropped=%d size=%9d B  %6.2f MB/hour  %s%n",
+                              name, writer.getFrameCount(), writer.getKeyframeCount(), writer.getDroppedFrameCount(),
+                              bytes, megabytesPerHour, small ? "OK" : "FAIL");
+            passed &= small;
+            System.out.printf("%-9s update=%6.2f us/frame  record=%6.2f us/frame (update의 %.1f%%, 프레임 예산의 %.3f%%)%n",
+                              name, updateNanos / 1e3 / frames, recordNanos / 1e3 / frames,
+                              recordNanos * 100.0 / updateNanos, recordNanos * 100.0 / frames / (DELTA_TIME * 1e9));
+            
+            verify(name, file, sampleFrames, samples);
+            
+            // 꼬리와 마지막 레코드 일부를 잘라 낸 사본도 열 수 있어야 합니다.
+            Files.copy(file, truncated, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+                channel.truncate(bytes * 3 / 4);
+            }
+            try (ReplayReader reader = new ReplayReader(truncated)) {
+                boolean recovered = reader.getFrameCount() > 0 && reader.getFrameCount() < frames;
+                if (recovered) {
+                    reader.seek(reader.getFrameCount() - 1);
+                }
+                System.out.printf("%-9s 잘린 파일에서 %d 프레임 복구 %s%n", name, reader.getFrameCount(),
+                                  recovered ? "OK" : "FAIL");
+                passed &= recovered;
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(truncated);
+        }
+    }
+    
+    /**
+     * 차례로 읽은 결과와 무작위 순서로 seek()한 결과를 기록할 때의 상태와 비교합니다.
+     */
+    private void verify(String name, Path file, List<Integer> sampleFrames, List<Sample> samples) throws IOException {
+        int sequentialMismatches = 0;
+        int seekMismatches = 0;
+        long seekNanos = 0;
+        try (ReplayReader reader = new ReplayReader(file)) {
+            int sample = 0;
+            while (reader.next()) {
+                if (sample < sampleFrames.size() && reader.getFrame() == sampleFrames.get(sample)) {
+                    if (!samples.get(sample).matches(sample(reader))) {
+                        sequentialMismatches++;
+                    }
+                    sample++;
+                }
+            }
+            
+            Random random = new Random(7);
+            for (int i = 0; i < sampleFrames.size(); i++) {
+                int index = random.nextInt(sampleFrames.size());
+                long start = System.nanoTime();
+                reader.seek(sampleFrames.get(index));
+                seekNanos += System.nanoTime() - start;
+                if (!samples.get(index).matches(sample(reader))) {
+                    seekMismatches++;
+                }
+            }
+        }
+        boolean ok = sequentialMismatches == 0 && seekMismatches == 0;
+        System.out.printf("%-9s samples=%5d sequential mismatches=%d seek mismatches=%d  seek avg=%.1f us  %s%n",
+                          name, sampleFrames.size(), sequentialMismatches, seekMismatches,
+                          seekNanos / 1e3 / Math.max(1, sampleFrames.size()), ok ? "OK" : "FAIL");
+        passed &= ok;
+    }
+    
+    private static Sample sample(List<GameObject> objects, int[] values, int valueCount) {
+        Sample sample = new Sample(objects.size(), valueCount);
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject object = objects.get(i);
+            sample.set(i, object.getClass().getName(), object.getX(), object.getY(),
+                       object.getWidth(), object.getHeight());
+        }
+        System.arraycopy(values, 0, sample.values, 0, valueCount);
+        return sample;
+    }
+    
+    private static Sample sample(ReplayReader reader) {
+        Sample sample = new Sample(reader.getObjects().size(), reader.getValueCount());
+        int index = 0;
+        for (FrameDecoder.Entry entry : reader.getObjects()) {
+            sample.set(index++, entry.getType(), entry.getX(), entry.getY(), entry.getWidth(), entry.getHeight());
+        }
+        for (int i = 0; i < sample.values.length; i++) {
+            sample.values[i] = reader.getValue(i);
+        }
+        return sample;
+    }
+    
+    /**
+     * 인터럽트된 스레드에서 close()해도 색인과 꼬리를 쓰고 인터럽트 상태를 남기는지 확인합니다.
+     */
+    private void checkInterruptedClose() throws IOException {
+        Path file = Files.createTempFile("replay-interrupted", ".rpl");
+        try {
+            BreakoutWorld world = new BreakoutWorld(800, 600);
+            world.createLevel(1);
+            ReplayWriter writer = new ReplayWriter(file, world);
+            for (int frame = 0; frame < 1200; frame++) {
+                world.update(DELTA_TIME);
+                writer.recordFrame();
+            }
+            Thread.currentThread().interrupt();
+            writer.close();
+            boolean interrupted = Thread.interrupted();
+            
+            ByteBuffer tail = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                channel.read(tail, channel.size() - 4);
+            }
+            boolean ok;
+            try (ReplayReader reader = new ReplayReader(file)) {
+                ok = interrupted && tail.getInt(0) == INDEX_MAGIC && reader.getFrameCount() == 1200;
+            }
+            System.out.println("인터럽트된 close() " + (ok ? "OK" : "FAIL"));
+            passed &= ok;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    private static int quantize(double value) {
+        return (int) Math.round(value * 16);
+    }
+}
\ No newline at end of file
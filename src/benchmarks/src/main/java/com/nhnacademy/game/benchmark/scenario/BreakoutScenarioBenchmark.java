@@ -0,0 +1,82 @@
+package com.nhnacademy.game.benchmark.scenario;
+
+import com.nhnacademy.breakout.objects.BreakoutBall;
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BreakoutWorld 한 프레임 업데이트 벤치마크
+ * 레벨(벽돌 수와 종류)과 공 개수를 바꿔 가며 update() 한 번에 걸리는 시간의 분포를 측정합니다.
+ *
+ * 반복(iteration)마다 같은 시드로 월드를 새로 만들고, 놓친 공은 프레임 사이에 다시 채워
+ * 공 개수가 측정 내내 일정하게 유지되도록 합니다.
+ * SampleTime 모드이므로 p50, p99, p99.9 같은 꼬리 지연도 함께 출력되며,
+ * GC 프로파일러의 gc.alloc.rate.norm이 곧 프레임당 할당량입니다.
+ */
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BreakoutScenarioBenchmark {
+    private static final double WIDTH = 800;
+    private static final double HEIGHT = 600;
+    private static final double DELTA_TIME = 1.0 / 60;
+    private static final double BALL_SPEED = 250;
+    
+    @Param({"1", "3", "5", "7", "10"})
+    public int level;
+    
+    @Param({"1", "16", "128"})
+    public int ballCount;
+    
+    private BreakoutWorld world;
+    private Random random;
+    
+    @Setup(Level.Iteration)
+    public void createWorld() {
+        random = new Random(42);
+        world = new BreakoutWorld(WIDTH, HEIGHT);
+        world.createLevel(level);
+        world.getBalls().clear();
+        refillBalls();
+    }
+    
+    /**
+     * 이전 프레임에서 놓친 공을 다시 채웁니다.
+     * 대부분의 프레임에서는 개수만 비교하고 끝납니다.
+     */
+    @Setup(Level.Invocation)
+    public void refillBalls() {
+        List<BreakoutBall> balls = world.getBalls();
+        while (balls.size() < ballCount) {
+            BreakoutBall ball = new BreakoutBall(100 + random.nextDouble() * (WIDTH - 200),
+                                                 HEIGHT / 2 + random.nextDouble() * (HEIGHT / 4));
+            double angle = Math.PI / 6 + random.nextDouble() * Math.PI * 2 / 3;
+            ball.setVelocity(Math.cos(angle) * BALL_SPEED, -Math.sin(angle) * BALL_SPEED);
+            balls.add(ball);
+        }
+    }
+    
+    @Benchmark
+    public int update() {
+        world.update(DELTA_TIME);
+        return world.getScore();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.nhnacademy.game.benchmark.scenario;
+
+import com.nhnacademy.cannon.CannonWorld;
+import com.nhnacademy.cannon.GameMode;
+import com.nhnacademy.cannon.GameState;
+import com.nhnacademy.cannon.Projectile;
+import com.nhnacademy.cannon.ProjectileType;
+import com.nhnacademy.cannon.Target;
+import com.nhnacademy.cannon.TargetType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대포 게임 시뮬레이션 한 틱 벤치마크
+ * 발사체 종류마다 동시에 날아가는 발사체 N개와 표적 M개를 두고 CannonWorld.update()를 측정합니다.
+ *
+ * 끝나지 않는 TIME_ATTACK 모드로 시작한 뒤 표적을 직접 배치하고,
+ * 화면 밖으로 나가거나 부딪혀 사라진 발사체와 파괴된 표적은 틱 사이에 다시 채웁니다.
+ * SampleTime 모드의 백분위가 꼬리 지연이고, gc.alloc.rate.norm이 틱당 할당량입니다.
+ */
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CannonScenarioBenchmark {
+    private static final double WIDTH = 1200;
+    private static final double HEIGHT = 800;
+    private static final double DELTA_TIME = 1.0 / 120;
+    
+    @Param({"STANDARD", "EXPLOSIVE", "PIERCING", "SPLIT"})
+    public ProjectileType projectileType;
+    
+    @Param({"10", "100", "1000"})
+    public int projectileCount;
+    
+    @Param({"10", "100"})
+    public int targetCount;
+    
+    private CannonWorld world;
+    private Random random;
+    
+    @Setup(Level.Iteration)
+    public void createWorld() {
+        random = new Random(42);
+        world = new CannonWorld(WIDTH, HEIGHT);
+        world.startGame(GameMode.TIME_ATTACK);
+        world.getTargets().clear();
+        world.getProjectiles().clear();
+        refill();
+    }
+    
+    /**
+     * 사라진 발사체와 표적을 다시 채우고, 게임이 끝났으면 다시 시작합니다.
+     */
+    @Setup(Level.Invocation)
+    public void refill() {
+        if (world.getGameState() != GameState.PLAYING) {
+            world.startGame(GameMode.TIME_ATTACK);
+            world.getTargets().clear();
+        }
+        
+        List<Target> targets = world.getTargets();
+        while (targets.size() < targetCount) {
+            targets.add(new Target(400 + random.nextDouble() * (WIDTH - 500),
+                                   100 + random.nextDouble() * (HEIGHT - 250),
+                                   40, 40, TargetType.STATIC, 100));
+        }
+        
+        List<Projectile> projectiles = world.getProjectiles();
+        while (projectiles.size() < projectileCount) {
+            Projectile projectile = new Projectile(100, HEIGHT - 100, 8, projectileType);
+            double angle = Math.toRadians(20 + random.nextDouble() * 50);
+            double speed = 400 + random.nextDouble() * 400;
+            projectile.setVelocity(Math.cos(angle) * speed, -Math.sin(angle) * speed);
+            projectiles.add(projectile);
+        }
+    }
+    
+    @Benchmark
+    public int update() {
+        world.update(DELTA_TIME);
+        return world.getScore();
+    }
+}
\ No newline at end of file
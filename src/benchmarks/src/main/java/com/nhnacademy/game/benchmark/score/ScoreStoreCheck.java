@@ -0,0 +1,217 @@
+package com.nhnacademy.game.benchmark.score;
+
+import com.nhnacademy.game.score.GameResult;
+import com.nhnacademy.game.score.ScoreStore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 점수 저장소의 처리량, 조회 시간, 복구, 압축을 확인하는 검사기
+ * 무작위 결과 수백만 개를 append()로 넣고, 다시 연 뒤 모드별, 레벨별 상위 10개 조회 시간을 재어
+ * 모든 결과를 정렬한 정답과 비교합니다.
+ * 끝에 잘린 기록과 CRC가 깨진 기록을 만든 뒤 다시 열어 복구를 확인하고,
+ * 압축 뒤에도 상위 기록이 그대로인지 확인합니다.
+ * 하나라도 어긋나면 실패(종료 코드 1)로 끝납니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.score.ScoreStoreCheck
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.score.ScoreStoreCheck --entries 5000000
+ */
+public class ScoreStoreCheck {
+    private static final int MODES = 4;
+    private static final int LEVELS = 30;
+    private static final int TOP = 10;
+    private static final int QUERIES = 10_000;
+    
+    private int entries = 2_000_000;
+    private boolean passed = true;
+    
+    // 정답 계산용으로 넣은 결과를 모두 보관합니다.
+    private int[] modes;
+    private int[] levels;
+    private int[] scores;
+    
+    public static void main(String[] args) throws IOException {
+        ScoreStoreCheck check = new ScoreStoreCheck();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--entries")) {
+                check.entries = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        Path file = Files.createTempFile("scores", ".scores");
+        try {
+            check.run(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        if (!check.passed) {
+            System.out.println("점수 저장소 검사에 실패했습니다.");
+            System.exit(1);
+        }
+    }
+    
+    private void run(Path file) throws IOException {
+        Files.delete(file);
+        modes = new int[entries];
+        levels = new int[entries];
+        scores = new int[entries];
+        Random random = new Random(42);
+        
+        // 1. 넣기: append()는 큐에 넣기만 하므로 호출 시간과 파일에 다 쓰일 때까지의 시간을 따로 잽니다.
+        ScoreStore store = new ScoreStore(file, Integer.MAX_VALUE);
+        long[] appendNanos = new long[entries];
+        long start = System.nanoTime();
+        for (int i = 0; i < entries; i++) {
+            modes[i] = random.nextInt(MODES);
+            levels[i] = 1 + random.nextInt(LEVELS);
+            scores[i] = random.nextInt(1_000_000);
+            GameResult result = new GameResult(modes[i], levels[i], scores[i], random.nextInt(600_000),
+                                               random.nextLong(), 1_700_000_000_000L + i);
+            long appendStart = System.nanoTime();
+            store.append(result);
+            appendNanos[i] = System.nanoTime() - appendStart;
+        }
+        long queued = System.nanoTime();
+        store.flush().join();
+        long written = System.nanoTime();
+        // 최댓값은 큐에 쌓인 수백만 개 작업 때문에 생기는 GC 멈춤이 섞이므로 백분위수를 함께 보여 줍니다.
+        Arrays.sort(appendNanos);
+        System.out.printf("append   %,d entries  queue=%.0f ms  written=%.0f ms  (%.2f M/s)%n",
+                          entries, (queued - start) / 1e6, (written - start) / 1e6,
+                          entries / ((written - start) / 1e9) / 1e6);
+        System.out.printf("append() p50=%.2f us  p99.9=%.2f us  max=%.1f us%n", appendNanos[entries / 2] / 1e3,
+                          appendNanos[(int) (entries * 0.999)] / 1e3, appendNanos[entries - 1] / 1e3);
+        verify("append", store, Integer.MAX_VALUE);
+        store.close();
+        System.out.printf("file     %,d bytes%n", Files.size(file));
+        
+        // 2. 다시 열기: 파일을 훑어 색인을 만드는 시간
+        start = System.nanoTime();
+        store = new ScoreStore(file, Integer.MAX_VALUE);
+        System.out.printf("reopen   %.0f ms  count=%,d%n", (System.nanoTime() - start) / 1e6, store.getCount());
+        check("reopen count", store.getCount() == entries);
+        measureQueries(store);
+        verify("reopen", store, Integer.MAX_VALUE);
+        store.close();
+        
+        // 3. 복구: 마지막 기록을 반쯤 자르고 가운데 기록 하나의 점수를 바꿔 CRC를 깨뜨립니다.
+        int corrupted = entries / 2;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            channel.truncate(size - 10);
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7F }), 8 + (long) corrupted * 36 + 8);
+        }
+        store = new ScoreStore(file, Integer.MAX_VALUE);
+        check("recovered count", store.getCount() == entries - 2);
+        modes[corrupted] = -1;
+        modes[entries - 1] = -1;
+        verify("recover", store, Integer.MAX_VALUE);
+        store.close();
+        
+        // 4. 압축: 레벨마다 상위 1000개만 남깁니다.
+        int retain = 1000;
+        long before = Files.size(file);
+        store = new ScoreStore(file, retain);
+        start = System.nanoTime();
+        store.compact();
+        store.flush().join();
+        System.out.printf("compact  %.0f ms  %,d -> %,d bytes  count=%,d%n", (System.nanoTime() - start) / 1e6,
+                          before, Files.size(file), store.getCount());
+        verify("compact", store, retain);
+        store.append(new GameResult(0, 1, Integer.MAX_VALUE, 0, 0, 0));
+        List<GameResult> best = store.queryTop(0, ScoreStore.ALL_LEVELS, 1).join();
+        check("append after compact", best.size() == 1 && best.get(0).getScore() == Integer.MAX_VALUE);
+        store.close();
+    }
+    
+    private void measureQueries(ScoreStore store) throws IOException {
+        Random random = new Random(7);
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            store.top(random.nextInt(MODES), ScoreStore.ALL_LEVELS, TOP);
+        }
+        long modeNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            store.top(random.nextInt(MODES), 1 + random.nextInt(LEVELS), TOP);
+        }
+        long levelNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        store.top(0, ScoreStore.ALL_LEVELS, 1000);
+        long scanNanos = System.nanoTime() - start;
+        System.out.printf("query    top %d per mode=%.1f us  per level=%.1f us  top 1000 (full scan)=%.1f ms%n",
+                          TOP, modeNanos / 1e3 / QUERIES, levelNanos / 1e3 / QUERIES, scanNanos / 1e6);
+    }
+    
+    /**
+     * 모드별, 몇몇 레벨별 상위 기록을 정답과 비교합니다.
+     * @param retain 압축으로 레벨마다 남긴 수 (이보다 적은 순위만 비교합니다)
+     */
+    private void verify(String stage, ScoreStore store, int retain) throws IOException {
+        int mismatches = 0;
+        int n = Math.min(TOP * 20, retain);
+        for (int mode = 0; mode < MODES; mode++) {
+            mismatches += compare(store.top(mode, ScoreStore.ALL_LEVELS, n), expected(mode, ScoreStore.ALL_LEVELS, n));
+            for (int level = 1; level <= LEVELS; level += 7) {
+                mismatches += compare(store.top(mode, level, TOP), expected(mode, level, TOP));
+            }
+        }
+        System.out.printf("verify   %-8s mismatches=%d %s%n", stage, mismatches, mismatches == 0 ? "OK" : "FAIL");
+        check(stage, mismatches == 0);
+    }
+    
+    private int compare(List<GameResult> actual, int[] expected) {
+        if (actual.size() != expected.length) {
+            return Math.abs(actual.size() - expected.length);
+        }
+        int mismatches = 0;
+        for (int i = 0; i < expected.length; i++) {
+            GameResult result = actual.get(i);
+            int slot = expected[i];
+            if (result.getScore() != scores[slot] || result.getLevel() != levels[slot]
+                || result.getTimestamp() != 1_700_000_000_000L + slot) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+    
+    /**
+     * 점수 내림차순, 같은 점수는 먼저 넣은 순서로 상위 n개의 번호를 구합니다.
+     */
+    private int[] expected(int mode, int level, int n) {
+        List<Long> keys = new ArrayList<>();
+        for (int i = 0; i < entries; i++) {
+            if (modes[i] == mode && (level == ScoreStore.ALL_LEVELS || levels[i] == level)) {
+                keys.add(((long) scores[i] << 32) | (Integer.MAX_VALUE - i));
+            }
+        }
+        long[] sorted = keys.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        int count = Math.min(n, sorted.length);
+        int[] slots = new int[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = Integer.MAX_VALUE - (int) sorted[sorted.length - 1 - i];
+        }
+        return slots;
+    }
+    
+    private void check(String name, boolean condition) {
+        if (!condition) {
+            System.out.println("실패: " + name);
+            passed = false;
+        }
+    }
+}
\ No newline at end of file
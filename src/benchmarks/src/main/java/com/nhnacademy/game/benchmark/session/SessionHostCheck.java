@@ -0,0 +1,471 @@
+package com.nhnacademy.game.benchmark.session;
+
+import com.nhnacademy.breakout.objects.BreakoutBall;
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import com.nhnacademy.cannon.CannonWorld;
+import com.nhnacademy.cannon.GameMode;
+import com.nhnacademy.cannon.GameState;
+import com.nhnacademy.game.diagnostics.PhaseHistogram;
+import com.nhnacademy.game.session.HostedSession;
+import com.nhnacademy.game.session.SessionHost;
+import com.nhnacademy.game.session.SessionThreads;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 한 JVM에서 코어당 몇 개의 세션을 틱에 맞춰 돌릴 수 있는지 SessionHost와 플랫폼 스레드 풀을 비교하는 검사기
+ * 세션은 봇이 조종하는 BreakoutWorld와 봇이 쏘는 CannonWorld를 반씩 섞고, 60틱으로 진행합니다.
+ * 두 가지 부하를 돌립니다.
+ * - cpu: 봇이 매 틱 계산만 합니다.
+ * - blocking: 봇이 30틱마다 50ms씩 SessionHost.await()로 기다립니다(원격 AI 호출이나 저장소 I/O를 흉내 냅니다).
+ * 어느 부하에나 틱마다 2ms를 쓰는 무거운 세션 몇 개를 섞어, 예산을 넘긴 세션이 다른 세션의 차례를 빼앗는지 봅니다.
+ *
+ * 실행기마다 세션 수를 두 배씩 늘리며, 차례를 받은 뒤 실제로 시작하기까지의 시간(start delay) p99가 한 틱 안이고,
+ * 놓친 차례(late)가 기다리는 틱을 빼고 5% 이하이며, 스케줄러가 틱의 95% 이상을 지키면 그 수를 감당한 것으로 봅니다. 감당한 가장 큰 수를 코어 수로 나눠 코어당 세션 수로 출력합니다.
+ * 풀(기본 16개 스레드)은 같은 방식으로 틱마다 세션 하나의 틱을 작업으로 넘기되, 세션마다 예산을 두지 않습니다.
+ *
+ * SessionHost는 -Pjdk21로 빌드해 JDK 21 이상에서 실행하면 가상 스레드를, 그 밖에는 세션마다 플랫폼 스레드를 씁니다(첫 줄에 출력합니다).
+ * blocking 부하에서 SessionHost가 풀보다 적은 세션을 감당하거나, 무거운 세션이 한 번도 예산 때문에 건너뛰지 않으면
+ * 실패(종료 코드 1)로 끝납니다. cpu 부하의 결과는 스레드를 세션마다 두는 비용을 보여 주는 참고값입니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.session.SessionHostCheck
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.session.SessionHostCheck --max-sessions 32000 --pool-threads 128
+ */
+public class SessionHostCheck {
+    private static final int TICK_RATE = 60;
+    private static final long TICK_NANOS = 1_000_000_000L / TICK_RATE;
+    private static final long BUDGET_NANOS = 500_000;
+    private static final long HEAVY_NANOS = 2_000_000;
+    private static final int THINK_EVERY = 30;
+    private static final long THINK_MILLIS = 50;
+    private static final int FIRE_EVERY = 30;
+    private static final int LAUNCH_EVERY = 120;
+    private static final int FIRST_SESSIONS = 250;
+    private static final int WARMUP_SECONDS = 2;
+    private static final long SEED = 42;
+    // 화면 없는 세션이므로 파티클 용량을 작게 잡습니다.
+    private static final int SESSION_PARTICLES = 1024;
+    
+    private int maxSessions = 8000;
+    private int poolThreads = 16;
+    private int heavy = 4;
+    private int seconds = 5;
+    private boolean passed = true;
+    
+    /**
+     * 세션을 돌리는 방식 하나
+     */
+    private interface Runner extends AutoCloseable {
+        void start(int index, SessionHost.Session session, boolean heavy);
+        
+        long getTicks();
+        
+        long getSteps();
+        
+        @Override
+        void close();
+        
+        /**
+         * 닫은 뒤에 세션들의 기록을 모읍니다.
+         */
+        Result collect();
+    }
+    
+    /**
+     * 실행 한 번의 결과
+     */
+    private static final class Result {
+        final PhaseHistogram startDelays = new PhaseHistogram();
+        long steps = 0;
+        long lateTicks = 0;
+        long throttledTicks = 0;
+        long heavySteps = 0;
+        long normalSteps = 0;
+        int normalSessions = 0;
+        int heavySessions = 0;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        SessionHostCheck check = new SessionHostCheck();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--max-sessions")) {
+                check.maxSessions = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--pool-threads")) {
+                check.poolThreads = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--heavy")) {
+                check.heavy = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--seconds")) {
+                check.seconds = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        check.run();
+        if (!check.passed) {
+            System.out.println("세션 호스트 검사에 실패했습니다.");
+            System.exit(1);
+        }
+    }
+    
+    private void run() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("cores=%d  session threads=%s (Java %s)  pool threads=%d  heavy sessions=%d  budget=%.1f ms%n",
+                          cores, SessionThreads.isVirtual() ? "virtual" : "platform",
+                          System.getProperty("java.version"), poolThreads, heavy, BUDGET_NANOS / 1e6);
+        
+        // JIT 컴파일이 끝난 뒤에 재도록 작은 규모로 한 번 돌립니다.
+        measure("host", false, FIRST_SESSIONS, WARMUP_SECONDS, false);
+        
+        int[] best = new int[4];
+        int slot = 0;
+        for (boolean blocking : new boolean[] { false, true }) {
+            for (String runner : new String[] { "host", "pool" }) {
+                System.out.printf("%n%s / %s%n", blocking ? "blocking" : "cpu", runner);
+                System.out.println("  sessions   steps/s   CPU      start p50    start p99    late %   throttled"
+                                   + "   heavy/normal steps   result");
+                int sustained = 0;
+                for (int sessions = FIRST_SESSIONS; sessions <= maxSessions; sessions *= 2) {
+                    if (!measure(runner, blocking, sessions, seconds, true)) {
+                        break;
+                    }
+                    sustained = sessions;
+                }
+                best[slot++] = sustained;
+                System.out.printf("  -> %d sessions sustained, %.0f sessions per core%n", sustained,
+                                  (double) sustained / cores);
+            }
+        }
+        
+        System.out.printf("%nsessions per core: cpu host=%.0f pool=%.0f  blocking host=%.0f pool=%.0f%n",
+                          (double) best[0] / cores, (double) best[1] / cores,
+                          (double) best[2] / cores, (double) best[3] / cores);
+        check("host sustains blocking sessions at least as well as the pool", best[2] >= best[3]);
+    }
+    
+    /**
+     * 세션을 정해진 수만큼 띄워 정해진 시간 동안 돌리고 결과 한 줄을 출력합니다.
+     * @return 틱을 지키고 start delay p99가 한 틱 안이며 놓친 차례가 적으면 true
+     */
+    private boolean measure(String name, boolean blocking, int sessions, int runSeconds, boolean print) {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        com.sun.management.OperatingSystemMXBean process = (com.sun.management.OperatingSystemMXBean) os;
+        long ticks;
+        long steps;
+        double elapsed;
+        double cpu;
+        Runner runner = name.equals("host") ? new HostRunner() : new PoolRunner(poolThreads);
+        try (runner) {
+            for (int i = 0; i < sessions; i++) {
+                boolean isHeavy = i < heavy;
+                runner.start(i, newSession(i, blocking, isHeavy), isHeavy);
+            }
+            sleepMillis(WARMUP_SECONDS * 1000L / 2);
+            long cpuStart = process.getProcessCpuTime();
+            long ticksStart = runner.getTicks();
+            long stepsStart = runner.getSteps();
+            long start = System.nanoTime();
+            sleepMillis(runSeconds * 1000L);
+            elapsed = (System.nanoTime() - start) / 1e9;
+            cpu = (process.getProcessCpuTime() - cpuStart) / 1e9 / elapsed;
+            ticks = runner.getTicks() - ticksStart;
+            steps = runner.getSteps() - stepsStart;
+        }
+        // try-with-resources가 세션을 모두 멈춘 뒤에 결과를 모읍니다.
+        Result result = runner.collect();
+        
+        long p99 = result.startDelays.getPercentile(99);
+        double latePercent = result.lateTicks * 100.0 / Math.max(1, result.steps + result.lateTicks);
+        // blocking 부하에서는 기다리는 동안 놓치는 차례(30틱마다 THINK_MILLIS만큼)가 원래 있습니다.
+        double expectedLate = blocking ? 100.0 * Math.ceil(THINK_MILLIS * 1e6 / TICK_NANOS) / THINK_EVERY : 0;
+        boolean ok = p99 <= TICK_NANOS && latePercent <= expectedLate + 5 && ticks >= TICK_RATE * elapsed * 0.95;
+        if (print) {
+            double heavyRate = result.heavySessions == 0 ? 0 : (double) result.heavySteps / result.heavySessions;
+            double normalRate = result.normalSessions == 0 ? 0 : (double) result.normalSteps / result.normalSessions;
+            System.out.printf("  %8d  %8.0f  %5.0f %%  %8.2f ms  %8.2f ms  %6.2f  %10d   %7.0f / %-7.0f      %s%n",
+                              sessions, steps / elapsed, cpu * 100,
+                              result.startDelays.getPercentile(50) / 1e6, p99 / 1e6,
+                              latePercent,
+                              result.throttledTicks, heavyRate, normalRate, ok ? "ok" : "late");
+            if (name.equals("host") && heavy > 0) {
+                check("heavy sessions throttled by budget (" + sessions + ")", result.throttledTicks > 0);
+            }
+        }
+        return ok;
+    }
+    
+    /**
+     * 봇 세션 하나를 만듭니다. 짝수는 Breakout, 홀수는 Cannon입니다.
+     */
+    private static SessionHost.Session newSession(int index, boolean blocking, boolean heavy) {
+        Random random = new Random(SEED + index);
+        int[] tick = { 0 };
+        SessionHost.Session bot;
+        if (index % 2 == 0) {
+            BreakoutWorld world = new BreakoutWorld(800, 600, SESSION_PARTICLES);
+            world.createLevel(1);
+            bot = deltaTime -> {
+                if (world.isGameOver() || world.getBricks().isEmpty()) {
+                    world.createLevel(1);
+                }
+                // 첫 공을 따라 패들을 움직입니다.
+                int input = tick[0] % LAUNCH_EVERY == 0 ? BreakoutWorld.INPUT_LAUNCH : 0;
+                List<BreakoutBall> balls = world.getBalls();
+                if (!balls.isEmpty()) {
+                    double offset = balls.get(0).getCenterX() - world.getPaddle().getCenterX();
+                    input |= offset < -4 ? BreakoutWorld.INPUT_LEFT : offset > 4 ? BreakoutWorld.INPUT_RIGHT : 0;
+                }
+                world.step(input, deltaTime);
+                return true;
+            };
+        } else {
+            CannonWorld world = new CannonWorld(1000, 700, SESSION_PARTICLES);
+            world.startGame(GameMode.TIME_ATTACK, SEED + index);
+            bot = deltaTime -> {
+                if (world.getGameState() != GameState.PLAYING) {
+                    world.startGame(GameMode.TIME_ATTACK, SEED + index);
+                }
+                if (tick[0] % FIRE_EVERY == 0) {
+                    world.fire(-Math.PI / 8 - random.nextDouble() * Math.PI / 4, 250 + random.nextDouble() * 200);
+                }
+                world.update(deltaTime);
+                return true;
+            };
+        }
+        return deltaTime -> {
+            if (blocking && tick[0] % THINK_EVERY == index % THINK_EVERY) {
+                try {
+                    SessionHost.await(() -> {
+                        Thread.sleep(THINK_MILLIS);
+                        return null;
+                    });
+                } catch (Exception e) {
+                    return false;
+                }
+            }
+            if (heavy) {
+                long until = System.nanoTime() + HEAVY_NANOS;
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+            }
+            boolean alive = bot.tick(deltaTime);
+            tick[0]++;
+            return alive;
+        };
+    }
+    
+    /**
+     * SessionHost로 세션마다 스레드를 두는 실행기
+     */
+    private static final class HostRunner implements Runner {
+        private final SessionHost host = new SessionHost(TICK_RATE);
+        private final List<HostedSession> sessions = new ArrayList<>();
+        private final List<Boolean> heavy = new ArrayList<>();
+        
+        @Override
+        public void start(int index, SessionHost.Session session, boolean isHeavy) {
+            sessions.add(host.start("bot-" + index, session, BUDGET_NANOS));
+            heavy.add(isHeavy);
+        }
+        
+        @Override
+        public long getTicks() {
+            return host.getTicks();
+        }
+        
+        @Override
+        public long getSteps() {
+            long steps = 0;
+            for (HostedSession session : sessions) {
+                steps += session.getSteps();
+            }
+            return steps;
+        }
+        
+        @Override
+        public void close() {
+            host.close();
+        }
+        
+        @Override
+        public Result collect() {
+            Result result = new Result();
+            for (int i = 0; i < sessions.size(); i++) {
+                HostedSession session = sessions.get(i);
+                // 진행 중이던 틱이 끝나야 세션 스레드의 기록을 읽을 수 있습니다.
+                while (session.isBusy()) {
+                    Thread.onSpinWait();
+                }
+                result.startDelays.add(session.getStartDelays());
+                result.steps += session.getSteps();
+                result.lateTicks += session.getLateTicks();
+                result.throttledTicks += session.getThrottledTicks();
+                if (heavy.get(i)) {
+                    result.heavySteps += session.getSteps();
+                    result.heavySessions++;
+                } else {
+                    result.normalSteps += session.getSteps();
+                    result.normalSessions++;
+                }
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * 플랫폼 스레드 풀에 틱마다 세션의 틱을 작업으로 넘기는 실행기
+     * 스케줄러는 SessionHost와 같이 지난 틱을 진행 중인 세션은 건너뛰지만, 예산은 두지 않습니다.
+     */
+    private static final class PoolRunner implements Runner {
+        /**
+         * 풀에서 도는 세션 하나
+         */
+        private static final class PooledSession implements Runnable {
+            final SessionHost.Session session;
+            final boolean heavy;
+            final PhaseHistogram startDelays = new PhaseHistogram();
+            volatile boolean busy = false;
+            volatile long grantNanos;
+            volatile long steps = 0;
+            long lateTicks = 0;
+            
+            PooledSession(SessionHost.Session session, boolean heavy) {
+                this.session = session;
+                this.heavy = heavy;
+            }
+            
+            @Override
+            public void run() {
+                long start = System.nanoTime();
+                startDelays.record(start - grantNanos);
+                session.tick(1.0 / TICK_RATE);
+                steps++;
+                busy = false;
+            }
+        }
+        
+        private final ExecutorService pool;
+        // 스케줄러가 도는 동안 세션이 늘어나므로 틱마다 그때의 목록을 돕니다.
+        private final List<PooledSession> sessions = new CopyOnWriteArrayList<>();
+        private final Thread scheduler;
+        private volatile boolean running = true;
+        private volatile long ticks = 0;
+        
+        PoolRunner(int threads) {
+            pool = Executors.newFixedThreadPool(threads, SessionThreads.platform("pool-"));
+            scheduler = new Thread(this::schedule, "pool-scheduler");
+            scheduler.setDaemon(true);
+        }
+        
+        @Override
+        public void start(int index, SessionHost.Session session, boolean isHeavy) {
+            sessions.add(new PooledSession(session, isHeavy));
+            if (index == 0) {
+                scheduler.start();
+            }
+        }
+        
+        private void schedule() {
+            long nextTick = System.nanoTime() + TICK_NANOS;
+            while (running) {
+                long wait = nextTick - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    continue;
+                }
+                long now = System.nanoTime();
+                for (PooledSession session : sessions) {
+                    if (session.busy) {
+                        session.lateTicks++;
+                    } else {
+                        session.busy = true;
+                        session.grantNanos = now;
+                        pool.execute(session);
+                    }
+                }
+                ticks++;
+                nextTick += TICK_NANOS;
+                if (System.nanoTime() - nextTick > 5 * TICK_NANOS) {
+                    nextTick = System.nanoTime();
+                }
+            }
+        }
+        
+        @Override
+        public long getTicks() {
+            return ticks;
+        }
+        
+        @Override
+        public long getSteps() {
+            long steps = 0;
+            for (PooledSession session : sessions) {
+                steps += session.steps;
+            }
+            return steps;
+        }
+        
+        @Override
+        public void close() {
+            if (!running) {
+                return;
+            }
+            running = false;
+            try {
+                scheduler.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pool.shutdown();
+            try {
+                pool.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        @Override
+        public Result collect() {
+            Result result = new Result();
+            for (PooledSession session : sessions) {
+                result.startDelays.add(session.startDelays);
+                result.steps += session.steps;
+                result.lateTicks += session.lateTicks;
+                if (session.heavy) {
+                    result.heavySteps += session.steps;
+                    result.heavySessions++;
+                } else {
+                    result.normalSteps += session.steps;
+                    result.normalSessions++;
+                }
+            }
+            return result;
+        }
+    }
+    
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void check(String name, boolean condition) {
+        if (!condition) {
+            System.out.println("실패: " + name);
+            passed = false;
+        }
+    }
+}
\ No newline at end of file
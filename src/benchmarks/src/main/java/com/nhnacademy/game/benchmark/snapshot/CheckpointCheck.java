@@ -0,0 +1,292 @@
+package com.nhnacademy.game.benchmark.snapshot;
+
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import com.nhnacademy.cannon.CannonWorld;
+import com.nhnacademy.game.benchmark.stress.Distribution;
+import com.nhnacademy.game.benchmark.stress.StressScene;
+import com.nhnacademy.game.snapshot.CheckpointService;
+import com.nhnacademy.game.snapshot.SnapshotBuffer;
+import com.nhnacademy.game.snapshot.Snapshottable;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * 체크포인트가 시뮬레이션 스레드를 멈추는 시간과 복구를 확인하는 검사기
+ * 벽돌깨기와 대포 월드를 진행하면서 몇 프레임마다 체크포인트를 떠, checkpoint() 한 번에 걸린 시간을 잽니다.
+ * 코어가 하나뿐이면 JIT 컴파일러 스레드가 시뮬레이션 스레드를 몇 ms씩 밀어내므로,
+ * 측정 회차 도중에 컴파일이 있었으면 그 회차는 버리고 다시 잽니다. (최대 10회차)
+ * 그다음 새 서비스로 마지막 체크포인트를 복원해 저장한 상태와 같은지 확인하고,
+ * 최신 파일을 깨뜨려 바로 전 체크포인트로 돌아가는지, 두 파일이 모두 깨지면 복원하지 않는지 확인합니다.
+ *
+ * 보통 크기의 장면에서 checkpoint()의 99번째 백분위수가 200us를 넘거나 복구가 어긋나면 실패(종료 코드 1)로 끝납니다.
+ * 큰 장면은 참고로 시간만 출력합니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.snapshot.CheckpointCheck
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.snapshot.CheckpointCheck --checkpoints 1000
+ */
+public class CheckpointCheck {
+    private static final long SEED = 42;
+    private static final double DELTA_TIME = 1.0 / 60;
+    private static final long PAUSE_BUDGET_NANOS = 200_000;
+    private static final int FRAMES_PER_CHECKPOINT = 5;
+    private static final int WARMUP_CHECKPOINTS = 200;
+    private static final int MAX_ROUNDS = 10;
+    private static final long COMPILATION_QUIET_MILLIS = 200;
+    private static final long COMPILATION_TIMEOUT_NANOS = 10_000_000_000L;
+    private static final String BREAKOUT_TYPICAL = "simple=200,multiHit=40,powerUp=20,exploding=20,balls=3";
+    private static final String CANNON_TYPICAL = "targets=300,projectiles=60,zones=4";
+    private static final String BREAKOUT_LARGE = "simple=7000,multiHit=1500,powerUp=1000,exploding=484,balls=16";
+    private static final String CANNON_LARGE = "targets=8000,projectiles=1984,zones=16";
+    
+    private int checkpoints = 500;
+    private boolean passed = true;
+    
+    /**
+     * 검사할 월드 하나
+     */
+    private interface Scene {
+        Snapshottable create();
+        
+        void update(Snapshottable world);
+    }
+    
+    public static void main(String[] args) throws IOException {
+        CheckpointCheck check = new CheckpointCheck();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--checkpoints")) {
+                check.checkpoints = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        check.run("breakout", breakout(BREAKOUT_TYPICAL), true);
+        check.run("cannon", cannon(CANNON_TYPICAL), true);
+        check.run("breakout large", breakout(BREAKOUT_LARGE), false);
+        check.run("cannon large", cannon(CANNON_LARGE), false);
+        if (!check.passed) {
+            System.out.println("체크포인트 검사에 실패했습니다.");
+            System.exit(1);
+        }
+    }
+    
+    private static Scene breakout(String spec) {
+        return new Scene() {
+            public Snapshottable create() {
+                return StressScene.parse(SEED, Distribution.UNIFORM, spec).createBreakout();
+            }
+            
+            public void update(Snapshottable world) {
+                ((BreakoutWorld) world).update(DELTA_TIME);
+            }
+        };
+    }
+    
+    private static Scene cannon(String spec) {
+        return new Scene() {
+            public Snapshottable create() {
+                return StressScene.parse(SEED, Distribution.UNIFORM, spec).createCannon();
+            }
+            
+            public void update(Snapshottable world) {
+                ((CannonWorld) world).update(DELTA_TIME);
+            }
+        };
+    }
+    
+    private void run(String name, Scene scene, boolean budgeted) throws IOException {
+        Path directory = Files.createTempDirectory("checkpoint");
+        try {
+            // JIT 컴파일러 스레드는 코어가 하나뿐이면 시뮬레이션 스레드를 몇 ms씩 밀어내고,
+            // 장면이 진행되며 새 경로를 만날 때마다 다시 컴파일하므로 횟수만 정한 예열로는 부족합니다.
+            // 새 월드를 만들면 앞 구간에서 컴파일한 코드가 되돌려지기도 합니다. 그래서 JMH의 예열 회차처럼
+            // 한 월드를 계속 진행하며 checkpoints개씩 여러 회차를 재고, 도중에 컴파일이 없었던 첫 회차를 씁니다.
+            Snapshottable world = scene.create();
+            CheckpointService service = new CheckpointService(directory, "world", world, Integer.MAX_VALUE);
+            for (int i = 0; i < WARMUP_CHECKPOINTS; i++) {
+                advance(scene, world, service);
+            }
+            
+            // 1. 진행하면서 체크포인트 뜨기: 실제로는 몇 초 간격이라 쓰기 스레드가 쉬고 있으므로,
+            //    이전 체크포인트를 다 쓸 때까지 기다린 뒤에 뜹니다. (코어가 하나뿐이어도 쓰기 스레드와 섞이지 않도록)
+            //    게임 루프의 tick()처럼 update() 바로 뒤에 뜨므로, 잠에서 깬 직후의 커널 작업과도 겹치지 않습니다.
+            long[] pauses = new long[checkpoints];
+            int measured = 0;
+            int round = 0;
+            long compiledMillis;
+            do {
+                awaitCompilation();
+                long compiledBefore = compilationMillis();
+                measured = 0;
+                for (int i = 0; i < checkpoints; i++) {
+                    if (advance(scene, world, service)) {
+                        pauses[measured++] = service.getLastPauseNanos();
+                    }
+                }
+                compiledMillis = compilationMillis() - compiledBefore;
+                round++;
+            } while (compiledMillis > 0 && round < MAX_ROUNDS);
+            Arrays.sort(pauses, 0, measured);
+            long p99 = measured == 0 ? 0 : pauses[(int) (measured * 0.99)];
+            System.out.printf("%-15s snapshot=%,d bytes  checkpoint() p50=%.1f us  p99=%.1f us  max=%.1f us"
+                              + "  taken=%d skipped=%d  round=%d jit=%d ms%n",
+                              name, SnapshotBuffer.HEADER_SIZE + world.getSnapshotSize(),
+                              measured == 0 ? 0 : pauses[measured / 2] / 1e3, p99 / 1e3,
+                              measured == 0 ? 0 : pauses[measured - 1] / 1e3,
+                              service.getTakenCount(), service.getSkippedCount(), round, compiledMillis);
+            if (budgeted) {
+                check(name + " pause", measured > 0 && p99 <= PAUSE_BUDGET_NANOS);
+            }
+            
+            // 2. 마지막 두 체크포인트를 두 파일에 하나씩 남깁니다.
+            awaitWritten(service);
+            scene.update(world);
+            byte[] previous = snapshotBytes(world);
+            service.checkpoint();
+            awaitWritten(service);
+            scene.update(world);
+            byte[] latest = snapshotBytes(world);
+            service.checkpoint();
+            service.close();
+            System.out.printf("%-15s write (deflate + fsync)=%.2f ms  files=%,d + %,d bytes%n", name,
+                              service.getLastWriteNanos() / 1e6, Files.size(directory.resolve("world.0.ckpt")),
+                              Files.size(directory.resolve("world.1.ckpt")));
+            
+            // 3. 복원: 다시 시작한 것처럼 새 월드와 새 서비스로 마지막 체크포인트를 읽습니다.
+            check(name + " restore latest", restoresTo(directory, scene, latest));
+            
+            // 4. 최신 파일의 본문 한 바이트를 바꾸면 바로 전 체크포인트로 돌아가야 합니다.
+            Path newest = newest(directory);
+            corrupt(newest);
+            check(name + " fallback", restoresTo(directory, scene, previous));
+            
+            // 5. 남은 파일마저 쓰다 만 것처럼 자르면 복원하지 않아야 합니다.
+            try (FileChannel channel = FileChannel.open(other(directory, newest), StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() / 2);
+            }
+            try (CheckpointService restarted = new CheckpointService(directory, "world", scene.create(), 1)) {
+                check(name + " no valid checkpoint", !restarted.restoreLatest(scene.create()));
+            }
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+    
+    /**
+     * 이전 체크포인트를 다 쓸 때까지 기다린 뒤 몇 프레임 진행하고 체크포인트를 뜹니다.
+     */
+    private static boolean advance(Scene scene, Snapshottable world, CheckpointService service) {
+        awaitWritten(service);
+        for (int frame = 0; frame < FRAMES_PER_CHECKPOINT; frame++) {
+            scene.update(world);
+        }
+        return service.checkpoint();
+    }
+    
+    /**
+     * JIT 컴파일 시간이 한동안 늘지 않을 때까지 기다립니다. 기다리는 동안에는 컴파일러 스레드가 코어를 혼자 씁니다.
+     */
+    private static void awaitCompilation() {
+        try {
+            long deadline = System.nanoTime() + COMPILATION_TIMEOUT_NANOS;
+            long compiled = -1;
+            while (compiled != compilationMillis() && System.nanoTime() < deadline) {
+                compiled = compilationMillis();
+                Thread.sleep(COMPILATION_QUIET_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * @return 지금까지 JIT 컴파일에 쓴 시간 (ms), 잴 수 없으면 0
+     */
+    private static long compilationMillis() {
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        return compilation != null && compilation.isCompilationTimeMonitoringSupported()
+            ? compilation.getTotalCompilationTime() : 0;
+    }
+    
+    private boolean restoresTo(Path directory, Scene scene, byte[] expected) throws IOException {
+        Snapshottable restored = scene.create();
+        try (CheckpointService restarted = new CheckpointService(directory, "world", restored, 1)) {
+            return restarted.restoreLatest(restored) && Arrays.equals(snapshotBytes(restored), expected);
+        }
+    }
+    
+    private static byte[] snapshotBytes(Snapshottable world) {
+        SnapshotBuffer buffer = SnapshotBuffer.allocate(SnapshotBuffer.HEADER_SIZE + world.getSnapshotSize());
+        buffer.save(world);
+        ByteBuffer bytes = buffer.getBuffer();
+        byte[] copy = new byte[bytes.remaining()];
+        bytes.get(copy);
+        return copy;
+    }
+    
+    private static void awaitWritten(CheckpointService service) {
+        try {
+            while (service.getWrittenCount() < service.getTakenCount()) {
+                Thread.sleep(1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 순번이 큰 체크포인트 파일을 찾습니다.
+     */
+    private static Path newest(Path directory) throws IOException {
+        Path first = directory.resolve("world.0.ckpt");
+        Path second = directory.resolve("world.1.ckpt");
+        return sequenceOf(first) > sequenceOf(second) ? first : second;
+    }
+    
+    private static long sequenceOf(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer sequence = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(sequence, 8);
+            return sequence.getLong(0);
+        }
+    }
+    
+    private static Path other(Path directory, Path file) {
+        return file.getFileName().toString().equals("world.0.ckpt")
+            ? directory.resolve("world.1.ckpt") : directory.resolve("world.0.ckpt");
+    }
+    
+    private static void corrupt(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer value = ByteBuffer.allocate(1);
+            long position = CheckpointService.HEADER_SIZE + 5;
+            channel.read(value, position);
+            value.put(0, (byte) (value.get(0) ^ 0xFF));
+            value.clear();
+            channel.write(value, position);
+        }
+    }
+    
+    private void check(String name, boolean condition) {
+        if (!condition) {
+            System.out.println("실패: " + name);
+            passed = false;
+        }
+    }
+}
\ No newline at end of file
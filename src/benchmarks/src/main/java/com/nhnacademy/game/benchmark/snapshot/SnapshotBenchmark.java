@@ -0,0 +1,96 @@
+package com.nhnacademy.game.benchmark.snapshot;
+
+import com.nhnacademy.game.benchmark.stress.Distribution;
+import com.nhnacademy.game.benchmark.stress.StressScene;
+import com.nhnacademy.game.snapshot.SnapshotBuffer;
+import com.nhnacademy.game.snapshot.Snapshottable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월드 스냅숏 저장/복원 벤치마크
+ * 객체 10,000개짜리 장면을 만들어 save()와 restore() 한 번에 걸리는 시간을 버퍼 종류별로 측정합니다.
+ * 몇 초마다 체크포인트를 남겨도 프레임이 끊기지 않으려면 둘 다 1ms보다 한참 짧아야 합니다.
+ *
+ * restore()는 저장해 둔 스냅숏으로 같은 월드를 반복해서 되돌리므로 매번 같은 양의 객체를 새로 만듭니다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+    private static final long SEED = 42;
+    private static final String BREAKOUT_SCENE = "simple=7000,multiHit=1500,powerUp=1000,exploding=484,balls=16";
+    private static final String CANNON_SCENE = "targets=8000,projectiles=1984,zones=16";
+    
+    @Param({"breakout", "cannon"})
+    public String world;
+    
+    @Param({"heap", "direct", "mapped"})
+    public String buffer;
+    
+    private Snapshottable target;
+    private SnapshotBuffer snapshot;
+    private Path file;
+    
+    @Setup(Level.Trial)
+    public void createWorld() throws IOException {
+        if (world.equals("cannon")) {
+            target = StressScene.parse(SEED, Distribution.UNIFORM, CANNON_SCENE).createCannon();
+        } else {
+            target = StressScene.parse(SEED, Distribution.UNIFORM, BREAKOUT_SCENE).createBreakout();
+        }
+        
+        int capacity = SnapshotBuffer.HEADER_SIZE + target.getSnapshotSize();
+        switch (buffer) {
+            case "direct":
+                snapshot = SnapshotBuffer.allocateDirect(capacity);
+                break;
+            case "mapped":
+                file = Files.createTempFile("snapshot", ".bin");
+                snapshot = SnapshotBuffer.map(file, capacity);
+                break;
+            default:
+                snapshot = SnapshotBuffer.allocate(capacity);
+                break;
+        }
+        snapshot.save(target);
+    }
+    
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        snapshot.close();
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Benchmark
+    public int save() {
+        return snapshot.save(target);
+    }
+    
+    @Benchmark
+    public int restore() {
+        snapshot.restore(target);
+        return snapshot.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.nhnacademy.game.benchmark.stress;
+
+/**
+ * 스트레스 장면에서 객체를 배치하는 방식
+ */
+public enum Distribution {
+    /** 영역 전체에 고르게 배치 */
+    UNIFORM,
+    /** 몇 개의 중심 주위에 정규분포로 모아 배치 */
+    CLUSTERED,
+    /** 모든 객체를 한 점 근처에 겹쳐 배치 (충돌 검사 최악의 경우) */
+    OVERLAP
+}
\ No newline at end of file
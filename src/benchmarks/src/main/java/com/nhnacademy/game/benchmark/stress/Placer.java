@@ -0,0 +1,91 @@
+package com.nhnacademy.game.benchmark.stress;
+
+import java.util.Random;
+
+/**
+ * 배치 방식에 따라 직사각형 영역 안의 좌표를 뽑습니다.
+ * 같은 시드와 같은 호출 순서이면 항상 같은 좌표가 나옵니다.
+ */
+class Placer {
+    private static final double CLUSTER_SPREAD = 0.04;
+    private static final double OVERLAP_SPREAD = 0.002;
+    
+    private final Distribution distribution;
+    private final Random random;
+    private final double minX;
+    private final double minY;
+    private final double width;
+    private final double height;
+    private final double[] clusterX;
+    private final double[] clusterY;
+    
+    private double x;
+    private double y;
+    
+    /**
+     * @param distribution 배치 방식
+     * @param random 난수 생성기
+     * @param minX 영역 왼쪽
+     * @param minY 영역 위쪽
+     * @param width 영역 너비
+     * @param height 영역 높이
+     * @param clusters CLUSTERED일 때 중심 개수
+     */
+    Placer(Distribution distribution, Random random,
+           double minX, double minY, double width, double height, int clusters) {
+        this.distribution = distribution;
+        this.random = random;
+        this.minX = minX;
+        this.minY = minY;
+        this.width = width;
+        this.height = height;
+        
+        int count = distribution == Distribution.CLUSTERED ? Math.max(1, clusters) : 1;
+        clusterX = new double[count];
+        clusterY = new double[count];
+        for (int i = 0; i < count; i++) {
+            if (distribution == Distribution.CLUSTERED) {
+                clusterX[i] = minX + random.nextDouble() * width;
+                clusterY[i] = minY + random.nextDouble() * height;
+            } else {
+                clusterX[i] = minX + width / 2;
+                clusterY[i] = minY + height / 2;
+            }
+        }
+    }
+    
+    /**
+     * 크기가 (w, h)인 객체의 왼쪽 위 좌표를 하나 뽑습니다.
+     * 결과는 getX(), getY()로 읽습니다.
+     */
+    void next(double w, double h) {
+        double cx;
+        double cy;
+        switch (distribution) {
+            case CLUSTERED: {
+                int cluster = random.nextInt(clusterX.length);
+                cx = clusterX[cluster] + random.nextGaussian() * width * CLUSTER_SPREAD;
+                cy = clusterY[cluster] + random.nextGaussian() * height * CLUSTER_SPREAD;
+                break;
+            }
+            case OVERLAP:
+                cx = clusterX[0] + random.nextGaussian() * width * OVERLAP_SPREAD;
+                cy = clusterY[0] + random.nextGaussian() * height * OVERLAP_SPREAD;
+                break;
+            default:
+                cx = minX + random.nextDouble() * width;
+                cy = minY + random.nextDouble() * height;
+                break;
+        }
+        x = clamp(cx - w / 2, minX, minX + width - w);
+        y = clamp(cy - h / 2, minY, minY + height - h);
+    }
+    
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+    
+    Random getRandom() { return random; }
+    double getX() { return x; }
+    double getY() { return y; }
+}
\ No newline at end of file
@@ -0,0 +1,296 @@
+package com.nhnacademy.game.benchmark.stress;
+
+import com.nhnacademy.breakout.objects.BreakoutBall;
+import com.nhnacademy.breakout.objects.ExplodingBrick;
+import com.nhnacademy.breakout.objects.MultiHitBrick;
+import com.nhnacademy.breakout.objects.PowerUpBrick;
+import com.nhnacademy.breakout.objects.SimpleBrick;
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import com.nhnacademy.cannon.CannonWorld;
+import com.nhnacademy.cannon.GameMode;
+import com.nhnacademy.cannon.GameState;
+import com.nhnacademy.cannon.Projectile;
+import com.nhnacademy.cannon.ProjectileType;
+import com.nhnacademy.cannon.Target;
+import com.nhnacademy.cannon.TargetType;
+import com.nhnacademy.game.behavior.Breakable;
+import com.nhnacademy.game.physics.Effect;
+import com.nhnacademy.game.physics.GravityEffect;
+import com.nhnacademy.game.physics.WindEffect;
+import javafx.scene.paint.Color;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 시드로 재현할 수 있는 대규모 스트레스 장면
+ * createLevel()이나 생존 모드 웨이브보다 훨씬 많은 객체(수백만 개까지)를 종류별 개수와
+ * 배치 방식(고르게, 뭉쳐서, 한 점에 겹쳐서)을 지정해 월드에 채웁니다.
+ *
+ * 개수는 종류별로 따로 정하며, scaled()로 개수를 늘릴 때 기본적으로 면적도 함께 늘려
+ * UNIFORM 배치의 밀도가 일정하게 유지되도록 합니다.
+ * Breakout 월드에는 효과 영역이 없으므로 효과 영역 개수는 대포 월드에만 적용됩니다.
+ */
+public class StressScene {
+    /**
+     * 장면에 넣을 수 있는 객체 종류
+     */
+    public enum Kind {
+        SIMPLE_BRICK("simple"),
+        MULTI_HIT_BRICK("multiHit"),
+        POWER_UP_BRICK("powerUp"),
+        EXPLODING_BRICK("exploding"),
+        BALL("balls"),
+        PROJECTILE("projectiles"),
+        TARGET("targets"),
+        EFFECT_ZONE("zones");
+        
+        private final String key;
+        
+        Kind(String key) {
+            this.key = key;
+        }
+        
+        public String getKey() {
+            return key;
+        }
+        
+        static Kind fromKey(String key) {
+            for (Kind kind : values()) {
+                if (kind.key.equalsIgnoreCase(key)) {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 객체 종류: " + key);
+        }
+    }
+    
+    private static final double MARGIN = 20;
+    private static final double BRICK_WIDTH = 60;
+    private static final double BRICK_HEIGHT = 20;
+    private static final double BALL_SPEED = 250;
+    private static final double TARGET_SIZE = 40;
+    private static final double PROJECTILE_RADIUS = 8;
+    private static final int CLUSTERS = 8;
+    
+    private final long seed;
+    private final Distribution distribution;
+    private final int[] counts = new int[Kind.values().length];
+    private double width = 800;
+    private double height = 600;
+    
+    public StressScene(long seed, Distribution distribution) {
+        this.seed = seed;
+        this.distribution = distribution;
+    }
+    
+    /**
+     * "simple=700,balls=16"처럼 쉼표로 구분한 종류별 개수를 읽습니다.
+     * @param seed 난수 시드
+     * @param distribution 배치 방식
+     * @param spec 종류별 개수
+     * @return 장면
+     */
+    public static StressScene parse(long seed, Distribution distribution, String spec) {
+        StressScene scene = new StressScene(seed, distribution);
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("종류=개수 형식이 아닙니다: " + trimmed);
+            }
+            Kind kind = Kind.fromKey(trimmed.substring(0, separator).trim());
+            scene.setCount(kind, Integer.parseInt(trimmed.substring(separator + 1).trim()));
+        }
+        return scene;
+    }
+    
+    /**
+     * 개수를 factor배로 늘린 장면을 만듭니다.
+     * @param factor 배율
+     * @param growArea true이면 면적도 factor배로 늘려 밀도를 유지합니다.
+     * @return 새 장면
+     */
+    public StressScene scaled(double factor, boolean growArea) {
+        StressScene scene = new StressScene(seed, distribution);
+        for (Kind kind : Kind.values()) {
+            long scaled = Math.round(counts[kind.ordinal()] * factor);
+            scene.counts[kind.ordinal()] = (int) Math.min(Integer.MAX_VALUE, scaled);
+        }
+        double side = growArea ? Math.sqrt(factor) : 1;
+        scene.setSize(width * side, height * side);
+        return scene;
+    }
+    
+    /**
+     * 장면을 채운 Breakout 월드를 만듭니다.
+     * 레벨 벽돌과 시작 공은 지우고 장면의 벽돌과 공만 남깁니다.
+     * @return 새 월드
+     */
+    public BreakoutWorld createBreakout() {
+        Random random = new Random(seed);
+        BreakoutWorld world = new BreakoutWorld(width, height);
+        world.getBricks().clear();
+        world.getBalls().clear();
+        
+        // 벽 안쪽, 패들 위 영역
+        Placer placer = new Placer(distribution, random, MARGIN, MARGIN,
+                                   width - MARGIN * 2, height * 0.75 - MARGIN, CLUSTERS);
+        List<Breakable> bricks = world.getBricks();
+        Kind[] brickKinds = {Kind.SIMPLE_BRICK, Kind.MULTI_HIT_BRICK, Kind.POWER_UP_BRICK, Kind.EXPLODING_BRICK};
+        for (Kind kind : brickKinds) {
+            for (int i = 0; i < getCount(kind); i++) {
+                placer.next(BRICK_WIDTH, BRICK_HEIGHT);
+                Color color = Color.hsb(random.nextInt(360), 0.8, 0.9);
+                switch (kind) {
+                    case MULTI_HIT_BRICK:
+                        bricks.add(new MultiHitBrick(placer.getX(), placer.getY(), BRICK_WIDTH, BRICK_HEIGHT, color, 20, 3));
+                        break;
+                    case POWER_UP_BRICK:
+                        bricks.add(new PowerUpBrick(placer.getX(), placer.getY(), BRICK_WIDTH, BRICK_HEIGHT, color, 10, 0.3));
+                        break;
+                    case EXPLODING_BRICK:
+                        bricks.add(new ExplodingBrick(placer.getX(), placer.getY(), BRICK_WIDTH, BRICK_HEIGHT, Color.ORANGE, 30));
+                        break;
+                    default:
+                        bricks.add(new SimpleBrick(placer.getX(), placer.getY(), BRICK_WIDTH, BRICK_HEIGHT, color, 10));
+                        break;
+                }
+            }
+        }
+        
+        refillBreakout(world, createRefillPlacer(false));
+        return world;
+    }
+    
+    /**
+     * 놓친 공을 다시 채워 공 개수를 장면의 개수로 유지합니다.
+     * @param world 대상 월드
+     * @param placer 공을 배치할 좌표 생성기
+     */
+    void refillBreakout(BreakoutWorld world, Placer placer) {
+        List<BreakoutBall> balls = world.getBalls();
+        Random random = placer.getRandom();
+        while (balls.size() < getCount(Kind.BALL)) {
+            placer.next(0, 0);
+            BreakoutBall ball = new BreakoutBall(placer.getX(), placer.getY());
+            double angle = random.nextDouble() * Math.PI * 2;
+            ball.setVelocity(Math.cos(angle) * BALL_SPEED, Math.sin(angle) * BALL_SPEED);
+            balls.add(ball);
+        }
+    }
+    
+    /**
+     * 장면을 채운 대포 월드를 만듭니다.
+     * 끝나지 않는 TIME_ATTACK 모드로 시작한 뒤 표적, 발사체, 효과 영역을 배치합니다.
+     * 기본 중력과 바람 효과는 그대로 둡니다.
+     * @return 새 월드
+     */
+    public CannonWorld createCannon() {
+        Random random = new Random(seed);
+        CannonWorld world = new CannonWorld(width, height);
+        world.startGame(GameMode.TIME_ATTACK);
+        world.getTargets().clear();
+        world.getProjectiles().clear();
+        
+        // 대포 오른쪽, 땅 위 영역
+        Placer placer = new Placer(distribution, random, 200, MARGIN,
+                                   width - 200 - MARGIN, height - 100 - MARGIN, CLUSTERS);
+        TargetType[] types = TargetType.values();
+        List<Target> targets = world.getTargets();
+        for (int i = 0; i < getCount(Kind.TARGET); i++) {
+            placer.next(TARGET_SIZE, TARGET_SIZE);
+            TargetType type = types[random.nextInt(types.length)];
+            Target target = new Target(placer.getX(), placer.getY(), TARGET_SIZE, TARGET_SIZE, type, type.getDefaultPoints());
+            if (type == TargetType.MOVING) {
+                target.setVelocity((random.nextDouble() - 0.5) * 150, 0);
+            } else if (type == TargetType.FLYING) {
+                target.setVelocity((random.nextDouble() - 0.5) * 100, (random.nextDouble() - 0.5) * 100);
+            }
+            targets.add(target);
+        }
+        
+        List<Effect> effects = world.getEffects();
+        double zoneWidth = width / 8;
+        double zoneHeight = height / 8;
+        for (int i = 0; i < getCount(Kind.EFFECT_ZONE); i++) {
+            placer.next(zoneWidth, zoneHeight);
+            if (i % 2 == 0) {
+                effects.add(new GravityEffect(placer.getX(), placer.getY(), zoneWidth, zoneHeight, 200 + random.nextDouble() * 400));
+            } else {
+                effects.add(new WindEffect(placer.getX(), placer.getY(), zoneWidth, zoneHeight,
+                                           (random.nextDouble() - 0.5) * 300, (random.nextDouble() - 0.5) * 300));
+            }
+        }
+        
+        refillCannon(world, createRefillPlacer(true));
+        return world;
+    }
+    
+    /**
+     * 화면 밖으로 나갔거나 부딪혀 사라진 발사체를 다시 채웁니다.
+     * @param world 대상 월드
+     * @param placer 발사체를 배치할 좌표 생성기
+     */
+    void refillCannon(CannonWorld world, Placer placer) {
+        if (world.getGameState() != GameState.PLAYING) {
+            return;
+        }
+        List<Projectile> projectiles = world.getProjectiles();
+        Random random = placer.getRandom();
+        ProjectileType[] types = ProjectileType.values();
+        while (projectiles.size() < getCount(Kind.PROJECTILE)) {
+            placer.next(0, 0);
+            Projectile projectile = new Projectile(placer.getX(), placer.getY(), PROJECTILE_RADIUS,
+                                                   types[random.nextInt(types.length)]);
+            double angle = random.nextDouble() * Math.PI * 2;
+            double speed = 200 + random.nextDouble() * 400;
+            projectile.setVelocity(Math.cos(angle) * speed, Math.sin(angle) * speed);
+            projectiles.add(projectile);
+        }
+    }
+    
+    /**
+     * 움직이는 객체를 다시 채울 때 쓸 좌표 생성기를 만듭니다.
+     * createBreakout()이나 createCannon()과 같은 영역과 배치 방식을 사용하며,
+     * 벽돌이나 표적과는 다른 난수열을 써서 처음 배치와 독립적으로 좌표를 뽑습니다.
+     * @param cannon 대포 월드용이면 true
+     */
+    Placer createRefillPlacer(boolean cannon) {
+        Random random = new Random(seed + 1);
+        if (cannon) {
+            return new Placer(distribution, random, 200, MARGIN, width - 200 - MARGIN, height - 100 - MARGIN, CLUSTERS);
+        }
+        return new Placer(distribution, random, MARGIN, MARGIN, width - MARGIN * 2, height * 0.75 - MARGIN, CLUSTERS);
+    }
+    
+    /**
+     * 장면의 전체 객체 수를 반환합니다.
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+    
+    public void setCount(Kind kind, int count) {
+        counts[kind.ordinal()] = count;
+    }
+    
+    public void setSize(double width, double height) {
+        this.width = width;
+        this.height = height;
+    }
+    
+    // Getters
+    public int getCount(Kind kind) { return counts[kind.ordinal()]; }
+    public long getSeed() { return seed; }
+    public Distribution getDistribution() { return distribution; }
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
+}
\ No newline at end of file
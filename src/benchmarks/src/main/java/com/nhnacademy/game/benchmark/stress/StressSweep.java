@@ -0,0 +1,209 @@
+package com.nhnacademy.game.benchmark.stress;
+
+import com.nhnacademy.breakout.world.BreakoutWorld;
+import com.nhnacademy.cannon.CannonWorld;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 스트레스 장면 크기를 늘려 가며 월드 업데이트 처리량을 재는 실행기
+ * 기본 장면을 배율마다 키워 월드를 만들고, 예열 뒤 프레임마다 update() 시간을 재어
+ * 프레임 시간 백분위와 초당 프레임 수, 초당 객체 업데이트 수를 표로 출력합니다.
+ * 중앙값 프레임 시간이 예산을 넘으면 그 크기에서 멈추므로, 마지막 행이 곧 확장 한계입니다.
+ *
+ * 놓친 공과 사라진 발사체는 측정하지 않는 프레임 사이에 다시 채웁니다.
+ * 그리기는 포함하지 않습니다.
+ *
+ * 사용 예:
+ *   java -cp target/benchmarks.jar com.nhnacademy.game.benchmark.stress.StressSweep \
+ *       --world breakout --scene simple=700,multiHit=100,exploding=50,balls=16 \
+ *       --distribution clustered --scales 1,10,100,1000 --csv breakout-sweep.csv
+ */
+public class StressSweep {
+    private static final double DELTA_TIME = 1.0 / 60;
+    
+    private String worldName = "breakout";
+    private String sceneSpec = null;
+    private List<Distribution> distributions = new ArrayList<>(Arrays.asList(Distribution.UNIFORM));
+    private double[] scales = {1, 10, 100, 1000, 10000};
+    private long seed = 42;
+    private int warmupFrames = 60;
+    private int measureFrames = 300;
+    private double budgetMillis = 1000;
+    private boolean growArea = true;
+    private String csvPath = null;
+    
+    public static void main(String[] args) throws IOException {
+        StressSweep sweep = new StressSweep();
+        sweep.parseArguments(args);
+        sweep.run();
+    }
+    
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if ("--fixed-area".equals(option)) {
+                growArea = false;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(option + " 옵션에 값이 없습니다.");
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--world":
+                    worldName = value;
+                    break;
+                case "--scene":
+                    sceneSpec = value;
+                    break;
+                case "--distribution":
+                    distributions.clear();
+                    if ("all".equalsIgnoreCase(value)) {
+                        distributions.addAll(Arrays.asList(Distribution.values()));
+                    } else {
+                        for (String name : value.split(",")) {
+                            distributions.add(Distribution.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                        }
+                    }
+                    break;
+                case "--scales":
+                    scales = Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray();
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--warmup":
+                    warmupFrames = Integer.parseInt(value);
+                    break;
+                case "--frames":
+                    measureFrames = Integer.parseInt(value);
+                    break;
+                case "--budget-ms":
+                    budgetMillis = Double.parseDouble(value);
+                    break;
+                case "--csv":
+                    csvPath = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 옵션: " + option);
+            }
+        }
+        if (!"breakout".equals(worldName) && !"cannon".equals(worldName)) {
+            throw new IllegalArgumentException("--world는 breakout 또는 cannon이어야 합니다: " + worldName);
+        }
+        if (sceneSpec == null) {
+            sceneSpec = "breakout".equals(worldName)
+                ? "simple=700,multiHit=100,powerUp=100,exploding=50,balls=16"
+                : "targets=100,projectiles=100,zones=8";
+        }
+    }
+    
+    private void run() throws IOException {
+        List<String> rows = new ArrayList<>();
+        rows.add("world,distribution,scale,entities,p50_us,p99_us,max_us,frames_per_second,entity_updates_per_second");
+        
+        System.out.printf("%-10s %-10s %8s %10s %12s %12s %12s %10s %16s%n",
+                          "world", "dist", "scale", "entities", "p50(us)", "p99(us)", "max(us)", "fps", "entity-upd/s");
+        for (Distribution distribution : distributions) {
+            StressScene base = StressScene.parse(seed, distribution, sceneSpec);
+            for (double scale : scales) {
+                StressScene scene = base.scaled(scale, growArea);
+                long[] frameNanos = measure(scene);
+                Arrays.sort(frameNanos);
+                
+                long p50 = percentile(frameNanos, 50);
+                long p99 = percentile(frameNanos, 99);
+                long max = frameNanos[frameNanos.length - 1];
+                double fps = 1e9 / mean(frameNanos);
+                double entityUpdates = fps * scene.getTotalCount();
+                
+                System.out.printf(Locale.ROOT, "%-10s %-10s %8.0f %10d %12.1f %12.1f %12.1f %10.1f %16.3e%n",
+                                  worldName, distribution, scale, scene.getTotalCount(),
+                                  p50 / 1e3, p99 / 1e3, max / 1e3, fps, entityUpdates);
+                rows.add(String.format(Locale.ROOT, "%s,%s,%s,%d,%.1f,%.1f,%.1f,%.2f,%.0f",
+                                       worldName, distribution, scale, scene.getTotalCount(),
+                                       p50 / 1e3, p99 / 1e3, max / 1e3, fps, entityUpdates));
+                
+                if (p50 / 1e6 > budgetMillis) {
+                    System.out.printf(Locale.ROOT, "  중앙값 프레임 시간이 예산 %.0f ms를 넘어 %s 배치의 측정을 멈춥니다.%n",
+                                      budgetMillis, distribution);
+                    break;
+                }
+            }
+        }
+        
+        if (csvPath != null) {
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(csvPath), StandardCharsets.UTF_8))) {
+                for (String row : rows) {
+                    out.println(row);
+                }
+            }
+            System.out.println("결과를 " + csvPath + "에 저장했습니다.");
+        }
+    }
+    
+    /**
+     * 장면 하나를 예열한 뒤 프레임별 업데이트 시간을 잽니다.
+     * 첫 프레임들은 처음 겹친 객체가 한꺼번에 부서지고 JIT도 덜 되어 있어 느리므로,
+     * 예열 중에는 예산의 10배를 넘는 프레임에서만 멈춥니다.
+     * 측정 중에는 한 프레임이라도 예산을 넘으면 그때까지 잰 프레임만 반환합니다.
+     */
+    private long[] measure(StressScene scene) {
+        boolean cannon = "cannon".equals(worldName);
+        BreakoutWorld breakout = cannon ? null : scene.createBreakout();
+        CannonWorld cannonWorld = cannon ? scene.createCannon() : null;
+        Placer placer = scene.createRefillPlacer(cannon);
+        long budgetNanos = (long) (budgetMillis * 1e6);
+        
+        long[] frameNanos = new long[measureFrames];
+        int measured = 0;
+        for (int frame = 0; frame < warmupFrames + measureFrames; frame++) {
+            if (cannon) {
+                scene.refillCannon(cannonWorld, placer);
+            } else {
+                scene.refillBreakout(breakout, placer);
+            }
+            
+            long start = System.nanoTime();
+            if (cannon) {
+                cannonWorld.update(DELTA_TIME);
+            } else {
+                breakout.update(DELTA_TIME);
+            }
+            long elapsed = System.nanoTime() - start;
+            
+            if (frame >= warmupFrames) {
+                frameNanos[measured++] = elapsed;
+                if (elapsed > budgetNanos) {
+                    break;
+                }
+            } else if (elapsed > budgetNanos * 10) {
+                frameNanos[measured++] = elapsed;
+                break;
+            }
+        }
+        return Arrays.copyOf(frameNanos, measured);
+    }
+    
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+    
+    private static double mean(long[] values) {
+        double sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+}
\ No newline at end of file
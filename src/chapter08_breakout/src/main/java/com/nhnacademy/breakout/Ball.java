@@ -1,6 +1,5 @@
 package com.nhnacademy.breakout;
 
-import com.nhnacademy.game.entity.Ball;
 import javafx.scene.paint.Color;
 
 /**
@@ -3,6 +3,7 @@ package com.nhnacademy.breakout;
 import com.nhnacademy.game.collision.Bounds;
 import com.nhnacademy.game.collision.Boundable;
 import com.nhnacademy.game.collision.Collidable;
+import com.nhnacademy.game.graphics.Fonts;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
@@ -10,7 +11,6 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 import javafx.stage.Stage;
 import javafx.animation.AnimationTimer;
@@ -219,7 +219,7 @@ public class BreakoutGame extends Application {
         
         // Draw UI
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font(20));
+        gc.setFont(Fonts.of(20));
         gc.setTextAlign(TextAlignment.LEFT);
         gc.fillText("Score: " + score, 10, 30);
         gc.fillText("Lives: " + lives, WIDTH - 100, 30);
@@ -228,19 +228,19 @@ public class BreakoutGame extends Application {
         // Draw game state messages
         gc.setTextAlign(TextAlignment.CENTER);
         if (gameState == GameState.READY) {
-            gc.setFont(Font.font(30));
+            gc.setFont(Fonts.of(30));
             gc.fillText("Press SPACE to start", WIDTH / 2, HEIGHT / 2);
         } else if (gameState == GameState.PAUSED) {
-            gc.setFont(Font.font(30));
+            gc.setFont(Fonts.of(30));
             gc.fillText("PAUSED", WIDTH / 2, HEIGHT / 2);
         } else if (gameState == GameState.GAME_OVER) {
-            gc.setFont(Font.font(40));
+            gc.setFont(Fonts.of(40));
             gc.fillText("GAME OVER", WIDTH / 2, HEIGHT / 2);
-            gc.setFont(Font.font(20));
+            gc.setFont(Fonts.of(20));
             gc.fillText("Final Score: " + score, WIDTH / 2, HEIGHT / 2 + 40);
             gc.fillText("Press R to restart", WIDTH / 2, HEIGHT / 2 + 70);
         } else if (gameState == GameState.LEVEL_COMPLETE) {
-            gc.setFont(Font.font(30));
+            gc.setFont(Fonts.of(30));
             gc.fillText("Level Complete!", WIDTH / 2, HEIGHT / 2);
             gc.fillText("Press SPACE to continue", WIDTH / 2, HEIGHT / 2 + 40);
         }
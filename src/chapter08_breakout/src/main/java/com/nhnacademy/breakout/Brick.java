@@ -2,6 +2,7 @@ package com.nhnacademy.breakout;
 
 import com.nhnacademy.game.entity.StaticObject;
 import com.nhnacademy.game.collision.Collidable;
+import com.nhnacademy.game.graphics.RenderQueue;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
@@ -45,6 +46,12 @@ public class Brick extends StaticObject {
         gc.strokeRect(x, y, width, height);
     }
     
+    @Override
+    public void enqueue(RenderQueue queue) {
+        super.enqueue(queue);
+        queue.strokeRect(RenderQueue.LAYER_DECORATION, Color.BLACK, x, y, width, height);
+    }
+    
     @Override
     public void handleCollision(Collidable other) {
         // 벽돌은 충돌했을 때 히트 카운트 증가
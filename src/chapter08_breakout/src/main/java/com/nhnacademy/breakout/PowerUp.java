@@ -2,6 +2,8 @@ package com.nhnacademy.breakout;
 
 import com.nhnacademy.game.entity.Ball;
 import com.nhnacademy.game.collision.Collidable;
+import com.nhnacademy.game.graphics.Fonts;
+import com.nhnacademy.game.graphics.RenderQueue;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
@@ -22,14 +24,17 @@ public class PowerUp extends Ball {
         
         private final String description;
         private final Color color;
+        private final String label;
         
         Type(String description, Color color) {
             this.description = description;
             this.color = color;
+            this.label = name().substring(0, 1);
         }
         
         public String getDescription() { return description; }
         public Color getColor() { return color; }
+        public String getLabel() { return label; }
     }
     
     private Type type;
@@ -65,7 +70,19 @@ public class PowerUp extends Ball {
         
         // 타입 표시 (첫 글자)
         gc.setFill(Color.WHITE);
-        gc.fillText(type.name().substring(0, 1), getCenterX() - 4, getCenterY() + 4);
+        gc.fillText(type.getLabel(), getCenterX() - 4, getCenterY() + 4);
+    }
+    
+    @Override
+    public void enqueue(RenderQueue queue) {
+        super.enqueue(queue);
+        
+        queue.setLineWidth(2);
+        queue.strokeOval(RenderQueue.LAYER_DECORATION, Color.WHITE, getX(), getY(), getWidth(), getHeight());
+        queue.setLineWidth(1);
+        
+        queue.fillText(RenderQueue.LAYER_LABEL, Color.WHITE, Fonts.of(12), type.getLabel(),
+                       getCenterX() - 4, getCenterY() + 4);
     }
     
     @Override
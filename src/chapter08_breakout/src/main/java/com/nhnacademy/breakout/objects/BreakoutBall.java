@@ -82,4 +82,5 @@ public class BreakoutBall extends Ball {
     public boolean isSticky() { return isSticky; }
     public void setSticky(boolean sticky) { isSticky = sticky; }
     public double getSpeedMultiplier() { return speedMultiplier; }
+    public void setSpeedMultiplier(double multiplier) { speedMultiplier = multiplier; }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.nhnacademy.breakout.objects;
 
 import com.nhnacademy.game.entity.Box;
 import com.nhnacademy.game.collision.Collidable;
+import com.nhnacademy.game.graphics.RenderQueue;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
@@ -92,6 +93,20 @@ public class BreakoutPaddle extends Box {
         }
     }
     
+    /**
+     * 스냅숏에 저장된 파워업 상태로 되돌립니다.
+     * @param width 패들 너비 (확장 파워업이 적용된 너비일 수 있음)
+     * @param sticky 끈끈한 패들 여부
+     * @param laser 레이저 여부
+     * @param timer 남은 파워업 시간
+     */
+    public void restorePowerUps(double width, boolean sticky, boolean laser, double timer) {
+        setWidth(width);
+        isSticky = sticky;
+        hasLaser = laser;
+        powerUpTimer = timer;
+    }
+    
     /**
      * 모든 파워업을 초기화합니다.
      */
@@ -121,6 +136,21 @@ public class BreakoutPaddle extends Box {
         }
     }
     
+    @Override
+    public void enqueue(RenderQueue queue) {
+        super.enqueue(queue);
+        
+        // 파워업 상태 표시
+        if (isSticky) {
+            queue.fillRect(RenderQueue.LAYER_DECORATION, Color.LIGHTGREEN, getX(), getY() - 2, getWidth(), 2);
+        }
+        
+        if (hasLaser) {
+            queue.fillRect(RenderQueue.LAYER_DECORATION, Color.RED, getX() + 10, getY() - 5, 5, 5);
+            queue.fillRect(RenderQueue.LAYER_DECORATION, Color.RED, getX() + getWidth() - 15, getY() - 5, 5, 5);
+        }
+    }
+    
     @Override
     public void handleCollision(Collidable other) {
         // 패들은 충돌해도 움직이지 않음
@@ -4,6 +4,10 @@ import com.nhnacademy.game.entity.StaticObject;
 import com.nhnacademy.game.behavior.Exploding;
 import com.nhnacademy.game.collision.Collidable;
 import com.nhnacademy.game.collision.Bounds;
+import com.nhnacademy.game.graphics.Fonts;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.SpriteKey;
+import com.nhnacademy.game.graphics.Sprited;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
@@ -14,11 +18,12 @@ import java.util.List;
  * 폭발하는 벽돌
  * 파괴될 때 주변 벽돌에도 피해를 줍니다.
  */
-public class ExplodingBrick extends StaticObject implements Exploding {
+public class ExplodingBrick extends StaticObject implements Exploding, Sprited {
     private int points;
     private boolean broken = false;
     private double explosionRadius = 100;
     private int explosionDamage = 1;
+    private SpriteKey spriteKey;
     
     public ExplodingBrick(double x, double y, double width, double height, 
                          Color color, int points) {
@@ -84,7 +89,7 @@ public class ExplodingBrick extends StaticObject implements Exploding {
         
         // 폭발 벽돌 표시 (TNT 모양)
         gc.setFill(Color.YELLOW);
-        gc.setFont(javafx.scene.text.Font.font(12));
+        gc.setFont(Fonts.of(12));
         gc.fillText("TNT", getCenterX() - 10, getCenterY() + 4);
         
         // 위험 표시
@@ -92,4 +97,33 @@ public class ExplodingBrick extends StaticObject implements Exploding {
         gc.setLineWidth(2);
         gc.strokeRect(getX() + 2, getY() + 2, getWidth() - 4, getHeight() - 4);
     }
+    
+    @Override
+    public SpriteKey getSpriteKey() {
+        if (spriteKey == null || spriteKey.getColor() != getColor()) {
+            ExplodingBrick sprite = new ExplodingBrick(0, 0, getWidth(), getHeight(), getColor(), points);
+            spriteKey = new SpriteKey("ExplodingBrick", getColor(), 0, getWidth(), getHeight(), sprite);
+        }
+        return spriteKey;
+    }
+    
+    @Override
+    public void enqueue(RenderQueue queue) {
+        if (queue.hasSpriteAtlas()) {
+            queue.sprite(RenderQueue.LAYER_BODY, this, getX(), getY());
+            return;
+        }
+        
+        super.enqueue(queue);
+        
+        // 폭발 벽돌 표시 (TNT 모양)
+        queue.fillText(RenderQueue.LAYER_DETAIL, Color.YELLOW, Fonts.of(12), "TNT",
+                       getCenterX() - 10, getCenterY() + 4);
+        
+        // 위험 표시
+        queue.setLineWidth(2);
+        queue.strokeRect(RenderQueue.LAYER_DECORATION, Color.YELLOW,
+                         getX() + 2, getY() + 2, getWidth() - 4, getHeight() - 4);
+        queue.setLineWidth(1);
+    }
 }
\ No newline at end of file
@@ -3,6 +3,10 @@ package com.nhnacademy.breakout.objects;
 import com.nhnacademy.game.entity.StaticObject;
 import com.nhnacademy.game.behavior.MultiHit;
 import com.nhnacademy.game.collision.Collidable;
+import com.nhnacademy.game.graphics.Fonts;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.SpriteKey;
+import com.nhnacademy.game.graphics.Sprited;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
@@ -10,12 +14,17 @@ import javafx.scene.paint.Color;
  * 여러 번 맞아야 깨지는 벽돌
  * MultiHit 인터페이스를 구현하여 체력 시스템을 가집니다.
  */
-public class MultiHitBrick extends StaticObject implements MultiHit {
+public class MultiHitBrick extends StaticObject implements MultiHit, Sprited {
     private int maxHits;
     private int currentHits;
     private int points;
     private Color originalColor;
     
+    // 맞았을 때만 갱신되는 표시용 캐시
+    private Color healthBarColor;
+    private String hitsLabel;
+    private SpriteKey spriteKey;
+    
     public MultiHitBrick(double x, double y, double width, double height, 
                         Color color, int points, int maxHits) {
         super(x, y, width, height, color);
@@ -23,12 +32,19 @@ public class MultiHitBrick extends StaticObject implements MultiHit {
         this.maxHits = maxHits;
         this.currentHits = maxHits;
         this.originalColor = color;
+        this.healthBarColor = Color.GREEN;
+        this.hitsLabel = String.valueOf(maxHits);
     }
     
     @Override
     public void hit(int damage) {
         currentHits = Math.max(0, currentHits - damage);
         updateColorBasedOnDamage();
+        
+        double healthRatio = (double) currentHits / maxHits;
+        healthBarColor = Color.GREEN.interpolate(Color.RED, 1 - healthRatio);
+        hitsLabel = String.valueOf(currentHits);
+        spriteKey = null;
     }
     
     @Override
@@ -51,6 +67,10 @@ public class MultiHitBrick extends StaticObject implements MultiHit {
         return currentHits;
     }
     
+    public Color getOriginalColor() {
+        return originalColor;
+    }
+    
     @Override
     public DamageState getDamageState() {
         float healthRatio = (float) currentHits / maxHits;
@@ -76,15 +96,49 @@ public class MultiHitBrick extends StaticObject implements MultiHit {
             
             // 체력바
             double healthRatio = (double) currentHits / maxHits;
-            gc.setFill(Color.GREEN.interpolate(Color.RED, 1 - healthRatio));
+            gc.setFill(healthBarColor);
             gc.fillRect(getX() + 2, getY() + 2, (getWidth() - 4) * healthRatio, 4);
         }
         
         // 체력 숫자 표시
         if (currentHits > 1) {
             gc.setFill(Color.WHITE);
-            gc.fillText(String.valueOf(currentHits), 
-                       getCenterX() - 5, getCenterY() + 5);
+            gc.setFont(Fonts.of(12));
+            gc.fillText(hitsLabel, getCenterX() - 5, getCenterY() + 5);
+        }
+    }
+    
+    @Override
+    public SpriteKey getSpriteKey() {
+        if (spriteKey == null) {
+            MultiHitBrick sprite = new MultiHitBrick(0, 0, getWidth(), getHeight(), originalColor, points, maxHits);
+            sprite.hit(maxHits - currentHits);
+            spriteKey = new SpriteKey("MultiHitBrick/" + maxHits, originalColor, currentHits, getWidth(), getHeight(), sprite);
+        }
+        return spriteKey;
+    }
+    
+    @Override
+    public void enqueue(RenderQueue queue) {
+        if (queue.hasSpriteAtlas()) {
+            queue.sprite(RenderQueue.LAYER_BODY, this, getX(), getY());
+            return;
+        }
+        
+        super.enqueue(queue);
+        
+        // 체력 표시
+        if (currentHits < maxHits && currentHits > 0) {
+            double healthRatio = (double) currentHits / maxHits;
+            queue.fillRect(RenderQueue.LAYER_DETAIL, Color.BLACK, getX() + 2, getY() + 2, getWidth() - 4, 4);
+            queue.fillRect(RenderQueue.LAYER_DECORATION, healthBarColor,
+                           getX() + 2, getY() + 2, (getWidth() - 4) * healthRatio, 4);
+        }
+        
+        // 체력 숫자 표시
+        if (currentHits > 1 && queue.getDetailLevel().showsLabels()) {
+            queue.fillText(RenderQueue.LAYER_LABEL, Color.WHITE, Fonts.of(12), hitsLabel,
+                           getCenterX() - 5, getCenterY() + 5);
         }
     }
     
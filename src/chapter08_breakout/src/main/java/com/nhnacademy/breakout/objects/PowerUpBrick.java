@@ -2,19 +2,24 @@ package com.nhnacademy.breakout.objects;
 
 import com.nhnacademy.game.behavior.PowerUpProvider;
 import com.nhnacademy.game.collision.Collidable;
+import com.nhnacademy.game.core.GameRandom;
+import com.nhnacademy.game.graphics.Fonts;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.SpriteKey;
+import com.nhnacademy.game.graphics.Sprited;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
-import java.util.Random;
-
 /**
  * 파워업을 제공하는 벽돌
  * 파괴될 때 일정 확률로 파워업을 드롭합니다.
  */
-public class PowerUpBrick extends SimpleBrick implements PowerUpProvider {
+public class PowerUpBrick extends SimpleBrick implements PowerUpProvider, Sprited {
     private double powerUpChance;
     private PowerUpType specificType;
-    private static final Random random = new Random();
+    private static final GameRandom SHARED_RANDOM = new GameRandom();
+    private GameRandom random = SHARED_RANDOM;
+    private SpriteKey spriteKey;
     
     public PowerUpBrick(double x, double y, double width, double height, 
                        Color color, int points, double powerUpChance) {
@@ -30,6 +35,23 @@ public class PowerUpBrick extends SimpleBrick implements PowerUpProvider {
         this.specificType = type;
     }
     
+    /**
+     * 드롭 여부와 종류를 정할 난수 생성기를 설정합니다.
+     * 월드가 가진 생성기를 넘기면 그 상태가 스냅숏에 함께 저장됩니다.
+     * @param random 난수 생성기
+     */
+    public void setRandom(GameRandom random) {
+        this.random = random;
+    }
+    
+    /**
+     * 드롭할 파워업 종류를 반환합니다.
+     * @return 정해진 종류 (무작위면 null)
+     */
+    public PowerUpType getSpecificType() {
+        return specificType;
+    }
+    
     @Override
     public double getPowerUpChance() {
         return powerUpChance;
@@ -58,8 +80,33 @@ public class PowerUpBrick extends SimpleBrick implements PowerUpProvider {
         // 파워업 벽돌 표시 (물음표)
         if (!isBroken()) {
             gc.setFill(Color.YELLOW);
-            gc.setFont(javafx.scene.text.Font.font(16));
+            gc.setFont(Fonts.of(16));
             gc.fillText("?", getCenterX() - 5, getCenterY() + 5);
         }
     }
+    
+    @Override
+    public SpriteKey getSpriteKey() {
+        if (spriteKey == null || spriteKey.getColor() != getColor()) {
+            PowerUpBrick sprite = new PowerUpBrick(0, 0, getWidth(), getHeight(), getColor(), getPoints(), powerUpChance);
+            spriteKey = new SpriteKey("PowerUpBrick", getColor(), 0, getWidth(), getHeight(), sprite);
+        }
+        return spriteKey;
+    }
+    
+    @Override
+    public void enqueue(RenderQueue queue) {
+        if (queue.hasSpriteAtlas() && !isBroken()) {
+            queue.sprite(RenderQueue.LAYER_BODY, this, getX(), getY());
+            return;
+        }
+        
+        super.enqueue(queue);
+        
+        // 파워업 벽돌 표시 (물음표)
+        if (!isBroken()) {
+            queue.fillText(RenderQueue.LAYER_LABEL, Color.YELLOW, Fonts.of(16), "?",
+                           getCenterX() - 5, getCenterY() + 5);
+        }
+    }
 }
\ No newline at end of file
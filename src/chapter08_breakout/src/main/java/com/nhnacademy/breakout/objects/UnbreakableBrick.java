@@ -2,6 +2,7 @@ package com.nhnacademy.breakout.objects;
 
 import com.nhnacademy.game.entity.StaticObject;
 import com.nhnacademy.game.collision.Collidable;
+import com.nhnacademy.game.graphics.RenderQueue;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
@@ -15,6 +16,14 @@ import javafx.scene.paint.Stop;
 public class UnbreakableBrick extends StaticObject {
     private static final Color WALL_COLOR = Color.DARKGRAY;
     
+    // 그라데이션으로 벽돌 효과 (모든 벽이 공유)
+    private static final LinearGradient WALL_GRADIENT = new LinearGradient(
+        0, 0, 1, 1, true, CycleMethod.NO_CYCLE,
+        new Stop(0, Color.LIGHTGRAY),
+        new Stop(0.5, WALL_COLOR),
+        new Stop(1, Color.DARKGRAY.darker())
+    );
+    
     public UnbreakableBrick(double x, double y, double width, double height) {
         super(x, y, width, height, WALL_COLOR);
         setFilled(true);
@@ -29,14 +38,7 @@ public class UnbreakableBrick extends StaticObject {
     @Override
     public void draw(GraphicsContext gc) {
         // 그라데이션으로 벽돌 효과
-        LinearGradient gradient = new LinearGradient(
-            0, 0, 1, 1, true, CycleMethod.NO_CYCLE,
-            new Stop(0, Color.LIGHTGRAY),
-            new Stop(0.5, WALL_COLOR),
-            new Stop(1, Color.DARKGRAY.darker())
-        );
-        
-        gc.setFill(gradient);
+        gc.setFill(WALL_GRADIENT);
         gc.fillRect(getX(), getY(), getWidth(), getHeight());
         
         // 테두리
@@ -48,6 +50,33 @@ public class UnbreakableBrick extends StaticObject {
         drawBrickPattern(gc);
     }
     
+    @Override
+    public void enqueue(RenderQueue queue) {
+        queue.fillRect(RenderQueue.LAYER_BODY, WALL_GRADIENT, getX(), getY(), getWidth(), getHeight());
+        
+        // 테두리
+        queue.strokeRect(RenderQueue.LAYER_DETAIL, Color.BLACK, getX(), getY(), getWidth(), getHeight());
+        
+        // 벽돌 패턴
+        queue.setLineWidth(0.5);
+        double brickHeight = 10;
+        for (double y = getY() + brickHeight; y < getY() + getHeight(); y += brickHeight) {
+            queue.strokeLine(RenderQueue.LAYER_DECORATION, Color.GRAY, getX(), y, getX() + getWidth(), y);
+        }
+        
+        double brickWidth = 20;
+        boolean offset = false;
+        for (double y = getY(); y < getY() + getHeight(); y += brickHeight) {
+            double startX = offset ? getX() + brickWidth / 2 : getX();
+            for (double x = startX; x < getX() + getWidth(); x += brickWidth) {
+                queue.strokeLine(RenderQueue.LAYER_DECORATION, Color.GRAY,
+                                 x, y, x, Math.min(y + brickHeight, getY() + getHeight()));
+            }
+            offset = !offset;
+        }
+        queue.setLineWidth(1);
+    }
+    
     /**
      * 벽돌 패턴을 그립니다.
      */
@@ -0,0 +1,87 @@
+package com.nhnacademy.breakout.world;
+
+import com.nhnacademy.game.level.LevelCompiler;
+import com.nhnacademy.game.level.LevelRecords;
+import com.nhnacademy.game.level.LevelSchema;
+import javafx.scene.paint.Color;
+
+import java.io.IOException;
+
+/**
+ * Breakout 레벨 정의
+ * 레벨 파일의 벽돌 종류와 속성 이름, 레벨 팩이 없을 때 쓰는 내장 레벨 규칙을 담습니다.
+ *
+ * 벽돌 종류: simple, multi(hits=맞아야 하는 횟수), powerup(chance=드롭 확률), exploding
+ *
+ * 사용 예:
+ *   java -cp ... com.nhnacademy.breakout.world.BreakoutLevels export breakout.lvl
+ *   java -cp ... com.nhnacademy.breakout.world.BreakoutLevels compile breakout.lvlpack breakout.lvl
+ */
+public final class BreakoutLevels {
+    public static final int SIMPLE = 0;
+    public static final int MULTI_HIT = 1;
+    public static final int POWER_UP = 2;
+    public static final int EXPLODING = 3;
+    
+    /** 내장 레벨 수 (이 레벨을 넘기면 승리) */
+    public static final int BUILTIN_LEVELS = 10;
+    
+    public static final LevelSchema SCHEMA = new LevelSchema(0x42524B54,
+        new String[] { "simple", "multi", "powerup", "exploding" }, "hits", "chance", null);
+    
+    // 내보내기에 쓰는 기본 월드 너비
+    private static final double DEFAULT_WIDTH = 800;
+    
+    private BreakoutLevels() {
+    }
+    
+    /**
+     * 내장 규칙으로 레벨의 벽돌을 채웁니다.
+     * 레벨이 오를수록 줄이 늘고, 위쪽 두 줄은 다중 히트, 대각선 위치는 폭발 또는 파워업 벽돌이 됩니다.
+     * @param level 레벨 번호
+     * @param worldWidth 월드 너비 (한 줄에 놓을 벽돌 수를 정합니다)
+     * @param out 벽돌 레코드를 담을 저장소 (비우고 채웁니다)
+     */
+    public static void createBuiltin(int level, double worldWidth, LevelRecords out) {
+        out.clear();
+        double brickWidth = 60;
+        double brickHeight = 20;
+        double startX = BreakoutWorld.WALL_THICKNESS + 20;
+        double startY = BreakoutWorld.WALL_THICKNESS + 40;
+        
+        int rows = Math.min(5 + level, 10);
+        int cols = (int)((worldWidth - 2 * BreakoutWorld.WALL_THICKNESS - 40) / (brickWidth + 5));
+        
+        for (int row = 0; row < rows; row++) {
+            int color = LevelRecords.rgbaOf(Color.hsb(row * 40, 0.8, 0.9));
+            int points = (5 - row) * 10 * level;
+            for (int col = 0; col < cols; col++) {
+                double x = startX + col * (brickWidth + 5);
+                double y = startY + row * (brickHeight + 5);
+                
+                if (level >= 3 && (row + col) % 7 == 0) {
+                    out.add(EXPLODING, LevelRecords.rgbaOf(Color.ORANGE), x, y, brickWidth, brickHeight, points * 2);
+                } else if (level >= 2 && row < 2) {
+                    int i = out.add(MULTI_HIT, color, x, y, brickWidth, brickHeight, points);
+                    out.setParam(i, 2 + level / 3);
+                } else if ((row + col) % 5 == 0) {
+                    int i = out.add(POWER_UP, color, x, y, brickWidth, brickHeight, points);
+                    out.setAttribute(i, 0, 0.3, false);
+                } else {
+                    out.add(SIMPLE, color, x, y, brickWidth, brickHeight, points);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 내장 레벨을 레벨 정의 파일로 내보내거나, 레벨 정의 파일을 레벨 팩으로 컴파일합니다.
+     */
+    public static void main(String[] args) throws IOException {
+        LevelCompiler.run(SCHEMA, level -> {
+            LevelRecords records = new LevelRecords(100);
+            createBuiltin(level, DEFAULT_WIDTH, records);
+            return records;
+        }, BUILTIN_LEVELS, args);
+    }
+}
\ No newline at end of file
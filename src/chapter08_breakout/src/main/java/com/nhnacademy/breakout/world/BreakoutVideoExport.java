@@ -0,0 +1,154 @@
+package com.nhnacademy.breakout.world;
+
+import com.nhnacademy.breakout.objects.BreakoutBall;
+import com.nhnacademy.game.graphics.software.FrameSink;
+import com.nhnacademy.game.graphics.software.PngSequenceWriter;
+import com.nhnacademy.game.graphics.software.SoftwareRenderer;
+import com.nhnacademy.game.graphics.software.Y4mWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * 브레이크아웃 플레이를 화면 없이 영상이나 PNG 프레임으로 내보내는 도구
+ * 패들이 첫 공을 따라가는 자동 조종으로 월드를 60fps 고정 시간만큼 진행하고,
+ * 매 프레임 SoftwareRenderer로 그려 FrameSink에 기록합니다.
+ * JavaFX 툴킷을 띄우지 않으므로 서버에서 리플레이 영상이나 썸네일을 만들 때 사용합니다.
+ *
+ * 사용 예:
+ *   java -cp chapter08_breakout.jar com.nhnacademy.breakout.world.BreakoutVideoExport --out play.y4m --frames 3600
+ *   java -cp chapter08_breakout.jar com.nhnacademy.breakout.world.BreakoutVideoExport --out frames --format png --level 4
+ *   java -cp chapter08_breakout.jar com.nhnacademy.breakout.world.BreakoutVideoExport --out - | ffmpeg -i - play.mp4
+ */
+public class BreakoutVideoExport {
+    public static final int FRAMES_PER_SECOND = 60;
+    private static final double DELTA_TIME = 1.0 / FRAMES_PER_SECOND;
+    private static final int LAUNCH_EVERY = 30;
+    private static final int BACKGROUND_ARGB = 0xFF000000;
+    
+    private final BreakoutWorld world;
+    private final SoftwareRenderer renderer;
+    private final int level;
+    
+    // 단계별 누적 시간
+    private int frameCount = 0;
+    private long updateNanos = 0;
+    private long renderNanos = 0;
+    private long writeNanos = 0;
+    
+    public BreakoutVideoExport(int width, int height, int level) {
+        this.world = new BreakoutWorld(width, height);
+        this.renderer = new SoftwareRenderer(width, height);
+        this.level = level;
+        world.createLevel(level);
+    }
+    
+    public static void main(String[] args) throws IOException {
+        Path out = null;
+        String format = "y4m";
+        int frames = 60 * FRAMES_PER_SECOND;
+        int level = 1;
+        int width = 800;
+        int height = 600;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--out")) {
+                out = Paths.get(args[i + 1]);
+            } else if (args[i].equals("--format")) {
+                format = args[i + 1];
+            } else if (args[i].equals("--frames")) {
+                frames = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--level")) {
+                level = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--size")) {
+                String[] size = args[i + 1].split("x");
+                width = Integer.parseInt(size[0]);
+                height = Integer.parseInt(size[1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("--out으로 출력 파일이나 디렉터리를 지정해야 합니다");
+        }
+        
+        BreakoutVideoExport export = new BreakoutVideoExport(width, height, level);
+        FrameSink sink;
+        if (format.equals("y4m")) {
+            // "-"이면 표준 출력으로 내보내 ffmpeg 등에 바로 넘깁니다.
+            OutputStream stream = out.toString().equals("-") ? System.out : Files.newOutputStream(out);
+            sink = new Y4mWriter(stream, FRAMES_PER_SECOND);
+        } else if (format.equals("png")) {
+            sink = new PngSequenceWriter(out, "frame");
+        } else {
+            throw new IllegalArgumentException("알 수 없는 형식입니다: " + format);
+        }
+        try (FrameSink closing = sink) {
+            export.export(closing, frames);
+        }
+        System.err.printf("[export] %d 프레임을 %s에 기록했습니다 (%.1f fps, 실시간의 %.1f배)%n",
+                          export.getFrameCount(), out, export.getFramesPerSecond(),
+                          export.getFramesPerSecond() / FRAMES_PER_SECOND);
+    }
+    
+    /**
+     * 월드를 지정한 프레임만큼 진행하며 매 프레임 그려 기록합니다.
+     * 공을 모두 잃거나 벽돌을 다 깨면 시작 레벨부터 다시 진행합니다.
+     * @param sink 프레임을 받을 대상
+     * @param frames 기록할 프레임 수
+     * @throws IOException 기록에 실패한 경우
+     */
+    public void export(FrameSink sink, int frames) throws IOException {
+        for (int frame = 0; frame < frames; frame++) {
+            long start = System.nanoTime();
+            if (world.isGameOver() || world.getBricks().isEmpty()) {
+                world.createLevel(level);
+            }
+            world.step(autopilot(frameCount), DELTA_TIME);
+            long updated = System.nanoTime();
+            
+            renderer.clear(BACKGROUND_ARGB);
+            world.render(renderer);
+            long rendered = System.nanoTime();
+            
+            sink.writeFrame(renderer.getPixels(), renderer.getWidth(), renderer.getHeight());
+            long written = System.nanoTime();
+            
+            updateNanos += updated - start;
+            renderNanos += rendered - updated;
+            writeNanos += written - rendered;
+            frameCount++;
+        }
+    }
+    
+    /**
+     * 첫 공을 따라 패들을 움직이고, 붙어 있는 공은 일정 간격으로 발사합니다.
+     */
+    private int autopilot(int frame) {
+        int input = frame % LAUNCH_EVERY == 0 ? BreakoutWorld.INPUT_LAUNCH : 0;
+        List<BreakoutBall> balls = world.getBalls();
+        if (!balls.isEmpty()) {
+            double offset = balls.get(0).getCenterX() - world.getPaddle().getCenterX();
+            input |= offset < -4 ? BreakoutWorld.INPUT_LEFT : offset > 4 ? BreakoutWorld.INPUT_RIGHT : 0;
+        }
+        return input;
+    }
+    
+    /**
+     * @return 지금까지 기록한 프레임의 초당 처리량 (갱신, 그리기, 기록 포함)
+     */
+    public double getFramesPerSecond() {
+        long total = updateNanos + renderNanos + writeNanos;
+        return total == 0 ? 0 : frameCount * 1e9 / total;
+    }
+    
+    // Getters
+    public BreakoutWorld getWorld() { return world; }
+    public int getFrameCount() { return frameCount; }
+    public long getUpdateNanos() { return updateNanos; }
+    public long getRenderNanos() { return renderNanos; }
+    public long getWriteNanos() { return writeNanos; }
+}
\ No newline at end of file
@@ -4,19 +4,84 @@ import com.nhnacademy.breakout.objects.*;
 import com.nhnacademy.game.behavior.*;
 import com.nhnacademy.game.collision.Bounds;
 import com.nhnacademy.game.collision.Collidable;
+import com.nhnacademy.game.core.GameObject;
+import com.nhnacademy.game.core.GameRandom;
+import com.nhnacademy.game.core.GameWorld;
+import com.nhnacademy.game.diagnostics.AllocationTelemetry;
+import com.nhnacademy.game.diagnostics.CollisionBatchEvent;
+import com.nhnacademy.game.diagnostics.EventGate;
+import com.nhnacademy.game.diagnostics.ExplosionEvent;
+import com.nhnacademy.game.diagnostics.FrameEvent;
+import com.nhnacademy.game.diagnostics.FrameProfiler;
+import com.nhnacademy.game.diagnostics.LevelLoadEvent;
+import com.nhnacademy.game.entity.StaticObject;
+import com.nhnacademy.game.graphics.DetailController;
+import com.nhnacademy.game.graphics.DetailLevel;
+import com.nhnacademy.game.graphics.Fonts;
+import com.nhnacademy.game.graphics.HudLabel;
+import com.nhnacademy.game.graphics.PixelLayer;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.Renderer;
+import com.nhnacademy.game.graphics.RetainedLayer;
+import com.nhnacademy.game.graphics.SpriteAtlas;
+import com.nhnacademy.game.graphics.Sprited;
+import com.nhnacademy.game.graphics.Viewport;
+import com.nhnacademy.game.level.LevelPack;
+import com.nhnacademy.game.level.LevelPreloader;
+import com.nhnacademy.game.level.LevelRecords;
+import com.nhnacademy.game.metrics.MetricsSnapshot;
+import com.nhnacademy.game.metrics.WorldMetrics;
+import com.nhnacademy.game.particle.ParticleSystem;
+import com.nhnacademy.game.physics.GravityEffect;
+import com.nhnacademy.game.replay.Replayable;
+import com.nhnacademy.game.snapshot.SnapshotBuffer;
+import com.nhnacademy.game.snapshot.Snapshottable;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 
 /**
  * Breakout 게임 월드
  * 2~7장에서 배운 개념을 활용하여 게임 세계를 관리합니다.
+ * 상태는 SnapshotBuffer로 저장하고 되돌릴 수 있으며, ReplayWriter로 매 프레임 기록할 수 있습니다.
  */
-public class BreakoutWorld {
+public class BreakoutWorld implements GameWorld, Snapshottable, Replayable {
+    // step()에 넘기는 입력 비트
+    public static final int INPUT_LEFT = 1;
+    public static final int INPUT_RIGHT = 2;
+    public static final int INPUT_LAUNCH = 4;
+    
     private double width;
     private double height;
-    private static final double WALL_THICKNESS = 20;
+    static final double WALL_THICKNESS = 20;
+    private static final int MAX_PARTICLES = 100_000;
+    private static final double PARTICLE_GRAVITY = 400;
+    
+    // 프로파일러 단계와 카운터
+    private static final int PHASE_PADDLE = 0;
+    private static final int PHASE_BALLS = 1;
+    private static final int PHASE_POWER_UPS = 2;
+    private static final int PHASE_EXPLOSIONS = 3;
+    private static final int PHASE_PARTICLES = 4;
+    private static final int PHASE_COLLISIONS = 5;
+    private static final int PHASE_GAME_STATE = 6;
+    private static final int PHASE_RENDER = 7;
+    private static final int COUNTER_OBJECTS = 0;
+    private static final int COUNTER_PAIR_TESTS = 1;
+    private static final int COUNTER_PARTICLES = 2;
+    private static final int TELEMETRY_HISTORY = 240;
+    private static final String WORLD_NAME = "breakout";
+    
+    // 스냅숏 종류("BRKT")와 본문 형식 버전
+    private static final int SNAPSHOT_KIND = 0x42524B54;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int BRICK_SIMPLE = 0;
+    private static final int BRICK_MULTI_HIT = 1;
+    private static final int BRICK_POWER_UP = 2;
+    private static final int BRICK_EXPLODING = 3;
     
     // 게임 객체들
     private List<UnbreakableBrick> walls;
@@ -26,12 +91,79 @@ public class BreakoutWorld {
     private List<PowerUp> powerUps;
     private List<Exploding.ExplosionEffect> explosions;
     
+    // 프레임마다 비우고 다시 쓰는 제거 목록 (정상 상태 프레임에서 할당하지 않도록)
+    private final List<BreakoutBall> ballsToRemove = new ArrayList<>();
+    private final List<PowerUp> powerUpsToRemove = new ArrayList<>();
+    private final List<Exploding.ExplosionEffect> explosionsToRemove = new ArrayList<>();
+    private final List<Breakable> brokenBricks = new ArrayList<>();
+    private final List<Breakable> explodedBricks = new ArrayList<>();
+    
+    // 벽돌 파편과 폭발 불꽃
+    private final ParticleSystem particles;
+    
+    // 벽과 벽돌을 보관하는 정적 레이어 (첫 렌더링 시 생성)
+    private RetainedLayer brickLayer;
+    
+    // 상태 정렬 후 한꺼번에 그리는 렌더 큐
+    private final RenderQueue renderQueue = new RenderQueue(1024);
+    
+    // 정적 레이어를 다시 그릴 때 쓰는 렌더 큐 (부하와 관계없이 항상 최고 세부 수준)
+    private final RenderQueue staticQueue = new RenderQueue(256);
+    
+    // 장식이 있는 벽돌과 파워업 아이템을 미리 그려 두는 스프라이트 캐시
+    private final SpriteAtlas spriteAtlas = new SpriteAtlas();
+    
+    // 화면 밖 객체 제외와 부하에 따른 세부 수준 조절
+    private final Viewport viewport;
+    private final DetailController detailController = new DetailController(200, 20_000_000L);
+    private long lastRenderNanos = 0;
+    
+    // 단계별 시간 측정 (-Dgame.profiler=true일 때만 동작)
+    private final FrameProfiler profiler = new FrameProfiler(
+        new String[] {"paddle", "balls", "powerUps", "explosions", "particles", "collisions", "gameState", "render"},
+        new String[] {"objects", "pairTests", "particles"});
+    
+    // 프레임별 할당량과 GC 측정 (켜져 있을 때만 생성)
+    private AllocationTelemetry telemetry;
+    
+    // JMX와 HTTP로 내보내는 실시간 지표 (1초마다 스냅숏을 만들어 내놓습니다)
+    private final WorldMetrics metrics = new WorldMetrics(WORLD_NAME, this::sampleMetrics);
+    
+    // 값이 바뀔 때만 새로 만드는 HUD 문자열
+    private final HudLabel scoreLabel = new HudLabel("Score: ");
+    private final HudLabel livesLabel = new HudLabel("Lives: ");
+    private final HudLabel levelLabel = new HudLabel("Level: ");
+    
+    // 파워업 드롭에 쓰는 난수 생성기 (상태가 스냅숏에 함께 저장됩니다)
+    private final GameRandom random = new GameRandom();
+    
+    // 레벨 팩 (없으면 내장 레벨 규칙을 씁니다)과 레벨을 바꿀 때마다 재사용하는 레코드 저장소
+    private LevelPack levelPack;
+    private final LevelRecords levelRecords = new LevelRecords(100);
+    
+    // 다음 레벨의 벽돌을 백그라운드에서 미리 만드는 준비기와 그 작업 전용 레코드 저장소
+    private final LevelPreloader<List<Breakable>> preloader = new LevelPreloader<>();
+    private final LevelRecords preloadRecords = new LevelRecords(100);
+    
+    // 준비가 끝나지 않은 레벨 경계에서 기다린 횟수와 마지막으로 기다린 시간
+    private int levelWaitCount = 0;
+    private long lastLevelWaitNanos = 0;
+    
     // 게임 상태
     private int score = 0;
     private int lives = 3;
     private int level = 1;
     
     public BreakoutWorld(double width, double height) {
+        this(width, height, MAX_PARTICLES);
+    }
+    
+    /**
+     * 파티클 용량을 정해 월드를 만듭니다.
+     * 화면 없이 수천 개를 함께 돌리는 세션(SessionHost)은 렌더링용 기본 용량(10만 개, 약 3MB)이 필요 없으므로 작게 잡습니다.
+     * @param maxParticles 파티클 용량 (넘치는 파티클은 버립니다)
+     */
+    public BreakoutWorld(double width, double height, int maxParticles) {
         this.width = width;
         this.height = height;
         this.walls = new ArrayList<>();
@@ -39,6 +171,14 @@ public class BreakoutWorld {
         this.balls = new ArrayList<>();
         this.powerUps = new ArrayList<>();
         this.explosions = new ArrayList<>();
+        this.viewport = new Viewport(width, height);
+        this.particles = new ParticleSystem(maxParticles);
+        particles.setGravity(new GravityEffect(0, 0, width, height, PARTICLE_GRAVITY));
+        particles.setDrag(0.5);
+        renderQueue.setSpriteAtlas(spriteAtlas);
+        renderQueue.setViewport(viewport);
+        staticQueue.setSpriteAtlas(spriteAtlas);
+        staticQueue.setDetailLevel(DetailLevel.FULL);
         
         initializeWalls();
         initializePaddle();
@@ -79,96 +219,234 @@ public class BreakoutWorld {
         balls.add(ball);
     }
     
+    /**
+     * 레벨 팩을 지정합니다. 이후 createLevel()은 팩에 있는 레벨을 팩에서 읽고,
+     * 팩에 없는 레벨은 내장 규칙으로 만듭니다. 미리 준비하던 다음 레벨은 새 팩으로 다시 준비합니다.
+     * @param levelPack 레벨 팩, 내장 레벨만 쓰려면 null
+     */
+    public void setLevelPack(LevelPack levelPack) {
+        this.levelPack = levelPack;
+        if (levelPack != null) {
+            levelRecords.ensureCapacity(levelPack.getMaxEntities());
+        }
+        if (preloader.isPreparing(level + 1)) {
+            prepareNextLevel();
+        }
+    }
+    
     /**
      * 레벨에 따른 벽돌을 생성합니다.
+     * 레벨의 벽돌 레코드를 미리 할당한 저장소에 한꺼번에 읽은 뒤 벽돌 객체를 만듭니다.
+     * 이 레벨을 바꿔 넣은 뒤에는 다음 레벨을 백그라운드에서 준비하기 시작합니다.
      */
     public void createLevel(int level) {
-        bricks.clear();
-        this.level = level;
+        preloader.cancel();
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        installLevel(level, buildLevel(level, levelPack, levelRecords), event);
+        prepareNextLevel();
+    }
+    
+    /**
+     * 다음 레벨의 벽돌을 백그라운드에서 만들기 시작합니다.
+     * 작업은 레벨 번호와 레벨 팩만 받아 새 벽돌 목록을 만들고, 월드의 다른 상태는 건드리지 않습니다.
+     */
+    private void prepareNextLevel() {
+        int next = level + 1;
+        LevelPack pack = levelPack;
+        preloader.prepare(next, () -> buildLevel(next, pack, preloadRecords));
+    }
+    
+    /**
+     * 레벨의 벽돌 목록을 만들고 스프라이트를 미리 등록합니다.
+     * 월드를 갱신하는 스레드와 준비 스레드 양쪽에서 호출하므로, 받은 레코드 저장소와 새로 만든 객체만 씁니다.
+     * @param records 벽돌 레코드를 읽어 둘 저장소 (스레드마다 따로 씁니다)
+     */
+    private List<Breakable> buildLevel(int level, LevelPack pack, LevelRecords records) {
+        // 레벨 팩에 있으면 팩에서, 없으면 내장 규칙으로 벽돌 레코드를 채웁니다.
+        if (pack != null && pack.contains(level)) {
+            pack.read(level, records);
+        } else {
+            BreakoutLevels.createBuiltin(level, width, records);
+        }
         
-        // 레벨에 따른 벽돌 배치
-        double brickWidth = 60;
-        double brickHeight = 20;
-        double startX = WALL_THICKNESS + 20;
-        double startY = WALL_THICKNESS + 40;
+        List<Breakable> created = new ArrayList<>(records.size());
+        Color color = null;
+        for (int i = 0; i < records.size(); i++) {
+            color = LevelRecords.toColor(records.getColor(i), color);
+            Breakable brick = createLevelBrick(records, i, color);
+            created.add(brick);
+            if (brick instanceof Sprited) {
+                spriteAtlas.prepare((Sprited) brick);
+            }
+        }
         
-        int rows = Math.min(5 + level, 10);
-        int cols = (int)((width - 2 * WALL_THICKNESS - 40) / (brickWidth + 5));
+        // 떨어질 수 있는 파워업 아이템도 함께 준비합니다.
+        for (PowerUpProvider.PowerUpType type : PowerUpProvider.PowerUpType.values()) {
+            spriteAtlas.prepare(new PowerUp(0, 0, type));
+        }
+        return created;
+    }
+    
+    /**
+     * 만들어 둔 벽돌 목록을 현재 레벨로 바꿔 넣습니다. 목록 참조만 바꾸므로 벽돌 수와 관계없이 비용이 일정합니다.
+     */
+    private void installLevel(int level, List<Breakable> created, LevelLoadEvent event) {
+        bricks = created;
+        particles.clear();
+        this.level = level;
+        if (brickLayer != null) {
+            brickLayer.invalidateAll();
+        }
         
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                double x = startX + col * (brickWidth + 5);
-                double y = startY + row * (brickHeight + 5);
-                
-                // 레벨에 따른 벽돌 타입 결정
-                Breakable brick = createBrickForLevel(x, y, brickWidth, brickHeight, row, col, level);
-                if (brick != null) {
-                    bricks.add(brick);
-                }
-            }
+        event.end();
+        if (event.shouldCommit()) {
+            event.world = WORLD_NAME;
+            event.level = level;
+            event.entities = bricks.size();
+            event.commit();
         }
     }
     
     /**
-     * 레벨과 위치에 따른 벽돌을 생성합니다.
+     * 레벨 레코드 하나로 벽돌을 만듭니다.
      */
-    private Breakable createBrickForLevel(double x, double y, double width, double height, 
-                                         int row, int col, int level) {
-        Color color = Color.hsb(row * 40, 0.8, 0.9);
-        int points = (5 - row) * 10 * level;
+    private Breakable createLevelBrick(LevelRecords records, int i, Color color) {
+        double x = records.getX(i);
+        double y = records.getY(i);
+        double brickWidth = records.getWidth(i);
+        double brickHeight = records.getHeight(i);
+        int points = records.getPoints(i);
         
-        // 레벨에 따른 특수 벽돌 배치
-        if (level >= 3 && (row + col) % 7 == 0) {
-            // 폭발 벽돌
-            return new ExplodingBrick(x, y, width, height, Color.ORANGE, points * 2);
-        } else if (level >= 2 && row < 2) {
-            // 다중 히트 벽돌
-            return new MultiHitBrick(x, y, width, height, color, points, 2 + level / 3);
-        } else if ((row + col) % 5 == 0) {
-            // 파워업 벽돌
-            return new PowerUpBrick(x, y, width, height, color, points, 0.3);
-        } else {
-            // 일반 벽돌
-            return new SimpleBrick(x, y, width, height, color, points);
+        switch (records.getKind(i)) {
+            case BreakoutLevels.EXPLODING:
+                return new ExplodingBrick(x, y, brickWidth, brickHeight, color, points);
+            case BreakoutLevels.MULTI_HIT:
+                return new MultiHitBrick(x, y, brickWidth, brickHeight, color, points,
+                                         Math.max(1, records.getParam(i)));
+            case BreakoutLevels.POWER_UP: {
+                PowerUpBrick brick = new PowerUpBrick(x, y, brickWidth, brickHeight, color, points,
+                                                      records.getAttribute(i, 0));
+                brick.setRandom(random);
+                return brick;
+            }
+            default:
+                return new SimpleBrick(x, y, brickWidth, brickHeight, color, points);
         }
     }
     
     /**
      * 월드를 업데이트합니다.
      */
+    @Override
     public void update(double deltaTime) {
+        long updateStart = System.nanoTime();
+        if (telemetry != null) {
+            telemetry.beginFrame();
+        }
+        profiler.beginFrame();
+        FrameEvent frameEvent = EventGate.FRAME.isEnabled() ? new FrameEvent() : null;
+        if (frameEvent != null) {
+            frameEvent.begin();
+        }
+        
         // 패들 업데이트
+        profiler.begin(PHASE_PADDLE);
         paddle.updatePowerUps(deltaTime);
+        profiler.end(PHASE_PADDLE);
         
         // 공 업데이트
+        profiler.begin(PHASE_BALLS);
         updateBalls(deltaTime);
+        profiler.end(PHASE_BALLS);
         
         // 파워업 업데이트
+        profiler.begin(PHASE_POWER_UPS);
         updatePowerUps(deltaTime);
+        profiler.end(PHASE_POWER_UPS);
         
         // 폭발 효과 업데이트
+        profiler.begin(PHASE_EXPLOSIONS);
         updateExplosions(deltaTime);
+        profiler.end(PHASE_EXPLOSIONS);
+        
+        // 파티클 업데이트
+        profiler.begin(PHASE_PARTICLES);
+        particles.update(deltaTime);
+        profiler.end(PHASE_PARTICLES);
         
         // 충돌 처리
+        profiler.begin(PHASE_COLLISIONS);
         handleCollisions();
+        profiler.end(PHASE_COLLISIONS);
         
         // 게임 상태 확인
+        profiler.begin(PHASE_GAME_STATE);
         checkGameState();
+        profiler.end(PHASE_GAME_STATE);
+        
+        profiler.count(COUNTER_OBJECTS, walls.size() + bricks.size() + balls.size() + powerUps.size() + explosions.size() + 1);
+        profiler.count(COUNTER_PARTICLES, particles.size());
+        profiler.endFrame();
+        
+        if (frameEvent != null) {
+            frameEvent.end();
+            if (frameEvent.shouldCommit()) {
+                frameEvent.world = WORLD_NAME;
+                frameEvent.level = level;
+                frameEvent.entities = walls.size() + bricks.size() + balls.size() + powerUps.size() + explosions.size() + 1;
+                frameEvent.particles = particles.size();
+                frameEvent.commit();
+            }
+        }
+        
+        if (telemetry != null) {
+            telemetry.endFrame();
+        }
+        metrics.recordUpdate(System.nanoTime() - updateStart);
+    }
+    
+    /**
+     * 지표 스냅숏에 객체 수와 풀 사용량을 채웁니다. update()를 호출하는 스레드에서 호출됩니다.
+     */
+    private void sampleMetrics(MetricsSnapshot snapshot) {
+        snapshot.level(level);
+        snapshot.entity("bricks", bricks.size());
+        snapshot.entity("balls", balls.size());
+        snapshot.entity("powerUps", powerUps.size());
+        snapshot.entity("explosions", explosions.size());
+        snapshot.entity("particles", particles.size());
+        snapshot.pool("particles", particles.size(), particles.getCapacity());
+    }
+    
+    /**
+     * 할당량과 GC 측정을 켜거나 끕니다.
+     * 켜면 update()를 호출하는 스레드의 할당량을 측정하고 화면 오른쪽 아래에 그래프를 그립니다.
+     * update()와 같은 스레드에서 호출해야 합니다.
+     */
+    public void toggleTelemetry() {
+        if (telemetry == null) {
+            telemetry = new AllocationTelemetry(TELEMETRY_HISTORY);
+        } else {
+            telemetry.close();
+            telemetry = null;
+        }
     }
     
     /**
      * 공들을 업데이트합니다.
      */
     private void updateBalls(double deltaTime) {
-        List<BreakoutBall> toRemove = new ArrayList<>();
+        ballsToRemove.clear();
         
-        for (BreakoutBall ball : balls) {
+        for (int i = 0; i < balls.size(); i++) {
+            BreakoutBall ball = balls.get(i);
             if (!ball.isSticky()) {
                 ball.update(deltaTime);
                 
                 // 하단 경계 확인 (공을 놓친 경우)
                 if (ball.getCenterY() > height) {
-                    toRemove.add(ball);
+                    ballsToRemove.add(ball);
                 }
             } else {
                 // 끈끈한 공은 패들을 따라 이동
@@ -176,7 +454,9 @@ public class BreakoutWorld {
             }
         }
         
-        balls.removeAll(toRemove);
+        if (!ballsToRemove.isEmpty()) {
+            balls.removeAll(ballsToRemove);
+        }
         
         // 모든 공을 놓친 경우
         if (balls.isEmpty()) {
@@ -191,43 +471,59 @@ public class BreakoutWorld {
      * 파워업을 업데이트합니다.
      */
     private void updatePowerUps(double deltaTime) {
-        List<PowerUp> toRemove = new ArrayList<>();
+        powerUpsToRemove.clear();
         
-        for (PowerUp powerUp : powerUps) {
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
             powerUp.update(deltaTime);
             
             // 화면 밖으로 나간 파워업 제거
             if (powerUp.getY() > height) {
-                toRemove.add(powerUp);
+                powerUpsToRemove.add(powerUp);
             }
         }
         
-        powerUps.removeAll(toRemove);
+        if (!powerUpsToRemove.isEmpty()) {
+            powerUps.removeAll(powerUpsToRemove);
+        }
     }
     
     /**
      * 폭발 효과를 업데이트합니다.
      */
     private void updateExplosions(double deltaTime) {
-        List<Exploding.ExplosionEffect> toRemove = new ArrayList<>();
+        explosionsToRemove.clear();
         
-        for (Exploding.ExplosionEffect explosion : explosions) {
+        for (int i = 0; i < explosions.size(); i++) {
+            Exploding.ExplosionEffect explosion = explosions.get(i);
             explosion.update(deltaTime);
             if (explosion.isFinished()) {
-                toRemove.add(explosion);
+                explosionsToRemove.add(explosion);
             }
         }
         
-        explosions.removeAll(toRemove);
+        if (!explosionsToRemove.isEmpty()) {
+            explosions.removeAll(explosionsToRemove);
+        }
     }
     
     /**
      * 충돌을 처리합니다.
      */
     private void handleCollisions() {
+        CollisionBatchEvent event = EventGate.COLLISION_BATCH.isEnabled() ? new CollisionBatchEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        int pairTests = 0;
+        int hits = 0;
+        
         // 공과 벽 충돌
-        for (BreakoutBall ball : balls) {
-            for (UnbreakableBrick wall : walls) {
+        for (int i = 0; i < balls.size(); i++) {
+            BreakoutBall ball = balls.get(i);
+            for (int j = 0; j < walls.size(); j++) {
+                UnbreakableBrick wall = walls.get(j);
+                pairTests++;
                 if (ball.collidesWith(wall)) {
                     ball.handleCollision(wall);
                 }
@@ -235,25 +531,33 @@ public class BreakoutWorld {
         }
         
         // 공과 패들 충돌
-        for (BreakoutBall ball : balls) {
+        for (int i = 0; i < balls.size(); i++) {
+            BreakoutBall ball = balls.get(i);
+            pairTests++;
             if (ball.collidesWith(paddle)) {
                 ball.handlePaddleCollision(paddle);
             }
         }
         
         // 공과 벽돌 충돌
-        List<Breakable> brokenBricks = new ArrayList<>();
-        for (BreakoutBall ball : balls) {
-            for (Breakable brick : bricks) {
+        brokenBricks.clear();
+        for (int i = 0; i < balls.size(); i++) {
+            BreakoutBall ball = balls.get(i);
+            for (int j = 0; j < bricks.size(); j++) {
+                Breakable brick = bricks.get(j);
                 if (brick instanceof Collidable) {
                     Collidable collidableBrick = (Collidable) brick;
+                    pairTests++;
                     if (ball.collidesWith(collidableBrick)) {
+                        hits++;
                         ball.handleCollision(collidableBrick);
                         collidableBrick.handleCollision(ball);
+                        markBrickDirty(collidableBrick);
                         
                         if (brick.isBroken()) {
                             brokenBricks.add(brick);
                             score += brick.getPoints();
+                            emitDebris(collidableBrick);
                             
                             // 파워업 생성
                             if (brick instanceof PowerUpProvider) {
@@ -273,41 +577,88 @@ public class BreakoutWorld {
                 }
             }
         }
-        bricks.removeAll(brokenBricks);
+        if (!brokenBricks.isEmpty()) {
+            bricks.removeAll(brokenBricks);
+        }
         
         // 패들과 파워업 충돌
-        List<PowerUp> collectedPowerUps = new ArrayList<>();
-        for (PowerUp powerUp : powerUps) {
+        powerUpsToRemove.clear();
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
+            pairTests++;
             if (powerUp.collidesWith(paddle)) {
                 applyPowerUp(powerUp);
-                collectedPowerUps.add(powerUp);
+                powerUpsToRemove.add(powerUp);
             }
         }
-        powerUps.removeAll(collectedPowerUps);
+        if (!powerUpsToRemove.isEmpty()) {
+            powerUps.removeAll(powerUpsToRemove);
+        }
+        
+        profiler.count(COUNTER_PAIR_TESTS, pairTests);
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.world = WORLD_NAME;
+                event.pairTests = pairTests;
+                event.hits = hits;
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * 깨진 벽돌 자리에 벽돌 색의 파편을 뿌립니다.
+     */
+    private void emitDebris(Collidable brick) {
+        Bounds bounds = brick.getBounds();
+        Color color = brick instanceof StaticObject ? ((StaticObject) brick).getColor() : Color.WHITE;
+        particles.burst(bounds.getCenterX(), bounds.getCenterY(), 60, 30, 200, 0.9, 2, color);
     }
     
     /**
      * 폭발을 처리합니다.
      */
     private void handleExplosion(Exploding explodingBrick) {
+        ExplosionEvent event = new ExplosionEvent();
+        event.begin();
+        int candidates = bricks.size();
+        int affected = 0;
+        
         explosions.addAll(explodingBrick.explode());
+        Bounds center = ((Collidable) explodingBrick).getBounds();
+        particles.burst(center.getCenterX(), center.getCenterY(), 400, 60, 360, 1.2, 2, Color.ORANGE);
+        particles.burst(center.getCenterX(), center.getCenterY(), 200, 20, 180, 0.8, 3, Color.YELLOW);
         Bounds explosionBounds = explodingBrick.getExplosionBounds();
         
         // 폭발 범위 내의 벽돌에 피해
-        List<Breakable> affectedBricks = new ArrayList<>();
+        explodedBricks.clear();
         for (Breakable brick : bricks) {
             if (brick instanceof Collidable) {
                 Collidable collidable = (Collidable) brick;
                 if (explosionBounds.intersects(collidable.getBounds())) {
                     brick.hit(explodingBrick.getExplosionDamage());
+                    markBrickDirty(collidable);
+                    affected++;
                     if (brick.isBroken()) {
-                        affectedBricks.add(brick);
+                        explodedBricks.add(brick);
                         score += brick.getPoints();
                     }
                 }
             }
         }
-        bricks.removeAll(affectedBricks);
+        bricks.removeAll(explodedBricks);
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.world = WORLD_NAME;
+            event.x = center.getCenterX();
+            event.y = center.getCenterY();
+            event.candidates = candidates;
+            event.affected = affected;
+            event.commit();
+        }
     }
     
     /**
@@ -376,87 +727,534 @@ public class BreakoutWorld {
     
     /**
      * 게임 상태를 확인합니다.
+     * 모든 벽돌이 깨지면 그 프레임에 다음 레벨로 바꿉니다.
+     * 미리 준비한 레벨이 있으면 그것을 쓰고, 준비가 아직 끝나지 않았으면 여기서 직접 만들지 않고 그 준비를 기다립니다.
+     * 준비는 현재 레벨을 시작할 때부터 진행 중이므로, 기다리는 시간은 처음부터 만드는 시간이 아니라 남은 생성 시간뿐입니다.
+     * 전환 프레임이 준비 스레드의 속도에 따라 바뀌면 되감아 다시 진행했을 때(RollbackBuffer) 서버와 같은 결과를 낼 수 없습니다.
      */
     private void checkGameState() {
         // 모든 벽돌이 깨진 경우
         if (bricks.isEmpty()) {
+            LevelLoadEvent event = new LevelLoadEvent();
+            event.begin();
+            List<Breakable> next = preloader.poll(level + 1);
+            if (next == null) {
+                next = awaitNextLevel();
+            }
+            
             // 다음 레벨로
-            level++;
-            createLevel(level);
+            installLevel(level + 1, next, event);
+            prepareNextLevel();
             initializeBall();
         }
     }
     
+    /**
+     * 준비 중인 다음 레벨이 끝날 때까지 기다립니다.
+     * 준비가 없거나 기다리는 중에 인터럽트되면 같은 결과를 내도록 이 스레드에서 직접 만듭니다.
+     */
+    private List<Breakable> awaitNextLevel() {
+        long start = System.nanoTime();
+        if (!preloader.isPreparing(level + 1)) {
+            prepareNextLevel();
+        }
+        List<Breakable> next = preloader.await(level + 1);
+        if (next == null) {
+            next = buildLevel(level + 1, levelPack, levelRecords);
+        }
+        levelWaitCount++;
+        lastLevelWaitNanos = System.nanoTime() - start;
+        return next;
+    }
+    
+    /**
+     * 벽돌이 맞았을 때 해당 칸을 다시 그리도록 표시합니다.
+     * 깨진 벽돌은 배경으로, 피해를 입은 벽돌은 바뀐 DamageState로 다시 그려집니다.
+     */
+    private void markBrickDirty(Collidable brick) {
+        if (brickLayer != null) {
+            Bounds bounds = brick.getBounds();
+            brickLayer.invalidate(bounds.getX(), bounds.getY(), bounds.getWidth(), bounds.getHeight());
+        }
+    }
+    
     /**
      * 월드를 렌더링합니다.
+     * 배경, 벽, 벽돌은 정적 레이어에서 합성하고 움직이는 객체만 매 프레임 그립니다.
      */
     public void render(GraphicsContext gc) {
+        // 배경, 벽, 벽돌
+        if (brickLayer == null) {
+            brickLayer = new RetainedLayer(width, height, this::paintStaticRegion);
+        }
+        brickLayer.draw(gc);
+        
+        // 부하에 따른 세부 수준
+        long now = System.nanoTime();
+        long frameNanos = lastRenderNanos == 0 ? 0 : now - lastRenderNanos;
+        lastRenderNanos = now;
+        int objectCount = balls.size() + powerUps.size() + explosions.size() + particles.size() / 100;
+        renderQueue.setDetailLevel(detailController.update(objectCount, frameNanos));
+        
+        profiler.begin(PHASE_RENDER);
+        enqueueDynamicObjects(renderQueue);
+        enqueueUI(renderQueue);
+        renderQueue.flush(gc);
+        profiler.end(PHASE_RENDER);
+        metrics.recordRender(System.nanoTime() - now);
+    }
+    
+    /**
+     * 월드를 JavaFX 외의 렌더러로 그립니다.
+     * 화면이 없는 환경에서 리플레이 영상이나 썸네일을 만들 때 사용하며,
+     * 정적 레이어 없이 매번 전체를 그리고 세부 수준은 항상 최고로 유지합니다.
+     * @param renderer 대상 렌더러
+     */
+    public void render(Renderer renderer) {
+        renderQueue.setDetailLevel(DetailLevel.FULL);
+        record(renderQueue);
+        renderQueue.flush(renderer);
+    }
+    
+    /**
+     * 월드 전체를 렌더 큐에 기록합니다.
+     * 정적 레이어를 쓰지 않으므로 배경, 벽, 벽돌까지 모두 기록합니다.
+     * @param queue 기록할 렌더 큐
+     */
+    @Override
+    public void record(RenderQueue queue) {
+        // 배경
+        queue.fillRect(RenderQueue.LAYER_BACKGROUND, Color.BLACK, 0, 0, width, height);
+        
+        // 벽과 벽돌
+        for (int i = 0; i < walls.size(); i++) {
+            queue.submit(walls.get(i));
+        }
+        for (int i = 0; i < bricks.size(); i++) {
+            Breakable brick = bricks.get(i);
+            if (brick instanceof StaticObject) {
+                queue.submit((StaticObject) brick);
+            }
+        }
+        
+        enqueueDynamicObjects(queue);
+        enqueueUI(queue);
+    }
+    
+    /**
+     * 매 프레임 움직이는 객체를 렌더 큐에 추가합니다.
+     */
+    private void enqueueDynamicObjects(RenderQueue queue) {
+        // 패들
+        queue.submit(paddle);
+        
+        // 공
+        for (int i = 0; i < balls.size(); i++) {
+            queue.submit(balls.get(i));
+        }
+        
+        // 파워업
+        for (int i = 0; i < powerUps.size(); i++) {
+            queue.submit(powerUps.get(i));
+        }
+        
+        // 폭발 효과
+        for (int i = 0; i < explosions.size(); i++) {
+            enqueueExplosion(queue, explosions.get(i));
+        }
+        
+        // 파티클
+        enqueueParticles(queue);
+    }
+    
+    /**
+     * 파티클을 큐가 가진 픽셀 레이어에 찍고 이미지 한 장으로 그리도록 추가합니다.
+     * 세부 수준이 낮을 때는 일부 파티클만 찍습니다.
+     */
+    private void enqueueParticles(RenderQueue queue) {
+        PixelLayer layer = queue.getPixelLayer((int) width, (int) height);
+        layer.clear();
+        if (particles.size() == 0) {
+            return;
+        }
+        particles.rasterize(layer, queue.getDetailLevel().getParticleStride());
+        queue.pixels(RenderQueue.LAYER_DECORATION, layer);
+    }
+    
+    /**
+     * 정적 레이어의 한 영역을 그립니다.
+     * 영역과 겹치는 벽과 벽돌만 다시 그립니다.
+     * 한 번 그린 영역은 벽돌이 바뀔 때까지 재사용하므로,
+     * 프레임 부하에 따라 낮아지는 renderQueue 대신 항상 최고 세부 수준인 staticQueue로 그립니다.
+     */
+    private void paintStaticRegion(GraphicsContext gc, Rectangle2D region) {
         // 배경
         gc.setFill(Color.BLACK);
-        gc.fillRect(0, 0, width, height);
+        gc.fillRect(region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight());
         
         // 벽
         for (UnbreakableBrick wall : walls) {
-            wall.draw(gc);
+            if (overlaps(wall, region)) {
+                wall.enqueue(staticQueue);
+            }
         }
         
         // 벽돌
         for (Breakable brick : bricks) {
             if (brick instanceof StaticObject) {
-                ((StaticObject) brick).draw(gc);
+                StaticObject obj = (StaticObject) brick;
+                if (overlaps(obj, region)) {
+                    obj.enqueue(staticQueue);
+                }
+            }
+        }
+        staticQueue.flush(gc);
+    }
+    
+    private static boolean overlaps(StaticObject obj, Rectangle2D region) {
+        return obj.getX() < region.getMaxX() && obj.getX() + obj.getWidth() > region.getMinX() &&
+               obj.getY() < region.getMaxY() && obj.getY() + obj.getHeight() > region.getMinY();
+    }
+    
+    /**
+     * 폭발 효과를 렌더 큐에 추가합니다.
+     */
+    private void enqueueExplosion(RenderQueue queue, Exploding.ExplosionEffect explosion) {
+        double radius = explosion.getCurrentRadius();
+        if (!viewport.isVisible(explosion.getX() - radius, explosion.getY() - radius, radius * 2, radius * 2)) {
+            return;
+        }
+        
+        DetailLevel detail = queue.getDetailLevel();
+        if (detail == DetailLevel.MINIMAL) {
+            // 큰 원을 반투명하게 채우는 대신 외곽선만 그립니다.
+            queue.strokeOval(RenderQueue.LAYER_OVERLAY, Color.ORANGE,
+                                   explosion.getX() - radius, explosion.getY() - radius, radius * 2, radius * 2);
+            return;
+        }
+        
+        double opacity = 1.0 - explosion.getProgress();
+        if (detail.simplifiesEffects()) {
+            // 투명도를 네 단계로 묶어 같은 상태끼리 한꺼번에 그려지게 합니다.
+            opacity = Math.ceil(opacity * 4) / 4;
+        }
+        queue.setAlpha(opacity);
+        queue.fillOval(
+            RenderQueue.LAYER_OVERLAY, Color.ORANGE,
+            explosion.getX() - radius,
+            explosion.getY() - radius,
+            radius * 2,
+            radius * 2
+        );
+        queue.setAlpha(1.0);
+    }
+    
+    /**
+     * UI를 렌더 큐에 추가합니다.
+     */
+    private void enqueueUI(RenderQueue queue) {
+        queue.fillText(RenderQueue.LAYER_OVERLAY, Color.WHITE, Fonts.of(20), scoreLabel.of(score),
+                             WALL_THICKNESS + 10, WALL_THICKNESS + 20);
+        queue.fillText(RenderQueue.LAYER_OVERLAY, Color.WHITE, Fonts.of(20), livesLabel.of(lives),
+                             width / 2 - 40, WALL_THICKNESS + 20);
+        queue.fillText(RenderQueue.LAYER_OVERLAY, Color.WHITE, Fonts.of(20), levelLabel.of(level),
+                             width - 100, WALL_THICKNESS + 20);
+        profiler.enqueueOverlay(queue, WALL_THICKNESS + 10, height - 10);
+        if (telemetry != null) {
+            telemetry.enqueueGraph(queue, width - WALL_THICKNESS - 330, height - 110, 320, 100);
+        }
+    }
+    
+    /**
+     * 리플레이에는 패들, 공, 벽돌, 파워업을 기록합니다.
+     * 폭발과 파티클은 벽돌이 사라진 프레임에서 다시 만들 수 있으므로 기록하지 않습니다.
+     */
+    @Override
+    public void collectReplayObjects(List<GameObject> out) {
+        out.add(paddle);
+        out.addAll(balls);
+        for (int i = 0; i < bricks.size(); i++) {
+            Breakable brick = bricks.get(i);
+            if (brick instanceof GameObject) {
+                out.add((GameObject) brick);
             }
         }
+        out.addAll(powerUps);
+    }
+    
+    /**
+     * 리플레이 값: 점수, 생명, 레벨
+     */
+    @Override
+    public int getReplayValues(int[] out) {
+        out[0] = score;
+        out[1] = lives;
+        out[2] = level;
+        return 3;
+    }
+    
+    @Override
+    public int getSnapshotKind() {
+        return SNAPSHOT_KIND;
+    }
+    
+    @Override
+    public int getSnapshotVersion() {
+        return SNAPSHOT_VERSION;
+    }
+    
+    /**
+     * 본문 크기의 상한을 계산합니다.
+     * 월드 정보 36, 패들 33, 공 41, 벽돌 최대 77(다중 히트), 파워업 33, 폭발 40바이트에
+     * 목록마다 개수 4바이트가 붙습니다.
+     */
+    @Override
+    public int getSnapshotSize() {
+        return 36 + 33 + 16 + balls.size() * 41 + bricks.size() * 77 + powerUps.size() * 33 + explosions.size() * 40;
+    }
+    
+    /**
+     * 월드 상태를 기록합니다. update()를 호출하는 스레드에서 호출해야 합니다.
+     * 벽은 월드 크기로 정해지므로 기록하지 않고, 파티클은 장식이므로 저장하지 않습니다.
+     */
+    @Override
+    public void writeSnapshot(ByteBuffer buffer) {
+        buffer.putDouble(width);
+        buffer.putDouble(height);
+        buffer.putInt(score);
+        buffer.putInt(lives);
+        buffer.putInt(level);
+        buffer.putLong(random.getState());
         
         // 패들
-        paddle.draw(gc);
+        buffer.putDouble(paddle.getX());
+        buffer.putDouble(paddle.getY());
+        buffer.putDouble(paddle.getWidth());
+        buffer.put((byte) ((paddle.isSticky() ? 1 : 0) | (paddle.hasLaser() ? 2 : 0)));
+        buffer.putDouble(paddle.getPowerUpTimer());
         
         // 공
-        for (BreakoutBall ball : balls) {
-            ball.draw(gc);
+        buffer.putInt(balls.size());
+        for (int i = 0; i < balls.size(); i++) {
+            BreakoutBall ball = balls.get(i);
+            buffer.putDouble(ball.getX());
+            buffer.putDouble(ball.getY());
+            buffer.putDouble(ball.getVelocityX());
+            buffer.putDouble(ball.getVelocityY());
+            buffer.putDouble(ball.getSpeedMultiplier());
+            buffer.put((byte) (ball.isSticky() ? 1 : 0));
         }
         
-        // 파워업
-        for (PowerUp powerUp : powerUps) {
-            powerUp.draw(gc);
+        // 벽돌
+        buffer.putInt(bricks.size());
+        for (int i = 0; i < bricks.size(); i++) {
+            writeBrick(buffer, bricks.get(i));
         }
         
-        // 폭발 효과
-        for (Exploding.ExplosionEffect explosion : explosions) {
-            renderExplosion(gc, explosion);
+        // 떨어지는 파워업
+        buffer.putInt(powerUps.size());
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
+            buffer.putDouble(powerUp.getX());
+            buffer.putDouble(powerUp.getY());
+            buffer.putDouble(powerUp.getVelocityX());
+            buffer.putDouble(powerUp.getVelocityY());
+            buffer.put((byte) powerUp.getType().ordinal());
         }
         
-        // UI
-        renderUI(gc);
+        // 진행 중인 폭발
+        buffer.putInt(explosions.size());
+        for (int i = 0; i < explosions.size(); i++) {
+            Exploding.ExplosionEffect explosion = explosions.get(i);
+            buffer.putDouble(explosion.getX());
+            buffer.putDouble(explosion.getY());
+            buffer.putDouble(explosion.getRadius());
+            buffer.putDouble(explosion.getDuration());
+            buffer.putDouble(explosion.getElapsed());
+        }
     }
     
     /**
-     * 폭발 효과를 렌더링합니다.
+     * 벽돌 하나를 종류, 위치, 색상, 점수, 종류별 상태 순서로 기록합니다.
      */
-    private void renderExplosion(GraphicsContext gc, Exploding.ExplosionEffect explosion) {
-        double opacity = 1.0 - explosion.getProgress();
-        gc.setGlobalAlpha(opacity);
-        gc.setFill(Color.ORANGE);
-        gc.fillOval(
-            explosion.getX() - explosion.getCurrentRadius(),
-            explosion.getY() - explosion.getCurrentRadius(),
-            explosion.getCurrentRadius() * 2,
-            explosion.getCurrentRadius() * 2
-        );
-        gc.setGlobalAlpha(1.0);
+    private void writeBrick(ByteBuffer buffer, Breakable brick) {
+        StaticObject obj = (StaticObject) brick;
+        if (brick instanceof PowerUpBrick) {
+            buffer.put((byte) BRICK_POWER_UP);
+        } else if (brick instanceof SimpleBrick) {
+            buffer.put((byte) BRICK_SIMPLE);
+        } else if (brick instanceof MultiHitBrick) {
+            buffer.put((byte) BRICK_MULTI_HIT);
+        } else if (brick instanceof ExplodingBrick) {
+            buffer.put((byte) BRICK_EXPLODING);
+        } else {
+            throw new IllegalStateException("스냅숏에 기록할 수 없는 벽돌입니다: " + brick.getClass().getName());
+        }
+        buffer.putDouble(obj.getX());
+        buffer.putDouble(obj.getY());
+        buffer.putDouble(obj.getWidth());
+        buffer.putDouble(obj.getHeight());
+        SnapshotBuffer.putColor(buffer, obj.getColor());
+        buffer.putInt(brick.getPoints());
+        
+        if (brick instanceof MultiHitBrick) {
+            MultiHitBrick multiHit = (MultiHitBrick) brick;
+            SnapshotBuffer.putColor(buffer, multiHit.getOriginalColor());
+            buffer.putInt(multiHit.getMaxHits());
+            buffer.putInt(multiHit.getCurrentHits());
+        } else if (brick instanceof PowerUpBrick) {
+            PowerUpBrick powerUpBrick = (PowerUpBrick) brick;
+            PowerUpProvider.PowerUpType type = powerUpBrick.getSpecificType();
+            buffer.putDouble(powerUpBrick.getPowerUpChance());
+            buffer.put((byte) (type == null ? -1 : type.ordinal()));
+        }
+    }
+    
+    /**
+     * 스냅숏으로 월드 상태를 되돌립니다. update()를 호출하는 스레드에서 호출해야 합니다.
+     * 파티클은 비우고, 정적 레이어는 다음 렌더링 때 전부 다시 그립니다.
+     * @throws IllegalArgumentException 월드 크기가 다른 스냅숏인 경우
+     */
+    @Override
+    public void readSnapshot(ByteBuffer buffer, int version) {
+        double snapshotWidth = buffer.getDouble();
+        double snapshotHeight = buffer.getDouble();
+        if (snapshotWidth != width || snapshotHeight != height) {
+            throw new IllegalArgumentException("월드 크기가 다른 스냅숏입니다: " + snapshotWidth + "x" + snapshotHeight);
+        }
+        score = buffer.getInt();
+        lives = buffer.getInt();
+        level = buffer.getInt();
+        random.setState(buffer.getLong());
+        
+        // 패들
+        paddle.setPosition(buffer.getDouble(), buffer.getDouble());
+        double paddleWidth = buffer.getDouble();
+        int paddleFlags = buffer.get();
+        paddle.restorePowerUps(paddleWidth, (paddleFlags & 1) != 0, (paddleFlags & 2) != 0, buffer.getDouble());
+        
+        // 공
+        int ballCount = buffer.getInt();
+        balls.clear();
+        for (int i = 0; i < ballCount; i++) {
+            BreakoutBall ball = new BreakoutBall(0, 0);
+            ball.setPosition(buffer.getDouble(), buffer.getDouble());
+            ball.setVelocity(buffer.getDouble(), buffer.getDouble());
+            ball.setSpeedMultiplier(buffer.getDouble());
+            ball.setSticky(buffer.get() != 0);
+            balls.add(ball);
+        }
+        
+        // 벽돌
+        int brickCount = buffer.getInt();
+        // 스프라이트는 미리 등록하지 않아도 처음 그릴 때 만들어지므로 prepare()를 부르지 않습니다.
+        bricks.clear();
+        Color lastColor = null;
+        for (int i = 0; i < brickCount; i++) {
+            Breakable brick = readBrick(buffer, lastColor);
+            bricks.add(brick);
+            lastColor = ((StaticObject) brick).getColor();
+        }
+        
+        // 떨어지는 파워업
+        PowerUpProvider.PowerUpType[] types = PowerUpProvider.PowerUpType.values();
+        int powerUpCount = buffer.getInt();
+        powerUps.clear();
+        for (int i = 0; i < powerUpCount; i++) {
+            double x = buffer.getDouble();
+            double y = buffer.getDouble();
+            double vx = buffer.getDouble();
+            double vy = buffer.getDouble();
+            PowerUp powerUp = new PowerUp(0, 0, types[buffer.get()]);
+            powerUp.setPosition(x, y);
+            powerUp.setVelocity(vx, vy);
+            powerUps.add(powerUp);
+        }
+        
+        // 진행 중인 폭발
+        int explosionCount = buffer.getInt();
+        explosions.clear();
+        for (int i = 0; i < explosionCount; i++) {
+            Exploding.ExplosionEffect explosion = new Exploding.ExplosionEffect(
+                buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+            explosion.update(buffer.getDouble());
+            explosions.add(explosion);
+        }
+        
+        particles.clear();
+        if (brickLayer != null) {
+            brickLayer.invalidateAll();
+        }
+        
+        // 다음 레벨은 레벨 번호만으로 정해지므로, 복원한 레벨의 다음 레벨을 이미 준비 중이면 그대로 씁니다.
+        if (!preloader.isPreparing(level + 1)) {
+            prepareNextLevel();
+        }
     }
     
     /**
-     * UI를 렌더링합니다.
+     * writeBrick()으로 기록한 벽돌을 만듭니다.
+     * 같은 줄의 벽돌은 색상이 같으므로 바로 앞 벽돌과 색상이 같으면 그 객체를 함께 씁니다.
      */
-    private void renderUI(GraphicsContext gc) {
-        gc.setFill(Color.WHITE);
-        gc.setFont(javafx.scene.text.Font.font(20));
-        gc.fillText("Score: " + score, WALL_THICKNESS + 10, WALL_THICKNESS + 20);
-        gc.fillText("Lives: " + lives, width / 2 - 40, WALL_THICKNESS + 20);
-        gc.fillText("Level: " + level, width - 100, WALL_THICKNESS + 20);
+    private Breakable readBrick(ByteBuffer buffer, Color lastColor) {
+        int kind = buffer.get();
+        double x = buffer.getDouble();
+        double y = buffer.getDouble();
+        double brickWidth = buffer.getDouble();
+        double brickHeight = buffer.getDouble();
+        Color color = SnapshotBuffer.getColor(buffer, lastColor);
+        int points = buffer.getInt();
+        
+        switch (kind) {
+            case BRICK_MULTI_HIT: {
+                Color originalColor = SnapshotBuffer.getColor(buffer, color);
+                int maxHits = buffer.getInt();
+                int currentHits = buffer.getInt();
+                MultiHitBrick brick = new MultiHitBrick(x, y, brickWidth, brickHeight, originalColor, points, maxHits);
+                if (currentHits < maxHits) {
+                    // 같은 피해를 다시 입혀 색상, 체력바, 숫자를 저장 시점과 맞춥니다.
+                    brick.hit(maxHits - currentHits);
+                }
+                return brick;
+            }
+            case BRICK_POWER_UP: {
+                double chance = buffer.getDouble();
+                int type = buffer.get();
+                PowerUpBrick brick = type < 0
+                    ? new PowerUpBrick(x, y, brickWidth, brickHeight, color, points, chance)
+                    : new PowerUpBrick(x, y, brickWidth, brickHeight, color, points, PowerUpProvider.PowerUpType.values()[type]);
+                brick.setRandom(random);
+                return brick;
+            }
+            case BRICK_EXPLODING:
+                return new ExplodingBrick(x, y, brickWidth, brickHeight, color, points);
+            case BRICK_SIMPLE:
+                return new SimpleBrick(x, y, brickWidth, brickHeight, color, points);
+            default:
+                throw new IllegalArgumentException("알 수 없는 벽돌 종류입니다: " + kind);
+        }
     }
     
     // 입력 처리
+    /**
+     * 한 프레임의 입력을 적용하고 월드를 진행합니다.
+     * 네트워크 플레이에서 서버와 클라이언트 예측(RollbackBuffer)이 같은 입력을 같은 순서로 적용하도록 씁니다.
+     * @param input INPUT_LEFT, INPUT_RIGHT, INPUT_LAUNCH를 OR한 값
+     * @param deltaTime 고정된 프레임 시간
+     */
+    public void step(int input, double deltaTime) {
+        if ((input & INPUT_LEFT) != 0) {
+            movePaddleLeft(deltaTime);
+        }
+        if ((input & INPUT_RIGHT) != 0) {
+            movePaddleRight(deltaTime);
+        }
+        if ((input & INPUT_LAUNCH) != 0) {
+            launchBall();
+        }
+        update(deltaTime);
+    }
+    
     public void movePaddleLeft(double deltaTime) {
         paddle.moveLeft(deltaTime);
         paddle.constrainToBounds(WALL_THICKNESS, width - WALL_THICKNESS);
@@ -477,8 +1275,17 @@ public class BreakoutWorld {
     
     // Getters
     public int getScore() { return score; }
+    public FrameProfiler getProfiler() { return profiler; }
+    public AllocationTelemetry getTelemetry() { return telemetry; }
+    public WorldMetrics getMetrics() { return metrics; }
     public int getLives() { return lives; }
     public int getLevel() { return level; }
+    public List<BreakoutBall> getBalls() { return balls; }
+    public BreakoutPaddle getPaddle() { return paddle; }
+    public List<Breakable> getBricks() { return bricks; }
+    public int getLevelWaitCount() { return levelWaitCount; }
+    public long getLastLevelWaitNanos() { return lastLevelWaitNanos; }
+    public int getParticleCount() { return particles.size(); }
     public boolean isGameOver() { return lives <= 0; }
-    public boolean hasWon() { return level > 10; }
+    public boolean hasWon() { return level > Math.max(BreakoutLevels.BUILTIN_LEVELS, levelPack != null ? levelPack.getLastLevel() : 0); }
 }
\ No newline at end of file
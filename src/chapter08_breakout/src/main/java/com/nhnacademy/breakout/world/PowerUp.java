@@ -2,6 +2,10 @@ package com.nhnacademy.breakout.world;
 
 import com.nhnacademy.game.entity.Ball;
 import com.nhnacademy.game.behavior.PowerUpProvider;
+import com.nhnacademy.game.graphics.Fonts;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.SpriteKey;
+import com.nhnacademy.game.graphics.Sprited;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
@@ -9,10 +13,11 @@ import javafx.scene.paint.Color;
  * 파워업 아이템
  * Ball을 상속받아 떨어지는 파워업을 구현합니다.
  */
-public class PowerUp extends Ball {
+public class PowerUp extends Ball implements Sprited {
     private PowerUpProvider.PowerUpType type;
     private static final double RADIUS = 15;
     private static final double FALL_SPEED = 100;
+    private SpriteKey spriteKey;
     
     public PowerUp(double x, double y, PowerUpProvider.PowerUpType type) {
         super(x, y, RADIUS, getColorForType(type));
@@ -48,7 +53,7 @@ public class PowerUp extends Ball {
         
         // 파워업 아이콘
         gc.setFill(Color.WHITE);
-        gc.setFont(javafx.scene.text.Font.font(12));
+        gc.setFont(Fonts.of(12));
         String icon = getIconForType(type);
         gc.fillText(icon, getCenterX() - 8, getCenterY() + 4);
         
@@ -58,6 +63,34 @@ public class PowerUp extends Ball {
         gc.strokeOval(getX(), getY(), getWidth(), getHeight());
     }
     
+    @Override
+    public SpriteKey getSpriteKey() {
+        if (spriteKey == null) {
+            PowerUp sprite = new PowerUp(0, 0, type);
+            spriteKey = new SpriteKey("PowerUp", getColorForType(type), type.ordinal(), RADIUS * 2, RADIUS * 2, sprite);
+        }
+        return spriteKey;
+    }
+    
+    @Override
+    public void enqueue(RenderQueue queue) {
+        if (queue.hasSpriteAtlas()) {
+            queue.sprite(RenderQueue.LAYER_BODY, this, getX(), getY());
+            return;
+        }
+        
+        super.enqueue(queue);
+        
+        // 파워업 아이콘
+        queue.fillText(RenderQueue.LAYER_DETAIL, Color.WHITE, Fonts.of(12), getIconForType(type),
+                       getCenterX() - 8, getCenterY() + 4);
+        
+        // 테두리
+        queue.setLineWidth(2);
+        queue.strokeOval(RenderQueue.LAYER_DECORATION, Color.WHITE, getX(), getY(), getWidth(), getHeight());
+        queue.setLineWidth(1);
+    }
+    
     /**
      * 파워업 타입에 따른 아이콘을 반환합니다.
      */
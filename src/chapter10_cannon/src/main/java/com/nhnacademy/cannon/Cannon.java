@@ -1,12 +1,14 @@
 package com.nhnacademy.cannon;
 
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.Renderable;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
 /**
  * 대포 클래스
  */
-public class Cannon {
+public class Cannon implements Renderable {
     private double x, y;
     private double angle;
     private ProjectileType currentType = ProjectileType.STANDARD;
@@ -53,6 +55,7 @@ public class Cannon {
      * 대포를 화면에 그립니다.
      * @param gc GraphicsContext
      */
+    @Override
     public void draw(GraphicsContext gc) {
         // 대포 받침대
         gc.setFill(Color.DARKGRAY);
@@ -72,10 +75,28 @@ public class Cannon {
         gc.fillOval(x + 5, y + 5, 20, 20);
     }
     
+    @Override
+    public void enqueue(RenderQueue queue) {
+        // 대포 받침대
+        queue.fillRect(RenderQueue.LAYER_BODY, Color.DARKGRAY, x - 30, y - 10, 60, 20);
+        
+        // 대포 포신 (회전된 사각형을 굵은 선으로 그립니다. 선 끝은 굵기의 절반만큼 늘어납니다)
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        queue.setLineWidth(10);
+        queue.strokeLine(RenderQueue.LAYER_DETAIL, Color.BLACK, x + cos * 5, y + sin * 5, x + cos * 45, y + sin * 45);
+        queue.setLineWidth(1);
+        
+        // 바퀴
+        queue.fillOval(RenderQueue.LAYER_DECORATION, Color.BLACK, x - 25, y + 5, 20, 20);
+        queue.fillOval(RenderQueue.LAYER_DECORATION, Color.BLACK, x + 5, y + 5, 20, 20);
+    }
+    
     // Getters and Setters
     public double getX() { return x; }
     public double getY() { return y; }
     public double getAngle() { return angle; }
+    public void setAngle(double angle) { this.angle = angle; }
     
     public ProjectileType getProjectileType() {
         return currentType;
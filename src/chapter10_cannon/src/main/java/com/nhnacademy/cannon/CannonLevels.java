@@ -0,0 +1,98 @@
+package com.nhnacademy.cannon;
+
+import com.nhnacademy.game.level.LevelCompiler;
+import com.nhnacademy.game.level.LevelRecords;
+import com.nhnacademy.game.level.LevelSchema;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * 대포 게임 레벨 정의
+ * 클래식 모드와 퍼즐 모드의 표적 배치를 레벨 파일로 바꿀 수 있도록 스키마와 내장 배치를 담습니다.
+ * 타임 어택과 서바이벌 모드는 매번 무작위로 만들므로 레벨 파일을 쓰지 않습니다.
+ *
+ * 표적 종류: static, moving, flying, armored, special (TargetType 순서)
+ * 속성: vx, vy (초기 속도, ~를 붙이면 (난수 - 0.5) * 값)
+ * 표적 색상은 종류가 정하므로 색상 칸은 -로 둡니다.
+ *
+ * 사용 예:
+ *   java -cp ... com.nhnacademy.cannon.CannonLevels export cannon.lvl
+ *   java -cp ... com.nhnacademy.cannon.CannonLevels compile cannon.lvlpack cannon.lvl
+ */
+public final class CannonLevels {
+    /** 클래식 모드가 쓰는 레벨 번호 */
+    public static final int CLASSIC = 1;
+    /** 퍼즐 모드가 쓰는 레벨 번호 */
+    public static final int PUZZLE = 2;
+    
+    public static final LevelSchema SCHEMA = new LevelSchema(0x434E4F4E, kindNames(), null, "vx", "vy");
+    
+    // 내보내기에 쓰는 기본 월드 높이
+    private static final double DEFAULT_HEIGHT = 700;
+    
+    private CannonLevels() {
+    }
+    
+    private static String[] kindNames() {
+        TargetType[] types = TargetType.values();
+        String[] names = new String[types.length];
+        for (int i = 0; i < types.length; i++) {
+            names[i] = types[i].name().toLowerCase(Locale.ROOT);
+        }
+        return names;
+    }
+    
+    /**
+     * 내장 배치로 레벨의 표적을 채웁니다.
+     * @param level CLASSIC 또는 PUZZLE
+     * @param worldHeight 월드 높이 (지면 기준 배치에 씁니다)
+     * @param out 표적 레코드를 담을 저장소 (비우고 채웁니다)
+     * @throws IllegalArgumentException 내장 배치가 없는 레벨인 경우
+     */
+    public static void createBuiltin(int level, double worldHeight, LevelRecords out) {
+        out.clear();
+        switch (level) {
+            case CLASSIC: {
+                // 정적 표적
+                for (int i = 0; i < 5; i++) {
+                    out.add(TargetType.STATIC.ordinal(), 0, 600 + i * 80, worldHeight - 150, 30, 60, 100);
+                }
+                // 좌우로 움직이는 표적 (속도는 시작할 때마다 무작위)
+                for (int i = 0; i < 3; i++) {
+                    int target = out.add(TargetType.MOVING.ordinal(), 0, 700 + i * 100, 300 + i * 50, 40, 40, 150);
+                    out.setAttribute(target, 0, 100, true);
+                }
+                // 위로 나는 표적
+                int flying = out.add(TargetType.FLYING.ordinal(), 0, 800, 200, 50, 30, 200);
+                out.setAttribute(flying, 1, -50, false);
+                break;
+            }
+            case PUZZLE: {
+                // 탑 구조
+                for (int i = 0; i < 3; i++) {
+                    for (int j = 0; j < 3 - i; j++) {
+                        out.add(TargetType.STATIC.ordinal(), 0, 700 + j * 40 + i * 20, worldHeight - 100 - i * 40,
+                                35, 35, 50);
+                    }
+                }
+                // 보호받는 특별 표적
+                out.add(TargetType.SPECIAL.ordinal(), 0, 800, worldHeight - 200, 50, 50, 500);
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("내장 배치가 없는 레벨입니다: " + level);
+        }
+    }
+    
+    /**
+     * 내장 배치를 레벨 정의 파일로 내보내거나, 레벨 정의 파일을 레벨 팩으로 컴파일합니다.
+     */
+    public static void main(String[] args) throws IOException {
+        LevelCompiler.run(SCHEMA, level -> {
+            LevelRecords records = new LevelRecords(16);
+            createBuiltin(level, DEFAULT_HEIGHT, records);
+            return records;
+        }, PUZZLE, args);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,1239 @@
+package com.nhnacademy.cannon;
+
+import com.nhnacademy.game.physics.*;
+import com.nhnacademy.game.collision.*;
+import com.nhnacademy.game.core.GameObject;
+import com.nhnacademy.game.core.GameRandom;
+import com.nhnacademy.game.core.GameWorld;
+import com.nhnacademy.game.diagnostics.AllocationTelemetry;
+import com.nhnacademy.game.diagnostics.CollisionBatchEvent;
+import com.nhnacademy.game.diagnostics.EventGate;
+import com.nhnacademy.game.diagnostics.ExplosionEvent;
+import com.nhnacademy.game.diagnostics.FrameEvent;
+import com.nhnacademy.game.diagnostics.FrameProfiler;
+import com.nhnacademy.game.diagnostics.LevelLoadEvent;
+import com.nhnacademy.game.graphics.DetailController;
+import com.nhnacademy.game.graphics.Fonts;
+import com.nhnacademy.game.graphics.HudLabel;
+import com.nhnacademy.game.graphics.PixelLayer;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.SpriteAtlas;
+import com.nhnacademy.game.level.LevelPack;
+import com.nhnacademy.game.level.LevelPreloader;
+import com.nhnacademy.game.level.LevelRecords;
+import com.nhnacademy.game.metrics.MetricsSnapshot;
+import com.nhnacademy.game.metrics.WorldMetrics;
+import com.nhnacademy.game.particle.ParticleSystem;
+import com.nhnacademy.game.replay.Replayable;
+import com.nhnacademy.game.score.GameResult;
+import com.nhnacademy.game.score.ScoreStore;
+import com.nhnacademy.game.snapshot.Snapshottable;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 대포 게임 월드
+ * 게임 상태와 규칙을 담당하며, 화면 그리기는 렌더 큐에 기록하는 것으로 대신합니다.
+ * update()와 record(), 입력 메서드는 모두 같은 스레드(시뮬레이션 스레드)에서 호출해야 합니다.
+ * 상태는 SnapshotBuffer로 저장하고 되돌릴 수 있으며, 이것도 같은 스레드에서 호출해야 합니다.
+ * ReplayWriter로 기록할 때도 마찬가지로 시뮬레이션 스레드에서 프레임을 기록합니다.
+ */
+public class CannonWorld implements GameWorld, Snapshottable, Replayable {
+    /** 발사할 수 있는 가장 큰 힘 */
+    public static final double MAX_POWER = 500;
+    
+    private static final Color GROUND_COLOR = Color.GREEN.darker();
+    private static final Color PANEL_COLOR = Color.rgb(0, 0, 0, 0.7);
+    private static final Color DIM_COLOR = Color.rgb(0, 0, 0, 0.5);
+    private static final int LEADERBOARD_SIZE = 5;
+    private static final int MAX_PARTICLES = 50_000;
+    
+    // 프로파일러 단계와 카운터
+    private static final int PHASE_PARTICLES = 0;
+    private static final int PHASE_PROJECTILES = 1;
+    private static final int PHASE_TARGETS = 2;
+    private static final int PHASE_CONDITIONS = 3;
+    private static final int PHASE_RECORD = 4;
+    private static final int COUNTER_OBJECTS = 0;
+    private static final int COUNTER_PAIR_TESTS = 1;
+    private static final int COUNTER_PARTICLES = 2;
+    private static final int TELEMETRY_HISTORY = 240;
+    private static final String WORLD_NAME = "cannon";
+    
+    // 스냅숏 종류("CNON")와 본문 형식 버전
+    private static final int SNAPSHOT_KIND = 0x434E4F4E;
+    // 2: 다음 서바이벌 웨이브의 시드 추가, 3: 플레이 시간과 판의 시드 추가
+    private static final int SNAPSHOT_VERSION = 3;
+    private static final int EFFECT_GRAVITY = 0;
+    private static final int EFFECT_WIND = 1;
+    
+    private final double width;
+    private final double height;
+    
+    // 발사체가 살아 있는 영역과 표적이 움직이는 영역 (크기가 바뀌지 않으므로 한 번만 만듭니다)
+    private final Bounds gameBounds;
+    private final Bounds targetBounds;
+    
+    // 틱마다 비우고 다시 쓰는 목록 (정상 상태 틱에서 할당하지 않도록)
+    private final List<Projectile> projectilesToRemove = new ArrayList<>();
+    private final List<Projectile> projectilesToAdd = new ArrayList<>();
+    private final List<Target> destroyedTargets = new ArrayList<>();
+    
+    private Cannon cannon;
+    private List<Projectile> projectiles;
+    private List<Target> targets;
+    private List<Effect> effects;
+    private final GameRandom random = new GameRandom();
+    
+    // 명중 파편과 파괴 불꽃
+    private final ParticleSystem particles;
+    
+    // 스프라이트를 미리 그려 둘 아틀라스 (없으면 null)
+    private SpriteAtlas spriteAtlas;
+    
+    // 부하에 따른 세부 수준 (프레임 시간은 그리는 스레드가 알려 줍니다)
+    private final DetailController detailController = new DetailController(150, 20_000_000L);
+    private volatile long lastFrameNanos = 0;
+    
+    // 단계별 시간 측정 (-Dgame.profiler=true일 때만 동작, 시뮬레이션 스레드에서만 사용)
+    private final FrameProfiler profiler = new FrameProfiler(
+        new String[] {"particles", "projectiles", "targets", "conditions", "record"},
+        new String[] {"objects", "pairTests", "particles"});
+    
+    // 틱별 할당량과 GC 측정 (켜져 있을 때만 생성, 시뮬레이션 스레드에서만 사용)
+    private AllocationTelemetry telemetry;
+    
+    // JMX와 HTTP로 내보내는 실시간 지표 (1초마다 스냅숏을 만들어 내놓습니다)
+    private final WorldMetrics metrics = new WorldMetrics(WORLD_NAME, this::sampleMetrics);
+    
+    // 값이 바뀔 때만 새로 만드는 HUD 문자열
+    private final HudLabel scoreLabel = new HudLabel("Score: ");
+    private final HudLabel ammoLabel = new HudLabel("Ammo: ");
+    private final HudLabel modeLabel = new HudLabel("Mode: ");
+    private final HudLabel waveLabel = new HudLabel("Wave: ");
+    private final HudLabel windLabel = new HudLabel("Wind: ");
+    private final HudLabel typeLabel = new HudLabel("Type: ");
+    
+    // 클래식/퍼즐 모드의 표적 배치를 읽을 레벨 팩 (없으면 내장 배치)과 재사용하는 레코드 저장소
+    private LevelPack levelPack;
+    private final LevelRecords levelRecords = new LevelRecords(16);
+    
+    // 다음 서바이벌 웨이브를 백그라운드에서 미리 만드는 준비기와, 그 웨이브를 만들 난수 시드
+    // 웨이브는 번호와 시드만으로 정해지므로 언제 준비를 마치든 같은 표적이 나옵니다.
+    private final LevelPreloader<List<Target>> preloader = new LevelPreloader<>();
+    private long nextWaveSeed;
+    
+    // 끝난 판의 결과를 쌓는 점수 저장소와, 게임 오버 화면에 보여 줄 모드별 상위 기록
+    // 조회는 저장 스레드에서 끝나므로 record()는 완료됐을 때만 한 번 문자열로 바꿉니다.
+    private ScoreStore scoreStore;
+    private GameResult lastResult;
+    private CompletableFuture<List<GameResult>> leaderboard;
+    private String[] leaderboardLines;
+    private int leaderboardOwnLine = -1;
+    private double playTime = 0;
+    private long gameSeed;
+    
+    private int score = 0;
+    private int ammo = 50;
+    private GameMode gameMode = GameMode.CLASSIC;
+    private GameState gameState = GameState.MENU;
+    private int wave = 1;
+    private double windForce = 0;
+    private double gravity = 300;
+    
+    public CannonWorld(double width, double height) {
+        this(width, height, MAX_PARTICLES);
+    }
+    
+    /**
+     * 파티클 용량을 정해 월드를 만듭니다. 화면 없이 돌리는 세션(SessionHost)은 용량을 작게 잡습니다.
+     * @param maxParticles 파티클 용량 (넘치는 파티클은 버립니다)
+     */
+    public CannonWorld(double width, double height, int maxParticles) {
+        this.width = width;
+        this.height = height;
+        this.projectiles = new ArrayList<>();
+        this.targets = new ArrayList<>();
+        this.effects = new ArrayList<>();
+        this.gameBounds = new Bounds(-100, -100, width + 200, height + 200);
+        this.targetBounds = new Bounds(0, 0, width, height - 50);
+        this.particles = new ParticleSystem(maxParticles);
+        particles.setDrag(0.8);
+    }
+    
+    /**
+     * 레벨 팩을 지정합니다. 이후 시작하는 클래식/퍼즐 게임은 팩에 있는 배치를 씁니다.
+     * @param levelPack 레벨 팩, 내장 배치만 쓰려면 null
+     */
+    public void setLevelPack(LevelPack levelPack) {
+        this.levelPack = levelPack;
+        if (levelPack != null) {
+            levelRecords.ensureCapacity(levelPack.getMaxEntities());
+        }
+    }
+    
+    /**
+     * 선택한 모드로 새 게임을 시작합니다.
+     * @param mode 게임 모드
+     */
+    public void startGame(GameMode mode) {
+        gameMode = mode;
+        score = 0;
+        initGame();
+    }
+    
+    /**
+     * 정해진 시드로 새 게임을 시작합니다. 같은 모드와 시드로 시작한 월드는 같은 표적과 바람으로 시작하므로,
+     * 네트워크 대전에서 모든 플레이어가 같은 판을 겨룹니다.
+     * @param mode 게임 모드
+     * @param seed 난수 시드
+     */
+    public void startGame(GameMode mode, long seed) {
+        random.setState(seed);
+        startGame(mode);
+    }
+    
+    private void initGame() {
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        
+        cannon = new Cannon(100, height - 100);
+        projectiles = new ArrayList<>();
+        targets = new ArrayList<>();
+        effects = new ArrayList<>();
+        preloader.cancel();
+        
+        // 판마다 시드를 새로 정해 결과와 함께 저장합니다.
+        gameSeed = random.nextLong();
+        random.setState(gameSeed);
+        playTime = 0;
+        lastResult = null;
+        leaderboard = null;
+        leaderboardLines = null;
+        
+        // Reset game values based on mode
+        switch (gameMode) {
+            case CLASSIC:
+                ammo = 50;
+                createClassicTargets();
+                break;
+            case TIME_ATTACK:
+                ammo = 999;
+                createTimeAttackTargets();
+                break;
+            case SURVIVAL:
+                ammo = 30;
+                wave = 1;
+                targets = createSurvivalWave(wave, random.nextLong());
+                nextWaveSeed = random.nextLong();
+                prepareNextWave();
+                break;
+            case PUZZLE:
+                ammo = 10;
+                createPuzzleTargets();
+                break;
+        }
+        prepareTargetSprites();
+        
+        // Random wind
+        windForce = (random.nextDouble() - 0.5) * 100;
+        
+        // Add gravity effect
+        GravityEffect gravityEffect = new GravityEffect(0, 0, width, height, gravity);
+        effects.add(gravityEffect);
+        particles.clear();
+        particles.setGravity(gravityEffect);
+        if (Math.abs(windForce) > 0) {
+            effects.add(new WindEffect(0, 0, width, height, windForce, 0));
+        }
+        
+        gameState = GameState.PLAYING;
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.world = WORLD_NAME;
+            event.level = wave;
+            event.entities = targets.size();
+            event.commit();
+        }
+    }
+    
+    private void createClassicTargets() {
+        loadTargets(CannonLevels.CLASSIC);
+    }
+    
+    /**
+     * 레벨 팩에 레벨이 있으면 팩에서, 없으면 내장 배치로 표적 레코드를 채운 뒤 표적을 만듭니다.
+     * 무작위 표시가 있는 속도는 여기서 난수로 정합니다.
+     */
+    private void loadTargets(int level) {
+        if (levelPack != null && levelPack.contains(level)) {
+            levelPack.read(level, levelRecords);
+        } else {
+            CannonLevels.createBuiltin(level, height, levelRecords);
+        }
+        TargetType[] types = TargetType.values();
+        for (int i = 0; i < levelRecords.size(); i++) {
+            Target target = new Target(levelRecords.getX(i), levelRecords.getY(i), levelRecords.getWidth(i),
+                                       levelRecords.getHeight(i), types[levelRecords.getKind(i)],
+                                       levelRecords.getPoints(i));
+            double vx = levelRecords.getAttribute(i, 0);
+            double vy = levelRecords.getAttribute(i, 1);
+            if (levelRecords.isRandom(i, 0)) {
+                vx *= random.nextDouble() - 0.5;
+            }
+            if (levelRecords.isRandom(i, 1)) {
+                vy *= random.nextDouble() - 0.5;
+            }
+            if (vx != 0 || vy != 0) {
+                target.setVelocity(vx, vy);
+            }
+            targets.add(target);
+        }
+    }
+    
+    private void createTimeAttackTargets() {
+        // Continuously spawn targets
+        for (int i = 0; i < 10; i++) {
+            double x = 400 + random.nextDouble() * 500;
+            double y = 100 + random.nextDouble() * 400;
+            TargetType type = TargetType.values()[random.nextInt(TargetType.values().length)];
+            Target target = new Target(x, y, 30 + random.nextInt(30), 30 + random.nextInt(30), type, 50 + type.ordinal() * 50);
+            
+            if (type == TargetType.MOVING) {
+                target.setVelocity((random.nextDouble() - 0.5) * 150, 0);
+            } else if (type == TargetType.FLYING) {
+                target.setVelocity((random.nextDouble() - 0.5) * 100, (random.nextDouble() - 0.5) * 100);
+            }
+            
+            targets.add(target);
+        }
+    }
+    
+    /**
+     * 서바이벌 웨이브의 표적을 만듭니다. 월드 상태를 쓰지 않으므로 준비 스레드에서도 호출할 수 있습니다.
+     * @param seed 이 웨이브에만 쓰는 난수 시드
+     */
+    private static List<Target> createSurvivalWave(int wave, long seed) {
+        GameRandom random = new GameRandom(seed);
+        int targetCount = 5 + wave * 2;
+        List<Target> targets = new ArrayList<>(targetCount);
+        
+        for (int i = 0; i < targetCount; i++) {
+            double x = 400 + random.nextDouble() * 500;
+            double y = 100 + random.nextDouble() * 400;
+            TargetType type = wave > 3 ? TargetType.ARMORED : 
+                             (random.nextBoolean() ? TargetType.STATIC : TargetType.MOVING);
+            
+            Target target = new Target(x, y, 40, 40, type, 100 * wave);
+            
+            if (type == TargetType.MOVING) {
+                target.setVelocity((random.nextDouble() - 0.5) * 100 * wave, 0);
+            }
+            
+            targets.add(target);
+        }
+        return targets;
+    }
+    
+    /**
+     * 다음 서바이벌 웨이브를 백그라운드에서 만들고 스프라이트까지 등록해 둡니다.
+     */
+    private void prepareNextWave() {
+        int next = wave + 1;
+        long seed = nextWaveSeed;
+        SpriteAtlas atlas = spriteAtlas;
+        preloader.prepare(next, () -> {
+            List<Target> created = createSurvivalWave(next, seed);
+            if (atlas != null) {
+                for (Target target : created) {
+                    atlas.prepare(target);
+                }
+            }
+            return created;
+        });
+    }
+    
+    private void createPuzzleTargets() {
+        loadTargets(CannonLevels.PUZZLE);
+    }
+    
+    /**
+     * 새로 배치된 타겟의 스프라이트를 미리 그려 두도록 등록합니다.
+     */
+    private void prepareTargetSprites() {
+        if (spriteAtlas == null) {
+            return;
+        }
+        for (Target target : targets) {
+            spriteAtlas.prepare(target);
+        }
+    }
+    
+    // 입력 처리
+    
+    /**
+     * 대포를 마우스 위치로 조준합니다.
+     */
+    public void aim(double x, double y) {
+        if (gameState == GameState.PLAYING && cannon != null) {
+            cannon.aim(x, y);
+        }
+    }
+    
+    /**
+     * 마우스 클릭을 처리합니다.
+     * 게임 중에는 발사하고, 메뉴에서는 모드 버튼을 선택합니다.
+     */
+    public void click(double x, double y) {
+        if (gameState == GameState.PLAYING && ammo > 0) {
+            fireProjectile(x, y);
+        } else if (gameState == GameState.MENU) {
+            handleMenuClick(x, y);
+        }
+    }
+    
+    /**
+     * 일시정지/재개하거나, 게임이 끝났으면 메뉴로 돌아갑니다.
+     */
+    public void togglePause() {
+        if (gameState == GameState.PLAYING) {
+            gameState = GameState.PAUSED;
+        } else if (gameState == GameState.PAUSED) {
+            gameState = GameState.PLAYING;
+        } else if (gameState == GameState.GAME_OVER || gameState == GameState.VICTORY) {
+            gameState = GameState.MENU;
+        }
+    }
+    
+    public void returnToMenu() {
+        // 타임 어택은 끝이 없으므로 메뉴로 나갈 때의 점수를 결과로 남깁니다.
+        if (gameMode == GameMode.TIME_ATTACK && (gameState == GameState.PLAYING || gameState == GameState.PAUSED)) {
+            recordResult();
+        }
+        gameState = GameState.MENU;
+    }
+    
+    /**
+     * 대포를 주어진 각도로 조준합니다. 네트워크 입력처럼 마우스 위치 대신 각도가 올 때 씁니다.
+     * @param angle 각도 (라디안)
+     */
+    public void aimAngle(double angle) {
+        if (gameState == GameState.PLAYING && cannon != null) {
+            cannon.setAngle(angle);
+        }
+    }
+    
+    /**
+     * 주어진 각도와 힘으로 발사합니다. 게임 중이고 탄약이 있을 때만 발사합니다.
+     * @param angle 각도 (라디안)
+     * @param power 힘 (0~MAX_POWER, 벗어나면 잘라 냅니다)
+     */
+    public void fire(double angle, double power) {
+        if (gameState == GameState.PLAYING && cannon != null && ammo > 0) {
+            cannon.setAngle(angle);
+            launch(angle, Math.max(0, Math.min(power, MAX_POWER)));
+        }
+    }
+    
+    public void selectProjectileType(ProjectileType type) {
+        if (gameState == GameState.PLAYING && cannon != null) {
+            cannon.setProjectileType(type);
+        }
+    }
+    
+    private void fireProjectile(double targetX, double targetY) {
+        if (cannon != null && ammo > 0) {
+            double angle = Math.atan2(targetY - cannon.getY(), targetX - cannon.getX());
+            double power = Math.min(Math.sqrt(Math.pow(targetX - cannon.getX(), 2) + 
+                                              Math.pow(targetY - cannon.getY(), 2)), MAX_POWER);
+            launch(angle, power);
+        }
+    }
+    
+    private void launch(double angle, double power) {
+        Projectile projectile = cannon.fire(angle, power);
+        projectiles.add(projectile);
+        ammo--;
+        
+        // Special projectile effects
+        if (projectile.getType() == ProjectileType.SPLIT) {
+            // Schedule split after 1 second
+            projectile.setSplitTime(1.0);
+        }
+    }
+    
+    private void handleMenuClick(double x, double y) {
+        // Check which button was clicked
+        for (int i = 0; i < 4; i++) {
+            if (x >= width / 2 - 100 && x <= width / 2 + 100 &&
+                y >= 300 + i * 60 && y <= 350 + i * 60) {
+                startGame(GameMode.values()[i]);
+                break;
+            }
+        }
+    }
+    
+    @Override
+    public void update(double deltaTime) {
+        long updateStart = System.nanoTime();
+        if (gameState != GameState.PLAYING) {
+            metrics.recordUpdate(System.nanoTime() - updateStart);
+            return;
+        }
+        playTime += deltaTime;
+        
+        if (telemetry != null) {
+            telemetry.beginFrame();
+        }
+        profiler.beginFrame();
+        FrameEvent frameEvent = EventGate.FRAME.isEnabled() ? new FrameEvent() : null;
+        if (frameEvent != null) {
+            frameEvent.begin();
+        }
+        
+        profiler.begin(PHASE_PARTICLES);
+        particles.update(deltaTime);
+        profiler.end(PHASE_PARTICLES);
+        
+        // Update projectiles
+        profiler.begin(PHASE_PROJECTILES);
+        projectilesToRemove.clear();
+        projectilesToAdd.clear();
+        CollisionBatchEvent collisionEvent = EventGate.COLLISION_BATCH.isEnabled() ? new CollisionBatchEvent() : null;
+        if (collisionEvent != null) {
+            collisionEvent.begin();
+        }
+        int pairTests = 0;
+        int hits = 0;
+        
+        for (int p = 0; p < projectiles.size(); p++) {
+            Projectile projectile = projectiles.get(p);
+            projectile.update(deltaTime);
+            
+            // Apply effects
+            for (int e = 0; e < effects.size(); e++) {
+                effects.get(e).apply(projectile, deltaTime);
+            }
+            
+            // Check boundaries
+            if (!projectile.isInBounds(gameBounds)) {
+                projectilesToRemove.add(projectile);
+                continue;
+            }
+            
+            // Handle split projectiles
+            if (projectile.getType() == ProjectileType.SPLIT && projectile.shouldSplit(deltaTime)) {
+                projectilesToRemove.add(projectile);
+                // Create 3 smaller projectiles
+                for (int i = -1; i <= 1; i++) {
+                    Projectile split = new Projectile(projectile.getCenterX(), projectile.getCenterY(), 
+                                                     projectile.getRadius() / 2, ProjectileType.STANDARD);
+                    double angle = Math.atan2(projectile.getVelocityY(), projectile.getVelocityX()) + i * 0.3;
+                    double speed = Math.sqrt(projectile.getVelocityX() * projectile.getVelocityX() + 
+                                           projectile.getVelocityY() * projectile.getVelocityY()) * 0.7;
+                    split.setVelocity(Math.cos(angle) * speed, Math.sin(angle) * speed);
+                    projectilesToAdd.add(split);
+                }
+            }
+            
+            // Check collisions with targets
+            for (int t = 0; t < targets.size(); t++) {
+                Target target = targets.get(t);
+                pairTests++;
+                if (projectile.collidesWith(target)) {
+                    hits++;
+                    
+                    // Handle collision
+                    target.handleCollision(projectile);
+                    particles.burst(projectile.getCenterX(), projectile.getCenterY(), 40, 40, 220, 0.6, 2, target.getColor());
+                    
+                    // Handle different projectile types
+                    switch (projectile.getType()) {
+                        case EXPLOSIVE:
+                            // Damage nearby targets
+                            ExplosionEvent explosionEvent = new ExplosionEvent();
+                            explosionEvent.begin();
+                            int affected = 0;
+                            for (Target other : targets) {
+                                if (other != target) {
+                                    double dist = Math.sqrt(Math.pow(other.getCenterX() - target.getCenterX(), 2) + 
+                                                          Math.pow(other.getCenterY() - target.getCenterY(), 2));
+                                    if (dist < 100) {
+                                        other.takeDamage(50);
+                                        affected++;
+                                    }
+                                }
+                            }
+                            explosionEvent.end();
+                            if (explosionEvent.shouldCommit()) {
+                                explosionEvent.world = WORLD_NAME;
+                                explosionEvent.x = target.getCenterX();
+                                explosionEvent.y = target.getCenterY();
+                                explosionEvent.candidates = targets.size() - 1;
+                                explosionEvent.affected = affected;
+                                explosionEvent.commit();
+                            }
+                            break;
+                        case PIERCING:
+                            // Continue through target - don't remove projectile
+                            continue;
+                        default:
+                            break;
+                    }
+                    
+                    if (!projectile.getType().equals(ProjectileType.PIERCING)) {
+                        projectilesToRemove.add(projectile);
+                    }
+                    break;
+                }
+            }
+        }
+        
+        if (!projectilesToRemove.isEmpty()) {
+            projectiles.removeAll(projectilesToRemove);
+        }
+        if (!projectilesToAdd.isEmpty()) {
+            projectiles.addAll(projectilesToAdd);
+        }
+        profiler.end(PHASE_PROJECTILES);
+        if (collisionEvent != null) {
+            collisionEvent.end();
+            if (collisionEvent.shouldCommit()) {
+                collisionEvent.world = WORLD_NAME;
+                collisionEvent.pairTests = pairTests;
+                collisionEvent.hits = hits;
+                collisionEvent.commit();
+            }
+        }
+        
+        // Update targets
+        profiler.begin(PHASE_TARGETS);
+        destroyedTargets.clear();
+        for (int t = 0; t < targets.size(); t++) {
+            Target target = targets.get(t);
+            target.update(deltaTime);
+            
+            // Boundary checks for moving targets
+            if (!target.isInBounds(targetBounds)) {
+                target.handleBoundaryCollision(targetBounds);
+            }
+            
+            if (target.isDestroyed()) {
+                destroyedTargets.add(target);
+                score += target.getPoints();
+                particles.burst(target.getCenterX(), target.getCenterY(), 300, 50, 320, 1.0, 2, target.getColor());
+                particles.burst(target.getCenterX(), target.getCenterY(), 120, 20, 160, 0.7, 3, Color.ORANGE);
+            }
+        }
+        if (!destroyedTargets.isEmpty()) {
+            targets.removeAll(destroyedTargets);
+        }
+        profiler.end(PHASE_TARGETS);
+        
+        // Check game conditions
+        profiler.begin(PHASE_CONDITIONS);
+        checkGameConditions();
+        
+        // Spawn new targets in time attack mode
+        if (gameMode == GameMode.TIME_ATTACK && targets.size() < 5) {
+            createTimeAttackTargets();
+        }
+        profiler.end(PHASE_CONDITIONS);
+        
+        profiler.count(COUNTER_OBJECTS, projectiles.size() + targets.size() + 1);
+        profiler.count(COUNTER_PAIR_TESTS, pairTests);
+        profiler.count(COUNTER_PARTICLES, particles.size());
+        profiler.endFrame();
+        
+        if (frameEvent != null) {
+            frameEvent.end();
+            if (frameEvent.shouldCommit()) {
+                frameEvent.world = WORLD_NAME;
+                frameEvent.level = wave;
+                frameEvent.entities = projectiles.size() + targets.size() + 1;
+                frameEvent.particles = particles.size();
+                frameEvent.commit();
+            }
+        }
+        
+        if (telemetry != null) {
+            telemetry.endFrame();
+        }
+        metrics.recordUpdate(System.nanoTime() - updateStart);
+    }
+    
+    /**
+     * 지표 스냅숏에 객체 수와 풀 사용량을 채웁니다. 시뮬레이션 스레드에서 호출됩니다.
+     */
+    private void sampleMetrics(MetricsSnapshot snapshot) {
+        snapshot.level(wave);
+        snapshot.entity("projectiles", projectiles.size());
+        snapshot.entity("targets", targets.size());
+        snapshot.entity("effects", effects.size());
+        snapshot.entity("particles", particles.size());
+        snapshot.pool("particles", particles.size(), particles.getCapacity());
+    }
+    
+    /**
+     * 할당량과 GC 측정을 켜거나 끕니다.
+     * 시뮬레이션 스레드에서 호출해야 하며, 그 스레드의 틱별 할당량을 측정합니다.
+     */
+    public void toggleTelemetry() {
+        if (telemetry == null) {
+            telemetry = new AllocationTelemetry(TELEMETRY_HISTORY);
+        } else {
+            telemetry.close();
+            telemetry = null;
+        }
+    }
+    
+    private void checkGameConditions() {
+        switch (gameMode) {
+            case CLASSIC:
+            case PUZZLE:
+                if (targets.isEmpty()) {
+                    endGame(GameState.VICTORY);
+                } else if (ammo == 0 && projectiles.isEmpty()) {
+                    endGame(GameState.GAME_OVER);
+                }
+                break;
+            case SURVIVAL:
+                if (targets.isEmpty()) {
+                    // 다음 웨이브가 아직 준비 중이면 여기서 직접 만듭니다.
+                    // 전환 프레임이 준비 스레드의 속도에 따라 바뀌면 같은 입력으로 같은 결과를 낼 수 없습니다.
+                    LevelLoadEvent event = new LevelLoadEvent();
+                    event.begin();
+                    List<Target> next = preloader.poll(wave + 1);
+                    boolean built = next == null;
+                    if (built) {
+                        preloader.cancel();
+                        next = createSurvivalWave(wave + 1, nextWaveSeed);
+                    }
+                    wave++;
+                    ammo += 10 + wave * 2;
+                    targets = next;
+                    if (built) {
+                        prepareTargetSprites();
+                    }
+                    nextWaveSeed = random.nextLong();
+                    prepareNextWave();
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.world = WORLD_NAME;
+                        event.level = wave;
+                        event.entities = targets.size();
+                        event.commit();
+                    }
+                } else if (ammo == 0 && projectiles.isEmpty()) {
+                    endGame(GameState.GAME_OVER);
+                }
+                break;
+            case TIME_ATTACK:
+                // Time attack continues until player quits
+                break;
+        }
+    }
+    
+    private void endGame(GameState result) {
+        gameState = result;
+        recordResult();
+    }
+    
+    /**
+     * 끝난 판의 결과를 점수 저장소에 넘기고 이 모드의 상위 기록 조회를 함께 걸어 둡니다.
+     * 둘 다 저장 스레드가 처리하므로 기다리지 않습니다.
+     */
+    private void recordResult() {
+        if (scoreStore == null) {
+            return;
+        }
+        int level;
+        switch (gameMode) {
+            case CLASSIC:
+                level = CannonLevels.CLASSIC;
+                break;
+            case PUZZLE:
+                level = CannonLevels.PUZZLE;
+                break;
+            case SURVIVAL:
+                level = wave;
+                break;
+            default:
+                level = 0;
+                break;
+        }
+        lastResult = new GameResult(gameMode.ordinal(), level, score, (int) Math.round(playTime * 1000),
+                                    gameSeed, System.currentTimeMillis());
+        try {
+            scoreStore.append(lastResult);
+            leaderboard = scoreStore.queryTop(gameMode.ordinal(), ScoreStore.ALL_LEVELS, LEADERBOARD_SIZE);
+        } catch (IllegalStateException e) {
+            leaderboard = null;
+        }
+        leaderboardLines = null;
+    }
+    
+    /**
+     * 그리는 스레드가 측정한 프레임 시간을 알려 줍니다.
+     * 다음 record()에서 세부 수준을 정할 때 사용합니다.
+     * @param frameNanos 프레임 시간 (나노초)
+     */
+    public void reportFrameNanos(long frameNanos) {
+        this.lastFrameNanos = frameNanos;
+    }
+    
+    @Override
+    public void record(RenderQueue queue) {
+        if (gameState == GameState.MENU) {
+            recordMenu(queue);
+            return;
+        }
+        
+        profiler.begin(PHASE_RECORD);
+        
+        // Clear screen
+        queue.fillRect(RenderQueue.LAYER_BACKGROUND, Color.SKYBLUE, 0, 0, width, height - 50);
+        
+        // Draw ground
+        queue.fillRect(RenderQueue.LAYER_BACKGROUND, GROUND_COLOR, 0, height - 50, width, 50);
+        
+        // Draw game objects
+        if (cannon != null) cannon.enqueue(queue);
+        
+        // 발사체는 화면 밖에서도 살아 있으므로 보이는 것만 그리고, 부하에 따라 궤적을 줄입니다.
+        queue.setDetailLevel(detailController.update(targets.size() + projectiles.size() + particles.size() / 100, lastFrameNanos));
+        
+        for (int i = 0; i < targets.size(); i++) {
+            queue.submit(targets.get(i));
+        }
+        
+        for (int i = 0; i < projectiles.size(); i++) {
+            queue.submit(projectiles.get(i));
+        }
+        
+        // 파티클은 버퍼마다 가진 픽셀 레이어에 찍어 한 장으로 그립니다.
+        PixelLayer particleLayer = queue.getPixelLayer((int) width, (int) height);
+        particleLayer.clear();
+        if (particles.size() > 0) {
+            particles.rasterize(particleLayer, queue.getDetailLevel().getParticleStride());
+            queue.pixels(RenderQueue.LAYER_DECORATION, particleLayer);
+        }
+        
+        // Draw UI
+        recordUI(queue);
+        
+        // Draw game state overlays
+        if (gameState == GameState.PAUSED) {
+            recordPauseOverlay(queue);
+        } else if (gameState == GameState.GAME_OVER) {
+            recordGameOverOverlay(queue);
+        } else if (gameState == GameState.VICTORY) {
+            recordVictoryOverlay(queue);
+        }
+        
+        profiler.enqueueOverlay(queue, 10, height - 60);
+        if (telemetry != null) {
+            telemetry.enqueueGraph(queue, width - 330, height - 160, 320, 100);
+        }
+        profiler.end(PHASE_RECORD);
+    }
+    
+    private void recordMenu(RenderQueue queue) {
+        queue.fillRect(RenderQueue.LAYER_BACKGROUND, Color.BLACK, 0, 0, width, height);
+        
+        queue.setTextAlign(TextAlignment.CENTER);
+        queue.fillText(RenderQueue.LAYER_LABEL, Color.WHITE, Fonts.of(50), "CANNON GAME", width / 2, 150);
+        queue.fillText(RenderQueue.LAYER_LABEL, Color.WHITE, Fonts.of(30), "Select Game Mode:", width / 2, 250);
+        
+        // Game mode buttons
+        GameMode[] modes = GameMode.values();
+        for (int i = 0; i < modes.length; i++) {
+            queue.fillRect(RenderQueue.LAYER_BODY, Color.DARKGRAY, width / 2 - 100, 300 + i * 60, 200, 50);
+            queue.fillText(RenderQueue.LAYER_LABEL, Color.WHITE, Fonts.of(30), modes[i].getDisplayName(),
+                           width / 2, 330 + i * 60);
+        }
+        
+        queue.fillText(RenderQueue.LAYER_LABEL, Color.WHITE, Fonts.of(20), "Controls: Mouse to aim and shoot",
+                       width / 2, 600);
+        queue.fillText(RenderQueue.LAYER_LABEL, Color.WHITE, Fonts.of(20),
+                       "1-4: Select projectile type | SPACE: Pause | ESC: Menu", width / 2, 630);
+        queue.setTextAlign(TextAlignment.LEFT);
+    }
+    
+    private void recordUI(RenderQueue queue) {
+        // UI Background
+        queue.fillRect(RenderQueue.LAYER_OVERLAY, PANEL_COLOR, 10, 10, 300, 120);
+        
+        queue.fillText(RenderQueue.LAYER_OVERLAY, Color.WHITE, Fonts.of(20), scoreLabel.of(score), 20, 35);
+        queue.fillText(RenderQueue.LAYER_OVERLAY, Color.WHITE, Fonts.of(20), ammoLabel.of(ammo), 20, 60);
+        queue.fillText(RenderQueue.LAYER_OVERLAY, Color.WHITE, Fonts.of(20), modeLabel.of(gameMode), 20, 85);
+        
+        if (gameMode == GameMode.SURVIVAL) {
+            queue.fillText(RenderQueue.LAYER_OVERLAY, Color.WHITE, Fonts.of(20), waveLabel.of(wave), 20, 110);
+        }
+        
+        // Wind indicator
+        queue.fillText(RenderQueue.LAYER_OVERLAY, Color.WHITE, Fonts.of(20),
+                       windLabel.of(windForce, 1), 150, 35);
+        
+        // Projectile type indicator
+        if (cannon != null) {
+            queue.fillText(RenderQueue.LAYER_OVERLAY, Color.WHITE, Fonts.of(20),
+                           typeLabel.of(cannon.getProjectileType()), 150, 60);
+        }
+        
+        // Projectile type legend
+        queue.fillText(RenderQueue.LAYER_OVERLAY, Color.WHITE, Fonts.of(16),
+                       "1: Standard  2: Explosive  3: Piercing  4: Split", width - 350, 30);
+    }
+    
+    private void recordPauseOverlay(RenderQueue queue) {
+        queue.fillRect(RenderQueue.LAYER_SCREEN, DIM_COLOR, 0, 0, width, height);
+        
+        queue.setTextAlign(TextAlignment.CENTER);
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.WHITE, Fonts.of(40), "PAUSED", width / 2, height / 2);
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.WHITE, Fonts.of(20), "Press SPACE to continue",
+                       width / 2, height / 2 + 40);
+        queue.setTextAlign(TextAlignment.LEFT);
+    }
+    
+    private void recordGameOverOverlay(RenderQueue queue) {
+        queue.fillRect(RenderQueue.LAYER_SCREEN, PANEL_COLOR, 0, 0, width, height);
+        
+        queue.setTextAlign(TextAlignment.CENTER);
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.RED, Fonts.of(50), "GAME OVER", width / 2, height / 2);
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.WHITE, Fonts.of(30), "Final Score: " + score,
+                       width / 2, height / 2 + 50);
+        
+        if (gameMode == GameMode.SURVIVAL) {
+            queue.fillText(RenderQueue.LAYER_SCREEN, Color.WHITE, Fonts.of(30), "Waves Survived: " + (wave - 1),
+                           width / 2, height / 2 + 90);
+        }
+        
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.WHITE, Fonts.of(20), "Press SPACE to return to menu",
+                       width / 2, height / 2 + 130);
+        recordLeaderboard(queue);
+        queue.setTextAlign(TextAlignment.LEFT);
+    }
+    
+    private void recordVictoryOverlay(RenderQueue queue) {
+        queue.fillRect(RenderQueue.LAYER_SCREEN, PANEL_COLOR, 0, 0, width, height);
+        
+        queue.setTextAlign(TextAlignment.CENTER);
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.GOLD, Fonts.of(50), "VICTORY!", width / 2, height / 2);
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.WHITE, Fonts.of(30), "Final Score: " + score,
+                       width / 2, height / 2 + 50);
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.WHITE, Fonts.of(30), "Ammo Remaining: " + ammo,
+                       width / 2, height / 2 + 90);
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.WHITE, Fonts.of(20), "Press SPACE to return to menu",
+                       width / 2, height / 2 + 130);
+        recordLeaderboard(queue);
+        queue.setTextAlign(TextAlignment.LEFT);
+    }
+    
+    /**
+     * 이 모드의 상위 기록을 그립니다. 방금 끝난 판이 들어 있으면 금색으로 표시합니다.
+     * 조회가 아직 끝나지 않았으면 아무것도 그리지 않고 다음 프레임에 다시 확인합니다.
+     */
+    private void recordLeaderboard(RenderQueue queue) {
+        if (leaderboard == null) {
+            return;
+        }
+        if (leaderboardLines == null) {
+            if (!leaderboard.isDone()) {
+                return;
+            }
+            List<GameResult> results = leaderboard.isCompletedExceptionally()
+                ? Collections.emptyList() : leaderboard.join();
+            leaderboardLines = new String[results.size()];
+            leaderboardOwnLine = -1;
+            for (int i = 0; i < results.size(); i++) {
+                GameResult result = results.get(i);
+                int seconds = result.getDurationMillis() / 1000;
+                String waveText = gameMode == GameMode.SURVIVAL ? "  Wave " + result.getLevel() : "";
+                leaderboardLines[i] = String.format("%d.  %,d%s  (%d:%02d)", i + 1, result.getScore(), waveText,
+                                                    seconds / 60, seconds % 60);
+                if (result.equals(lastResult)) {
+                    leaderboardOwnLine = i;
+                }
+            }
+        }
+        if (leaderboardLines.length == 0) {
+            return;
+        }
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.WHITE, Fonts.of(24), "Best Scores", width / 2, 110);
+        for (int i = 0; i < leaderboardLines.length; i++) {
+            queue.fillText(RenderQueue.LAYER_SCREEN, i == leaderboardOwnLine ? Color.GOLD : Color.LIGHTGRAY,
+                           Fonts.of(20), leaderboardLines[i], width / 2, 145 + i * 28);
+        }
+    }
+    
+    /**
+     * 리플레이에는 표적과 포탄을 기록합니다. 대포는 게임 객체가 아니므로 각도를 값으로 기록합니다.
+     */
+    @Override
+    public void collectReplayObjects(List<GameObject> out) {
+        out.addAll(targets);
+        out.addAll(projectiles);
+    }
+    
+    /**
+     * 리플레이 값: 점수, 남은 포탄, 웨이브, 게임 상태, 대포 각도
+     * 대포 각도는 1/1000 라디안 단위이고, 대포가 없을 때(메뉴)는 0입니다.
+     */
+    @Override
+    public int getReplayValues(int[] out) {
+        out[0] = score;
+        out[1] = ammo;
+        out[2] = wave;
+        out[3] = gameState.ordinal();
+        out[4] = cannon != null ? (int) Math.round(cannon.getAngle() * 1000) : 0;
+        return 5;
+    }
+    
+    @Override
+    public int getSnapshotKind() {
+        return SNAPSHOT_KIND;
+    }
+    
+    @Override
+    public int getSnapshotVersion() {
+        return SNAPSHOT_VERSION;
+    }
+    
+    /**
+     * 본문 크기의 상한을 계산합니다.
+     * 월드 정보 78, 대포 26, 발사체 49, 표적 57, 효과 최대 49(바람)바이트에
+     * 목록마다 개수 4바이트가 붙습니다.
+     */
+    @Override
+    public int getSnapshotSize() {
+        return 78 + 26 + 12 + projectiles.size() * 49 + targets.size() * 57 + effects.size() * 49;
+    }
+    
+    /**
+     * 월드 상태를 기록합니다.
+     * 파티클과 발사체 궤적은 장식이므로 저장하지 않습니다.
+     */
+    @Override
+    public void writeSnapshot(ByteBuffer buffer) {
+        buffer.putDouble(width);
+        buffer.putDouble(height);
+        buffer.putInt(score);
+        buffer.putInt(ammo);
+        buffer.putInt(wave);
+        buffer.put((byte) gameMode.ordinal());
+        buffer.put((byte) gameState.ordinal());
+        buffer.putDouble(windForce);
+        buffer.putDouble(gravity);
+        buffer.putLong(random.getState());
+        buffer.putLong(nextWaveSeed);
+        buffer.putDouble(playTime);
+        buffer.putLong(gameSeed);
+        
+        // 대포 (메뉴에서 한 번도 시작하지 않았으면 없음)
+        buffer.put((byte) (cannon != null ? 1 : 0));
+        if (cannon != null) {
+            buffer.putDouble(cannon.getX());
+            buffer.putDouble(cannon.getY());
+            buffer.putDouble(cannon.getAngle());
+            buffer.put((byte) cannon.getProjectileType().ordinal());
+        }
+        
+        // 발사체
+        buffer.putInt(projectiles.size());
+        for (int i = 0; i < projectiles.size(); i++) {
+            Projectile projectile = projectiles.get(i);
+            buffer.putDouble(projectile.getX());
+            buffer.putDouble(projectile.getY());
+            buffer.putDouble(projectile.getRadius());
+            buffer.putDouble(projectile.getVelocityX());
+            buffer.putDouble(projectile.getVelocityY());
+            buffer.putDouble(projectile.getSplitTime());
+            buffer.put((byte) projectile.getType().ordinal());
+        }
+        
+        // 표적
+        buffer.putInt(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            Target target = targets.get(i);
+            buffer.putDouble(target.getX());
+            buffer.putDouble(target.getY());
+            buffer.putDouble(target.getWidth());
+            buffer.putDouble(target.getHeight());
+            buffer.putDouble(target.getVelocityX());
+            buffer.putDouble(target.getVelocityY());
+            buffer.put((byte) target.getType().ordinal());
+            buffer.putInt(target.getHealth());
+            buffer.putInt(target.getPoints());
+        }
+        
+        // 중력과 바람 영역
+        buffer.putInt(effects.size());
+        for (int i = 0; i < effects.size(); i++) {
+            Effect effect = effects.get(i);
+            if (effect instanceof GravityEffect) {
+                GravityEffect gravityEffect = (GravityEffect) effect;
+                buffer.put((byte) EFFECT_GRAVITY);
+                buffer.putDouble(gravityEffect.getX());
+                buffer.putDouble(gravityEffect.getY());
+                buffer.putDouble(gravityEffect.getWidth());
+                buffer.putDouble(gravityEffect.getHeight());
+                buffer.putDouble(gravityEffect.getForce());
+            } else if (effect instanceof WindEffect) {
+                WindEffect windEffect = (WindEffect) effect;
+                buffer.put((byte) EFFECT_WIND);
+                buffer.putDouble(windEffect.getX());
+                buffer.putDouble(windEffect.getY());
+                buffer.putDouble(windEffect.getWidth());
+                buffer.putDouble(windEffect.getHeight());
+                buffer.putDouble(windEffect.getForceX());
+                buffer.putDouble(windEffect.getForceY());
+            } else {
+                throw new IllegalStateException("스냅숏에 기록할 수 없는 효과입니다: " + effect.getClass().getName());
+            }
+        }
+    }
+    
+    /**
+     * 스냅숏으로 월드 상태를 되돌립니다.
+     * 파티클은 비우고, 파티클 중력은 첫 번째 중력 영역으로 다시 연결합니다.
+     * 표적 스프라이트는 미리 등록하지 않고 처음 그릴 때 만듭니다.
+     * @throws IllegalArgumentException 월드 크기가 다른 스냅숏인 경우
+     */
+    @Override
+    public void readSnapshot(ByteBuffer buffer, int version) {
+        double snapshotWidth = buffer.getDouble();
+        double snapshotHeight = buffer.getDouble();
+        if (snapshotWidth != width || snapshotHeight != height) {
+            throw new IllegalArgumentException("월드 크기가 다른 스냅숏입니다: " + snapshotWidth + "x" + snapshotHeight);
+        }
+        score = buffer.getInt();
+        ammo = buffer.getInt();
+        wave = buffer.getInt();
+        gameMode = GameMode.values()[buffer.get()];
+        gameState = GameState.values()[buffer.get()];
+        windForce = buffer.getDouble();
+        gravity = buffer.getDouble();
+        random.setState(buffer.getLong());
+        // 버전 1에는 다음 웨이브 시드가 없으므로 서바이벌 게임이면 복원한 난수열에서 새로 뽑습니다.
+        if (version >= 2) {
+            nextWaveSeed = buffer.getLong();
+        } else if (gameMode == GameMode.SURVIVAL) {
+            nextWaveSeed = random.nextLong();
+        }
+        playTime = version >= 3 ? buffer.getDouble() : 0;
+        gameSeed = version >= 3 ? buffer.getLong() : 0;
+        lastResult = null;
+        leaderboard = null;
+        leaderboardLines = null;
+        
+        // 대포
+        if (buffer.get() != 0) {
+            cannon = new Cannon(buffer.getDouble(), buffer.getDouble());
+            cannon.setAngle(buffer.getDouble());
+            cannon.setProjectileType(ProjectileType.values()[buffer.get()]);
+        } else {
+            cannon = null;
+        }
+        
+        // 발사체
+        ProjectileType[] projectileTypes = ProjectileType.values();
+        int projectileCount = buffer.getInt();
+        projectiles.clear();
+        for (int i = 0; i < projectileCount; i++) {
+            double x = buffer.getDouble();
+            double y = buffer.getDouble();
+            double radius = buffer.getDouble();
+            double vx = buffer.getDouble();
+            double vy = buffer.getDouble();
+            double splitTime = buffer.getDouble();
+            Projectile projectile = new Projectile(0, 0, radius, projectileTypes[buffer.get()]);
+            projectile.setPosition(x, y);
+            projectile.setVelocity(vx, vy);
+            projectile.setSplitTime(splitTime);
+            projectiles.add(projectile);
+        }
+        
+        // 표적
+        TargetType[] targetTypes = TargetType.values();
+        int targetCount = buffer.getInt();
+        targets.clear();
+        for (int i = 0; i < targetCount; i++) {
+            double x = buffer.getDouble();
+            double y = buffer.getDouble();
+            double targetWidth = buffer.getDouble();
+            double targetHeight = buffer.getDouble();
+            double vx = buffer.getDouble();
+            double vy = buffer.getDouble();
+            TargetType type = targetTypes[buffer.get()];
+            int health = buffer.getInt();
+            Target target = new Target(x, y, targetWidth, targetHeight, type, buffer.getInt());
+            target.setVelocity(vx, vy);
+            target.setHealth(health);
+            targets.add(target);
+        }
+        
+        // 중력과 바람 영역
+        int effectCount = buffer.getInt();
+        effects.clear();
+        GravityEffect particleGravity = null;
+        for (int i = 0; i < effectCount; i++) {
+            int kind = buffer.get();
+            if (kind == EFFECT_GRAVITY) {
+                GravityEffect gravityEffect = new GravityEffect(buffer.getDouble(), buffer.getDouble(),
+                                                                buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+                if (particleGravity == null) {
+                    particleGravity = gravityEffect;
+                }
+                effects.add(gravityEffect);
+            } else if (kind == EFFECT_WIND) {
+                effects.add(new WindEffect(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                                           buffer.getDouble(), buffer.getDouble(), buffer.getDouble()));
+            } else {
+                throw new IllegalArgumentException("알 수 없는 효과 종류입니다: " + kind);
+            }
+        }
+        
+        particles.clear();
+        particles.setGravity(particleGravity);
+        
+        // 다음 웨이브는 복원한 웨이브 번호와 시드로 다시 준비합니다.
+        if (gameMode == GameMode.SURVIVAL) {
+            prepareNextWave();
+        } else {
+            preloader.cancel();
+        }
+    }
+    
+    public void setSpriteAtlas(SpriteAtlas spriteAtlas) {
+        this.spriteAtlas = spriteAtlas;
+    }
+    
+    /**
+     * 끝난 판의 결과를 저장할 점수 저장소를 지정합니다.
+     * @param scoreStore 점수 저장소, 저장하지 않으려면 null
+     */
+    public void setScoreStore(ScoreStore scoreStore) {
+        this.scoreStore = scoreStore;
+    }
+    
+    // Getters
+    public int getScore() { return score; }
+    public int getAmmo() { return ammo; }
+    public int getWave() { return wave; }
+    public GameMode getGameMode() { return gameMode; }
+    public GameState getGameState() { return gameState; }
+    public List<Target> getTargets() { return targets; }
+    public List<Projectile> getProjectiles() { return projectiles; }
+    public List<Effect> getEffects() { return effects; }
+    public int getParticleCount() { return particles.size(); }
+    public FrameProfiler getProfiler() { return profiler; }
+    public AllocationTelemetry getTelemetry() { return telemetry; }
+    public WorldMetrics getMetrics() { return metrics; }
+}
\ No newline at end of file
@@ -1,37 +1,46 @@
 package com.nhnacademy.cannon;
 
 import com.nhnacademy.game.entity.Ball;
-import com.nhnacademy.game.physics.Vector2D;
+import com.nhnacademy.game.graphics.RenderQueue;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * 발사체 클래스
  * Ball을 상속받아 발사체를 구현합니다.
  */
 public class Projectile extends Ball {
+    private static final int TRAIL_LENGTH = 20;
+    
     private ProjectileType type;
     private int damage;
     private double splitTime = -1;
-    private List<Vector2D> trail;
+    
+    // 최근 위치를 담는 고정 크기 링 버퍼 (trailStart가 가장 오래된 위치)
+    private final double[] trailX = new double[TRAIL_LENGTH];
+    private final double[] trailY = new double[TRAIL_LENGTH];
+    private int trailStart = 0;
+    private int trailSize = 0;
     
     public Projectile(double x, double y, double radius, ProjectileType type) {
         super(x, y, radius, type.getColor());
         this.type = type;
         this.damage = type.getBaseDamage();
-        this.trail = new ArrayList<>();
     }
     
     @Override
     public void update(double deltaTime) {
-        // 궤적 추가
-        trail.add(new Vector2D(getCenterX(), getCenterY()));
-        if (trail.size() > 20) {
-            trail.remove(0);
+        // 궤적 추가 (가득 차면 가장 오래된 위치를 덮어씁니다)
+        int slot;
+        if (trailSize < TRAIL_LENGTH) {
+            slot = (trailStart + trailSize) % TRAIL_LENGTH;
+            trailSize++;
+        } else {
+            slot = trailStart;
+            trailStart = (trailStart + 1) % TRAIL_LENGTH;
         }
+        trailX[slot] = getCenterX();
+        trailY[slot] = getCenterY();
         
         super.update(deltaTime);
         
@@ -45,11 +54,11 @@ public class Projectile extends Ball {
     public void draw(GraphicsContext gc) {
         // 궤적 그리기
         gc.setGlobalAlpha(0.3);
-        for (int i = 0; i < trail.size(); i++) {
-            Vector2D pos = trail.get(i);
-            double size = radius * 2 * i / trail.size();
+        for (int i = 0; i < trailSize; i++) {
+            int slot = (trailStart + i) % TRAIL_LENGTH;
+            double size = getRadius() * 2 * i / trailSize;
             gc.setFill(Color.ORANGE);
-            gc.fillOval(pos.x - size/2, pos.y - size/2, size, size);
+            gc.fillOval(trailX[slot] - size/2, trailY[slot] - size/2, size, size);
         }
         gc.setGlobalAlpha(1.0);
         
@@ -62,6 +71,25 @@ public class Projectile extends Ball {
         gc.strokeOval(getX(), getY(), getWidth(), getHeight());
     }
     
+    @Override
+    public void enqueue(RenderQueue queue) {
+        // 궤적 그리기 (세부 수준이 낮으면 최근 궤적만 그립니다)
+        int visibleTrail = queue.getDetailLevel().getTrailLength(trailSize);
+        queue.setAlpha(0.3);
+        for (int i = trailSize - visibleTrail; i < trailSize; i++) {
+            int slot = (trailStart + i) % TRAIL_LENGTH;
+            double size = getRadius() * 2 * i / trailSize;
+            queue.fillOval(RenderQueue.LAYER_UNDERLAY, Color.ORANGE, trailX[slot] - size / 2, trailY[slot] - size / 2, size, size);
+        }
+        queue.setAlpha(1.0);
+        
+        // 발사체 그리기
+        super.enqueue(queue);
+        
+        // 테두리
+        queue.strokeOval(RenderQueue.LAYER_DECORATION, Color.WHITE, getX(), getY(), getWidth(), getHeight());
+    }
+    
     /**
      * 분열 시간을 설정합니다.
      * @param time 분열까지의 시간 (초)
@@ -82,5 +110,6 @@ public class Projectile extends Ball {
     
     // Getters
     public ProjectileType getType() { return type; }
+    public double getSplitTime() { return splitTime; }
     public int getDamage() { return damage; }
 }
\ No newline at end of file
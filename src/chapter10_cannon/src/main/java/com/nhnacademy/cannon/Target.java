@@ -2,20 +2,25 @@ package com.nhnacademy.cannon;
 
 import com.nhnacademy.game.entity.Box;
 import com.nhnacademy.game.collision.Collidable;
+import com.nhnacademy.game.graphics.Fonts;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.SpriteKey;
+import com.nhnacademy.game.graphics.Sprited;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
 /**
  * 타겟 클래스
  * Box를 상속받아 타겟을 구현합니다.
  */
-public class Target extends Box {
+public class Target extends Box implements Sprited {
     private TargetType type;
     private int health;
     private int maxHealth;
     private int points;
+    private final String typeLabel;
+    private SpriteKey spriteKey;
     
     public Target(double x, double y, double width, double height, TargetType type) {
         super(x, y, width, height, type.getColor());
@@ -23,6 +28,7 @@ public class Target extends Box {
         this.health = type.getDefaultHealth();
         this.maxHealth = health;
         this.points = type.getDefaultPoints();
+        this.typeLabel = type.name().substring(0, 1);
     }
     
     public Target(double x, double y, double width, double height, TargetType type, int points) {
@@ -31,6 +37,7 @@ public class Target extends Box {
         this.health = type.getDefaultHealth();
         this.maxHealth = health;
         this.points = points;
+        this.typeLabel = type.name().substring(0, 1);
     }
     
     /**
@@ -40,6 +47,7 @@ public class Target extends Box {
     public void takeDamage(int damage) {
         health -= damage;
         if (health < 0) health = 0;
+        spriteKey = null;
     }
     
     /**
@@ -70,10 +78,55 @@ public class Target extends Box {
         
         // 타입 표시
         gc.setFill(Color.WHITE);
-        gc.setFont(Font.font(12));
+        gc.setFont(Fonts.of(12));
         gc.setTextAlign(TextAlignment.CENTER);
-        String typeChar = type.name().substring(0, 1);
-        gc.fillText(typeChar, getCenterX(), getCenterY() + 4);
+        gc.fillText(typeLabel, getCenterX(), getCenterY() + 4);
+    }
+    
+    @Override
+    public SpriteKey getSpriteKey() {
+        if (spriteKey == null) {
+            Target sprite = new Target(0, 0, width, height, type, points);
+            sprite.setColor(getColor());
+            sprite.setHealth(health);
+            spriteKey = new SpriteKey("Target", getColor(), health, width, height, sprite);
+        }
+        return spriteKey;
+    }
+    
+    @Override
+    public double getSpriteMargin() {
+        // 체력바가 타겟 위 10픽셀에 그려집니다.
+        return 12;
+    }
+    
+    @Override
+    public void enqueue(RenderQueue queue) {
+        if (queue.hasSpriteAtlas()) {
+            queue.sprite(RenderQueue.LAYER_BODY, this, x, y);
+            return;
+        }
+        
+        super.enqueue(queue);
+        
+        // 테두리
+        queue.setLineWidth(2);
+        queue.strokeRect(RenderQueue.LAYER_DETAIL, Color.BLACK, x, y, width, height);
+        queue.setLineWidth(1);
+        
+        // 체력바 (피해를 받은 경우에만 표시)
+        if (health < maxHealth) {
+            queue.fillRect(RenderQueue.LAYER_DECORATION, Color.BLACK, x, y - 10, width, 5);
+            queue.fillRect(RenderQueue.LAYER_LABEL, Color.GREEN, x, y - 10, width * health / maxHealth, 5);
+        }
+        
+        // 타입 표시
+        if (queue.getDetailLevel().showsLabels()) {
+            queue.setTextAlign(TextAlignment.CENTER);
+            queue.fillText(RenderQueue.LAYER_LABEL, Color.WHITE, Fonts.of(12), typeLabel,
+                           getCenterX(), getCenterY() + 4);
+            queue.setTextAlign(TextAlignment.LEFT);
+        }
     }
     
     @Override
@@ -96,5 +149,6 @@ public class Target extends Box {
         if (this.health > maxHealth) {
             this.health = maxHealth;
         }
+        spriteKey = null;
     }
 }
\ No newline at end of file
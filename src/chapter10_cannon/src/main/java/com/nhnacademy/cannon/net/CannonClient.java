@@ -0,0 +1,255 @@
+package com.nhnacademy.cannon.net;
+
+import com.nhnacademy.cannon.GameMode;
+import com.nhnacademy.cannon.GameState;
+import com.nhnacademy.cannon.ProjectileType;
+import com.nhnacademy.game.replay.FrameDecoder;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+
+/**
+ * 대포 대전 서버에 접속하는 클라이언트
+ * 입력을 보내고, 서버가 보낸 상태를 FrameDecoder로 되살립니다. 소켓은 논블로킹이므로
+ * 게임 루프에서 매 프레임 poll()을 불러 받은 메시지를 처리합니다. 한 스레드에서만 사용합니다.
+ */
+public class CannonClient implements Closeable {
+    private static final int INPUT_BUFFER_SIZE = 128 * 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 4 * 1024;
+    
+    private final SocketChannel channel;
+    private final ByteBuffer in = ByteBuffer.allocateDirect(INPUT_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer out = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final FrameDecoder decoder = new FrameDecoder();
+    private Runnable stateListener;
+    
+    // 대전 정보 (MATCH를 받기 전에는 sessionId가 -1)
+    private int sessionId = -1;
+    private long seed;
+    private int playerIndex;
+    private int players;
+    private int tickRate;
+    private final int[] scores = new int[CannonProtocol.MAX_PLAYERS];
+    private final int[] playerStates = new int[CannonProtocol.MAX_PLAYERS];
+    
+    // 상태
+    private int tick = -1;
+    private int lastAppliedInput = 0;
+    private int nextInput = 1;
+    private long bytesReceived = 0;
+    private long stateCount = 0;
+    private long keyframeCount = 0;
+    
+    private CannonClient(SocketChannel channel) {
+        this.channel = channel;
+    }
+    
+    /**
+     * 서버에 접속합니다. 접속이 끝날 때까지 기다린 뒤 논블로킹으로 바꿉니다.
+     * @param address 서버 주소
+     * @return 접속한 클라이언트
+     * @throws IOException 접속하지 못한 경우
+     */
+    public static CannonClient connect(InetSocketAddress address) throws IOException {
+        SocketChannel channel = SocketChannel.open(address);
+        try {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.configureBlocking(false);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new CannonClient(channel);
+    }
+    
+    /**
+     * 같은 모드와 인원의 대전을 기다립니다. 인원이 모이면 MATCH를 받습니다.
+     */
+    public void join(GameMode mode, int players) throws IOException {
+        if (players < 1 || players > CannonProtocol.MAX_PLAYERS) {
+            throw new IllegalArgumentException("대전 인원은 1에서 " + CannonProtocol.MAX_PLAYERS + " 사이여야 합니다: " + players);
+        }
+        reserve(CannonProtocol.JOIN_SIZE);
+        int start = CannonProtocol.beginFrame(out, CannonProtocol.JOIN);
+        out.putShort((short) CannonProtocol.VERSION);
+        out.put((byte) mode.ordinal());
+        out.put((byte) players);
+        CannonProtocol.endFrame(out, start);
+        sessionId = -1;
+        flush();
+    }
+    
+    /**
+     * 입력을 보냅니다. 서버는 다음 틱에 적용하고 STATE에 마지막으로 적용한 입력 번호를 담아 알려 줍니다.
+     * @param angle 포신 각도 (라디안)
+     * @param power 발사 힘 (fire가 false이면 무시)
+     * @param type 발사체 종류
+     * @param fire 발사하려면 true, 조준만 하려면 false
+     * @return 입력 번호
+     */
+    public int sendInput(double angle, double power, ProjectileType type, boolean fire) throws IOException {
+        reserve(CannonProtocol.INPUT_SIZE);
+        int sequence = nextInput++;
+        int start = CannonProtocol.beginFrame(out, CannonProtocol.INPUT);
+        out.putInt(sequence);
+        out.putFloat((float) angle);
+        out.putFloat((float) power);
+        out.put((byte) type.ordinal());
+        out.put((byte) (fire ? CannonProtocol.FIRE : 0));
+        CannonProtocol.endFrame(out, start);
+        flush();
+        return sequence;
+    }
+    
+    private void reserve(int size) throws IOException {
+        if (out.remaining() < size && !flush()) {
+            throw new IOException("서버가 입력을 받지 않습니다");
+        }
+    }
+    
+    /**
+     * 밀린 입력을 보낼 수 있는 만큼 보냅니다.
+     * @return 모두 보냈으면 true
+     */
+    public boolean flush() throws IOException {
+        out.flip();
+        channel.write(out);
+        out.compact();
+        return out.position() == 0;
+    }
+    
+    /**
+     * 받은 메시지를 모두 처리합니다. 덜 온 메시지는 다음 호출에서 이어 받습니다.
+     * @return 처리한 메시지 수
+     * @throws EOFException 서버가 접속을 끊은 경우
+     * @throws IllegalStateException 서버가 잘못된 메시지를 보낸 경우
+     */
+    public int poll() throws IOException {
+        if (out.position() > 0) {
+            flush();
+        }
+        int read = channel.read(in);
+        if (read < 0) {
+            throw new EOFException("서버가 접속을 끊었습니다");
+        }
+        bytesReceived += read;
+        
+        in.flip();
+        int handled = 0;
+        int length;
+        while ((length = CannonProtocol.frameLength(in, INPUT_BUFFER_SIZE - 4)) > 0) {
+            int start = in.position();
+            byte type = in.get(start + 4);
+            in.position(start + CannonProtocol.FRAME_HEADER_SIZE);
+            if (type == CannonProtocol.MATCH) {
+                readMatch();
+            } else if (type == CannonProtocol.STATE) {
+                readState();
+            } else if (type == CannonProtocol.SCORES) {
+                readScores();
+            } else {
+                throw new IllegalStateException("알 수 없는 메시지 종류입니다: " + type);
+            }
+            in.position(start + 4 + length);
+            handled++;
+        }
+        in.compact();
+        return handled;
+    }
+    
+    private void readMatch() {
+        sessionId = in.getInt();
+        seed = in.getLong();
+        playerIndex = in.get();
+        players = in.get();
+        tickRate = in.getShort();
+        tick = -1;
+        Arrays.fill(scores, 0);
+        Arrays.fill(playerStates, GameState.PLAYING.ordinal());
+    }
+    
+    private void readState() {
+        tick = in.getInt();
+        lastAppliedInput = in.getInt();
+        if (decoder.read(in)) {
+            keyframeCount++;
+        }
+        stateCount++;
+        if (stateListener != null) {
+            stateListener.run();
+        }
+    }
+    
+    private void readScores() {
+        int count = in.get();
+        for (int i = 0; i < count; i++) {
+            scores[i] = in.getInt();
+            playerStates[i] = in.get();
+        }
+    }
+    
+    /**
+     * 상태를 받을 때마다 호출할 함수를 정합니다. poll()을 부른 스레드에서 호출됩니다.
+     */
+    public void setStateListener(Runnable stateListener) {
+        this.stateListener = stateListener;
+    }
+    
+    /**
+     * @param player 플레이어 순서
+     * @return 그 플레이어의 마지막으로 알려진 점수
+     */
+    public int getScore(int player) {
+        return scores[player];
+    }
+    
+    /**
+     * @param player 플레이어 순서
+     * @return 그 플레이어의 GameState 순서, 대전에서 나갔으면 -1
+     */
+    public int getPlayerState(int player) {
+        return playerStates[player];
+    }
+    
+    /**
+     * 대전에 참가한 모든 플레이어의 게임이 끝났는지 확인합니다. 끝났으면 서버는 대전을 정리했으므로 다시 JOIN할 수 있습니다.
+     * @return 대전 중이고 모든 플레이어가 끝났거나 나갔으면 true
+     */
+    public boolean isMatchFinished() {
+        if (sessionId < 0) {
+            return false;
+        }
+        for (int i = 0; i < players; i++) {
+            if (playerStates[i] == GameState.PLAYING.ordinal() || playerStates[i] == GameState.PAUSED.ordinal()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    // Getters
+    public boolean isMatched() { return sessionId >= 0; }
+    public int getSessionId() { return sessionId; }
+    public long getSeed() { return seed; }
+    public int getPlayerIndex() { return playerIndex; }
+    public int getPlayers() { return players; }
+    public int getTickRate() { return tickRate; }
+    public int getTick() { return tick; }
+    public int getLastAppliedInput() { return lastAppliedInput; }
+    public FrameDecoder getDecoder() { return decoder; }
+    public long getBytesReceived() { return bytesReceived; }
+    public long getStateCount() { return stateCount; }
+    public long getKeyframeCount() { return keyframeCount; }
+}
\ No newline at end of file
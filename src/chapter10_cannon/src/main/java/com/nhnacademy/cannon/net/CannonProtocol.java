@@ -0,0 +1,69 @@
+package com.nhnacademy.cannon.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 대포 대전 서버와 클라이언트가 TCP로 주고받는 메시지 형식
+ * 메시지마다 길이(int, 종류 포함)와 종류(byte) 뒤에 본문이 옵니다. 모든 값은 리틀 엔디언입니다.
+ *
+ * 클라이언트 -> 서버
+ *   JOIN: 프로토콜 버전(short), 게임 모드(byte), 대전 인원(byte)
+ *   INPUT: 입력 번호(int), 각도(float, 라디안), 힘(float), 발사체 종류(byte), 플래그(byte, FIRE)
+ * 서버 -> 클라이언트
+ *   MATCH: 세션 번호(int), 시드(long), 내 순서(byte), 대전 인원(byte), 초당 틱 수(short)
+ *   STATE: 틱 번호(int), 마지막으로 적용한 입력 번호(int), FrameEncoder 레코드
+ *   SCORES: 대전 인원(byte), 플레이어마다 점수(int)와 GameState 순서(byte)
+ */
+public final class CannonProtocol {
+    public static final int VERSION = 1;
+    /** 길이(int)와 종류(byte) */
+    public static final int FRAME_HEADER_SIZE = 5;
+    public static final int MAX_PLAYERS = 8;
+    
+    public static final byte JOIN = 1;
+    public static final byte INPUT = 2;
+    public static final int FIRE = 1;
+    
+    public static final byte MATCH = 1;
+    public static final byte STATE = 2;
+    public static final byte SCORES = 3;
+    
+    static final int JOIN_SIZE = FRAME_HEADER_SIZE + 4;
+    static final int INPUT_SIZE = FRAME_HEADER_SIZE + 14;
+    static final int STATE_HEADER_SIZE = FRAME_HEADER_SIZE + 8;
+    
+    private CannonProtocol() {
+    }
+    
+    /**
+     * 메시지를 시작합니다. 길이는 endFrame()에서 채웁니다.
+     * @return 메시지 시작 위치
+     */
+    static int beginFrame(ByteBuffer out, byte type) {
+        int start = out.position();
+        out.putInt(0);
+        out.put(type);
+        return start;
+    }
+    
+    static void endFrame(ByteBuffer out, int start) {
+        out.putInt(start, out.position() - start - 4);
+    }
+    
+    /**
+     * 읽기 모드 버퍼의 현재 위치에 온전한 메시지가 있는지 확인합니다.
+     * @param maxLength 받아들일 수 있는 가장 긴 메시지 (종류 포함)
+     * @return 메시지 길이(종류 포함), 아직 다 오지 않았으면 -1
+     * @throws IllegalStateException 길이가 0 이하이거나 maxLength보다 긴 경우
+     */
+    static int frameLength(ByteBuffer in, int maxLength) {
+        if (in.remaining() < 4) {
+            return -1;
+        }
+        int length = in.getInt(in.position());
+        if (length <= 0 || length > maxLength) {
+            throw new IllegalStateException("잘못된 메시지 길이입니다: " + length);
+        }
+        return in.remaining() - 4 >= length ? length : -1;
+    }
+}
\ No newline at end of file
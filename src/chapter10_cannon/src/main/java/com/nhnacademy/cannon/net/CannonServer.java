@@ -0,0 +1,631 @@
+package com.nhnacademy.cannon.net;
+
+import com.nhnacademy.cannon.CannonWorld;
+import com.nhnacademy.cannon.GameMode;
+import com.nhnacademy.cannon.GameState;
+import com.nhnacademy.cannon.ProjectileType;
+import com.nhnacademy.game.core.GameRandom;
+import com.nhnacademy.game.metrics.MetricsRegistry;
+import com.nhnacademy.game.metrics.MetricsSnapshot;
+import com.nhnacademy.game.metrics.PrometheusEndpoint;
+import com.nhnacademy.game.metrics.WorldMetrics;
+import com.nhnacademy.game.replay.FrameEncoder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 대포 대전을 진행하는 권한 서버(authoritative server)
+ * 스레드 하나("cannon-server")가 NIO Selector로 접속과 입력을 처리하고, 정해진 틱마다 모든 월드를 갱신해
+ * 플레이어마다 자기 월드의 상태를 델타로 보냅니다. 클라이언트는 입력만 보내고 상태는 서버가 정합니다.
+ *
+ * 대전은 같은 모드와 인원을 원하는 플레이어가 모두 모이면 시작합니다.
+ * 플레이어마다 자기 CannonWorld를 갖되 모두 같은 시드로 시작하므로 같은 표적과 바람을 두고 점수를 겨루며,
+ * 점수나 상태가 바뀌면 SCORES로 모두에게 알립니다. 모든 플레이어의 게임이 끝나면 대전도 끝나고,
+ * 플레이어는 다시 JOIN을 보내 다음 대전을 기다릴 수 있습니다.
+ *
+ * 입력은 도착하는 대로 세션의 큐에 쌓았다가 틱 시작에 순서대로 적용합니다.
+ * 상태는 세션마다 FrameEncoder로 인코딩해 미리 할당한 다이렉트 송신 버퍼에 붙이고, 소켓이 받는 만큼 보냅니다.
+ * 송신 버퍼가 반 넘게 밀려 있으면 그 틱의 상태는 건너뛰고(다음 델타가 변화를 이어서 담습니다),
+ * 인코딩한 상태가 들어갈 자리가 없으면 버린 뒤 다음에 키프레임을 보냅니다.
+ * 따라서 느린 클라이언트가 서버 틱을 붙잡지 않습니다.
+ *
+ * 틱 시간은 WorldMetrics("cannon-server")로 기록하므로 JMX나 Prometheus 엔드포인트로 볼 수 있습니다.
+ */
+public class CannonServer implements Closeable {
+    public static final int DEFAULT_PORT = 7777;
+    public static final int DEFAULT_TICK_RATE = 60;
+    public static final double WORLD_WIDTH = 1000;
+    public static final double WORLD_HEIGHT = 700;
+    private static final int INPUT_BUFFER_SIZE = 4 * 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int INPUT_QUEUE_SIZE = 32;
+    // 서버는 그리지 않으므로 파티클은 연출에 필요한 만큼만 담습니다.
+    private static final int WORLD_PARTICLES = 1024;
+    // 틱이 이만큼 밀리면 따라잡지 않고 지금부터 다시 셉니다.
+    private static final int MAX_LATE_TICKS = 5;
+    // 나간 플레이어의 상태
+    private static final int LEFT = -1;
+    
+    /**
+     * 접속 하나와 그 플레이어의 월드
+     * 월드는 첫 대전이 시작될 때 만들고, 다음 대전부터는 다시 씁니다.
+     */
+    private final class Session {
+        final int id;
+        final SocketChannel channel;
+        SelectionKey key;
+        final ByteBuffer in = ByteBuffer.allocateDirect(INPUT_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        final ByteBuffer out = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        CannonWorld world;
+        FrameEncoder encoder;
+        
+        // 다음 틱에 적용할 입력
+        final int[] inputSequences = new int[INPUT_QUEUE_SIZE];
+        final float[] inputAngles = new float[INPUT_QUEUE_SIZE];
+        final float[] inputPowers = new float[INPUT_QUEUE_SIZE];
+        final byte[] inputTypes = new byte[INPUT_QUEUE_SIZE];
+        final byte[] inputFlags = new byte[INPUT_QUEUE_SIZE];
+        int inputCount = 0;
+        int lastInput = 0;
+        
+        Match match;
+        int playerIndex;
+        boolean keyframeNeeded = true;
+        boolean writing = false;
+        // 마지막으로 상태를 보낸 틱
+        int stateTick = -1;
+        
+        Session(int id, SocketChannel channel) {
+            this.id = id;
+            this.channel = channel;
+        }
+    }
+    
+    /**
+     * 같은 시드로 겨루는 플레이어들
+     */
+    private final class Match {
+        final GameMode mode;
+        final Session[] players;
+        int joined = 0;
+        boolean started = false;
+        // 마지막으로 알린 점수와 상태
+        final int[] scores;
+        final int[] states;
+        boolean scoresChanged = false;
+        
+        Match(GameMode mode, int size) {
+            this.mode = mode;
+            this.players = new Session[size];
+            this.scores = new int[size];
+            this.states = new int[size];
+        }
+    }
+    
+    private final ServerSocketChannel server;
+    private final Selector selector;
+    private final Thread thread;
+    private final int tickRate;
+    private final long tickNanos;
+    private final double deltaTime;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final WorldMetrics metrics = new WorldMetrics("cannon-server", this::sampleMetrics);
+    private volatile boolean running = true;
+    
+    // 서버 스레드 전용
+    private final List<Session> sessions = new ArrayList<>();
+    private final Map<Integer, Session> sessionsById = new HashMap<>();
+    private final Map<Integer, Match> waiting = new HashMap<>();
+    private final List<Match> matches = new ArrayList<>();
+    private final GameRandom seeds = new GameRandom();
+    private int nextSessionId = 1;
+    private int tick = 0;
+    private long skippedStates = 0;
+    private long droppedStates = 0;
+    private long droppedInputs = 0;
+    private long bytesSent = 0;
+    
+    /**
+     * 주소에 묶고 서버 스레드를 시작합니다.
+     * @param address 받을 주소 (포트 0이면 빈 포트)
+     * @param tickRate 초당 틱 수
+     * @throws IOException 주소에 묶지 못한 경우
+     */
+    public CannonServer(InetSocketAddress address, int tickRate) throws IOException {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("초당 틱 수는 1 이상이어야 합니다: " + tickRate);
+        }
+        this.tickRate = tickRate;
+        this.tickNanos = 1_000_000_000L / tickRate;
+        this.deltaTime = 1.0 / tickRate;
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        try {
+            server.bind(address, 1024);
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            server.close();
+            selector.close();
+            throw e;
+        }
+        thread = new Thread(this::run, "cannon-server");
+        thread.start();
+    }
+    
+    /**
+     * 서버 스레드에서 실행할 작업을 넘깁니다. 다음 틱 전에 실행됩니다.
+     */
+    public void post(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+    
+    /**
+     * 세션에 마지막으로 보낸 상태의 틱 번호와 요약값을 구합니다.
+     * 클라이언트가 같은 틱의 상태를 FrameDecoder.digest()로 계산한 값과 같아야 합니다.
+     * @param sessionId 세션 번호
+     * @return {틱 번호, 요약값}, 세션이 없거나 아직 대전을 시작하지 않았으면 null
+     */
+    public CompletableFuture<long[]> stateDigest(int sessionId) {
+        CompletableFuture<long[]> result = new CompletableFuture<>();
+        post(() -> {
+            Session session = sessionsById.get(sessionId);
+            result.complete(session == null || session.encoder == null
+                            ? null : new long[] { session.stateTick, session.encoder.digest() });
+        });
+        return result;
+    }
+    
+    private void run() {
+        long nextTick = System.nanoTime();
+        try {
+            while (running) {
+                long wait = nextTick - System.nanoTime();
+                if (wait > 0) {
+                    selector.select(Math.max(1, wait / 1_000_000));
+                } else {
+                    selector.selectNow();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+                
+                if (System.nanoTime() - nextTick >= 0) {
+                    tick();
+                    nextTick += tickNanos;
+                    if (System.nanoTime() - nextTick > MAX_LATE_TICKS * tickNanos) {
+                        nextTick = System.nanoTime();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[server] 서버가 멈췄습니다: " + e.getMessage());
+        } finally {
+            for (int i = sessions.size() - 1; i >= 0; i--) {
+                closeQuietly(sessions.get(i).channel);
+            }
+            closeQuietly(server);
+            closeQuietly(selector);
+        }
+    }
+    
+    private void handle(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Session session = (Session) key.attachment();
+        try {
+            if (key.isReadable()) {
+                read(session);
+            }
+            if (key.isValid() && key.isWritable()) {
+                flush(session);
+            }
+        } catch (IOException e) {
+            closeSession(session);
+        } catch (IllegalStateException e) {
+            System.err.println("[server] 세션 " + session.id + "의 잘못된 메시지: " + e.getMessage());
+            closeSession(session);
+        }
+    }
+    
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Session session = new Session(nextSessionId++, channel);
+            session.key = channel.register(selector, SelectionKey.OP_READ, session);
+            sessions.add(session);
+            sessionsById.put(session.id, session);
+        }
+    }
+    
+    /**
+     * 받은 만큼 메시지를 처리합니다. 덜 온 메시지는 다음에 이어 받습니다.
+     */
+    private void read(Session session) throws IOException {
+        ByteBuffer in = session.in;
+        if (session.channel.read(in) < 0) {
+            closeSession(session);
+            return;
+        }
+        in.flip();
+        int length;
+        while ((length = CannonProtocol.frameLength(in, INPUT_BUFFER_SIZE - 4)) > 0) {
+            int start = in.position();
+            byte type = in.get(start + 4);
+            in.position(start + CannonProtocol.FRAME_HEADER_SIZE);
+            if (type == CannonProtocol.JOIN && length == CannonProtocol.JOIN_SIZE - 4) {
+                join(session, in.getShort(), in.get(), in.get());
+            } else if (type == CannonProtocol.INPUT && length == CannonProtocol.INPUT_SIZE - 4) {
+                queueInput(session, in);
+            } else {
+                throw new IllegalStateException("알 수 없는 메시지: 종류 " + type + ", 길이 " + length);
+            }
+            in.position(start + 4 + length);
+        }
+        in.compact();
+    }
+    
+    private void join(Session session, int version, int modeIndex, int players) {
+        if (version != CannonProtocol.VERSION) {
+            throw new IllegalStateException("지원하지 않는 프로토콜 버전입니다: " + version);
+        }
+        if (modeIndex < 0 || modeIndex >= GameMode.values().length || players < 1
+            || players > CannonProtocol.MAX_PLAYERS) {
+            throw new IllegalStateException("잘못된 대전 요청입니다: 모드 " + modeIndex + ", 인원 " + players);
+        }
+        if (session.match != null) {
+            return;
+        }
+        int key = modeIndex * (CannonProtocol.MAX_PLAYERS + 1) + players;
+        Match match = waiting.get(key);
+        if (match == null) {
+            match = new Match(GameMode.values()[modeIndex], players);
+            waiting.put(key, match);
+        }
+        session.match = match;
+        session.playerIndex = match.joined;
+        match.players[match.joined++] = session;
+        if (match.joined == players) {
+            waiting.remove(key);
+            startMatch(match);
+        }
+    }
+    
+    private void startMatch(Match match) {
+        long seed = seeds.nextLong();
+        for (Session session : match.players) {
+            if (session.world == null) {
+                session.world = new CannonWorld(WORLD_WIDTH, WORLD_HEIGHT, WORLD_PARTICLES);
+                session.encoder = new FrameEncoder(session.world);
+            }
+            session.world.startGame(match.mode, seed);
+            session.inputCount = 0;
+            session.keyframeNeeded = true;
+            
+            ByteBuffer out = session.out;
+            int start = CannonProtocol.beginFrame(out, CannonProtocol.MATCH);
+            out.putInt(session.id);
+            out.putLong(seed);
+            out.put((byte) session.playerIndex);
+            out.put((byte) match.players.length);
+            out.putShort((short) tickRate);
+            CannonProtocol.endFrame(out, start);
+        }
+        match.started = true;
+        match.scoresChanged = true;
+        matches.add(match);
+    }
+    
+    private void queueInput(Session session, ByteBuffer in) {
+        int sequence = in.getInt();
+        float angle = in.getFloat();
+        float power = in.getFloat();
+        byte type = in.get();
+        byte flags = in.get();
+        if (!Float.isFinite(angle) || !Float.isFinite(power)) {
+            throw new IllegalStateException("잘못된 입력 값입니다: 각도 " + angle + ", 힘 " + power);
+        }
+        if (session.match == null || !session.match.started) {
+            return;
+        }
+        if (session.inputCount == INPUT_QUEUE_SIZE) {
+            droppedInputs++;
+            return;
+        }
+        int i = session.inputCount++;
+        session.inputSequences[i] = sequence;
+        session.inputAngles[i] = angle;
+        session.inputPowers[i] = power;
+        session.inputTypes[i] = type;
+        session.inputFlags[i] = flags;
+    }
+    
+    private void applyInputs(Session session) {
+        ProjectileType[] types = ProjectileType.values();
+        for (int i = 0; i < session.inputCount; i++) {
+            int type = session.inputTypes[i];
+            if (type >= 0 && type < types.length) {
+                session.world.selectProjectileType(types[type]);
+            }
+            if ((session.inputFlags[i] & CannonProtocol.FIRE) != 0) {
+                session.world.fire(session.inputAngles[i], session.inputPowers[i]);
+            } else {
+                session.world.aimAngle(session.inputAngles[i]);
+            }
+            session.lastInput = session.inputSequences[i];
+        }
+        session.inputCount = 0;
+    }
+    
+    private void tick() {
+        long start = System.nanoTime();
+        tick++;
+        
+        for (int m = 0; m < matches.size(); m++) {
+            Match match = matches.get(m);
+            for (Session session : match.players) {
+                if (session != null) {
+                    applyInputs(session);
+                    session.world.update(deltaTime);
+                }
+            }
+            updateScores(match);
+        }
+        
+        for (int m = 0; m < matches.size(); m++) {
+            Match match = matches.get(m);
+            for (Session session : match.players) {
+                if (session != null) {
+                    if (match.scoresChanged) {
+                        writeScores(session, match);
+                    }
+                    writeState(session);
+                }
+            }
+            match.scoresChanged = false;
+        }
+        
+        for (int i = sessions.size() - 1; i >= 0; i--) {
+            Session session = sessions.get(i);
+            if (session.out.position() > 0 && !session.writing) {
+                try {
+                    flush(session);
+                } catch (IOException e) {
+                    closeSession(session);
+                }
+            }
+        }
+        finishMatches();
+        
+        metrics.recordUpdate(System.nanoTime() - start);
+    }
+    
+    private void updateScores(Match match) {
+        for (int i = 0; i < match.players.length; i++) {
+            Session session = match.players[i];
+            int state = session == null ? LEFT : session.world.getGameState().ordinal();
+            int score = session == null ? match.scores[i] : session.world.getScore();
+            if (state != match.states[i] || score != match.scores[i]) {
+                match.states[i] = state;
+                match.scores[i] = score;
+                match.scoresChanged = true;
+            }
+        }
+    }
+    
+    private void writeScores(Session session, Match match) {
+        ByteBuffer out = session.out;
+        if (out.remaining() < CannonProtocol.FRAME_HEADER_SIZE + 1 + match.players.length * 5) {
+            // 다음 틱에 다시 알립니다.
+            return;
+        }
+        int start = CannonProtocol.beginFrame(out, CannonProtocol.SCORES);
+        out.put((byte) match.players.length);
+        for (int i = 0; i < match.players.length; i++) {
+            out.putInt(match.scores[i]);
+            out.put((byte) match.states[i]);
+        }
+        CannonProtocol.endFrame(out, start);
+    }
+    
+    /**
+     * 이번 틱의 상태를 송신 버퍼에 붙입니다.
+     */
+    private void writeState(Session session) {
+        ByteBuffer out = session.out;
+        if (out.position() > out.capacity() / 2) {
+            // 클라이언트가 따라오지 못하는 동안은 인코딩하지 않습니다. 다음 델타가 그동안의 변화를 담습니다.
+            skippedStates++;
+            return;
+        }
+        ByteBuffer record = session.encoder.encode(session.keyframeNeeded);
+        if (out.remaining() < CannonProtocol.STATE_HEADER_SIZE + record.remaining()) {
+            // 인코딩한 델타를 버렸으므로 클라이언트와 기준이 어긋났습니다. 다음에는 키프레임을 보냅니다.
+            droppedStates++;
+            session.keyframeNeeded = true;
+            return;
+        }
+        session.keyframeNeeded = false;
+        int start = CannonProtocol.beginFrame(out, CannonProtocol.STATE);
+        out.putInt(tick);
+        out.putInt(session.lastInput);
+        out.put(record);
+        CannonProtocol.endFrame(out, start);
+        session.stateTick = tick;
+    }
+    
+    /**
+     * 소켓이 받는 만큼 보내고, 남으면 쓸 수 있을 때 알려 달라고 등록합니다.
+     */
+    private void flush(Session session) throws IOException {
+        ByteBuffer out = session.out;
+        out.flip();
+        bytesSent += session.channel.write(out);
+        out.compact();
+        boolean pending = out.position() > 0;
+        if (pending != session.writing && session.key.isValid()) {
+            session.writing = pending;
+            session.key.interestOps(pending ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+    }
+    
+    /**
+     * 모든 플레이어의 게임이 끝났거나 모두 나간 대전을 정리합니다. 남은 플레이어는 다시 JOIN할 수 있습니다.
+     */
+    private void finishMatches() {
+        for (int m = matches.size() - 1; m >= 0; m--) {
+            Match match = matches.get(m);
+            boolean finished = true;
+            for (Session session : match.players) {
+                if (session != null) {
+                    GameState state = session.world.getGameState();
+                    if (state == GameState.PLAYING || state == GameState.PAUSED) {
+                        finished = false;
+                        break;
+                    }
+                }
+            }
+            if (finished) {
+                for (Session session : match.players) {
+                    if (session != null) {
+                        session.match = null;
+                    }
+                }
+                matches.set(m, matches.get(matches.size() - 1));
+                matches.remove(matches.size() - 1);
+            }
+        }
+    }
+    
+    private void closeSession(Session session) {
+        if (!sessionsById.containsKey(session.id)) {
+            return;
+        }
+        session.key.cancel();
+        closeQuietly(session.channel);
+        sessions.remove(session);
+        sessionsById.remove(session.id);
+        
+        Match match = session.match;
+        if (match == null) {
+            return;
+        }
+        if (match.started) {
+            match.players[session.playerIndex] = null;
+            return;
+        }
+        // 기다리던 대전에서 빠지면 뒤 사람들을 한 칸씩 당깁니다.
+        for (int i = session.playerIndex; i < match.joined - 1; i++) {
+            match.players[i] = match.players[i + 1];
+            match.players[i].playerIndex = i;
+        }
+        match.players[--match.joined] = null;
+        if (match.joined == 0) {
+            waiting.values().remove(match);
+        }
+    }
+    
+    private void sampleMetrics(MetricsSnapshot snapshot) {
+        snapshot.entity("sessions", sessions.size());
+        snapshot.entity("matches", matches.size());
+        snapshot.entity("waiting", waiting.size());
+        snapshot.entity("skippedStates", skippedStates);
+        snapshot.entity("droppedStates", droppedStates);
+        snapshot.entity("droppedInputs", droppedInputs);
+        snapshot.entity("bytesSent", bytesSent);
+    }
+    
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // 닫는 중의 오류는 무시합니다.
+        }
+    }
+    
+    /**
+     * 서버 스레드를 멈추고 모든 접속을 닫습니다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 서버를 실행합니다.
+     * 사용 예: java -cp ... com.nhnacademy.cannon.net.CannonServer --port 7777 --tick-rate 60
+     */
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        int tickRate = DEFAULT_TICK_RATE;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--port")) {
+                port = Integer.parseInt(args[i + 1]);
+            } else if (args[i].equals("--tick-rate")) {
+                tickRate = Integer.parseInt(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+        
+        CannonServer server = new CannonServer(new InetSocketAddress(port), tickRate);
+        MetricsRegistry.register(server.getMetrics());
+        PrometheusEndpoint endpoint = PrometheusEndpoint.startFromSystemProperty();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            if (endpoint != null) {
+                endpoint.close();
+            }
+        }));
+        System.err.println("[server] 포트 " + server.getPort() + "에서 대전을 받습니다 (초당 " + tickRate + "틱)");
+    }
+    
+    /**
+     * @return 실제로 묶인 포트
+     */
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+    
+    // Getters
+    public int getTickRate() { return tickRate; }
+    public WorldMetrics getMetrics() { return metrics; }
+}
\ No newline at end of file
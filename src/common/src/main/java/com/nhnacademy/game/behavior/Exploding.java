@@ -65,6 +65,8 @@ public interface Exploding extends Breakable {
         public double getX() { return x; }
         public double getY() { return y; }
         public double getRadius() { return radius; }
+        public double getDuration() { return duration; }
+        public double getElapsed() { return currentTime; }
         public double getCurrentRadius() { 
             return radius * getProgress(); 
         }
@@ -45,6 +45,17 @@ public class Bounds {
         return distanceSquared <= radius * radius;
     }
     
+    /**
+     * 위치와 크기를 한 번에 바꿉니다.
+     * 객체가 자신의 Bounds 하나를 계속 재사용할 때 사용합니다.
+     */
+    public void set(double x, double y, double width, double height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+    
     // Getters and Setters
     public double getX() { return x; }
     public double getY() { return y; }
@@ -20,6 +20,8 @@ public interface Collidable {
     
     /**
      * 객체의 경계 영역을 반환합니다.
+     * 구현은 프레임마다 할당하지 않도록 같은 Bounds를 재사용할 수 있으므로,
+     * 반환값은 보관하지 말고 바로 사용해야 합니다.
      * @return 경계 영역
      */
     Bounds getBounds();
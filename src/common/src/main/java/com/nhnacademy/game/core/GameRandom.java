@@ -0,0 +1,75 @@
+package com.nhnacademy.game.core;
+
+/**
+ * 상태를 저장하고 되돌릴 수 있는 게임용 난수 생성기
+ * xorshift64* 알고리즘을 사용하며, 상태가 long 하나뿐이라 스냅숏에 그대로 기록할 수 있습니다.
+ * 같은 상태에서 시작하면 항상 같은 난수열이 나오므로 스냅숏을 복원한 뒤에도
+ * 파워업 드롭이나 표적 배치가 저장 시점과 똑같이 이어집니다.
+ *
+ * java.util.Random과 달리 동기화하지 않으므로 한 스레드에서만 사용해야 합니다.
+ */
+public final class GameRandom {
+    private static final long DEFAULT_STATE = 0x9E3779B97F4A7C15L;
+    
+    private long state;
+    
+    public GameRandom() {
+        this(System.nanoTime());
+    }
+    
+    public GameRandom(long seed) {
+        setState(seed);
+    }
+    
+    /**
+     * 다음 64비트 난수를 반환합니다.
+     * @return 난수
+     */
+    public long nextLong() {
+        state ^= state >>> 12;
+        state ^= state << 25;
+        state ^= state >>> 27;
+        return state * 0x2545F4914F6CDD1DL;
+    }
+    
+    /**
+     * 0.0 이상 1.0 미만의 난수를 반환합니다.
+     * @return 난수
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+    
+    /**
+     * 0 이상 bound 미만의 정수 난수를 반환합니다.
+     * @param bound 상한 (양수)
+     * @return 난수
+     */
+    public int nextInt(int bound) {
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+    
+    /**
+     * 참과 거짓 중 하나를 같은 확률로 반환합니다.
+     * @return 난수
+     */
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+    
+    /**
+     * 현재 상태를 반환합니다. 스냅숏에 기록할 때 사용합니다.
+     * @return 생성기 상태
+     */
+    public long getState() {
+        return state;
+    }
+    
+    /**
+     * 상태를 설정합니다. 0은 xorshift가 벗어날 수 없는 상태이므로 고정된 값으로 바꿉니다.
+     * @param state 생성기 상태 (getState()로 얻은 값이나 시드)
+     */
+    public void setState(long state) {
+        this.state = state == 0 ? DEFAULT_STATE : state;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.nhnacademy.game.core;
+
+import com.nhnacademy.game.graphics.RenderQueue;
+
+/**
+ * 시뮬레이션과 그리기를 분리할 수 있는 게임 월드의 인터페이스
+ * update()와 record()는 같은 스레드에서 호출되며, 기록된 렌더 큐는 다른 스레드에서 그려질 수 있습니다.
+ */
+public interface GameWorld {
+    /**
+     * 월드를 한 단계 진행합니다.
+     * @param deltaTime 경과 시간 (초)
+     */
+    void update(double deltaTime);
+    
+    /**
+     * 현재 상태를 그리기 명령으로 렌더 큐에 기록합니다.
+     * 기록한 뒤 월드가 바뀌어도 결과가 달라지지 않도록 custom 명령 대신 기본 도형과 스프라이트를 사용합니다.
+     * @param queue 비어 있는 렌더 큐
+     */
+    void record(RenderQueue queue);
+}
\ No newline at end of file
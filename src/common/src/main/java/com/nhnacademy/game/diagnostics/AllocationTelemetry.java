@@ -0,0 +1,342 @@
+package com.nhnacademy.game.diagnostics;
+
+import com.nhnacademy.game.graphics.Fonts;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import javafx.scene.paint.Color;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프레임별 할당량과 GC 측정기
+ * 프레임마다 지정한 스레드들이 할당한 바이트, 그 사이에 일어난 GC 횟수와 멈춘 시간, 힙 사용량을 기록하고
+ * 프레임 시간이 평소보다 크게 튄 프레임(스파이크)이 GC와 겹쳤는지를 셉니다.
+ *
+ * 최근 프레임 기록은 고정 크기 링 버퍼에 저장하며, getter로 읽거나 enqueueGraph()로 화면에 그래프를 그릴 수 있습니다.
+ * 측정 자체가 할당량을 늘리지 않도록 버퍼는 미리 만들어 두고, 객체를 만드는 힙 사용량 조회는 몇 프레임에 한 번만 합니다.
+ * 스레드별 할당량은 HotSpot의 com.sun.management.ThreadMXBean이 지원할 때만 측정됩니다.
+ * GC 알림은 JVM의 별도 스레드에서 들어오므로 원자 변수로 누적하고, 나머지는 프레임을 진행하는 한 스레드에서만 사용해야 합니다.
+ */
+public class AllocationTelemetry {
+    private static final double SPIKE_FACTOR = 2.0;
+    private static final long MIN_SPIKE_NANOS = 1_000_000L;
+    private static final int HEAP_SAMPLE_INTERVAL = 10;
+    private static final double AVERAGE_WEIGHT = 0.05;
+    private static final long OVERLAY_REFRESH_NANOS = 500_000_000L;
+    private static final Color GRAPH_BACKGROUND = Color.rgb(0, 0, 0, 0.6);
+    private static final Color ALLOCATION_COLOR = Color.rgb(80, 160, 255);
+    private static final Color FRAME_COLOR = Color.YELLOW;
+    private static final Color GC_COLOR = Color.RED;
+    
+    // 최근 프레임 기록 (링 버퍼)
+    private final int historySize;
+    private final long[] frameNanos;
+    private final long[] allocatedBytes;
+    private final int[] gcCounts;
+    private final long[] gcPauseNanos;
+    private final long[] heapUsed;
+    private final boolean[] spikes;
+    private int head = 0;
+    private int size = 0;
+    
+    // 측정 대상 스레드
+    private final List<Thread> threads = new ArrayList<>();
+    private long[] threadIds = new long[0];
+    private long[] threadAllocated = new long[0];
+    private long[] lastThreadAllocations = new long[0];
+    private final com.sun.management.ThreadMXBean threadBean;
+    
+    // GC 알림으로 누적한 값
+    private final AtomicLong gcCount = new AtomicLong();
+    private final AtomicLong gcPauseTotalNanos = new AtomicLong();
+    private final AtomicLong gcMaxPauseNanos = new AtomicLong();
+    private long lastGcCount = 0;
+    private long lastGcPauseNanos = 0;
+    private final List<Runnable> unregisters = new ArrayList<>();
+    
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private long heapMax;
+    private long lastHeapUsed = 0;
+    
+    // 스파이크 판정
+    private long frameStart = 0;
+    private double averageFrameNanos = 0;
+    private long spikeCount = 0;
+    private long gcSpikeCount = 0;
+    private long frameCount = 0;
+    private long totalAllocatedBytes = 0;
+    
+    // 그래프 제목 (갱신할 때만 문자열을 만듭니다)
+    private String headline = "";
+    private long headlineRefreshed = 0;
+    
+    /**
+     * 호출한 스레드를 측정 대상으로 등록합니다.
+     * @param historySize 보관할 최근 프레임 수
+     */
+    public AllocationTelemetry(int historySize) {
+        this.historySize = historySize;
+        this.frameNanos = new long[historySize];
+        this.allocatedBytes = new long[historySize];
+        this.gcCounts = new int[historySize];
+        this.gcPauseNanos = new long[historySize];
+        this.heapUsed = new long[historySize];
+        this.spikes = new boolean[historySize];
+        
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            this.threadBean = (com.sun.management.ThreadMXBean) bean;
+            this.threadBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.threadBean = null;
+        }
+        this.heapMax = memoryBean.getHeapMemoryUsage().getMax();
+        
+        listenForGc();
+        watch(Thread.currentThread());
+    }
+    
+    /**
+     * 할당량을 측정할 스레드를 추가합니다.
+     * 프레임당 할당량은 등록한 모든 스레드의 합입니다.
+     * @param thread 측정할 스레드
+     */
+    public void watch(Thread thread) {
+        if (threads.contains(thread)) {
+            return;
+        }
+        threads.add(thread);
+        int n = threads.size();
+        threadIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            threadIds[i] = threads.get(i).getId();
+        }
+        threadAllocated = new long[n];
+        lastThreadAllocations = new long[n];
+        for (int i = 0; i < n; i++) {
+            threadAllocated[i] = readAllocatedBytes(threadIds[i]);
+        }
+    }
+    
+    /**
+     * 프레임을 시작합니다.
+     */
+    public void beginFrame() {
+        frameStart = System.nanoTime();
+    }
+    
+    /**
+     * 프레임을 끝내고 지난 endFrame() 이후의 할당량, GC, 힙 사용량을 기록합니다.
+     */
+    public void endFrame() {
+        long elapsed = frameStart == 0 ? 0 : System.nanoTime() - frameStart;
+        
+        // 스레드별 할당량
+        long frameAllocated = 0;
+        for (int i = 0; i < threadIds.length; i++) {
+            long current = readAllocatedBytes(threadIds[i]);
+            long delta = current >= 0 && threadAllocated[i] >= 0 ? current - threadAllocated[i] : 0;
+            threadAllocated[i] = current;
+            lastThreadAllocations[i] = delta;
+            frameAllocated += delta;
+        }
+        
+        // GC
+        long gcNow = gcCount.get();
+        long pauseNow = gcPauseTotalNanos.get();
+        int frameGcCount = (int) (gcNow - lastGcCount);
+        long framePause = pauseNow - lastGcPauseNanos;
+        lastGcCount = gcNow;
+        lastGcPauseNanos = pauseNow;
+        
+        // 스파이크: 평균의 SPIKE_FACTOR배를 넘고 1ms 이상 걸린 프레임
+        boolean spike = frameCount > 30 && elapsed > MIN_SPIKE_NANOS && elapsed > averageFrameNanos * SPIKE_FACTOR;
+        if (spike) {
+            spikeCount++;
+            if (frameGcCount > 0) {
+                gcSpikeCount++;
+            }
+        } else {
+            averageFrameNanos = averageFrameNanos == 0
+                ? elapsed
+                : averageFrameNanos + (elapsed - averageFrameNanos) * AVERAGE_WEIGHT;
+        }
+        
+        frameNanos[head] = elapsed;
+        allocatedBytes[head] = frameAllocated;
+        gcCounts[head] = frameGcCount;
+        gcPauseNanos[head] = framePause;
+        if (frameCount % HEAP_SAMPLE_INTERVAL == 0) {
+            lastHeapUsed = memoryBean.getHeapMemoryUsage().getUsed();
+        }
+        heapUsed[head] = lastHeapUsed;
+        spikes[head] = spike;
+        head = (head + 1) % historySize;
+        if (size < historySize) {
+            size++;
+        }
+        frameCount++;
+        totalAllocatedBytes += frameAllocated;
+    }
+    
+    /**
+     * 최근 프레임의 할당량(막대), 프레임 시간(선), GC가 일어난 프레임(빨간 표시)을 그래프로 그립니다.
+     * 막대와 선은 각각 보관 중인 기록의 최댓값을 기준으로 크기를 맞춥니다.
+     * @param queue 렌더 큐
+     * @param x 왼쪽 X 좌표
+     * @param y 위쪽 Y 좌표
+     * @param width 너비
+     * @param height 높이
+     */
+    public void enqueueGraph(RenderQueue queue, double x, double y, double width, double height) {
+        queue.fillRect(RenderQueue.LAYER_SCREEN, GRAPH_BACKGROUND, x, y, width, height);
+        if (size == 0) {
+            return;
+        }
+        
+        long now = System.nanoTime();
+        if (now - headlineRefreshed >= OVERLAY_REFRESH_NANOS) {
+            headline = buildHeadline();
+            headlineRefreshed = now;
+        }
+        queue.fillText(RenderQueue.LAYER_SCREEN, Color.WHITE, Fonts.of(11), headline, x + 4, y + 12);
+        
+        double graphTop = y + 16;
+        double graphHeight = height - 18;
+        long maxAllocated = 1;
+        long maxFrame = 1;
+        for (int n = 0; n < size; n++) {
+            maxAllocated = Math.max(maxAllocated, allocatedBytes[n]);
+            maxFrame = Math.max(maxFrame, frameNanos[n]);
+        }
+        
+        double columnWidth = width / historySize;
+        double previousX = 0;
+        double previousY = 0;
+        queue.setLineWidth(1);
+        for (int n = 0; n < size; n++) {
+            int i = slot(n);
+            double columnX = x + (historySize - size + n) * columnWidth;
+            double bottom = graphTop + graphHeight;
+            
+            double barHeight = graphHeight * allocatedBytes[i] / maxAllocated;
+            if (barHeight > 0) {
+                queue.fillRect(RenderQueue.LAYER_SCREEN, ALLOCATION_COLOR,
+                               columnX, bottom - barHeight, Math.max(1, columnWidth - 1), barHeight);
+            }
+            if (gcCounts[i] > 0) {
+                queue.fillRect(RenderQueue.LAYER_SCREEN, GC_COLOR, columnX, graphTop, Math.max(1, columnWidth - 1), 3);
+            }
+            
+            double lineX = columnX + columnWidth / 2;
+            double lineY = bottom - graphHeight * frameNanos[i] / maxFrame;
+            if (n > 0) {
+                queue.strokeLine(RenderQueue.LAYER_SCREEN, FRAME_COLOR, previousX, previousY, lineX, lineY);
+            }
+            previousX = lineX;
+            previousY = lineY;
+        }
+    }
+    
+    /**
+     * 측정을 끝내고 GC 알림 등록을 해제합니다.
+     */
+    public void close() {
+        for (Runnable unregister : unregisters) {
+            unregister.run();
+        }
+        unregisters.clear();
+    }
+    
+    private String buildHeadline() {
+        return String.format("alloc %.1f KB/f  gc %d (max %.1f ms)  heap %d/%d MB  spikes %d (gc %d)",
+                             getAverageAllocatedBytes() / 1024.0,
+                             gcCount.get(),
+                             gcMaxPauseNanos.get() / 1_000_000.0,
+                             lastHeapUsed >> 20,
+                             heapMax >> 20,
+                             spikeCount,
+                             gcSpikeCount);
+    }
+    
+    private long readAllocatedBytes(long threadId) {
+        return threadBean == null ? 0 : threadBean.getThreadAllocatedBytes(threadId);
+    }
+    
+    private void listenForGc() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(collector instanceof NotificationEmitter)) {
+                continue;
+            }
+            NotificationEmitter emitter = (NotificationEmitter) collector;
+            NotificationListener listener = this::handleGcNotification;
+            emitter.addNotificationListener(listener, null, null);
+            unregisters.add(() -> {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (Exception e) {
+                    // 이미 해제된 경우
+                }
+            });
+        }
+    }
+    
+    private void handleGcNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+            GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long pauseNanos = info.getGcInfo().getDuration() * 1_000_000L;
+        gcCount.incrementAndGet();
+        gcPauseTotalNanos.addAndGet(pauseNanos);
+        gcMaxPauseNanos.accumulateAndGet(pauseNanos, Math::max);
+    }
+    
+    /**
+     * 가장 최근 프레임에서 index번째 등록 스레드가 할당한 바이트를 반환합니다.
+     * @param threadIndex watch()로 등록한 순서 (0은 생성한 스레드)
+     */
+    public long getLastAllocatedBytes(int threadIndex) {
+        return lastThreadAllocations[threadIndex];
+    }
+    
+    /**
+     * 최근 기록의 n번째 프레임 인덱스를 링 버퍼 인덱스로 바꿉니다. 0이 가장 오래된 프레임입니다.
+     */
+    private int slot(int n) {
+        return (head - size + n + historySize) % historySize;
+    }
+    
+    public long getFrameNanos(int n) { return frameNanos[slot(n)]; }
+    public long getAllocatedBytes(int n) { return allocatedBytes[slot(n)]; }
+    public int getGcCount(int n) { return gcCounts[slot(n)]; }
+    public long getGcPauseNanos(int n) { return gcPauseNanos[slot(n)]; }
+    public long getHeapUsed(int n) { return heapUsed[slot(n)]; }
+    public boolean isSpike(int n) { return spikes[slot(n)]; }
+    
+    // Getters
+    public boolean isAllocationTrackingSupported() { return threadBean != null; }
+    public int getHistorySize() { return historySize; }
+    public int size() { return size; }
+    public long getFrameCount() { return frameCount; }
+    public long getTotalAllocatedBytes() { return totalAllocatedBytes; }
+    public double getAverageAllocatedBytes() { return frameCount == 0 ? 0 : (double) totalAllocatedBytes / frameCount; }
+    public long getTotalGcCount() { return gcCount.get(); }
+    public long getTotalGcPauseNanos() { return gcPauseTotalNanos.get(); }
+    public long getMaxGcPauseNanos() { return gcMaxPauseNanos.get(); }
+    public long getHeapMax() { return heapMax; }
+    public long getSpikeCount() { return spikeCount; }
+    public long getGcSpikeCount() { return gcSpikeCount; }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.nhnacademy.game.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 한 프레임의 충돌 검사 묶음을 나타내는 JFR 이벤트
+ */
+@Name("com.nhnacademy.game.CollisionBatch")
+@Label("Collision Batch")
+@Category({"Game", "Physics"})
+@Description("한 프레임 동안의 충돌 검사")
+@StackTrace(false)
+@Threshold("1 ms")
+public class CollisionBatchEvent extends jdk.jfr.Event {
+    @Label("World")
+    public String world;
+    
+    @Label("Pair Tests")
+    public int pairTests;
+    
+    @Label("Hits")
+    public int hits;
+}
\ No newline at end of file
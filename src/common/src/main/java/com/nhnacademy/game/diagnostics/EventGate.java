@@ -0,0 +1,32 @@
+package com.nhnacademy.game.diagnostics;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * 프레임마다 생기는 JFR 이벤트가 지금 기록되는지 알려 주는 캐시
+ * 이벤트 종류(EventType)를 한 번만 찾아 두고, 프레임마다 그 isEnabled()만 읽습니다.
+ * 이벤트 객체는 이 검사를 통과했을 때만 만들므로, 기록 중이 아닐 때는 탈출 분석에 기대지 않고도 할당이 없습니다.
+ * 기록 중일 때는 이벤트마다 객체 하나를 할당합니다(JFR 이벤트 객체는 다시 쓸 수 없습니다).
+ */
+public final class EventGate {
+    public static final EventGate FRAME = new EventGate(FrameEvent.class);
+    public static final EventGate PHASE = new EventGate(PhaseEvent.class);
+    public static final EventGate COLLISION_BATCH = new EventGate(CollisionBatchEvent.class);
+    public static final EventGate RENDER = new EventGate(RenderEvent.class);
+    
+    private final EventType type;
+    
+    private EventGate(Class<? extends Event> eventClass) {
+        // JFR을 쓸 수 없는 JVM에서는 늘 꺼진 것으로 봅니다.
+        this.type = FlightRecorder.isAvailable() ? EventType.getEventType(eventClass) : null;
+    }
+    
+    /**
+     * @return 기록 중이고 이 이벤트가 켜져 있으면 true
+     */
+    public boolean isEnabled() {
+        return type != null && type.isEnabled();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.nhnacademy.game.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 폭발 처리를 나타내는 JFR 이벤트
+ */
+@Name("com.nhnacademy.game.Explosion")
+@Label("Explosion")
+@Category({"Game", "Physics"})
+@Description("폭발 범위의 객체에 피해를 주는 처리")
+@StackTrace(false)
+public class ExplosionEvent extends jdk.jfr.Event {
+    @Label("World")
+    public String world;
+    
+    @Label("X")
+    public double x;
+    
+    @Label("Y")
+    public double y;
+    
+    @Label("Candidates")
+    @Description("범위 검사를 한 객체 수")
+    public int candidates;
+    
+    @Label("Affected")
+    @Description("피해를 입은 객체 수")
+    public int affected;
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.nhnacademy.game.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 월드 한 프레임(업데이트 한 번)을 나타내는 JFR 이벤트
+ */
+@Name("com.nhnacademy.game.Frame")
+@Label("Game Frame")
+@Category({"Game", "Loop"})
+@Description("월드 업데이트 한 번")
+@StackTrace(false)
+@Threshold("0 ms")
+public class FrameEvent extends jdk.jfr.Event {
+    @Label("World")
+    public String world;
+    
+    @Label("Level")
+    @Description("Breakout 레벨 또는 대포 게임 웨이브")
+    public int level;
+    
+    @Label("Entities")
+    public int entities;
+    
+    @Label("Particles")
+    public int particles;
+}
\ No newline at end of file
@@ -0,0 +1,260 @@
+package com.nhnacademy.game.diagnostics;
+
+import com.nhnacademy.game.graphics.Fonts;
+import com.nhnacademy.game.graphics.RenderQueue;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 프레임 단계별 시간 측정기
+ * 업데이트의 각 단계를 begin()/end()로 감싸면 단계마다 나노초 히스토그램(p50, p99, 최대)을 모으고,
+ * count()로 객체 수나 충돌 검사 횟수 같은 프레임별 카운터를 기록합니다.
+ * 모은 값은 화면 구석의 오버레이로 보거나 일정 간격으로 문자열로 출력할 수 있습니다.
+ *
+ * -Dgame.profiler=true로 실행할 때만 동작합니다.
+ * 꺼져 있으면 ENABLED가 상수 false이므로 JIT가 측정 코드를 모두 제거해 비용이 들지 않습니다.
+ *
+ * 이와 별개로 각 단계는 JFR PhaseEvent로도 기록됩니다. 이벤트 객체는 EventGate.PHASE가 켜져 있을 때만 만들므로
+ * JFR로 기록하지 않을 때는 할당이 없습니다.
+ * 한 스레드에서만 사용해야 합니다.
+ */
+public class FrameProfiler {
+    public static final boolean ENABLED = Boolean.getBoolean("game.profiler");
+    
+    private static final long DEFAULT_DUMP_INTERVAL_NANOS = 5_000_000_000L;
+    private static final long OVERLAY_REFRESH_NANOS = 500_000_000L;
+    private static final Color OVERLAY_BACKGROUND = Color.rgb(0, 0, 0, 0.6);
+    private static final int OVERLAY_FONT_SIZE = 11;
+    private static final double OVERLAY_LINE_HEIGHT = 14;
+    
+    private final String[] phaseNames;
+    private final PhaseHistogram[] phases;
+    private final long[] phaseStarts;
+    private final PhaseEvent[] phaseEvents;
+    private final PhaseHistogram frames = new PhaseHistogram();
+    private long frameStart = 0;
+    
+    private final String[] counterNames;
+    private final long[] counters;
+    private final long[] lastCounters;
+    private final long[] maxCounters;
+    
+    // 출력
+    private long dumpIntervalNanos = DEFAULT_DUMP_INTERVAL_NANOS;
+    private Consumer<String> dumpSink = System.out::println;
+    private long windowStart = 0;
+    
+    // 오버레이 (갱신할 때만 문자열을 만듭니다)
+    private boolean overlayVisible = false;
+    private String[] overlayLines = new String[0];
+    private long overlayRefreshed = 0;
+    
+    /**
+     * @param phaseNames 단계 이름 (배열 인덱스가 단계 번호)
+     * @param counterNames 카운터 이름 (배열 인덱스가 카운터 번호)
+     */
+    public FrameProfiler(String[] phaseNames, String[] counterNames) {
+        this.phaseNames = phaseNames.clone();
+        this.phases = new PhaseHistogram[phaseNames.length];
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new PhaseHistogram();
+        }
+        this.phaseStarts = new long[phaseNames.length];
+        this.phaseEvents = new PhaseEvent[phaseNames.length];
+        this.counterNames = counterNames.clone();
+        this.counters = new long[counterNames.length];
+        this.lastCounters = new long[counterNames.length];
+        this.maxCounters = new long[counterNames.length];
+    }
+    
+    /**
+     * 프레임 측정을 시작합니다.
+     */
+    public void beginFrame() {
+        if (!ENABLED) {
+            return;
+        }
+        frameStart = System.nanoTime();
+        if (windowStart == 0) {
+            windowStart = frameStart;
+            overlayRefreshed = frameStart;
+        }
+    }
+    
+    /**
+     * 단계 측정을 시작합니다.
+     * @param phase 단계 번호
+     */
+    public void begin(int phase) {
+        if (EventGate.PHASE.isEnabled()) {
+            PhaseEvent event = new PhaseEvent();
+            event.begin();
+            phaseEvents[phase] = event;
+        }
+        
+        if (!ENABLED) {
+            return;
+        }
+        phaseStarts[phase] = System.nanoTime();
+    }
+    
+    /**
+     * 단계 측정을 끝내고 걸린 시간을 기록합니다.
+     * @param phase 단계 번호
+     */
+    public void end(int phase) {
+        PhaseEvent event = phaseEvents[phase];
+        if (event != null) {
+            phaseEvents[phase] = null;
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = phaseNames[phase];
+                event.commit();
+            }
+        }
+        
+        if (!ENABLED) {
+            return;
+        }
+        phases[phase].record(System.nanoTime() - phaseStarts[phase]);
+    }
+    
+    /**
+     * 이번 프레임의 카운터에 값을 더합니다.
+     * @param counter 카운터 번호
+     * @param amount 더할 값
+     */
+    public void count(int counter, long amount) {
+        if (!ENABLED) {
+            return;
+        }
+        counters[counter] += amount;
+    }
+    
+    /**
+     * 프레임 측정을 끝냅니다.
+     * 카운터를 확정하고, 필요하면 오버레이를 갱신하거나 누적 결과를 출력한 뒤 초기화합니다.
+     */
+    public void endFrame() {
+        if (!ENABLED || frameStart == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        frames.record(now - frameStart);
+        for (int i = 0; i < counters.length; i++) {
+            lastCounters[i] = counters[i];
+            if (counters[i] > maxCounters[i]) {
+                maxCounters[i] = counters[i];
+            }
+            counters[i] = 0;
+        }
+        
+        if (overlayVisible && now - overlayRefreshed >= OVERLAY_REFRESH_NANOS) {
+            overlayLines = buildLines();
+            overlayRefreshed = now;
+        }
+        
+        if (dumpIntervalNanos > 0 && now - windowStart >= dumpIntervalNanos) {
+            if (dumpSink != null) {
+                dumpSink.accept(summary());
+            }
+            reset();
+            windowStart = now;
+        }
+    }
+    
+    /**
+     * 측정 결과를 화면 왼쪽 아래에 그리도록 렌더 큐에 추가합니다.
+     * 오버레이가 꺼져 있거나 측정기가 비활성화되어 있으면 아무것도 추가하지 않습니다.
+     * @param queue 렌더 큐
+     * @param x 왼쪽 X 좌표
+     * @param bottom 아래쪽 Y 좌표
+     */
+    public void enqueueOverlay(RenderQueue queue, double x, double bottom) {
+        if (!ENABLED || !overlayVisible || overlayLines.length == 0) {
+            return;
+        }
+        double height = overlayLines.length * OVERLAY_LINE_HEIGHT + 8;
+        double top = bottom - height;
+        queue.fillRect(RenderQueue.LAYER_SCREEN, OVERLAY_BACKGROUND, x, top, 300, height);
+        Font font = Fonts.of(OVERLAY_FONT_SIZE);
+        for (int i = 0; i < overlayLines.length; i++) {
+            queue.fillText(RenderQueue.LAYER_SCREEN, Color.LIME, font, overlayLines[i],
+                           x + 6, top + 4 + (i + 1) * OVERLAY_LINE_HEIGHT - 3);
+        }
+    }
+    
+    /**
+     * 현재 구간의 측정 결과를 여러 줄 문자열로 반환합니다.
+     */
+    public String summary() {
+        return String.join(System.lineSeparator(), buildLines());
+    }
+    
+    /**
+     * 히스토그램과 카운터 최댓값을 초기화합니다.
+     */
+    public void reset() {
+        frames.reset();
+        for (PhaseHistogram phase : phases) {
+            phase.reset();
+        }
+        Arrays.fill(maxCounters, 0);
+    }
+    
+    private String[] buildLines() {
+        String[] lines = new String[2 + phases.length + counterNames.length];
+        int n = 0;
+        lines[n++] = String.format("%-12s %8s %8s %8s", "phase(us)", "p50", "p99", "max");
+        lines[n++] = formatHistogram("frame", frames);
+        for (int i = 0; i < phases.length; i++) {
+            lines[n++] = formatHistogram(phaseNames[i], phases[i]);
+        }
+        for (int i = 0; i < counterNames.length; i++) {
+            lines[n++] = String.format("%-12s %8d %8s %8d", counterNames[i], lastCounters[i], "", maxCounters[i]);
+        }
+        return lines;
+    }
+    
+    private static String formatHistogram(String name, PhaseHistogram histogram) {
+        return String.format("%-12s %8.1f %8.1f %8.1f", name,
+                             histogram.getPercentile(50) / 1000.0,
+                             histogram.getPercentile(99) / 1000.0,
+                             histogram.getMax() / 1000.0);
+    }
+    
+    public void setOverlayVisible(boolean overlayVisible) {
+        this.overlayVisible = overlayVisible;
+        this.overlayRefreshed = 0;
+    }
+    
+    public void toggleOverlay() {
+        setOverlayVisible(!overlayVisible);
+    }
+    
+    /**
+     * 결과 출력 간격을 설정합니다.
+     * @param dumpIntervalNanos 나노초 (0이면 출력과 초기화를 하지 않음)
+     */
+    public void setDumpIntervalNanos(long dumpIntervalNanos) {
+        this.dumpIntervalNanos = dumpIntervalNanos;
+    }
+    
+    /**
+     * 결과를 받을 곳을 설정합니다.
+     * @param dumpSink 결과 문자열을 받을 함수 (null이면 출력하지 않고 초기화만 함)
+     */
+    public void setDumpSink(Consumer<String> dumpSink) {
+        this.dumpSink = dumpSink;
+    }
+    
+    // Getters
+    public boolean isOverlayVisible() { return overlayVisible; }
+    public PhaseHistogram getFrameHistogram() { return frames; }
+    public PhaseHistogram getPhaseHistogram(int phase) { return phases[phase]; }
+    public long getLastCount(int counter) { return lastCounters[counter]; }
+    public long getMaxCount(int counter) { return maxCounters[counter]; }
+}
\ No newline at end of file
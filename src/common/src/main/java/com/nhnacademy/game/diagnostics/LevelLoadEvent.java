@@ -0,0 +1,27 @@
+package com.nhnacademy.game.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 레벨이나 웨이브를 만드는 작업을 나타내는 JFR 이벤트
+ */
+@Name("com.nhnacademy.game.LevelLoad")
+@Label("Level Load")
+@Category({"Game", "Loop"})
+@Description("레벨 또는 웨이브 생성")
+@StackTrace(false)
+public class LevelLoadEvent extends jdk.jfr.Event {
+    @Label("World")
+    public String world;
+    
+    @Label("Level")
+    public int level;
+    
+    @Label("Entities")
+    @Description("생성한 벽돌 또는 표적 수")
+    public int entities;
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.nhnacademy.game.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 프레임의 한 단계를 나타내는 JFR 이벤트
+ * 프레임마다 여러 번 발생하므로 기본값은 1ms 이상 걸린 단계만 기록합니다.
+ */
+@Name("com.nhnacademy.game.Phase")
+@Label("Game Phase")
+@Category({"Game", "Loop"})
+@Description("프레임 안의 업데이트 단계")
+@StackTrace(false)
+@Threshold("1 ms")
+public class PhaseEvent extends jdk.jfr.Event {
+    @Label("Phase")
+    public String phase;
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.nhnacademy.game.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * 나노초 단위 시간을 모으는 로그 구간 히스토그램
+ * 2의 거듭제곱 구간을 다시 4등분하므로 백분위 값의 오차는 최대 25%이고,
+ * 값 하나를 기록하는 데 배열 한 칸 증가만 필요합니다.
+ */
+public class PhaseHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long sum = 0;
+    private long max = 0;
+    
+    /**
+     * 값을 하나 기록합니다.
+     * @param value 나노초 (음수는 0으로 기록)
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets[indexOf(value)]++;
+        count++;
+        sum += value;
+        if (value > max) {
+            max = value;
+        }
+    }
+    
+    /**
+     * 주어진 백분위에 해당하는 값을 반환합니다.
+     * 값이 속한 구간의 상한을 돌려주며, 최댓값을 넘지 않습니다.
+     * @param percentile 0.0 ~ 100.0
+     * @return 나노초 (기록이 없으면 0)
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        rank = Math.max(1, Math.min(count, rank));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(max, upperBoundOf(i));
+            }
+        }
+        return max;
+    }
+    
+    /**
+     * 다른 히스토그램의 기록을 모두 더합니다. 여러 스레드가 따로 모은 기록을 합칠 때 씁니다.
+     * @param other 더할 히스토그램 (바뀌지 않습니다)
+     */
+    public void add(PhaseHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] += other.buckets[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+    
+    /**
+     * 모든 기록을 지웁니다.
+     */
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+    
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+    
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + sub) << shift;
+        return lower + (1L << shift) - 1;
+    }
+    
+    // Getters
+    public long getCount() { return count; }
+    public long getMax() { return max; }
+    public double getMean() { return count == 0 ? 0 : (double) sum / count; }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.nhnacademy.game.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 그리기 명령 기록(record) 또는 재생(replay)을 나타내는 JFR 이벤트
+ */
+@Name("com.nhnacademy.game.Render")
+@Label("Render")
+@Category({"Game", "Render"})
+@Description("렌더 큐 기록 또는 재생")
+@StackTrace(false)
+@Threshold("1 ms")
+public class RenderEvent extends jdk.jfr.Event {
+    @Label("Pass")
+    @Description("record 또는 replay")
+    public String pass;
+    
+    @Label("Commands")
+    public int commands;
+    
+    @Label("State Changes")
+    public int stateChanges;
+    
+    @Label("Culled")
+    public int culled;
+}
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.nhnacademy.game.movement.Movable;
 import com.nhnacademy.game.collision.Collidable;
 import com.nhnacademy.game.collision.Boundable;
 import com.nhnacademy.game.collision.Bounds;
+import com.nhnacademy.game.graphics.RenderQueue;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
@@ -17,6 +18,9 @@ public class Ball extends GameObject implements Movable, Collidable, Boundable {
     private double vx, vy;
     private Color color;
     
+    // getBounds()가 재사용하는 경계 (충돌 검사마다 할당하지 않도록)
+    private final Bounds bounds = new Bounds(0, 0, 0, 0);
+    
     public Ball(double x, double y, double radius) {
         super(x - radius, y - radius, radius * 2, radius * 2);
         this.radius = radius;
@@ -36,6 +40,11 @@ public class Ball extends GameObject implements Movable, Collidable, Boundable {
         gc.fillOval(x, y, width, height);
     }
     
+    @Override
+    public void enqueue(RenderQueue queue) {
+        queue.fillOval(RenderQueue.LAYER_BODY, color, x, y, width, height);
+    }
+    
     @Override
     public void update(double deltaTime) {
         move(deltaTime);
@@ -111,7 +120,8 @@ public class Ball extends GameObject implements Movable, Collidable, Boundable {
     
     @Override
     public Bounds getBounds() {
-        return new Bounds(x, y, width, height);
+        bounds.set(x, y, width, height);
+        return bounds;
     }
     
     // Boundable 인터페이스 구현
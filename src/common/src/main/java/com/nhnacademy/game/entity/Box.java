@@ -5,6 +5,7 @@ import com.nhnacademy.game.movement.Movable;
 import com.nhnacademy.game.collision.Collidable;
 import com.nhnacademy.game.collision.Boundable;
 import com.nhnacademy.game.collision.Bounds;
+import com.nhnacademy.game.graphics.RenderQueue;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
@@ -17,6 +18,9 @@ public class Box extends GameObject implements Movable, Collidable, Boundable {
     private Color color;
     private boolean filled;
     
+    // getBounds()가 재사용하는 경계 (충돌 검사마다 할당하지 않도록)
+    private final Bounds bounds = new Bounds(0, 0, 0, 0);
+    
     public Box(double x, double y, double width, double height) {
         super(x, y, width, height);
         this.vx = 0;
@@ -42,6 +46,17 @@ public class Box extends GameObject implements Movable, Collidable, Boundable {
         }
     }
     
+    @Override
+    public void enqueue(RenderQueue queue) {
+        if (filled) {
+            queue.fillRect(RenderQueue.LAYER_BODY, color, x, y, width, height);
+        } else {
+            queue.setLineWidth(2);
+            queue.strokeRect(RenderQueue.LAYER_BODY, color, x, y, width, height);
+            queue.setLineWidth(1);
+        }
+    }
+    
     @Override
     public void update(double deltaTime) {
         move(deltaTime);
@@ -123,7 +138,8 @@ public class Box extends GameObject implements Movable, Collidable, Boundable {
     
     @Override
     public Bounds getBounds() {
-        return new Bounds(x, y, width, height);
+        bounds.set(x, y, width, height);
+        return bounds;
     }
     
     // Boundable 인터페이스 구현
@@ -3,6 +3,7 @@ package com.nhnacademy.game.entity;
 import com.nhnacademy.game.core.GameObject;
 import com.nhnacademy.game.collision.Collidable;
 import com.nhnacademy.game.collision.Bounds;
+import com.nhnacademy.game.graphics.RenderQueue;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
@@ -14,6 +15,9 @@ public class StaticObject extends GameObject implements Collidable {
     private Color color;
     private boolean filled;
     
+    // getBounds()가 재사용하는 경계 (충돌 검사마다 할당하지 않도록)
+    private final Bounds bounds = new Bounds(0, 0, 0, 0);
+    
     public StaticObject(double x, double y, double width, double height) {
         super(x, y, width, height);
         this.color = Color.GRAY;
@@ -37,6 +41,17 @@ public class StaticObject extends GameObject implements Collidable {
         }
     }
     
+    @Override
+    public void enqueue(RenderQueue queue) {
+        if (filled) {
+            queue.fillRect(RenderQueue.LAYER_BODY, color, x, y, width, height);
+        } else {
+            queue.setLineWidth(2);
+            queue.strokeRect(RenderQueue.LAYER_BODY, color, x, y, width, height);
+            queue.setLineWidth(1);
+        }
+    }
+    
     // Collidable 인터페이스 구현
     @Override
     public boolean collidesWith(Collidable other) {
@@ -51,7 +66,8 @@ public class StaticObject extends GameObject implements Collidable {
     
     @Override
     public Bounds getBounds() {
-        return new Bounds(x, y, width, height);
+        bounds.set(x, y, width, height);
+        return bounds;
     }
     
     // Getters and Setters
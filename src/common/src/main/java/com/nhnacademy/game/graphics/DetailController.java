@@ -0,0 +1,73 @@
+package com.nhnacademy.game.graphics;
+
+/**
+ * 세부 수준 조절기
+ * 매 프레임 그릴 객체 수와 프레임 시간을 받아 렌더링 세부 수준을 결정합니다.
+ *
+ * 예산을 넘으면 즉시 수준을 낮추고, 예산 안쪽으로 충분히 오래 머문 뒤에만 한 단계씩 올립니다.
+ * 물량이 몰리는 구간에서 프레임을 놓치는 대신 장식이 먼저 줄어들고,
+ * 경계 근처에서 수준이 매 프레임 바뀌며 깜빡이는 것을 막습니다.
+ */
+public class DetailController {
+    private static final double SMOOTHING = 0.1;
+    private static final double MINIMAL_PRESSURE = 1.5;
+    private static final int RECOVERY_FRAMES = 60;
+    
+    private final int objectBudget;
+    private final long frameBudgetNanos;
+    
+    private double averageFrameNanos = 0;
+    private DetailLevel level = DetailLevel.FULL;
+    private int calmFrames = 0;
+    
+    /**
+     * @param objectBudget 최고 수준으로 그릴 수 있는 객체 수
+     * @param frameBudgetNanos 프레임 시간 예산 (나노초)
+     */
+    public DetailController(int objectBudget, long frameBudgetNanos) {
+        this.objectBudget = objectBudget;
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+    
+    /**
+     * 이번 프레임의 부하를 반영하여 세부 수준을 갱신합니다.
+     * @param objectCount 그릴 객체 수
+     * @param frameNanos 직전 프레임 시간 (나노초, 알 수 없으면 0)
+     * @return 이번 프레임에 사용할 세부 수준
+     */
+    public DetailLevel update(int objectCount, long frameNanos) {
+        if (frameNanos > 0) {
+            averageFrameNanos = averageFrameNanos == 0
+                ? frameNanos
+                : averageFrameNanos + (frameNanos - averageFrameNanos) * SMOOTHING;
+        }
+        
+        double pressure = Math.max((double) objectCount / objectBudget,
+                                   averageFrameNanos / frameBudgetNanos);
+        DetailLevel target;
+        if (pressure > MINIMAL_PRESSURE) {
+            target = DetailLevel.MINIMAL;
+        } else if (pressure > 1.0) {
+            target = DetailLevel.REDUCED;
+        } else {
+            target = DetailLevel.FULL;
+        }
+        
+        if (target.ordinal() > level.ordinal()) {
+            level = target;
+            calmFrames = 0;
+        } else if (target.ordinal() < level.ordinal()) {
+            if (++calmFrames >= RECOVERY_FRAMES) {
+                level = DetailLevel.values()[level.ordinal() - 1];
+                calmFrames = 0;
+            }
+        } else {
+            calmFrames = 0;
+        }
+        return level;
+    }
+    
+    // Getters
+    public DetailLevel getLevel() { return level; }
+    public double getAverageFrameNanos() { return averageFrameNanos; }
+}
\ No newline at end of file
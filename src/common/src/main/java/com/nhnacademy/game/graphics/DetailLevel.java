@@ -0,0 +1,59 @@
+package com.nhnacademy.game.graphics;
+
+/**
+ * 렌더링 세부 수준
+ * 객체가 많거나 프레임 시간이 예산을 넘으면 낮은 수준으로 내려가 장식을 줄입니다.
+ */
+public enum DetailLevel {
+    /** 모든 장식을 그립니다. */
+    FULL,
+    /** 궤적을 줄이고 텍스트 표시를 생략하며 효과를 단순화합니다. */
+    REDUCED,
+    /** 궤적과 텍스트를 그리지 않고 효과를 최소한으로 그립니다. */
+    MINIMAL;
+    
+    /**
+     * 이 수준에서 그릴 궤적 길이를 반환합니다.
+     * @param fullLength 최고 수준에서의 궤적 길이
+     * @return 그릴 궤적 점의 개수
+     */
+    public int getTrailLength(int fullLength) {
+        switch (this) {
+            case FULL:
+                return fullLength;
+            case REDUCED:
+                return fullLength * 2 / 5;
+            default:
+                return 0;
+        }
+    }
+    
+    /**
+     * 이 수준에서 파티클을 몇 개마다 하나씩 그릴지 반환합니다.
+     * @return 1이면 모두, 2이면 둘 중 하나를 그립니다
+     */
+    public int getParticleStride() {
+        switch (this) {
+            case FULL:
+                return 1;
+            case REDUCED:
+                return 2;
+            default:
+                return 4;
+        }
+    }
+    
+    /**
+     * 체력 숫자, 타입 글자 같은 텍스트 표시를 그릴지 확인합니다.
+     */
+    public boolean showsLabels() {
+        return this == FULL;
+    }
+    
+    /**
+     * 폭발 같은 효과를 단순화해야 하는지 확인합니다.
+     */
+    public boolean simplifiesEffects() {
+        return this != FULL;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.nhnacademy.game.graphics;
+
+import javafx.scene.text.Font;
+
+/**
+ * 크기별 기본 폰트 캐시
+ * 매 프레임 Font.font(...)로 새 폰트를 만드는 대신 한 번 만든 폰트를 재사용합니다.
+ * JavaFX 툴킷이 없는 환경에서도 클래스를 로드할 수 있도록 처음 요청될 때 생성합니다.
+ */
+public final class Fonts {
+    private static final int MAX_CACHED_SIZE = 128;
+    private static final Font[] BY_SIZE = new Font[MAX_CACHED_SIZE + 1];
+    
+    private Fonts() {
+    }
+    
+    /**
+     * 주어진 크기의 기본 폰트를 반환합니다.
+     * @param size 폰트 크기 (포인트)
+     * @return 캐시된 폰트
+     */
+    public static Font of(int size) {
+        if (size < 0 || size > MAX_CACHED_SIZE) {
+            return Font.font(size);
+        }
+        
+        Font font = BY_SIZE[size];
+        if (font == null) {
+            font = Font.font(size);
+            BY_SIZE[size] = font;
+        }
+        return font;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.nhnacademy.game.graphics;
+
+import com.nhnacademy.game.core.GameObject;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * JavaFX GraphicsContext로 그리는 렌더러
+ * 스프라이트 아틀라스가 있으면 스프라이트 명령을 이미지 복사로 그립니다.
+ */
+public class FxRenderer implements Renderer {
+    private final GraphicsContext gc;
+    private SpriteAtlas spriteAtlas;
+    
+    public FxRenderer(GraphicsContext gc) {
+        this.gc = gc;
+    }
+    
+    @Override
+    public void setGlobalAlpha(double alpha) {
+        gc.setGlobalAlpha(alpha);
+    }
+    
+    @Override
+    public void setFill(Paint paint) {
+        gc.setFill(paint);
+    }
+    
+    @Override
+    public void setStroke(Paint paint) {
+        gc.setStroke(paint);
+    }
+    
+    @Override
+    public void setLineWidth(double lineWidth) {
+        gc.setLineWidth(lineWidth);
+    }
+    
+    @Override
+    public void setFont(Font font) {
+        gc.setFont(font);
+    }
+    
+    @Override
+    public void setTextAlign(TextAlignment align) {
+        gc.setTextAlign(align);
+    }
+    
+    @Override
+    public void fillRect(double x, double y, double w, double h) {
+        gc.fillRect(x, y, w, h);
+    }
+    
+    @Override
+    public void strokeRect(double x, double y, double w, double h) {
+        gc.strokeRect(x, y, w, h);
+    }
+    
+    @Override
+    public void fillOval(double x, double y, double w, double h) {
+        gc.fillOval(x, y, w, h);
+    }
+    
+    @Override
+    public void strokeOval(double x, double y, double w, double h) {
+        gc.strokeOval(x, y, w, h);
+    }
+    
+    @Override
+    public void strokeLine(double x1, double y1, double x2, double y2) {
+        gc.strokeLine(x1, y1, x2, y2);
+    }
+    
+    @Override
+    public void fillText(String text, double x, double y) {
+        gc.fillText(text, x, y);
+    }
+    
+    @Override
+    public void drawSprite(Sprited sprited, SpriteKey key, double x, double y) {
+        if (spriteAtlas != null) {
+            spriteAtlas.draw(gc, key, x, y);
+            return;
+        }
+        // 원본은 시뮬레이션 스레드가 바꾸고 있을 수 있으므로 키에 담긴 복사본을 기록된 위치로 옮겨 그립니다.
+        Sprited sprite = key.getSprite();
+        gc.save();
+        if (sprite instanceof GameObject) {
+            GameObject gameObject = (GameObject) sprite;
+            gc.translate(x - gameObject.getX(), y - gameObject.getY());
+        }
+        sprite.draw(gc);
+        gc.restore();
+    }
+    
+    @Override
+    public void drawPixels(PixelLayer layer) {
+        layer.draw(gc);
+    }
+    
+    @Override
+    public void drawCustom(Renderable renderable) {
+        renderable.draw(gc);
+    }
+    
+    public void setSpriteAtlas(SpriteAtlas spriteAtlas) {
+        this.spriteAtlas = spriteAtlas;
+    }
+    
+    // Getters
+    public GraphicsContext getGraphicsContext() { return gc; }
+    public SpriteAtlas getSpriteAtlas() { return spriteAtlas; }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.nhnacademy.game.graphics;
+
+/**
+ * 값이 바뀔 때만 새로 만드는 HUD 문자열
+ * "Score: " + score처럼 매 프레임 문자열을 이어 붙이는 대신 마지막 값과 문자열을 기억해 두었다가,
+ * 값이 그대로이면 같은 문자열을 반환하여 정상 상태 프레임에서 할당이 일어나지 않도록 합니다.
+ * 한 스레드에서만 사용해야 합니다.
+ */
+public final class HudLabel {
+    private final String prefix;
+    private long lastKey;
+    private Object lastValue;
+    private String text;
+    
+    /**
+     * @param prefix 값 앞에 붙일 문자열 (예: "Score: ")
+     */
+    public HudLabel(String prefix) {
+        this.prefix = prefix;
+    }
+    
+    /**
+     * 정수 값의 표시 문자열을 반환합니다.
+     * @param value 표시할 값
+     * @return 접두어와 값을 이어 붙인 문자열
+     */
+    public String of(long value) {
+        if (text == null || lastValue != null || value != lastKey) {
+            lastKey = value;
+            lastValue = null;
+            text = prefix + value;
+        }
+        return text;
+    }
+    
+    /**
+     * 소수점 아래 자릿수를 정해 실수 값의 표시 문자열을 반환합니다.
+     * 표시되는 자릿수까지 같으면 이전 문자열을 그대로 반환합니다.
+     * @param value 표시할 값
+     * @param decimals 소수점 아래 자릿수
+     * @return 접두어와 값을 이어 붙인 문자열
+     */
+    public String of(double value, int decimals) {
+        long key = Math.round(value * Math.pow(10, decimals));
+        if (text == null || lastValue != null || key != lastKey) {
+            lastKey = key;
+            lastValue = null;
+            text = prefix + String.format("%." + decimals + "f", value);
+        }
+        return text;
+    }
+    
+    /**
+     * 객체(열거형 등)의 표시 문자열을 반환합니다. 같은 객체이면 이전 문자열을 그대로 반환합니다.
+     * @param value 표시할 객체
+     * @return 접두어와 객체의 문자열을 이어 붙인 문자열
+     */
+    public String of(Object value) {
+        if (text == null || value != lastValue) {
+            lastValue = value;
+            text = prefix + value;
+        }
+        return text;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.nhnacademy.game.graphics;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * 투명한 int[] ARGB 픽셀 레이어
+ * 파티클처럼 작은 점이 아주 많은 요소를 도형 명령 대신 픽셀로 직접 찍은 뒤 이미지 한 장으로 합성합니다.
+ *
+ * 내용이 있는 영역(dirty 영역)만 지우고 올리므로, 화면 일부에만 점이 있으면 비용도 그만큼만 듭니다.
+ * 픽셀 쓰기는 어느 스레드에서나 할 수 있지만, draw()는 FX 애플리케이션 스레드에서만 호출해야 합니다.
+ */
+public class PixelLayer implements Renderable {
+    private static final PixelFormat<IntBuffer> FORMAT = PixelFormat.getIntArgbInstance();
+    
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+    
+    // 현재 내용이 있는 영역 [minX, maxX) x [minY, maxY)
+    private int minX, minY, maxX, maxY;
+    
+    // 지웠지만 아직 이미지에 반영하지 않은 영역
+    private int staleMinX, staleMinY, staleMaxX, staleMaxY;
+    
+    private WritableImage image;
+    
+    public PixelLayer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.pixels = new int[width * height];
+        resetDirty();
+        staleMinX = width;
+        staleMinY = height;
+        staleMaxX = 0;
+        staleMaxY = 0;
+    }
+    
+    /**
+     * 내용이 있는 영역을 투명하게 지웁니다.
+     */
+    public void clear() {
+        if (isEmpty()) {
+            return;
+        }
+        for (int py = minY; py < maxY; py++) {
+            int row = py * width;
+            Arrays.fill(pixels, row + minX, row + maxX, 0);
+        }
+        staleMinX = Math.min(staleMinX, minX);
+        staleMinY = Math.min(staleMinY, minY);
+        staleMaxX = Math.max(staleMaxX, maxX);
+        staleMaxY = Math.max(staleMaxY, maxY);
+        resetDirty();
+    }
+    
+    /**
+     * 영역에 내용이 쓰였음을 기록합니다. 좌표는 레이어 안으로 잘립니다.
+     */
+    public void include(int x0, int y0, int x1, int y1) {
+        minX = Math.max(0, Math.min(minX, x0));
+        minY = Math.max(0, Math.min(minY, y0));
+        maxX = Math.min(width, Math.max(maxX, x1));
+        maxY = Math.min(height, Math.max(maxY, y1));
+    }
+    
+    /**
+     * 한 픽셀에 색을 덮어 그립니다 (source-over).
+     * 호출하는 쪽에서 include()로 영역을 기록해야 합니다.
+     * @param index 픽셀 인덱스 (y * width + x)
+     * @param rgb RGB 색상 (알파 무시)
+     * @param alpha 0 ~ 255
+     */
+    public void blend(int index, int rgb, int alpha) {
+        int dst = pixels[index];
+        int dstAlpha = dst >>> 24;
+        if (alpha >= 255 || dstAlpha == 0) {
+            pixels[index] = (alpha << 24) | (rgb & 0xFFFFFF);
+            return;
+        }
+        int inverse = 255 - alpha;
+        int outAlpha = alpha + dstAlpha * inverse / 255;
+        int r = (((rgb >> 16) & 0xFF) * alpha + ((dst >> 16) & 0xFF) * inverse) / 255;
+        int g = (((rgb >> 8) & 0xFF) * alpha + ((dst >> 8) & 0xFF) * inverse) / 255;
+        int b = ((rgb & 0xFF) * alpha + (dst & 0xFF) * inverse) / 255;
+        pixels[index] = (outAlpha << 24) | (r << 16) | (g << 8) | b;
+    }
+    
+    /**
+     * 바뀐 영역을 이미지에 올린 뒤 내용이 있는 영역만 그립니다.
+     */
+    @Override
+    public void draw(GraphicsContext gc) {
+        int x0 = Math.min(minX, staleMinX);
+        int y0 = Math.min(minY, staleMinY);
+        int x1 = Math.max(maxX, staleMaxX);
+        int y1 = Math.max(maxY, staleMaxY);
+        if (x0 >= x1 || y0 >= y1) {
+            return;
+        }
+        
+        if (image == null) {
+            image = new WritableImage(width, height);
+        }
+        image.getPixelWriter().setPixels(x0, y0, x1 - x0, y1 - y0, FORMAT, pixels, y0 * width + x0, width);
+        staleMinX = width;
+        staleMinY = height;
+        staleMaxX = 0;
+        staleMaxY = 0;
+        
+        if (!isEmpty()) {
+            int w = maxX - minX;
+            int h = maxY - minY;
+            gc.drawImage(image, minX, minY, w, h, minX, minY, w, h);
+        }
+    }
+    
+    @Override
+    public void enqueue(RenderQueue queue) {
+        queue.pixels(RenderQueue.LAYER_OVERLAY, this);
+    }
+    
+    private void resetDirty() {
+        minX = width;
+        minY = height;
+        maxX = 0;
+        maxY = 0;
+    }
+    
+    public boolean isEmpty() {
+        return minX >= maxX || minY >= maxY;
+    }
+    
+    // Getters
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int[] getPixels() { return pixels; }
+    public int getMinX() { return minX; }
+    public int getMinY() { return minY; }
+    public int getMaxX() { return maxX; }
+    public int getMaxY() { return maxY; }
+}
\ No newline at end of file
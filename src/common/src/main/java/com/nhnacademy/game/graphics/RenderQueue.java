@@ -0,0 +1,582 @@
+package com.nhnacademy.game.graphics;
+
+import com.nhnacademy.game.core.GameObject;
+import com.nhnacademy.game.diagnostics.EventGate;
+import com.nhnacademy.game.diagnostics.RenderEvent;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상태 정렬 렌더 큐
+ * Renderable이 그리기 명령(primitive)을 모아 두면, 레이어 → 명령 종류 → 색상 → 폰트 순으로 정렬한 뒤
+ * 같은 상태를 공유하는 명령을 묶어서 GraphicsContext에 전달합니다.
+ * 색상, 폰트, 선 굵기, 투명도는 실제로 바뀔 때만 설정하므로 객체가 많아도 상태 변경 횟수가 적습니다.
+ *
+ * 명령은 기본형 배열에 저장하므로 용량이 늘어난 뒤에는 프레임마다 할당이 일어나지 않습니다.
+ * 같은 레이어 안에서는 그리는 순서가 보장되지 않으므로, 겹쳐 그려야 하는 요소는 레이어를 나눕니다.
+ * 한 객체 안에서 겹치는 요소는 draw(gc)에서 나중에 그리는 것일수록 높은 레이어에 둡니다.
+ * flush(Renderer)를 사용하면 JavaFX 없이 소프트웨어 렌더러 등으로도 같은 명령을 그릴 수 있습니다.
+ * 한 스레드에서 기록하고 sort()한 큐를 다른 스레드에 넘겨 replay()로 다시 그릴 수도 있습니다.
+ */
+public class RenderQueue {
+    // 레이어 (작은 값부터 그립니다)
+    public static final int LAYER_BACKGROUND = 0;
+    public static final int LAYER_UNDERLAY = 1;
+    public static final int LAYER_BODY = 2;
+    public static final int LAYER_DETAIL = 3;
+    public static final int LAYER_DECORATION = 4;
+    public static final int LAYER_LABEL = 5;
+    public static final int LAYER_OVERLAY = 6;
+    public static final int LAYER_SCREEN = 7;
+    
+    // 명령 종류
+    static final int FILL_RECT = 0;
+    static final int STROKE_RECT = 1;
+    static final int FILL_OVAL = 2;
+    static final int STROKE_OVAL = 3;
+    static final int STROKE_LINE = 4;
+    static final int FILL_TEXT = 5;
+    static final int SPRITE = 6;
+    static final int PIXELS = 7;
+    static final int CUSTOM = 15;
+    
+    // 정렬 키 비트 배치: layer(3) | kind(4) | paint(14) | font(9) | lineWidth(4) | alpha(6) | index(23)
+    private static final int INDEX_BITS = 23;
+    private static final int ALPHA_BITS = 6;
+    private static final int LINE_WIDTH_BITS = 4;
+    private static final int FONT_BITS = 9;
+    private static final int PAINT_BITS = 14;
+    private static final int KIND_BITS = 4;
+    private static final int ALPHA_STEPS = (1 << ALPHA_BITS) - 1;
+    private static final int MAX_COMMANDS = 1 << INDEX_BITS;
+    private static final int MAX_INTERNED_PAINTS = 1 << PAINT_BITS;
+    private static final TextAlignment[] ALIGNMENTS = TextAlignment.values();
+    
+    // 명령 데이터 (SoA)
+    private int count = 0;
+    private long[] keys;
+    private byte[] kinds;
+    private int[] paintIds;
+    private int[] fontIds;
+    private byte[] alignments;
+    private double[] a, b, c, d;
+    private String[] texts;
+    private Renderable[] customs;
+    private SpriteKey[] spriteKeys;
+    private boolean sorted = false;
+    
+    // 상태 인터닝
+    private final Map<Paint, Integer> paintIdMap = new HashMap<>();
+    private final List<Paint> paints = new ArrayList<>();
+    private final Map<Font, Integer> fontIdMap = new HashMap<>();
+    private final List<Font> fonts = new ArrayList<>();
+    private final double[] lineWidths = new double[1 << LINE_WIDTH_BITS];
+    private int lineWidthCount = 0;
+    
+    // 스프라이트 명령을 그릴 아틀라스 (없으면 객체의 draw()로 대신 그립니다)
+    private SpriteAtlas spriteAtlas;
+    
+    // 화면 밖 객체를 건너뛰기 위한 영역과 현재 세부 수준
+    private Viewport viewport;
+    private DetailLevel detailLevel = DetailLevel.FULL;
+    private int culledCount = 0;
+    
+    // pixels() 명령용 레이어
+    private PixelLayer pixelLayer;
+    
+    // flush(GraphicsContext)에서 재사용하는 JavaFX 렌더러
+    private FxRenderer fxRenderer;
+    
+    // 현재 명령에 적용될 상태
+    private double alpha = 1.0;
+    private double lineWidth = 1.0;
+    private TextAlignment textAlign = TextAlignment.LEFT;
+    
+    // 마지막 flush 통계
+    private int lastCommandCount = 0;
+    private int lastStateChanges = 0;
+    private int lastCulledCount = 0;
+    
+    public RenderQueue() {
+        this(256);
+    }
+    
+    public RenderQueue(int initialCapacity) {
+        allocate(Math.max(16, initialCapacity));
+        paints.add(null);
+        fonts.add(null);
+    }
+    
+    /**
+     * 이후 추가되는 명령의 투명도를 설정합니다.
+     * @param alpha 0.0 ~ 1.0
+     */
+    public void setAlpha(double alpha) {
+        this.alpha = Math.max(0.0, Math.min(1.0, alpha));
+    }
+    
+    /**
+     * 이후 추가되는 선 그리기 명령의 굵기를 설정합니다.
+     * @param lineWidth 선 굵기
+     */
+    public void setLineWidth(double lineWidth) {
+        this.lineWidth = lineWidth;
+    }
+    
+    /**
+     * 이후 추가되는 텍스트 명령의 정렬을 설정합니다.
+     * @param textAlign 텍스트 정렬
+     */
+    public void setTextAlign(TextAlignment textAlign) {
+        this.textAlign = textAlign;
+    }
+    
+    public void fillRect(int layer, Paint paint, double x, double y, double w, double h) {
+        add(layer, FILL_RECT, paint, null, x, y, w, h);
+    }
+    
+    public void strokeRect(int layer, Paint paint, double x, double y, double w, double h) {
+        add(layer, STROKE_RECT, paint, null, x, y, w, h);
+    }
+    
+    public void fillOval(int layer, Paint paint, double x, double y, double w, double h) {
+        add(layer, FILL_OVAL, paint, null, x, y, w, h);
+    }
+    
+    public void strokeOval(int layer, Paint paint, double x, double y, double w, double h) {
+        add(layer, STROKE_OVAL, paint, null, x, y, w, h);
+    }
+    
+    public void strokeLine(int layer, Paint paint, double x1, double y1, double x2, double y2) {
+        add(layer, STROKE_LINE, paint, null, x1, y1, x2, y2);
+    }
+    
+    public void fillText(int layer, Paint paint, Font font, String text, double x, double y) {
+        int index = add(layer, FILL_TEXT, paint, font, x, y, 0, 0);
+        if (index >= 0) {
+            texts[index] = text;
+        }
+    }
+    
+    /**
+     * 화면에 보이는 객체만 렌더 큐에 추가합니다.
+     * 영역이 설정되지 않았으면 모든 객체를 추가합니다.
+     * @param object 게임 객체
+     * @return 추가되었으면 true, 화면 밖이라 건너뛰었으면 false
+     */
+    public boolean submit(GameObject object) {
+        if (viewport != null && !viewport.isVisible(object)) {
+            culledCount++;
+            return false;
+        }
+        object.enqueue(this);
+        return true;
+    }
+    
+    /**
+     * 미리 그려 둔 스프라이트 한 장으로 객체를 그리는 명령입니다.
+     * 스프라이트는 flush 시점에 아틀라스에서 찾으므로, 명령을 기록하는 쪽에서는 이미지를 만들지 않습니다.
+     * 스프라이트 키는 기록 시점의 값을 저장하므로 다른 스레드에서 다시 그려도 기록한 프레임의 모습이 유지됩니다.
+     * @param layer 레이어
+     * @param sprited 그릴 객체
+     * @param x 객체의 X 좌표
+     * @param y 객체의 Y 좌표
+     */
+    public void sprite(int layer, Sprited sprited, double x, double y) {
+        int index = add(layer, SPRITE, null, null, x, y, 0, 0);
+        if (index >= 0) {
+            customs[index] = sprited;
+            spriteKeys[index] = sprited.getSpriteKey();
+        }
+    }
+    
+    /**
+     * 픽셀 레이어를 이미지 한 장으로 합성하는 명령입니다.
+     * 레이어는 그릴 때까지 내용이 바뀌지 않아야 하므로, 버퍼마다 getPixelLayer()로 받은 레이어를 사용합니다.
+     * @param layer 레이어
+     * @param pixelLayer 그릴 픽셀 레이어
+     */
+    public void pixels(int layer, PixelLayer pixelLayer) {
+        int index = add(layer, PIXELS, null, null, 0, 0, 0, 0);
+        if (index >= 0) {
+            customs[index] = pixelLayer;
+        }
+    }
+    
+    /**
+     * 이 큐가 가진 픽셀 레이어를 반환합니다. 처음 호출할 때 만들어집니다.
+     * 큐마다 레이어를 따로 가지므로 여러 버퍼를 번갈아 쓰는 경우에도 기록 중인 레이어와 그리는 레이어가 겹치지 않습니다.
+     * @param width 너비
+     * @param height 높이
+     * @return 픽셀 레이어
+     */
+    public PixelLayer getPixelLayer(int width, int height) {
+        if (pixelLayer == null || pixelLayer.getWidth() != width || pixelLayer.getHeight() != height) {
+            pixelLayer = new PixelLayer(width, height);
+        }
+        return pixelLayer;
+    }
+    
+    /**
+     * 렌더 큐로 옮겨지지 않은 객체를 위한 명령입니다.
+     * flush 시 정렬된 위치에서 해당 객체의 draw()를 그대로 호출합니다.
+     * @param layer 레이어
+     * @param renderable 그릴 객체
+     */
+    public void custom(int layer, Renderable renderable) {
+        int index = add(layer, CUSTOM, null, null, 0, 0, 0, 0);
+        if (index >= 0) {
+            customs[index] = renderable;
+        }
+    }
+    
+    /**
+     * 모아 둔 명령을 정렬하여 그린 뒤 큐를 비웁니다.
+     * @param gc 대상 GraphicsContext
+     */
+    public void flush(GraphicsContext gc) {
+        replay(gc);
+        clear();
+    }
+    
+    /**
+     * 모아 둔 명령을 정렬하여 주어진 렌더러로 그린 뒤 큐를 비웁니다.
+     * @param renderer 대상 렌더러
+     */
+    public void flush(Renderer renderer) {
+        replay(renderer);
+        clear();
+    }
+    
+    /**
+     * 명령을 그리기 순서대로 정렬합니다.
+     * 기록이 끝난 버퍼를 다른 스레드에 넘기기 전에 호출하면 그리는 쪽의 정렬 비용이 없어집니다.
+     */
+    public void sort() {
+        if (!sorted) {
+            Arrays.sort(keys, 0, count);
+            sorted = true;
+        }
+    }
+    
+    /**
+     * 큐를 비우지 않고 명령을 그립니다.
+     * 기록된 버퍼를 여러 번 다시 그릴 때 사용합니다.
+     * @param gc 대상 GraphicsContext
+     */
+    public void replay(GraphicsContext gc) {
+        if (spriteAtlas != null) {
+            spriteAtlas.preparePending();
+        }
+        if (fxRenderer == null || fxRenderer.getGraphicsContext() != gc) {
+            fxRenderer = new FxRenderer(gc);
+        }
+        fxRenderer.setSpriteAtlas(spriteAtlas);
+        replay(fxRenderer);
+    }
+    
+    /**
+     * 큐를 비우지 않고 명령을 주어진 렌더러로 그립니다.
+     * @param renderer 대상 렌더러
+     */
+    public void replay(Renderer renderer) {
+        RenderEvent event = EventGate.RENDER.isEnabled() ? new RenderEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        sort();
+        
+        Paint currentFill = null;
+        Paint currentStroke = null;
+        Font currentFont = null;
+        TextAlignment currentAlign = null;
+        double currentLineWidth = -1;
+        double currentAlpha = -1;
+        int stateChanges = 0;
+        
+        for (int n = 0; n < count; n++) {
+            long key = keys[n];
+            int i = (int) (key & (MAX_COMMANDS - 1));
+            int kind = kinds[i];
+            
+            double commandAlpha = ((key >>> INDEX_BITS) & ALPHA_STEPS) / (double) ALPHA_STEPS;
+            if (commandAlpha != currentAlpha) {
+                renderer.setGlobalAlpha(commandAlpha);
+                currentAlpha = commandAlpha;
+                stateChanges++;
+            }
+            
+            if (kind == SPRITE) {
+                // 렌더러는 스프라이트를 그린 뒤 상태를 원래대로 돌려 둡니다.
+                renderer.drawSprite((Sprited) customs[i], spriteKeys[i], a[i], b[i]);
+                continue;
+            }
+            
+            if (kind == PIXELS) {
+                renderer.drawPixels((PixelLayer) customs[i]);
+                continue;
+            }
+            
+            if (kind == CUSTOM) {
+                renderer.drawCustom(customs[i]);
+                // 객체가 어떤 상태를 바꿨는지 알 수 없으므로 다음 명령에서 다시 설정합니다.
+                currentFill = null;
+                currentStroke = null;
+                currentFont = null;
+                currentAlign = null;
+                currentLineWidth = -1;
+                currentAlpha = -1;
+                continue;
+            }
+            
+            Paint paint = paints.get(paintIds[i]);
+            switch (kind) {
+                case FILL_RECT:
+                case FILL_OVAL:
+                case FILL_TEXT:
+                    if (paint != currentFill) {
+                        renderer.setFill(paint);
+                        currentFill = paint;
+                        stateChanges++;
+                    }
+                    break;
+                default:
+                    if (paint != currentStroke) {
+                        renderer.setStroke(paint);
+                        currentStroke = paint;
+                        stateChanges++;
+                    }
+                    int lineWidthId = (int) ((key >>> (INDEX_BITS + ALPHA_BITS)) & ((1 << LINE_WIDTH_BITS) - 1));
+                    double width = lineWidths[lineWidthId];
+                    if (width != currentLineWidth) {
+                        renderer.setLineWidth(width);
+                        currentLineWidth = width;
+                        stateChanges++;
+                    }
+                    break;
+            }
+            
+            switch (kind) {
+                case FILL_RECT:
+                    renderer.fillRect(a[i], b[i], c[i], d[i]);
+                    break;
+                case STROKE_RECT:
+                    renderer.strokeRect(a[i], b[i], c[i], d[i]);
+                    break;
+                case FILL_OVAL:
+                    renderer.fillOval(a[i], b[i], c[i], d[i]);
+                    break;
+                case STROKE_OVAL:
+                    renderer.strokeOval(a[i], b[i], c[i], d[i]);
+                    break;
+                case STROKE_LINE:
+                    renderer.strokeLine(a[i], b[i], c[i], d[i]);
+                    break;
+                case FILL_TEXT:
+                    Font font = fonts.get(fontIds[i]);
+                    if (font != null && font != currentFont) {
+                        renderer.setFont(font);
+                        currentFont = font;
+                        stateChanges++;
+                    }
+                    TextAlignment align = ALIGNMENTS[alignments[i]];
+                    if (align != currentAlign) {
+                        renderer.setTextAlign(align);
+                        currentAlign = align;
+                        stateChanges++;
+                    }
+                    renderer.fillText(texts[i], a[i], b[i]);
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        if (currentAlpha != 1.0) {
+            renderer.setGlobalAlpha(1.0);
+        }
+        if (currentAlign != null && currentAlign != TextAlignment.LEFT) {
+            renderer.setTextAlign(TextAlignment.LEFT);
+        }
+        
+        lastCommandCount = count;
+        lastStateChanges = stateChanges;
+        lastCulledCount = culledCount;
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.pass = "replay";
+                event.commands = count;
+                event.stateChanges = stateChanges;
+                event.culled = culledCount;
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * 그리지 않고 큐를 비웁니다.
+     * 인터닝된 색상과 폰트는 다음 프레임에도 재사용됩니다.
+     */
+    public void clear() {
+        Arrays.fill(texts, 0, count, null);
+        Arrays.fill(customs, 0, count, null);
+        Arrays.fill(spriteKeys, 0, count, null);
+        count = 0;
+        sorted = false;
+        culledCount = 0;
+        alpha = 1.0;
+        
+        // 프레임마다 새로 만들어지는 색상이 쌓이지 않도록 인터닝 테이블을 비웁니다.
+        if (paints.size() > MAX_INTERNED_PAINTS) {
+            paintIdMap.clear();
+            paints.clear();
+            paints.add(null);
+        }
+        lineWidth = 1.0;
+        textAlign = TextAlignment.LEFT;
+    }
+    
+    private int add(int layer, int kind, Paint paint, Font font,
+                    double p0, double p1, double p2, double p3) {
+        if (count == MAX_COMMANDS) {
+            return -1;
+        }
+        if (count == keys.length) {
+            grow();
+        }
+        
+        int paintId = paint == null ? 0 : internPaint(paint);
+        int fontId = font == null ? 0 : internFont(font);
+        int lineWidthId = internLineWidth(lineWidth);
+        int alphaStep = (int) Math.round(alpha * ALPHA_STEPS);
+        
+        int i = count++;
+        sorted = false;
+        kinds[i] = (byte) kind;
+        paintIds[i] = paintId;
+        fontIds[i] = fontId;
+        alignments[i] = (byte) textAlign.ordinal();
+        a[i] = p0;
+        b[i] = p1;
+        c[i] = p2;
+        d[i] = p3;
+        
+        long key = layer & 0x7L;
+        key = (key << KIND_BITS) | (kind & ((1 << KIND_BITS) - 1));
+        key = (key << PAINT_BITS) | (paintId & ((1 << PAINT_BITS) - 1));
+        key = (key << FONT_BITS) | (fontId & ((1 << FONT_BITS) - 1));
+        key = (key << LINE_WIDTH_BITS) | lineWidthId;
+        key = (key << ALPHA_BITS) | alphaStep;
+        key = (key << INDEX_BITS) | i;
+        keys[i] = key;
+        return i;
+    }
+    
+    private int internPaint(Paint paint) {
+        Integer id = paintIdMap.get(paint);
+        if (id == null) {
+            id = paints.size();
+            paints.add(paint);
+            paintIdMap.put(paint, id);
+        }
+        return id;
+    }
+    
+    private int internFont(Font font) {
+        Integer id = fontIdMap.get(font);
+        if (id == null) {
+            id = fonts.size();
+            fonts.add(font);
+            fontIdMap.put(font, id);
+        }
+        return id;
+    }
+    
+    private int internLineWidth(double width) {
+        for (int i = 0; i < lineWidthCount; i++) {
+            if (lineWidths[i] == width) {
+                return i;
+            }
+        }
+        if (lineWidthCount == lineWidths.length) {
+            // 선 굵기 종류가 너무 많으면 가장 가까운 값으로 묶습니다.
+            int nearest = 0;
+            for (int i = 1; i < lineWidthCount; i++) {
+                if (Math.abs(lineWidths[i] - width) < Math.abs(lineWidths[nearest] - width)) {
+                    nearest = i;
+                }
+            }
+            return nearest;
+        }
+        lineWidths[lineWidthCount] = width;
+        return lineWidthCount++;
+    }
+    
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        kinds = new byte[capacity];
+        paintIds = new int[capacity];
+        fontIds = new int[capacity];
+        alignments = new byte[capacity];
+        a = new double[capacity];
+        b = new double[capacity];
+        c = new double[capacity];
+        d = new double[capacity];
+        texts = new String[capacity];
+        customs = new Renderable[capacity];
+        spriteKeys = new SpriteKey[capacity];
+    }
+    
+    private void grow() {
+        int capacity = Math.min(MAX_COMMANDS, keys.length * 2);
+        keys = Arrays.copyOf(keys, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        paintIds = Arrays.copyOf(paintIds, capacity);
+        fontIds = Arrays.copyOf(fontIds, capacity);
+        alignments = Arrays.copyOf(alignments, capacity);
+        a = Arrays.copyOf(a, capacity);
+        b = Arrays.copyOf(b, capacity);
+        c = Arrays.copyOf(c, capacity);
+        d = Arrays.copyOf(d, capacity);
+        texts = Arrays.copyOf(texts, capacity);
+        customs = Arrays.copyOf(customs, capacity);
+        spriteKeys = Arrays.copyOf(spriteKeys, capacity);
+    }
+    
+    public void setSpriteAtlas(SpriteAtlas spriteAtlas) {
+        this.spriteAtlas = spriteAtlas;
+    }
+    
+    public void setViewport(Viewport viewport) {
+        this.viewport = viewport;
+    }
+    
+    /**
+     * 이후 추가되는 객체가 참고할 세부 수준을 설정합니다.
+     * @param detailLevel 세부 수준
+     */
+    public void setDetailLevel(DetailLevel detailLevel) {
+        this.detailLevel = detailLevel;
+    }
+    
+    // Getters
+    public SpriteAtlas getSpriteAtlas() { return spriteAtlas; }
+    public boolean hasSpriteAtlas() { return spriteAtlas != null; }
+    public Viewport getViewport() { return viewport; }
+    public DetailLevel getDetailLevel() { return detailLevel; }
+    public int size() { return count; }
+    public int getLastCommandCount() { return lastCommandCount; }
+    public int getLastStateChanges() { return lastStateChanges; }
+    public int getLastCulledCount() { return lastCulledCount; }
+    public int getCulledCount() { return culledCount; }
+}
\ No newline at end of file
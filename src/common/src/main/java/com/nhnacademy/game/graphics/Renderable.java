@@ -11,4 +11,14 @@ public interface Renderable {
      * @param gc GraphicsContext
      */
     void draw(GraphicsContext gc);
+    
+    /**
+     * 그리기 명령을 렌더 큐에 추가합니다.
+     * 기본 구현은 flush 시 draw()를 그대로 호출하는 명령 하나를 추가합니다.
+     * 객체가 많은 경우 기본 도형으로 나누어 추가하도록 오버라이드하면 상태 변경이 줄어듭니다.
+     * @param queue 렌더 큐
+     */
+    default void enqueue(RenderQueue queue) {
+        queue.custom(RenderQueue.LAYER_BODY, this);
+    }
 }
\ No newline at end of file
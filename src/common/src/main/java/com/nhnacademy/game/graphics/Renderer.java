@@ -0,0 +1,66 @@
+package com.nhnacademy.game.graphics;
+
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * 렌더 큐가 그리기 명령을 전달하는 대상
+ * JavaFX GraphicsContext뿐 아니라 메모리 상의 프레임 버퍼처럼 화면이 없는 환경에서도
+ * 같은 명령으로 프레임을 그릴 수 있도록 필요한 기본 도형만 정의합니다.
+ */
+public interface Renderer {
+    void setGlobalAlpha(double alpha);
+    
+    void setFill(Paint paint);
+    
+    void setStroke(Paint paint);
+    
+    void setLineWidth(double lineWidth);
+    
+    void setFont(Font font);
+    
+    void setTextAlign(TextAlignment align);
+    
+    void fillRect(double x, double y, double w, double h);
+    
+    void strokeRect(double x, double y, double w, double h);
+    
+    void fillOval(double x, double y, double w, double h);
+    
+    void strokeOval(double x, double y, double w, double h);
+    
+    void strokeLine(double x1, double y1, double x2, double y2);
+    
+    /**
+     * 텍스트를 그립니다.
+     * @param text 텍스트
+     * @param x 정렬 기준 X 좌표
+     * @param y 기준선 Y 좌표
+     */
+    void fillText(String text, double x, double y);
+    
+    /**
+     * 객체를 스프라이트로 그립니다.
+     * 구현은 그린 뒤 채우기, 선, 폰트, 투명도 상태를 호출 전과 같게 유지해야 합니다.
+     * @param sprited 그릴 객체
+     * @param key 명령을 기록할 때의 스프라이트 키
+     * @param x 객체의 X 좌표
+     * @param y 객체의 Y 좌표
+     */
+    void drawSprite(Sprited sprited, SpriteKey key, double x, double y);
+    
+    /**
+     * 픽셀 레이어에서 내용이 있는 영역을 합성합니다.
+     * 구현은 그린 뒤 상태를 호출 전과 같게 유지해야 합니다.
+     * @param layer 그릴 픽셀 레이어
+     */
+    void drawPixels(PixelLayer layer);
+    
+    /**
+     * 렌더 큐로 옮겨지지 않은 객체를 그립니다.
+     * 그리는 방법을 알 수 없는 렌더러는 건너뛸 수 있습니다.
+     * @param renderable 그릴 객체
+     */
+    void drawCustom(Renderable renderable);
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+package com.nhnacademy.game.graphics;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * 화면 밖(off-screen)에 유지되는 정적 레이어
+ * 한 번 그려 둔 내용을 이미지로 보관하고, 변경된 영역(dirty region)만 다시 그립니다.
+ * 다시 그린 영역들은 외접 사각형 하나로 묶어 프레임당 한 번만 스냅샷하므로,
+ * 스냅샷(GPU 읽기)의 횟수는 변경된 영역 수와 관계없이 한 번입니다.
+ * 매 프레임에는 보관된 이미지 한 장만 화면에 합성하면 됩니다.
+ *
+ * JavaFX 스냅샷을 사용하므로 FX 애플리케이션 스레드에서만 사용해야 합니다.
+ */
+public class RetainedLayer {
+    /**
+     * 무효화된 영역이 이 개수를 넘으면 하나의 영역으로 합칩니다.
+     */
+    private static final int MAX_DIRTY_REGIONS = 16;
+    
+    /**
+     * 무효화된 영역의 외접 사각형이 레이어 면적의 이 비율을 넘으면 레이어 전체를 다시 그립니다.
+     */
+    private static final double FULL_REPAINT_RATIO = 0.5;
+    
+    /**
+     * 레이어의 일부 영역을 다시 그리는 콜백
+     */
+    public interface RegionPainter {
+        /**
+         * 주어진 영역 안의 내용을 그립니다.
+         * 영역 밖으로 그린 내용은 잘려 나갑니다.
+         * @param gc 레이어의 GraphicsContext
+         * @param region 다시 그릴 영역
+         */
+        void paint(GraphicsContext gc, Rectangle2D region);
+    }
+    
+    private final int width;
+    private final int height;
+    private final RegionPainter painter;
+    
+    private Canvas canvas;
+    private WritableImage image;
+    private WritableImage scratch;
+    private final SnapshotParameters snapshotParameters;
+    
+    // 무효화된 영역 (minX, minY, maxX, maxY) 목록
+    private final int[] dirty = new int[MAX_DIRTY_REGIONS * 4];
+    private int dirtyCount = 0;
+    private boolean fullRepaint = true;
+    
+    public RetainedLayer(double width, double height, RegionPainter painter) {
+        this.width = (int) Math.ceil(width);
+        this.height = (int) Math.ceil(height);
+        this.painter = painter;
+        this.snapshotParameters = new SnapshotParameters();
+        this.snapshotParameters.setFill(Color.TRANSPARENT);
+    }
+    
+    /**
+     * 주어진 영역을 다음 합성 전에 다시 그리도록 표시합니다.
+     * 안티앨리어싱된 테두리까지 포함하도록 1픽셀 여유를 둡니다.
+     */
+    public void invalidate(double x, double y, double w, double h) {
+        if (fullRepaint) {
+            return;
+        }
+        
+        int minX = Math.max(0, (int) Math.floor(x) - 1);
+        int minY = Math.max(0, (int) Math.floor(y) - 1);
+        int maxX = Math.min(width, (int) Math.ceil(x + w) + 1);
+        int maxY = Math.min(height, (int) Math.ceil(y + h) + 1);
+        if (minX >= maxX || minY >= maxY) {
+            return;
+        }
+        
+        if (dirtyCount == MAX_DIRTY_REGIONS) {
+            mergeDirtyRegions();
+        }
+        
+        int i = dirtyCount * 4;
+        dirty[i] = minX;
+        dirty[i + 1] = minY;
+        dirty[i + 2] = maxX;
+        dirty[i + 3] = maxY;
+        dirtyCount++;
+    }
+    
+    /**
+     * 레이어 전체를 다시 그리도록 표시합니다.
+     */
+    public void invalidateAll() {
+        fullRepaint = true;
+        dirtyCount = 0;
+    }
+    
+    /**
+     * 변경된 영역을 갱신한 뒤 레이어를 화면에 그립니다.
+     * @param gc 대상 GraphicsContext
+     */
+    public void draw(GraphicsContext gc) {
+        flush();
+        gc.drawImage(image, 0, 0);
+    }
+    
+    /**
+     * 무효화된 영역만 off-screen 캔버스에 다시 그리고, 그 외접 사각형을 한 번에 보관된 이미지에 반영합니다.
+     * 외접 사각형이 너무 크면 레이어 전체를 다시 그립니다.
+     */
+    private void flush() {
+        if (canvas == null) {
+            canvas = new Canvas(width, height);
+            image = new WritableImage(width, height);
+            fullRepaint = true;
+        }
+        
+        if (!fullRepaint) {
+            if (dirtyCount == 0) {
+                return;
+            }
+            int minX = width, minY = height, maxX = 0, maxY = 0;
+            for (int r = 0; r < dirtyCount; r++) {
+                int i = r * 4;
+                minX = Math.min(minX, dirty[i]);
+                minY = Math.min(minY, dirty[i + 1]);
+                maxX = Math.max(maxX, dirty[i + 2]);
+                maxY = Math.max(maxY, dirty[i + 3]);
+            }
+            if ((double) (maxX - minX) * (maxY - minY) <= (double) width * height * FULL_REPAINT_RATIO) {
+                flushRegions(minX, minY, maxX, maxY);
+                return;
+            }
+        }
+        
+        GraphicsContext layer = canvas.getGraphicsContext2D();
+        Rectangle2D all = new Rectangle2D(0, 0, width, height);
+        repaint(layer, all);
+        snapshotParameters.setViewport(null);
+        canvas.snapshot(snapshotParameters, image);
+        fullRepaint = false;
+        dirtyCount = 0;
+    }
+    
+    /**
+     * 무효화된 영역을 모두 다시 그린 뒤, 주어진 외접 사각형을 한 번만 스냅샷해 보관된 이미지에 복사합니다.
+     * 외접 사각형 안에서 다시 그리지 않은 부분도 캔버스에는 이전 내용이 그대로 남아 있으므로 함께 복사해도 됩니다.
+     */
+    private void flushRegions(int minX, int minY, int maxX, int maxY) {
+        GraphicsContext layer = canvas.getGraphicsContext2D();
+        for (int r = 0; r < dirtyCount; r++) {
+            int i = r * 4;
+            int w = dirty[i + 2] - dirty[i];
+            int h = dirty[i + 3] - dirty[i + 1];
+            repaint(layer, new Rectangle2D(dirty[i], dirty[i + 1], w, h));
+        }
+        int w = maxX - minX;
+        int h = maxY - minY;
+        copyToImage(new Rectangle2D(minX, minY, w, h), w, h);
+        dirtyCount = 0;
+    }
+    
+    /**
+     * 영역을 지우고 클리핑한 상태로 다시 그립니다.
+     */
+    private void repaint(GraphicsContext layer, Rectangle2D region) {
+        layer.save();
+        layer.beginPath();
+        layer.rect(region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight());
+        layer.closePath();
+        layer.clip();
+        layer.clearRect(region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight());
+        painter.paint(layer, region);
+        layer.restore();
+    }
+    
+    /**
+     * 캔버스의 일부만 스냅샷하여 보관된 이미지의 같은 위치에 복사합니다.
+     */
+    private void copyToImage(Rectangle2D region, int w, int h) {
+        if (scratch == null || scratch.getWidth() < w || scratch.getHeight() < h) {
+            int scratchWidth = Math.max(w, scratch == null ? 0 : (int) scratch.getWidth());
+            int scratchHeight = Math.max(h, scratch == null ? 0 : (int) scratch.getHeight());
+            scratch = new WritableImage(scratchWidth, scratchHeight);
+        }
+        
+        snapshotParameters.setViewport(region);
+        canvas.snapshot(snapshotParameters, scratch);
+        image.getPixelWriter().setPixels(
+            (int) region.getMinX(), (int) region.getMinY(), w, h,
+            scratch.getPixelReader(), 0, 0
+        );
+    }
+    
+    /**
+     * 무효화 영역 목록을 하나의 외접 사각형으로 합칩니다.
+     */
+    private void mergeDirtyRegions() {
+        int minX = dirty[0], minY = dirty[1], maxX = dirty[2], maxY = dirty[3];
+        for (int r = 1; r < dirtyCount; r++) {
+            int i = r * 4;
+            minX = Math.min(minX, dirty[i]);
+            minY = Math.min(minY, dirty[i + 1]);
+            maxX = Math.max(maxX, dirty[i + 2]);
+            maxY = Math.max(maxY, dirty[i + 3]);
+        }
+        dirty[0] = minX;
+        dirty[1] = minY;
+        dirty[2] = maxX;
+        dirty[3] = maxY;
+        dirtyCount = 1;
+    }
+    
+    // Getters
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public boolean isDirty() { return fullRepaint || dirtyCount > 0; }
+}
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.nhnacademy.game.graphics;
+
+import com.nhnacademy.game.core.GameObject;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미리 그려 둔 스프라이트 이미지 캐시
+ * 텍스트나 테두리처럼 그리기 비용이 큰 장식을 (종류, 색상, 상태, 크기) 조합마다 한 번만 그리고,
+ * 이후에는 이미지 한 장을 복사하는 것으로 객체를 그립니다.
+ *
+ * 레벨을 불러올 때 prepare()로 필요한 조합을 등록해 두면 다음 렌더링 때 한꺼번에 그려지고,
+ * 등록되지 않은 조합은 처음 그릴 때 만들어집니다.
+ * 대기 목록은 키 단위로 중복을 없애고 최대 스프라이트 수까지만 쌓으므로,
+ * 렌더러가 붙지 않은 월드가 레벨을 계속 불러와도 메모리가 늘어나지 않습니다.
+ * 캐시가 가득 차면 가장 오래 사용되지 않은 스프라이트부터 제거합니다.
+ *
+ * 스프라이트 생성에는 JavaFX 스냅샷을 사용하므로 FX 애플리케이션 스레드에서만 그려야 합니다.
+ * 이때 원본 객체 대신 키에 담긴 복사본을 그리므로, 시뮬레이션 스레드와 원본을 공유하지 않습니다.
+ */
+public class SpriteAtlas {
+    private static final int DEFAULT_MAX_SPRITES = 512;
+    
+    private final int maxSprites;
+    private final Map<SpriteKey, Image> sprites;
+    private final Set<SpriteKey> cachedKeys = ConcurrentHashMap.newKeySet();
+    private final Set<SpriteKey> pending = new LinkedHashSet<>();
+    
+    private Canvas canvas;
+    private final SnapshotParameters snapshotParameters;
+    
+    // 통계
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    
+    public SpriteAtlas() {
+        this(DEFAULT_MAX_SPRITES);
+    }
+    
+    public SpriteAtlas(int maxSprites) {
+        this.maxSprites = maxSprites;
+        this.sprites = new LinkedHashMap<SpriteKey, Image>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SpriteKey, Image> eldest) {
+                if (size() > SpriteAtlas.this.maxSprites) {
+                    evictions++;
+                    cachedKeys.remove(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.snapshotParameters = new SnapshotParameters();
+        this.snapshotParameters.setFill(Color.TRANSPARENT);
+    }
+    
+    /**
+     * 객체의 스프라이트를 미리 그리도록 등록합니다.
+     * 어느 스레드에서나 호출할 수 있으며, 실제 그리기는 다음 렌더링 때 FX 스레드에서 수행됩니다.
+     * 키는 호출한 스레드에서 바로 읽으므로, 등록한 뒤 객체가 바뀌어도 등록 시점의 모습이 그려집니다.
+     * 이미 캐시에 있거나 대기 중인 키는 건너뛰고, 대기 목록이 가득 차면 처음 그릴 때 만들도록 남겨 둡니다.
+     * @param object 스프라이트를 만들 객체
+     */
+    public void prepare(Sprited object) {
+        SpriteKey key = object.getSpriteKey();
+        if (cachedKeys.contains(key)) {
+            return;
+        }
+        synchronized (pending) {
+            if (pending.size() < maxSprites) {
+                pending.add(key);
+            }
+        }
+    }
+    
+    /**
+     * 등록된 스프라이트를 모두 그립니다.
+     * 이미 캐시에 있는 조합은 건너뜁니다.
+     */
+    public void preparePending() {
+        synchronized (pending) {
+            for (SpriteKey key : pending) {
+                if (!sprites.containsKey(key)) {
+                    store(key, render(key));
+                }
+            }
+            pending.clear();
+        }
+    }
+    
+    /**
+     * 키가 가리키는 모습을 스프라이트로 그립니다.
+     * 객체의 위치를 정수 픽셀에 맞춘 뒤 여백만큼 넓혀 이미지를 복사합니다.
+     * 캐시에 없는 키는 키에 담긴 복사본으로 새로 그립니다.
+     * @param gc 대상 GraphicsContext
+     * @param key 찾을 스프라이트 키
+     * @param x 객체의 X 좌표
+     * @param y 객체의 Y 좌표
+     */
+    public void draw(GraphicsContext gc, SpriteKey key, double x, double y) {
+        Image image = sprites.get(key);
+        if (image == null) {
+            misses++;
+            image = render(key);
+            store(key, image);
+        } else {
+            hits++;
+        }
+        
+        double margin = Math.ceil(key.getSprite().getSpriteMargin());
+        gc.drawImage(image, Math.floor(x) - margin, Math.floor(y) - margin);
+    }
+    
+    /**
+     * 스프라이트를 캐시에 넣고, 다른 스레드의 prepare()가 볼 수 있도록 키를 기록합니다.
+     */
+    private void store(SpriteKey key, Image image) {
+        cachedKeys.add(key);
+        sprites.put(key, image);
+    }
+    
+    /**
+     * 키에 담긴 복사본을 원점 기준으로 옮겨 off-screen 캔버스에 그린 뒤 이미지로 저장합니다.
+     */
+    private Image render(SpriteKey key) {
+        Sprited object = key.getSprite();
+        double margin = Math.ceil(object.getSpriteMargin());
+        int width = (int) (key.getWidth() + margin * 2 + 1);
+        int height = (int) (key.getHeight() + margin * 2 + 1);
+        
+        if (canvas == null || canvas.getWidth() < width || canvas.getHeight() < height) {
+            double canvasWidth = Math.max(width, canvas == null ? 0 : canvas.getWidth());
+            double canvasHeight = Math.max(height, canvas == null ? 0 : canvas.getHeight());
+            canvas = new Canvas(canvasWidth, canvasHeight);
+        }
+        
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.save();
+        if (object instanceof GameObject) {
+            GameObject gameObject = (GameObject) object;
+            gc.translate(margin - Math.floor(gameObject.getX()), margin - Math.floor(gameObject.getY()));
+        }
+        object.draw(gc);
+        gc.restore();
+        
+        snapshotParameters.setViewport(new Rectangle2D(0, 0, width, height));
+        WritableImage image = new WritableImage(width, height);
+        canvas.snapshot(snapshotParameters, image);
+        return image;
+    }
+    
+    /**
+     * 모든 스프라이트를 제거합니다.
+     */
+    public void clear() {
+        sprites.clear();
+        cachedKeys.clear();
+        synchronized (pending) {
+            pending.clear();
+        }
+    }
+    
+    // Getters
+    public int size() { return sprites.size(); }
+    public int getMaxSprites() { return maxSprites; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getEvictions() { return evictions; }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.nhnacademy.game.graphics;
+
+import javafx.scene.paint.Paint;
+
+import java.util.Objects;
+
+/**
+ * 스프라이트 아틀라스에서 미리 그려 둔 이미지를 찾기 위한 키
+ * (종류, 색상, 상태, 크기)가 같으면 같은 이미지를 공유합니다.
+ * 객체는 상태가 바뀔 때만 새 키를 만들고, 그리는 동안에는 같은 키를 재사용합니다.
+ *
+ * 키는 그 모습을 그리는 분리된 복사본을 함께 가집니다.
+ * 아틀라스는 FX 스레드에서 이 복사본으로 스프라이트를 만들므로,
+ * 시뮬레이션 스레드가 원본 객체를 옮기거나 바꾸는 중에도 원본을 읽지 않습니다.
+ * 복사본은 비교에 쓰이지 않으며, 키를 만든 뒤에는 바뀌지 않아야 합니다.
+ */
+public final class SpriteKey {
+    private final String type;
+    private final Paint color;
+    private final int state;
+    private final int width;
+    private final int height;
+    private final int hash;
+    private final Sprited sprite;
+    
+    public SpriteKey(String type, Paint color, int state, double width, double height, Sprited sprite) {
+        this.type = type;
+        this.color = color;
+        this.state = state;
+        this.width = (int) Math.ceil(width);
+        this.height = (int) Math.ceil(height);
+        this.hash = Objects.hash(type, color, state, this.width, this.height);
+        this.sprite = sprite;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SpriteKey)) {
+            return false;
+        }
+        SpriteKey other = (SpriteKey) o;
+        return hash == other.hash &&
+               state == other.state &&
+               width == other.width &&
+               height == other.height &&
+               type.equals(other.type) &&
+               Objects.equals(color, other.color);
+    }
+    
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+    
+    @Override
+    public String toString() {
+        return type + "(" + color + ", " + state + ", " + width + "x" + height + ")";
+    }
+    
+    // Getters
+    public String getType() { return type; }
+    public Paint getColor() { return color; }
+    public int getState() { return state; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public Sprited getSprite() { return sprite; }
+}
\ No newline at end of file
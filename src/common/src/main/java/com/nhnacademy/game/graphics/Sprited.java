@@ -0,0 +1,22 @@
+package com.nhnacademy.game.graphics;
+
+/**
+ * 스프라이트 아틀라스에 미리 그려 둘 수 있는 객체의 인터페이스
+ * 같은 키를 가진 객체는 모두 같은 모습으로 그려져야 합니다.
+ */
+public interface Sprited extends Renderable {
+    /**
+     * 현재 모습을 나타내는 스프라이트 키를 반환합니다.
+     * 키에는 현재 모습을 그대로 그리는 복사본을 담아야 하며, 이후 원본이 바뀌어도 복사본은 바뀌지 않아야 합니다.
+     * @return 스프라이트 키
+     */
+    SpriteKey getSpriteKey();
+    
+    /**
+     * 객체 경계 밖으로 그려지는 부분(테두리, 체력바 등)을 포함하기 위한 여백을 반환합니다.
+     * @return 여백 (픽셀)
+     */
+    default double getSpriteMargin() {
+        return 2;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.nhnacademy.game.graphics;
+
+import com.nhnacademy.game.core.GameObject;
+
+/**
+ * 화면에 보이는 영역
+ * 렌더링 전에 객체가 화면과 겹치는지 확인하여 보이지 않는 객체를 건너뜁니다.
+ * 궤적이나 테두리처럼 객체 경계 밖으로 그려지는 부분이 잘리지 않도록 여백을 둡니다.
+ */
+public class Viewport {
+    private double x;
+    private double y;
+    private double width;
+    private double height;
+    private double margin;
+    
+    public Viewport(double width, double height) {
+        this(0, 0, width, height, 20);
+    }
+    
+    public Viewport(double x, double y, double width, double height, double margin) {
+        set(x, y, width, height);
+        this.margin = margin;
+    }
+    
+    /**
+     * 보이는 영역을 변경합니다.
+     */
+    public void set(double x, double y, double width, double height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+    
+    /**
+     * 사각형 영역이 화면과 겹치는지 확인합니다.
+     * @return 여백을 포함하여 겹치면 true
+     */
+    public boolean isVisible(double objX, double objY, double objWidth, double objHeight) {
+        return objX + objWidth >= x - margin && objX <= x + width + margin &&
+               objY + objHeight >= y - margin && objY <= y + height + margin;
+    }
+    
+    /**
+     * 객체가 화면과 겹치는지 확인합니다.
+     * @param object 게임 객체
+     * @return 여백을 포함하여 겹치면 true
+     */
+    public boolean isVisible(GameObject object) {
+        return isVisible(object.getX(), object.getY(), object.getWidth(), object.getHeight());
+    }
+    
+    public void setMargin(double margin) {
+        this.margin = margin;
+    }
+    
+    // Getters
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
+    public double getMargin() { return margin; }
+}
\ No newline at end of file
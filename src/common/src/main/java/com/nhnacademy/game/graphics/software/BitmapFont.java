@@ -0,0 +1,142 @@
+package com.nhnacademy.game.graphics.software;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 소프트웨어 렌더러용 내장 5x7 비트맵 폰트
+ * 출력 가능한 ASCII 문자(0x20 ~ 0x7E)만 지원하며, 그 밖의 문자는 '?'로 그립니다.
+ *
+ * 글자 모양은 폰트 크기에 맞춰 확대한 뒤 4x4 부분 샘플링으로 가장자리 투명도를 계산하여
+ * 크기별로 한 번만 만들어 둡니다.
+ */
+public final class BitmapFont {
+    private static final int FIRST_CHAR = 0x20;
+    private static final int LAST_CHAR = 0x7E;
+    private static final int GLYPH_COLUMNS = 5;
+    private static final int GLYPH_ROWS = 8;
+    private static final int ADVANCE_COLUMNS = 6;
+    private static final int ASCENT_ROWS = 7;
+    private static final int SUBSAMPLES = 4;
+    
+    // 문자마다 5개의 열, 각 열의 비트 0이 맨 윗줄
+    private static final int[] COLUMNS = {
+        0x00, 0x00, 0x00, 0x00, 0x00,  0x00, 0x00, 0x5F, 0x00, 0x00,  0x00, 0x07, 0x00, 0x07, 0x00,
+        0x14, 0x7F, 0x14, 0x7F, 0x14,  0x24, 0x2A, 0x7F, 0x2A, 0x12,  0x23, 0x13, 0x08, 0x64, 0x62,
+        0x36, 0x49, 0x56, 0x20, 0x50,  0x00, 0x08, 0x07, 0x03, 0x00,  0x00, 0x1C, 0x22, 0x41, 0x00,
+        0x00, 0x41, 0x22, 0x1C, 0x00,  0x2A, 0x1C, 0x7F, 0x1C, 0x2A,  0x08, 0x08, 0x3E, 0x08, 0x08,
+        0x00, 0x80, 0x70, 0x30, 0x00,  0x08, 0x08, 0x08, 0x08, 0x08,  0x00, 0x00, 0x60, 0x60, 0x00,
+        0x20, 0x10, 0x08, 0x04, 0x02,  0x3E, 0x51, 0x49, 0x45, 0x3E,  0x00, 0x42, 0x7F, 0x40, 0x00,
+        0x72, 0x49, 0x49, 0x49, 0x46,  0x21, 0x41, 0x49, 0x4D, 0x33,  0x18, 0x14, 0x12, 0x7F, 0x10,
+        0x27, 0x45, 0x45, 0x45, 0x39,  0x3C, 0x4A, 0x49, 0x49, 0x31,  0x41, 0x21, 0x11, 0x09, 0x07,
+        0x36, 0x49, 0x49, 0x49, 0x36,  0x46, 0x49, 0x49, 0x29, 0x1E,  0x00, 0x00, 0x14, 0x00, 0x00,
+        0x00, 0x40, 0x34, 0x00, 0x00,  0x00, 0x08, 0x14, 0x22, 0x41,  0x14, 0x14, 0x14, 0x14, 0x14,
+        0x00, 0x41, 0x22, 0x14, 0x08,  0x02, 0x01, 0x59, 0x09, 0x06,  0x3E, 0x41, 0x5D, 0x59, 0x4E,
+        0x7C, 0x12, 0x11, 0x12, 0x7C,  0x7F, 0x49, 0x49, 0x49, 0x36,  0x3E, 0x41, 0x41, 0x41, 0x22,
+        0x7F, 0x41, 0x41, 0x41, 0x3E,  0x7F, 0x49, 0x49, 0x49, 0x41,  0x7F, 0x09, 0x09, 0x09, 0x01,
+        0x3E, 0x41, 0x41, 0x51, 0x73,  0x7F, 0x08, 0x08, 0x08, 0x7F,  0x00, 0x41, 0x7F, 0x41, 0x00,
+        0x20, 0x40, 0x41, 0x3F, 0x01,  0x7F, 0x08, 0x14, 0x22, 0x41,  0x7F, 0x40, 0x40, 0x40, 0x40,
+        0x7F, 0x02, 0x1C, 0x02, 0x7F,  0x7F, 0x04, 0x08, 0x10, 0x7F,  0x3E, 0x41, 0x41, 0x41, 0x3E,
+        0x7F, 0x09, 0x09, 0x09, 0x06,  0x3E, 0x41, 0x51, 0x21, 0x5E,  0x7F, 0x09, 0x19, 0x29, 0x46,
+        0x26, 0x49, 0x49, 0x49, 0x32,  0x03, 0x01, 0x7F, 0x01, 0x03,  0x3F, 0x40, 0x40, 0x40, 0x3F,
+        0x1F, 0x20, 0x40, 0x20, 0x1F,  0x3F, 0x40, 0x38, 0x40, 0x3F,  0x63, 0x14, 0x08, 0x14, 0x63,
+        0x03, 0x04, 0x78, 0x04, 0x03,  0x61, 0x59, 0x49, 0x4D, 0x43,  0x00, 0x7F, 0x41, 0x41, 0x41,
+        0x02, 0x04, 0x08, 0x10, 0x20,  0x00, 0x41, 0x41, 0x41, 0x7F,  0x04, 0x02, 0x01, 0x02, 0x04,
+        0x40, 0x40, 0x40, 0x40, 0x40,  0x00, 0x03, 0x07, 0x08, 0x00,  0x20, 0x54, 0x54, 0x78, 0x40,
+        0x7F, 0x28, 0x44, 0x44, 0x38,  0x38, 0x44, 0x44, 0x44, 0x28,  0x38, 0x44, 0x44, 0x28, 0x7F,
+        0x38, 0x54, 0x54, 0x54, 0x18,  0x00, 0x08, 0x7E, 0x09, 0x02,  0x18, 0xA4, 0xA4, 0x9C, 0x78,
+        0x7F, 0x08, 0x04, 0x04, 0x78,  0x00, 0x44, 0x7D, 0x40, 0x00,  0x20, 0x40, 0x40, 0x3D, 0x00,
+        0x7F, 0x10, 0x28, 0x44, 0x00,  0x00, 0x41, 0x7F, 0x40, 0x00,  0x7C, 0x04, 0x78, 0x04, 0x78,
+        0x7C, 0x08, 0x04, 0x04, 0x78,  0x38, 0x44, 0x44, 0x44, 0x38,  0xFC, 0x18, 0x24, 0x24, 0x18,
+        0x18, 0x24, 0x24, 0x18, 0xFC,  0x7C, 0x08, 0x04, 0x04, 0x08,  0x48, 0x54, 0x54, 0x54, 0x24,
+        0x04, 0x04, 0x3F, 0x44, 0x24,  0x3C, 0x40, 0x40, 0x20, 0x7C,  0x1C, 0x20, 0x40, 0x20, 0x1C,
+        0x3C, 0x40, 0x30, 0x40, 0x3C,  0x44, 0x28, 0x10, 0x28, 0x44,  0x4C, 0x90, 0x90, 0x90, 0x7C,
+        0x44, 0x64, 0x54, 0x4C, 0x44,  0x00, 0x08, 0x36, 0x41, 0x00,  0x00, 0x00, 0x77, 0x00, 0x00,
+        0x00, 0x41, 0x36, 0x08, 0x00,  0x02, 0x01, 0x02, 0x04, 0x02
+    };
+    
+    private static final Map<Integer, BitmapFont> BY_SIZE = new HashMap<>();
+    
+    private final double scale;
+    private final int glyphWidth;
+    private final int glyphHeight;
+    private final byte[][] glyphs = new byte[LAST_CHAR - FIRST_CHAR + 1][];
+    
+    private BitmapFont(double fontSize) {
+        // JavaFX 기본 폰트의 대문자 높이(약 0.72em)에 맞춥니다.
+        this.scale = fontSize * 0.72 / ASCENT_ROWS;
+        this.glyphWidth = (int) Math.ceil(GLYPH_COLUMNS * scale) + 1;
+        this.glyphHeight = (int) Math.ceil(GLYPH_ROWS * scale) + 1;
+    }
+    
+    /**
+     * 주어진 크기의 폰트를 반환합니다.
+     * 크기는 0.1 포인트 단위로 묶어서 캐시합니다.
+     * @param fontSize 폰트 크기 (포인트)
+     * @return 비트맵 폰트
+     */
+    public static synchronized BitmapFont of(double fontSize) {
+        int key = (int) Math.round(fontSize * 10);
+        BitmapFont font = BY_SIZE.get(key);
+        if (font == null) {
+            font = new BitmapFont(key / 10.0);
+            BY_SIZE.put(key, font);
+        }
+        return font;
+    }
+    
+    /**
+     * 문자의 투명도 마스크를 반환합니다. 크기는 getGlyphWidth() x getGlyphHeight()입니다.
+     * @param c 문자
+     * @return 0 ~ 255 투명도 배열 (행 우선)
+     */
+    public synchronized byte[] glyph(char c) {
+        int index = (c < FIRST_CHAR || c > LAST_CHAR ? '?' : c) - FIRST_CHAR;
+        byte[] mask = glyphs[index];
+        if (mask == null) {
+            mask = rasterize(index);
+            glyphs[index] = mask;
+        }
+        return mask;
+    }
+    
+    private byte[] rasterize(int index) {
+        byte[] mask = new byte[glyphWidth * glyphHeight];
+        int samples = SUBSAMPLES * SUBSAMPLES;
+        for (int py = 0; py < glyphHeight; py++) {
+            for (int px = 0; px < glyphWidth; px++) {
+                int covered = 0;
+                for (int sy = 0; sy < SUBSAMPLES; sy++) {
+                    int row = (int) Math.floor((py + (sy + 0.5) / SUBSAMPLES) / scale);
+                    if (row >= GLYPH_ROWS) {
+                        continue;
+                    }
+                    for (int sx = 0; sx < SUBSAMPLES; sx++) {
+                        int column = (int) Math.floor((px + (sx + 0.5) / SUBSAMPLES) / scale);
+                        if (column < GLYPH_COLUMNS && (COLUMNS[index * GLYPH_COLUMNS + column] & (1 << row)) != 0) {
+                            covered++;
+                        }
+                    }
+                }
+                mask[py * glyphWidth + px] = (byte) (covered * 255 / samples);
+            }
+        }
+        return mask;
+    }
+    
+    /**
+     * 텍스트의 너비를 반환합니다.
+     */
+    public double measure(String text) {
+        if (text.isEmpty()) {
+            return 0;
+        }
+        return (text.length() * ADVANCE_COLUMNS - 1) * scale;
+    }
+    
+    // Getters
+    public double getAdvance() { return ADVANCE_COLUMNS * scale; }
+    public double getAscent() { return ASCENT_ROWS * scale; }
+    public int getGlyphWidth() { return glyphWidth; }
+    public int getGlyphHeight() { return glyphHeight; }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.nhnacademy.game.graphics.software;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 렌더링된 프레임을 차례대로 받아 저장하는 대상
+ * 구현은 프레임을 받는 즉시 기록하여 프레임 수와 관계없이 일정한 메모리만 사용합니다.
+ */
+public interface FrameSink extends Closeable {
+    /**
+     * 프레임 하나를 기록합니다.
+     * @param argb ARGB 픽셀 (행 우선)
+     * @param width 너비
+     * @param height 높이
+     * @throws IOException 기록 실패 시
+     */
+    void writeFrame(int[] argb, int width, int height) throws IOException;
+}
\ No newline at end of file
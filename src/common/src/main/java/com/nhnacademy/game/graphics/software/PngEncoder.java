@@ -0,0 +1,127 @@
+package com.nhnacademy.game.graphics.software;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * ARGB 프레임 버퍼를 PNG(RGB, 8비트)로 기록하는 인코더
+ * 한 행씩 필터링하여 압축하고, 압축 결과가 버퍼를 채울 때마다 IDAT 청크로 내보내므로
+ * 이미지 크기와 관계없이 행 버퍼와 청크 버퍼만큼의 메모리만 사용합니다.
+ *
+ * 게임 화면은 같은 색이 가로로 이어지는 경우가 많아 Sub 필터를 사용합니다.
+ * 인코더는 버퍼를 재사용하므로 스레드마다 하나씩 사용합니다.
+ */
+public class PngEncoder {
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int FILTER_SUB = 1;
+    
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private final byte[] header = new byte[8];
+    private byte[] row = new byte[0];
+    private int chunkLength = 0;
+    
+    public PngEncoder() {
+        this(Deflater.BEST_SPEED);
+    }
+    
+    /**
+     * @param compressionLevel Deflater 압축 수준 (0 ~ 9)
+     */
+    public PngEncoder(int compressionLevel) {
+        this.deflater = new Deflater(compressionLevel);
+    }
+    
+    /**
+     * 프레임 하나를 PNG 파일 형식으로 기록합니다.
+     * @param argb ARGB 픽셀 (행 우선)
+     * @param width 너비
+     * @param height 높이
+     * @param out 출력 스트림 (닫지 않습니다)
+     * @throws IOException 기록 실패 시
+     */
+    public void encode(int[] argb, int width, int height, OutputStream out) throws IOException {
+        out.write(SIGNATURE);
+        
+        byte[] ihdr = new byte[13];
+        putInt(ihdr, 0, width);
+        putInt(ihdr, 4, height);
+        ihdr[8] = 8;   // 비트 깊이
+        ihdr[9] = 2;   // 컬러 타입: RGB
+        writeChunk(out, "IHDR", ihdr, ihdr.length);
+        
+        int rowLength = 1 + width * 3;
+        if (row.length < rowLength) {
+            row = new byte[rowLength];
+        }
+        
+        deflater.reset();
+        chunkLength = 0;
+        for (int y = 0; y < height; y++) {
+            int offset = y * width;
+            row[0] = FILTER_SUB;
+            int previous = 0;
+            for (int x = 0; x < width; x++) {
+                int pixel = argb[offset + x];
+                int i = 1 + x * 3;
+                row[i] = (byte) ((pixel >> 16) - (previous >> 16));
+                row[i + 1] = (byte) ((pixel >> 8) - (previous >> 8));
+                row[i + 2] = (byte) (pixel - previous);
+                previous = pixel;
+            }
+            deflater.setInput(row, 0, rowLength);
+            drain(out, false);
+        }
+        deflater.finish();
+        drain(out, true);
+        if (chunkLength > 0) {
+            writeChunk(out, "IDAT", chunk, chunkLength);
+            chunkLength = 0;
+        }
+        
+        writeChunk(out, "IEND", chunk, 0);
+    }
+    
+    private void drain(OutputStream out, boolean finishing) throws IOException {
+        while (finishing ? !deflater.finished() : !deflater.needsInput()) {
+            chunkLength += deflater.deflate(chunk, chunkLength, CHUNK_SIZE - chunkLength);
+            if (chunkLength == CHUNK_SIZE) {
+                writeChunk(out, "IDAT", chunk, chunkLength);
+                chunkLength = 0;
+            }
+        }
+    }
+    
+    private void writeChunk(OutputStream out, String type, byte[] data, int length) throws IOException {
+        putInt(header, 0, length);
+        for (int i = 0; i < 4; i++) {
+            header[4 + i] = (byte) type.charAt(i);
+        }
+        out.write(header, 0, 8);
+        out.write(data, 0, length);
+        
+        crc.reset();
+        crc.update(header, 4, 4);
+        crc.update(data, 0, length);
+        putInt(header, 0, (int) crc.getValue());
+        out.write(header, 0, 4);
+    }
+    
+    private static void putInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+    
+    /**
+     * 압축기 자원을 해제합니다.
+     */
+    public void close() {
+        deflater.end();
+    }
+}
\ No newline at end of file
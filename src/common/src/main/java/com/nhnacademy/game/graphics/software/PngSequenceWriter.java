@@ -0,0 +1,39 @@
+package com.nhnacademy.game.graphics.software;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 프레임을 번호가 붙은 PNG 파일로 차례대로 저장합니다.
+ * 썸네일이나 화면 비교용 프레임처럼 한 장씩 열어 볼 결과물에 사용합니다.
+ */
+public class PngSequenceWriter implements FrameSink {
+    private final Path directory;
+    private final String prefix;
+    private final PngEncoder encoder = new PngEncoder();
+    private int frameNumber = 0;
+    
+    public PngSequenceWriter(Path directory, String prefix) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.prefix = prefix;
+    }
+    
+    @Override
+    public void writeFrame(int[] argb, int width, int height) throws IOException {
+        Path file = directory.resolve(String.format("%s_%06d.png", prefix, frameNumber++));
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024)) {
+            encoder.encode(argb, width, height, out);
+        }
+    }
+    
+    @Override
+    public void close() {
+        encoder.close();
+    }
+    
+    // Getters
+    public int getFrameCount() { return frameNumber; }
+}
\ No newline at end of file
@@ -0,0 +1,425 @@
+package com.nhnacademy.game.graphics.software;
+
+import com.nhnacademy.game.core.GameObject;
+import com.nhnacademy.game.graphics.PixelLayer;
+import com.nhnacademy.game.graphics.RenderQueue;
+import com.nhnacademy.game.graphics.Renderable;
+import com.nhnacademy.game.graphics.Renderer;
+import com.nhnacademy.game.graphics.SpriteKey;
+import com.nhnacademy.game.graphics.Sprited;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Arrays;
+
+/**
+ * int[] ARGB 프레임 버퍼에 직접 그리는 순수 Java 렌더러
+ * JavaFX 툴킷 없이 동작하므로 서버에서 리플레이 영상, 썸네일, 화면 비교용 프레임을 만들 수 있습니다.
+ *
+ * 픽셀 중심이 도형 안에 들어가면 칠하는 방식이며 가장자리 안티앨리어싱은 하지 않습니다.
+ * 그라디언트는 첫 번째 색으로, 그 밖의 Paint는 회색으로 대신합니다.
+ * 텍스트는 BitmapFont의 글자 마스크로 그리고, custom 명령(draw(GraphicsContext)만 있는 객체)은 건너뜁니다.
+ */
+public class SoftwareRenderer implements Renderer {
+    private static final int FALLBACK_ARGB = 0xFF808080;
+    
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+    
+    // 현재 상태
+    private double globalAlpha = 1.0;
+    private int fillArgb = 0xFF000000;
+    private int strokeArgb = 0xFF000000;
+    private double lineWidth = 1.0;
+    private double fontSize = 12;
+    private TextAlignment textAlign = TextAlignment.LEFT;
+    
+    // 스프라이트 복사본을 기록된 위치로 옮겨 그릴 때 도형 좌표에 더하는 이동량
+    private double originX = 0;
+    private double originY = 0;
+    
+    // 선 그리기에서 재사용하는 교차점 버퍼
+    private final double[] crossings = new double[4];
+    
+    // 스프라이트 객체를 기본 도형으로 풀어서 그리기 위한 큐 (아틀라스를 쓰지 않음)
+    private RenderQueue spriteQueue;
+    private int skippedCustoms = 0;
+    
+    public SoftwareRenderer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.pixels = new int[width * height];
+    }
+    
+    /**
+     * 프레임 버퍼 전체를 한 색으로 채웁니다.
+     * @param argb ARGB 색상
+     */
+    public void clear(int argb) {
+        Arrays.fill(pixels, argb);
+    }
+    
+    @Override
+    public void setGlobalAlpha(double alpha) {
+        this.globalAlpha = alpha;
+    }
+    
+    @Override
+    public void setFill(Paint paint) {
+        this.fillArgb = toArgb(paint);
+    }
+    
+    @Override
+    public void setStroke(Paint paint) {
+        this.strokeArgb = toArgb(paint);
+    }
+    
+    @Override
+    public void setLineWidth(double lineWidth) {
+        this.lineWidth = lineWidth;
+    }
+    
+    @Override
+    public void setFont(Font font) {
+        this.fontSize = font.getSize();
+    }
+    
+    @Override
+    public void setTextAlign(TextAlignment align) {
+        this.textAlign = align;
+    }
+    
+    @Override
+    public void fillRect(double x, double y, double w, double h) {
+        fillRect(x + originX, y + originY, w, h, fillArgb);
+    }
+    
+    @Override
+    public void strokeRect(double x, double y, double w, double h) {
+        x += originX;
+        y += originY;
+        double half = lineWidth / 2;
+        fillRect(x - half, y - half, w + lineWidth, lineWidth, strokeArgb);
+        fillRect(x - half, y + h - half, w + lineWidth, lineWidth, strokeArgb);
+        fillRect(x - half, y + half, lineWidth, h - lineWidth, strokeArgb);
+        fillRect(x + w - half, y + half, lineWidth, h - lineWidth, strokeArgb);
+    }
+    
+    @Override
+    public void fillOval(double x, double y, double w, double h) {
+        x += originX;
+        y += originY;
+        double cx = x + w / 2;
+        double cy = y + h / 2;
+        double rx = w / 2;
+        double ry = h / 2;
+        if (rx <= 0 || ry <= 0) {
+            return;
+        }
+        
+        int y0 = Math.max(0, pixelStart(y));
+        int y1 = Math.min(height, pixelStart(y + h));
+        for (int py = y0; py < y1; py++) {
+            double dy = (py + 0.5 - cy) / ry;
+            double t = 1 - dy * dy;
+            if (t <= 0) {
+                continue;
+            }
+            double half = rx * Math.sqrt(t);
+            span(py, pixelStart(cx - half), pixelStart(cx + half), fillArgb);
+        }
+    }
+    
+    @Override
+    public void strokeOval(double x, double y, double w, double h) {
+        x += originX;
+        y += originY;
+        double cx = x + w / 2;
+        double cy = y + h / 2;
+        double half = lineWidth / 2;
+        double outerX = w / 2 + half;
+        double outerY = h / 2 + half;
+        double innerX = w / 2 - half;
+        double innerY = h / 2 - half;
+        
+        int y0 = Math.max(0, pixelStart(cy - outerY));
+        int y1 = Math.min(height, pixelStart(cy + outerY));
+        for (int py = y0; py < y1; py++) {
+            double centerY = py + 0.5 - cy;
+            double dy = centerY / outerY;
+            double t = 1 - dy * dy;
+            if (t <= 0) {
+                continue;
+            }
+            double outer = outerX * Math.sqrt(t);
+            
+            double inner = -1;
+            if (innerX > 0 && innerY > 0) {
+                double di = centerY / innerY;
+                double ti = 1 - di * di;
+                if (ti > 0) {
+                    inner = innerX * Math.sqrt(ti);
+                }
+            }
+            
+            if (inner < 0) {
+                span(py, pixelStart(cx - outer), pixelStart(cx + outer), strokeArgb);
+            } else {
+                span(py, pixelStart(cx - outer), pixelStart(cx - inner), strokeArgb);
+                span(py, pixelStart(cx + inner), pixelStart(cx + outer), strokeArgb);
+            }
+        }
+    }
+    
+    @Override
+    public void strokeLine(double x1, double y1, double x2, double y2) {
+        x1 += originX;
+        y1 += originY;
+        x2 += originX;
+        y2 += originY;
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        double length = Math.sqrt(dx * dx + dy * dy);
+        if (length == 0) {
+            return;
+        }
+        
+        // JavaFX 기본 선 끝 모양(SQUARE)처럼 양 끝을 반 굵기만큼 늘리고,
+        // 선 굵기만큼 양옆으로 벌린 사각형을 채웁니다.
+        double ux = dx / length * lineWidth / 2;
+        double uy = dy / length * lineWidth / 2;
+        x1 -= ux;
+        y1 -= uy;
+        x2 += ux;
+        y2 += uy;
+        double nx = -uy;
+        double ny = ux;
+        double ax = x1 + nx, ay = y1 + ny;
+        double bx = x2 + nx, by = y2 + ny;
+        double cx = x2 - nx, cy = y2 - ny;
+        double ex = x1 - nx, ey = y1 - ny;
+        
+        double minY = Math.min(Math.min(ay, by), Math.min(cy, ey));
+        double maxY = Math.max(Math.max(ay, by), Math.max(cy, ey));
+        int py0 = Math.max(0, pixelStart(minY));
+        int py1 = Math.min(height, pixelStart(maxY));
+        for (int py = py0; py < py1; py++) {
+            double sy = py + 0.5;
+            double left = Double.POSITIVE_INFINITY;
+            double right = Double.NEGATIVE_INFINITY;
+            int n = 0;
+            n = edge(ax, ay, bx, by, sy, crossings, n);
+            n = edge(bx, by, cx, cy, sy, crossings, n);
+            n = edge(cx, cy, ex, ey, sy, crossings, n);
+            n = edge(ex, ey, ax, ay, sy, crossings, n);
+            for (int k = 0; k < n; k++) {
+                left = Math.min(left, crossings[k]);
+                right = Math.max(right, crossings[k]);
+            }
+            if (n > 0) {
+                span(py, pixelStart(left), pixelStart(right), strokeArgb);
+            }
+        }
+    }
+    
+    private static int edge(double x0, double y0, double x1, double y1, double sy, double[] out, int n) {
+        if ((sy < y0) == (sy < y1)) {
+            return n;
+        }
+        out[n] = x0 + (sy - y0) * (x1 - x0) / (y1 - y0);
+        return n + 1;
+    }
+    
+    @Override
+    public void fillText(String text, double x, double y) {
+        x += originX;
+        y += originY;
+        BitmapFont font = BitmapFont.of(fontSize);
+        double textWidth = font.measure(text);
+        if (textAlign == TextAlignment.CENTER) {
+            x -= textWidth / 2;
+        } else if (textAlign == TextAlignment.RIGHT) {
+            x -= textWidth;
+        }
+        
+        int alpha = effectiveAlpha(fillArgb);
+        if (alpha == 0) {
+            return;
+        }
+        int top = (int) Math.round(y - font.getAscent());
+        int glyphWidth = font.getGlyphWidth();
+        int glyphHeight = font.getGlyphHeight();
+        for (int n = 0; n < text.length(); n++) {
+            char c = text.charAt(n);
+            if (c != ' ') {
+                byte[] mask = font.glyph(c);
+                int left = (int) Math.round(x + n * font.getAdvance());
+                for (int gy = 0; gy < glyphHeight; gy++) {
+                    int py = top + gy;
+                    if (py < 0 || py >= height) {
+                        continue;
+                    }
+                    for (int gx = 0; gx < glyphWidth; gx++) {
+                        int px = left + gx;
+                        int coverage = mask[gy * glyphWidth + gx] & 0xFF;
+                        if (coverage != 0 && px >= 0 && px < width) {
+                            blend(py * width + px, fillArgb, alpha * coverage / 255);
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    @Override
+    public void drawSprite(Sprited sprited, SpriteKey key, double x, double y) {
+        // 원본은 시뮬레이션 스레드가 바꾸고 있을 수 있으므로 키에 담긴 복사본의 기본 도형을
+        // 기록된 위치로 옮겨 그린 뒤 상태를 되돌립니다.
+        if (spriteQueue == null) {
+            spriteQueue = new RenderQueue(64);
+        }
+        double savedAlpha = globalAlpha;
+        int savedFill = fillArgb;
+        int savedStroke = strokeArgb;
+        double savedLineWidth = lineWidth;
+        double savedFontSize = fontSize;
+        TextAlignment savedAlign = textAlign;
+        
+        Sprited sprite = key.getSprite();
+        if (sprite instanceof GameObject) {
+            GameObject gameObject = (GameObject) sprite;
+            originX = x - gameObject.getX();
+            originY = y - gameObject.getY();
+        }
+        sprite.enqueue(spriteQueue);
+        spriteQueue.flush(this);
+        
+        originX = 0;
+        originY = 0;
+        globalAlpha = savedAlpha;
+        fillArgb = savedFill;
+        strokeArgb = savedStroke;
+        lineWidth = savedLineWidth;
+        fontSize = savedFontSize;
+        textAlign = savedAlign;
+    }
+    
+    @Override
+    public void drawPixels(PixelLayer layer) {
+        if (layer.isEmpty()) {
+            return;
+        }
+        int[] source = layer.getPixels();
+        int sourceWidth = layer.getWidth();
+        int x1 = Math.min(width, layer.getMaxX());
+        int y1 = Math.min(height, layer.getMaxY());
+        for (int py = layer.getMinY(); py < y1; py++) {
+            int sourceRow = py * sourceWidth;
+            int row = py * width;
+            for (int px = layer.getMinX(); px < x1; px++) {
+                int argb = source[sourceRow + px];
+                int alpha = effectiveAlpha(argb);
+                if (alpha >= 255) {
+                    pixels[row + px] = argb;
+                } else if (alpha > 0) {
+                    blend(row + px, argb, alpha);
+                }
+            }
+        }
+    }
+    
+    @Override
+    public void drawCustom(Renderable renderable) {
+        skippedCustoms++;
+    }
+    
+    private void fillRect(double x, double y, double w, double h, int argb) {
+        if (w <= 0 || h <= 0) {
+            return;
+        }
+        int x0 = pixelStart(x);
+        int x1 = pixelStart(x + w);
+        int y0 = Math.max(0, pixelStart(y));
+        int y1 = Math.min(height, pixelStart(y + h));
+        for (int py = y0; py < y1; py++) {
+            span(py, x0, x1, argb);
+        }
+    }
+    
+    /**
+     * 한 행의 [x0, x1) 구간을 칠합니다.
+     */
+    private void span(int py, int x0, int x1, int argb) {
+        if (py < 0 || py >= height) {
+            return;
+        }
+        x0 = Math.max(0, x0);
+        x1 = Math.min(width, x1);
+        if (x0 >= x1) {
+            return;
+        }
+        
+        int alpha = effectiveAlpha(argb);
+        int row = py * width;
+        if (alpha >= 255) {
+            Arrays.fill(pixels, row + x0, row + x1, argb | 0xFF000000);
+        } else if (alpha > 0) {
+            for (int i = row + x0; i < row + x1; i++) {
+                blend(i, argb, alpha);
+            }
+        }
+    }
+    
+    private void blend(int index, int argb, int alpha) {
+        int dst = pixels[index];
+        int inverse = 255 - alpha;
+        int r = (((argb >> 16) & 0xFF) * alpha + ((dst >> 16) & 0xFF) * inverse) / 255;
+        int g = (((argb >> 8) & 0xFF) * alpha + ((dst >> 8) & 0xFF) * inverse) / 255;
+        int b = ((argb & 0xFF) * alpha + (dst & 0xFF) * inverse) / 255;
+        int a = alpha + ((dst >>> 24) * inverse) / 255;
+        pixels[index] = (a << 24) | (r << 16) | (g << 8) | b;
+    }
+    
+    private int effectiveAlpha(int argb) {
+        return (int) Math.round((argb >>> 24) * globalAlpha);
+    }
+    
+    /**
+     * 픽셀 중심이 좌표 이상인 첫 픽셀 인덱스를 반환합니다.
+     */
+    private static int pixelStart(double coordinate) {
+        return (int) Math.ceil(coordinate - 0.5);
+    }
+    
+    /**
+     * Paint를 ARGB 색상으로 변환합니다.
+     */
+    static int toArgb(Paint paint) {
+        Color color;
+        if (paint instanceof Color) {
+            color = (Color) paint;
+        } else if (paint instanceof LinearGradient) {
+            color = ((LinearGradient) paint).getStops().get(0).getColor();
+        } else if (paint instanceof RadialGradient) {
+            color = ((RadialGradient) paint).getStops().get(0).getColor();
+        } else {
+            return FALLBACK_ARGB;
+        }
+        int a = (int) Math.round(color.getOpacity() * 255);
+        int r = (int) Math.round(color.getRed() * 255);
+        int g = (int) Math.round(color.getGreen() * 255);
+        int b = (int) Math.round(color.getBlue() * 255);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+    
+    // Getters
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int[] getPixels() { return pixels; }
+    public int getSkippedCustoms() { return skippedCustoms; }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.nhnacademy.game.graphics.software;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 프레임을 YUV4MPEG2(.y4m) 비압축 영상 스트림으로 기록합니다.
+ * ffmpeg 등 대부분의 영상 도구가 그대로 읽을 수 있어 리플레이 영상을 만들 때 사용합니다.
+ *
+ * 색 손실을 줄이기 위해 4:4:4 샘플링을 사용하며, 평면 버퍼 하나를 재사용하므로
+ * 영상 길이와 관계없이 메모리 사용량이 일정합니다.
+ */
+public class Y4mWriter implements FrameSink {
+    private static final byte[] FRAME_HEADER = "FRAME\n".getBytes(StandardCharsets.US_ASCII);
+    
+    private final OutputStream out;
+    private final int framesPerSecond;
+    private byte[] plane = new byte[0];
+    private int width = -1;
+    private int height = -1;
+    private int frameCount = 0;
+    
+    public Y4mWriter(OutputStream out, int framesPerSecond) {
+        this.out = new BufferedOutputStream(out, 256 * 1024);
+        this.framesPerSecond = framesPerSecond;
+    }
+    
+    @Override
+    public void writeFrame(int[] argb, int width, int height) throws IOException {
+        if (this.width < 0) {
+            this.width = width;
+            this.height = height;
+            String header = "YUV4MPEG2 W" + width + " H" + height + " F" + framesPerSecond + ":1 Ip A1:1 C444\n";
+            out.write(header.getBytes(StandardCharsets.US_ASCII));
+            plane = new byte[width * height];
+        } else if (this.width != width || this.height != height) {
+            throw new IllegalArgumentException("프레임 크기가 바뀔 수 없습니다: " + width + "x" + height);
+        }
+        
+        out.write(FRAME_HEADER);
+        int count = width * height;
+        // BT.601 정수 근사
+        for (int i = 0; i < count; i++) {
+            int p = argb[i];
+            int r = (p >> 16) & 0xFF, g = (p >> 8) & 0xFF, b = p & 0xFF;
+            plane[i] = (byte) (((66 * r + 129 * g + 25 * b + 128) >> 8) + 16);
+        }
+        out.write(plane, 0, count);
+        for (int i = 0; i < count; i++) {
+            int p = argb[i];
+            int r = (p >> 16) & 0xFF, g = (p >> 8) & 0xFF, b = p & 0xFF;
+            plane[i] = (byte) (((-38 * r - 74 * g + 112 * b + 128) >> 8) + 128);
+        }
+        out.write(plane, 0, count);
+        for (int i = 0; i < count; i++) {
+            int p = argb[i];
+            int r = (p >> 16) & 0xFF, g = (p >> 8) & 0xFF, b = p & 0xFF;
+            plane[i] = (byte) (((112 * r - 94 * g - 18 * b + 128) >> 8) + 128);
+        }
+        out.write(plane, 0, count);
+        frameCount++;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+    
+    // Getters
+    public int getFrameCount() { return frameCount; }
+}
\ No newline at end of file
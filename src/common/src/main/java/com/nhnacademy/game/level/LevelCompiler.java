@@ -0,0 +1,273 @@
+package com.nhnacademy.game.level;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+/**
+ * 텍스트 레벨 정의를 레벨 팩(LevelPack)으로 컴파일하는 도구
+ *
+ * 레벨 정의 형식 (한 파일에 여러 레벨을 쓸 수 있습니다):
+ * <pre>
+ * # 주석 (#으로 시작하는 줄)
+ * level 3
+ * simple   40 60 60 20 #E63946 150
+ * multi    40 85 60 20 #F1A208 120 hits=3
+ * powerup 105 60 60 20 #2A9D8F 150 chance=0.3
+ * moving  700 300 40 40 - 150 vx=~100
+ * </pre>
+ * 엔티티 줄은 종류, x, y, 너비, 높이, 색상, 점수 순서이고, 뒤에 이름=값 형태로 매개변수와 속성을 붙입니다.
+ * 종류와 매개변수/속성 이름은 게임의 LevelSchema가 정합니다.
+ * 색상은 #RRGGBB 또는 #RRGGBBAA이며, -는 종류의 기본 색상입니다.
+ * 속성 값 앞의 ~는 월드가 (난수 - 0.5) * 값으로 바꿔 쓰라는 표시입니다.
+ */
+public class LevelCompiler {
+    private final LevelSchema schema;
+    private final Map<Integer, LevelRecords> levels = new TreeMap<>();
+    
+    public LevelCompiler(LevelSchema schema) {
+        this.schema = schema;
+    }
+    
+    /**
+     * 레벨 정의 파일을 읽어 추가합니다.
+     * @throws IllegalArgumentException 형식이 틀린 줄이 있는 경우 (파일 이름과 줄 번호를 알려 줍니다)
+     */
+    public void parse(Path source) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            parse(source.toString(), reader);
+        }
+    }
+    
+    /**
+     * 레벨 정의를 읽어 추가합니다.
+     * @param name 오류 메시지에 쓸 이름
+     * @param reader 레벨 정의
+     * @throws IllegalArgumentException 형식이 틀린 줄이 있는 경우
+     */
+    public void parse(String name, BufferedReader reader) throws IOException {
+        LevelRecords current = null;
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String[] tokens = line.trim().split("\\s+");
+            // 색상 값(#RRGGBB)과 겹치지 않도록 #으로 시작하는 줄만 주석으로 봅니다.
+            if (tokens[0].isEmpty() || tokens[0].startsWith("#")) {
+                continue;
+            }
+            
+            try {
+                if (tokens[0].equals("level")) {
+                    if (tokens.length != 2) {
+                        throw new IllegalArgumentException("level 다음에는 레벨 번호 하나가 와야 합니다");
+                    }
+                    int number = Integer.parseInt(tokens[1]);
+                    if (levels.containsKey(number)) {
+                        throw new IllegalArgumentException("레벨 " + number + "이 이미 정의되어 있습니다");
+                    }
+                    current = new LevelRecords(64);
+                    levels.put(number, current);
+                } else {
+                    if (current == null) {
+                        throw new IllegalArgumentException("엔티티보다 level 줄이 먼저 와야 합니다");
+                    }
+                    parseEntity(tokens, current);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(name + ":" + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+    }
+    
+    private void parseEntity(String[] tokens, LevelRecords records) {
+        int kind = schema.kindOf(tokens[0]);
+        if (kind < 0) {
+            throw new IllegalArgumentException("알 수 없는 종류입니다: " + tokens[0]);
+        }
+        if (tokens.length < 7) {
+            throw new IllegalArgumentException("종류, x, y, 너비, 높이, 색상, 점수가 모두 있어야 합니다");
+        }
+        int i = records.add(kind, parseColor(tokens[5]), Double.parseDouble(tokens[1]), Double.parseDouble(tokens[2]),
+                            Double.parseDouble(tokens[3]), Double.parseDouble(tokens[4]), Integer.parseInt(tokens[6]));
+        for (int t = 7; t < tokens.length; t++) {
+            int equals = tokens[t].indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("이름=값 형태가 아닙니다: " + tokens[t]);
+            }
+            String key = tokens[t].substring(0, equals);
+            String value = tokens[t].substring(equals + 1);
+            if (key.equals(schema.getParamName())) {
+                records.setParam(i, Integer.parseInt(value));
+                continue;
+            }
+            int slot = schema.attributeOf(key);
+            if (slot < 0) {
+                throw new IllegalArgumentException(tokens[0] + "에 쓸 수 없는 이름입니다: " + key);
+            }
+            boolean random = value.startsWith("~");
+            records.setAttribute(i, slot, Double.parseDouble(random ? value.substring(1) : value), random);
+        }
+    }
+    
+    private static int parseColor(String token) {
+        if (token.equals("-")) {
+            return 0;
+        }
+        if (!token.startsWith("#") || (token.length() != 7 && token.length() != 9)) {
+            throw new IllegalArgumentException("색상은 #RRGGBB, #RRGGBBAA 또는 -여야 합니다: " + token);
+        }
+        long value = Long.parseLong(token.substring(1), 16);
+        return token.length() == 7 ? (int) (value << 8 | 0xFF) : (int) value;
+    }
+    
+    /**
+     * 레코드로 만든 레벨을 추가합니다. 내장 레벨을 정의 파일로 내보낼 때 씁니다.
+     * @throws IllegalArgumentException 이미 있는 레벨 번호인 경우
+     */
+    public void addLevel(int number, LevelRecords records) {
+        if (levels.containsKey(number)) {
+            throw new IllegalArgumentException("레벨 " + number + "이 이미 정의되어 있습니다");
+        }
+        levels.put(number, records);
+    }
+    
+    /**
+     * 지금까지 추가한 레벨을 레벨 정의 형식으로 씁니다.
+     */
+    public void writeSource(Writer out) throws IOException {
+        for (Map.Entry<Integer, LevelRecords> level : levels.entrySet()) {
+            LevelRecords records = level.getValue();
+            out.write("level " + level.getKey() + "\n");
+            for (int i = 0; i < records.size(); i++) {
+                StringBuilder line = new StringBuilder(schema.getKindName(records.getKind(i)));
+                line.append(' ').append(format(records.getX(i)))
+                    .append(' ').append(format(records.getY(i)))
+                    .append(' ').append(format(records.getWidth(i)))
+                    .append(' ').append(format(records.getHeight(i)))
+                    .append(' ').append(records.getColor(i) == 0 ? "-" : String.format("#%08X", records.getColor(i)))
+                    .append(' ').append(records.getPoints(i));
+                if (schema.getParamName() != null && records.getParam(i) != 0) {
+                    line.append(' ').append(schema.getParamName()).append('=').append(records.getParam(i));
+                }
+                for (int slot = 0; slot < 2; slot++) {
+                    if (schema.getAttributeName(slot) != null
+                        && (records.getAttribute(i, slot) != 0 || records.isRandom(i, slot))) {
+                        line.append(' ').append(schema.getAttributeName(slot)).append('=')
+                            .append(records.isRandom(i, slot) ? "~" : "").append(format(records.getAttribute(i, slot)));
+                    }
+                }
+                out.write(line.append('\n').toString());
+            }
+            out.write("\n");
+        }
+    }
+    
+    private static String format(float value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e9 ? Long.toString((long) value) : Float.toString(value);
+    }
+    
+    /**
+     * 지금까지 추가한 레벨을 레벨 팩으로 씁니다.
+     * @param output 레벨 팩 파일 (이미 있으면 덮어씁니다)
+     */
+    public void writePack(Path output) throws IOException {
+        int recordCount = 0;
+        int maxEntities = 0;
+        for (LevelRecords records : levels.values()) {
+            recordCount += records.size();
+            maxEntities = Math.max(maxEntities, records.size());
+        }
+        int size = LevelPack.HEADER_SIZE + levels.size() * LevelPack.DIRECTORY_ENTRY_SIZE
+                   + recordCount * LevelPack.RECORD_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        
+        buffer.putInt(LevelPack.MAGIC);
+        buffer.putShort((short) LevelPack.VERSION);
+        buffer.putShort((short) LevelPack.RECORD_SIZE);
+        buffer.putInt(schema.getWorldKind());
+        buffer.putInt(levels.size());
+        buffer.putInt(maxEntities);
+        buffer.putInt(0);
+        
+        int first = 0;
+        for (Map.Entry<Integer, LevelRecords> level : levels.entrySet()) {
+            buffer.putInt(level.getKey());
+            buffer.putInt(first);
+            buffer.putInt(level.getValue().size());
+            first += level.getValue().size();
+        }
+        
+        for (LevelRecords records : levels.values()) {
+            for (int i = 0; i < records.size(); i++) {
+                buffer.put((byte) records.getKind(i));
+                buffer.put((byte) records.getFlags(i));
+                buffer.putShort((short) records.getParam(i));
+                buffer.putInt(records.getColor(i));
+                buffer.putFloat(records.getX(i));
+                buffer.putFloat(records.getY(i));
+                buffer.putFloat(records.getWidth(i));
+                buffer.putFloat(records.getHeight(i));
+                buffer.putInt(records.getPoints(i));
+                buffer.putFloat(records.getAttribute(i, 0));
+                buffer.putFloat(records.getAttribute(i, 1));
+            }
+        }
+        
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+    
+    /**
+     * 게임별 레벨 도구의 main()에서 호출하는 명령 처리기
+     * <pre>
+     *   export &lt;out.lvl&gt;                       내장 레벨을 레벨 정의 파일로 내보냅니다
+     *   compile &lt;out.lvlpack&gt; &lt;in.lvl&gt;...       레벨 정의 파일들을 레벨 팩으로 컴파일합니다
+     * </pre>
+     * @param schema 게임의 스키마
+     * @param builtin 내장 레벨 번호로 레코드를 만드는 함수
+     * @param builtinLevels 내장 레벨 수 (1번부터)
+     * @param args 명령줄 인자
+     */
+    public static void run(LevelSchema schema, IntFunction<LevelRecords> builtin, int builtinLevels,
+                           String[] args) throws IOException {
+        LevelCompiler compiler = new LevelCompiler(schema);
+        if (args.length == 2 && args[0].equals("export")) {
+            for (int level = 1; level <= builtinLevels; level++) {
+                compiler.addLevel(level, builtin.apply(level));
+            }
+            try (Writer out = Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+                compiler.writeSource(out);
+            }
+            System.out.println(args[1] + ": 내장 레벨 " + builtinLevels + "개를 내보냈습니다.");
+        } else if (args.length >= 3 && args[0].equals("compile")) {
+            for (int i = 2; i < args.length; i++) {
+                compiler.parse(Paths.get(args[i]));
+            }
+            compiler.writePack(Paths.get(args[1]));
+            System.out.println(args[1] + ": 레벨 " + compiler.getLevelCount() + "개를 컴파일했습니다.");
+        } else {
+            throw new IllegalArgumentException("사용법: export <out.lvl> | compile <out.lvlpack> <in.lvl>...");
+        }
+    }
+    
+    public int getLevelCount() {
+        return levels.size();
+    }
+}
\ No newline at end of file
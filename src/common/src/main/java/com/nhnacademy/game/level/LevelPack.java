@@ -0,0 +1,205 @@
+package com.nhnacademy.game.level;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * LevelCompiler가 만든 레벨 팩을 메모리 매핑으로 읽는 로더
+ * 여는 시점에는 헤더만 확인하고, 레벨 디렉터리와 레코드는 매핑된 파일에서 필요할 때 바로 읽으므로
+ * 레벨이 수백 개여도 파싱하거나 미리 객체를 만드는 비용이 없습니다.
+ * 레벨을 바꿀 때는 read()로 그 레벨의 레코드만 LevelRecords에 한꺼번에 옮기고,
+ * 월드가 레코드에서 엔티티를 만듭니다.
+ *
+ * 파일 구조 (리틀 엔디언):
+ *   헤더 24바이트: 매직("LVLP"), 버전(short), 레코드 크기(short), 월드 종류, 레벨 수, 최대 엔티티 수, 예약(int)
+ *   디렉터리: 레벨마다 번호, 첫 레코드 번호, 레코드 수 (int 3개, 번호 순으로 정렬)
+ *   레코드 36바이트: 종류(byte), 무작위 표시(byte), 매개변수(short), 색상(int, RGBA),
+ *                   x, y, 너비, 높이(float), 점수(int), 속성 두 개(float)
+ */
+public final class LevelPack implements Closeable {
+    static final int MAGIC = 0x504C564C;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 24;
+    static final int DIRECTORY_ENTRY_SIZE = 12;
+    static final int RECORD_SIZE = 36;
+    
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final LevelSchema schema;
+    private final int levelCount;
+    private final int maxEntities;
+    private final int recordsOffset;
+    
+    private LevelPack(FileChannel channel, MappedByteBuffer buffer, LevelSchema schema) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.schema = schema;
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        
+        int magic = buffer.getInt(0);
+        if (magic != MAGIC) {
+            throw new IllegalArgumentException("레벨 팩이 아닙니다: 0x" + Integer.toHexString(magic));
+        }
+        int version = buffer.getShort(4);
+        if (version > VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 레벨 팩 버전입니다: " + version);
+        }
+        int recordSize = buffer.getShort(6);
+        if (recordSize != RECORD_SIZE) {
+            throw new IllegalArgumentException("레코드 크기가 맞지 않습니다: " + recordSize);
+        }
+        int worldKind = buffer.getInt(8);
+        if (worldKind != schema.getWorldKind()) {
+            throw new IllegalArgumentException("다른 게임의 레벨 팩입니다: 0x" + Integer.toHexString(worldKind)
+                                               + " (기대: 0x" + Integer.toHexString(schema.getWorldKind()) + ")");
+        }
+        levelCount = buffer.getInt(12);
+        if (levelCount < 0 || levelCount > (buffer.capacity() - HEADER_SIZE) / DIRECTORY_ENTRY_SIZE) {
+            throw new IllegalArgumentException("레벨 수가 올바르지 않습니다: " + levelCount);
+        }
+        maxEntities = buffer.getInt(16);
+        recordsOffset = HEADER_SIZE + levelCount * DIRECTORY_ENTRY_SIZE;
+        
+        long recordCount = 0;
+        if (levelCount > 0) {
+            int last = recordsOffset - DIRECTORY_ENTRY_SIZE;
+            recordCount = (long) buffer.getInt(last + 4) + buffer.getInt(last + 8);
+        }
+        long expected = recordsOffset + recordCount * RECORD_SIZE;
+        if (expected != buffer.capacity()) {
+            throw new IllegalArgumentException("레벨 팩 크기가 맞지 않습니다: " + buffer.capacity()
+                                               + " bytes (기대: " + expected + ")");
+        }
+    }
+    
+    /**
+     * 레벨 팩을 읽기 전용으로 매핑합니다.
+     * @param file 레벨 팩 파일
+     * @param schema 이 팩을 해석할 게임의 스키마
+     * @throws IOException 파일을 읽을 수 없는 경우
+     * @throws IllegalArgumentException 레벨 팩이 아니거나 다른 게임의 팩인 경우
+     */
+    public static LevelPack open(Path file, LevelSchema schema) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("레벨 팩 크기가 올바르지 않습니다: " + size + " bytes");
+            }
+            return new LevelPack(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, size), schema);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * game.levels 시스템 속성이 있으면 그 경로의 레벨 팩을 엽니다.
+     * @param schema 이 팩을 해석할 게임의 스키마
+     * @return 레벨 팩, 속성이 없거나 열지 못하면 null (내장 레벨을 씁니다)
+     */
+    public static LevelPack openFromSystemProperty(LevelSchema schema) {
+        String file = System.getProperty("game.levels");
+        if (file == null) {
+            return null;
+        }
+        try {
+            return open(Paths.get(file), schema);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("[levels] " + file + "을 열 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 디렉터리를 이진 탐색해 레벨의 디렉터리 위치를 찾습니다.
+     * @return 디렉터리 항목의 바이트 위치, 없으면 -1
+     */
+    private int find(int level) {
+        int low = 0;
+        int high = levelCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int position = HEADER_SIZE + middle * DIRECTORY_ENTRY_SIZE;
+            int number = buffer.getInt(position);
+            if (number < level) {
+                low = middle + 1;
+            } else if (number > level) {
+                high = middle - 1;
+            } else {
+                return position;
+            }
+        }
+        return -1;
+    }
+    
+    public boolean contains(int level) {
+        return find(level) >= 0;
+    }
+    
+    /**
+     * 레벨의 레코드를 모두 out에 옮깁니다. out에 있던 레코드는 지워집니다.
+     * @param level 레벨 번호
+     * @param out 레코드를 담을 저장소 (모자라면 키웁니다)
+     * @return 읽은 레코드 수
+     * @throws IllegalArgumentException 팩에 없는 레벨인 경우
+     * @throws IllegalStateException 레코드의 종류가 스키마에 없는 경우
+     */
+    public int read(int level, LevelRecords out) {
+        int entry = find(level);
+        if (entry < 0) {
+            throw new IllegalArgumentException("레벨 팩에 없는 레벨입니다: " + level);
+        }
+        int first = buffer.getInt(entry + 4);
+        int count = buffer.getInt(entry + 8);
+        
+        out.ensureCapacity(count);
+        int position = recordsOffset + first * RECORD_SIZE;
+        for (int i = 0; i < count; i++, position += RECORD_SIZE) {
+            int kind = buffer.get(position);
+            if (kind < 0 || kind >= schema.getKindCount()) {
+                throw new IllegalStateException("레벨 " + level + "의 " + i + "번째 레코드 종류가 올바르지 않습니다: " + kind);
+            }
+            out.set(i, kind, buffer.get(position + 1), buffer.getShort(position + 2), buffer.getInt(position + 4),
+                    buffer.getFloat(position + 8), buffer.getFloat(position + 12),
+                    buffer.getFloat(position + 16), buffer.getFloat(position + 20),
+                    buffer.getInt(position + 24), buffer.getFloat(position + 28), buffer.getFloat(position + 32));
+        }
+        out.setSize(count);
+        return count;
+    }
+    
+    /**
+     * @param index 0부터 getLevelCount() - 1까지의 순서
+     * @return 그 순서의 레벨 번호 (번호는 오름차순입니다)
+     */
+    public int getLevelNumber(int index) {
+        if (index < 0 || index >= levelCount) {
+            throw new IllegalArgumentException("레벨 순서가 범위를 벗어났습니다: " + index);
+        }
+        return buffer.getInt(HEADER_SIZE + index * DIRECTORY_ENTRY_SIZE);
+    }
+    
+    /**
+     * @return 가장 큰 레벨 번호, 빈 팩이면 0
+     */
+    public int getLastLevel() {
+        return levelCount > 0 ? getLevelNumber(levelCount - 1) : 0;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    // Getters
+    public LevelSchema getSchema() { return schema; }
+    public int getLevelCount() { return levelCount; }
+    public int getMaxEntities() { return maxEntities; }
+}
\ No newline at end of file
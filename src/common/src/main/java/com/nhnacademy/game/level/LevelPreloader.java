@@ -0,0 +1,119 @@
+package com.nhnacademy.game.level;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 다음 레벨(웨이브)을 백그라운드에서 미리 만들어 두는 준비기
+ * 현재 레벨이 진행되는 동안 prepare()로 다음 레벨의 엔티티를 만들기 시작하고,
+ * 레벨 경계에서 poll()로 완성된 결과만 받아 월드에 한 번에 바꿔 넣습니다.
+ * poll()은 기다리지 않습니다. 아직 만들고 있으면 작은 웨이브는 준비를 취소하고 그 프레임에서 직접 만들고,
+ * 큰 레벨은 await()로 그 준비가 끝나기를 기다립니다. 기다리면 이미 진행한 작업을 이어받으므로
+ * 전환 프레임이 늘어나는 시간은 처음부터 만드는 시간이 아니라 남은 생성 시간뿐입니다.
+ * 준비는 전환을 빠르게 할 뿐 전환 프레임을 바꾸지 않으므로, 같은 입력으로 진행한 월드는 늘 같은 프레임에 레벨을 바꿉니다.
+ * 준비가 제때 끝나면 레벨이 아무리 커도 전환 프레임에서는 참조를 바꾸는 비용만 듭니다.
+ *
+ * 모든 월드가 데몬 스레드 하나("level-preloader")를 나눠 쓰며, 만드는 작업은 월드 상태를 건드리지 않고
+ * 필요한 값(레벨 번호, 난수 시드 등)만 받아 새 객체를 만들어야 합니다.
+ * prepare(), poll(), await(), cancel()은 월드를 갱신하는 스레드에서 호출합니다.
+ *
+ * @param <T> 준비한 결과 (보통 엔티티 목록)
+ */
+public final class LevelPreloader<T> {
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "level-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /**
+     * 준비 중이거나 준비가 끝난 레벨 하나
+     */
+    private static final class Job<T> {
+        final int level;
+        final Future<T> future;
+        
+        Job(int level, Future<T> future) {
+            this.level = level;
+            this.future = future;
+        }
+    }
+    
+    private final AtomicReference<Job<T>> pending = new AtomicReference<>();
+    
+    /**
+     * 레벨 준비를 시작합니다. 이전에 준비하던 레벨은 취소합니다.
+     * @param level 준비할 레벨 번호
+     * @param builder 백그라운드 스레드에서 실행할 생성 작업
+     */
+    public void prepare(int level, Callable<T> builder) {
+        Job<T> previous = pending.getAndSet(new Job<>(level, EXECUTOR.submit(builder)));
+        if (previous != null) {
+            previous.future.cancel(false);
+        }
+    }
+    
+    /**
+     * 레벨 준비가 끝났으면 결과를 꺼냅니다. 기다리지 않습니다.
+     * @param level 꺼낼 레벨 번호
+     * @return 준비한 결과, 다른 레벨을 준비 중이거나 아직 끝나지 않았으면 null
+     * @throws IllegalStateException 생성 작업이 예외로 끝난 경우
+     */
+    public T poll(int level) {
+        Job<T> job = pending.get();
+        if (job == null || job.level != level || !job.future.isDone() || !pending.compareAndSet(job, null)) {
+            return null;
+        }
+        return take(job);
+    }
+    
+    /**
+     * 레벨 준비가 끝날 때까지 기다려 결과를 꺼냅니다.
+     * @param level 꺼낼 레벨 번호
+     * @return 준비한 결과, 그 레벨을 준비하고 있지 않거나 기다리는 중에 취소되거나 인터럽트되면 null
+     * @throws IllegalStateException 생성 작업이 예외로 끝난 경우
+     */
+    public T await(int level) {
+        Job<T> job = pending.get();
+        if (job == null || job.level != level || !pending.compareAndSet(job, null)) {
+            return null;
+        }
+        return take(job);
+    }
+    
+    private T take(Job<T> job) {
+        try {
+            return job.future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("레벨 " + job.level + " 준비에 실패했습니다", e.getCause());
+        } catch (CancellationException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+    
+    /**
+     * @return 그 레벨을 준비 중이거나 준비를 마쳐 poll()을 기다리고 있으면 true
+     */
+    public boolean isPreparing(int level) {
+        Job<T> job = pending.get();
+        return job != null && job.level == level;
+    }
+    
+    /**
+     * 준비 중인 레벨을 취소합니다. 레벨을 직접 바꾸거나 스냅숏을 복원할 때 호출합니다.
+     */
+    public void cancel() {
+        Job<T> previous = pending.getAndSet(null);
+        if (previous != null) {
+            previous.future.cancel(false);
+        }
+    }
+}
\ No newline at end of file
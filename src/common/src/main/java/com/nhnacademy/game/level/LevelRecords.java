@@ -0,0 +1,173 @@
+package com.nhnacademy.game.level;
+
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+/**
+ * 한 레벨의 엔티티 레코드를 담는 재사용 저장소
+ * 필드마다 배열을 따로 두는 구조라 레벨을 바꿀 때 레코드 객체를 새로 만들지 않고,
+ * 가장 큰 레벨에 맞춰 한 번 할당한 배열을 계속 씁니다.
+ *
+ * 레코드마다 종류, 색상(0xRRGGBBAA, 0이면 종류의 기본 색상), 위치와 크기, 점수,
+ * 정수 매개변수 하나와 실수 속성 두 개가 있으며, 매개변수와 속성의 뜻은 LevelSchema가 정합니다.
+ * 속성에 무작위 표시가 있으면 월드가 (난수 - 0.5) * 값으로 바꿔 씁니다.
+ */
+public final class LevelRecords {
+    /** 속성 슬롯별 무작위 표시 비트 */
+    public static final int RANDOM_FIRST = 1;
+    public static final int RANDOM_SECOND = 2;
+    
+    private byte[] kinds;
+    private byte[] flags;
+    private short[] params;
+    private int[] colors;
+    private float[] xs;
+    private float[] ys;
+    private float[] widths;
+    private float[] heights;
+    private int[] points;
+    private float[] firsts;
+    private float[] seconds;
+    private int size = 0;
+    
+    public LevelRecords(int capacity) {
+        allocate(Math.max(capacity, 1));
+    }
+    
+    private void allocate(int capacity) {
+        kinds = new byte[capacity];
+        flags = new byte[capacity];
+        params = new short[capacity];
+        colors = new int[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+        widths = new float[capacity];
+        heights = new float[capacity];
+        points = new int[capacity];
+        firsts = new float[capacity];
+        seconds = new float[capacity];
+    }
+    
+    /**
+     * 최소 capacity개를 담을 수 있도록 배열을 키웁니다. 담겨 있던 레코드는 유지됩니다.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= kinds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, kinds.length * 2);
+        kinds = Arrays.copyOf(kinds, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+        params = Arrays.copyOf(params, newCapacity);
+        colors = Arrays.copyOf(colors, newCapacity);
+        xs = Arrays.copyOf(xs, newCapacity);
+        ys = Arrays.copyOf(ys, newCapacity);
+        widths = Arrays.copyOf(widths, newCapacity);
+        heights = Arrays.copyOf(heights, newCapacity);
+        points = Arrays.copyOf(points, newCapacity);
+        firsts = Arrays.copyOf(firsts, newCapacity);
+        seconds = Arrays.copyOf(seconds, newCapacity);
+    }
+    
+    public void clear() {
+        size = 0;
+    }
+    
+    /**
+     * 레코드를 추가합니다. 매개변수와 속성은 0으로 시작합니다.
+     * @return 추가한 레코드의 번호
+     */
+    public int add(int kind, int color, double x, double y, double width, double height, int points) {
+        ensureCapacity(size + 1);
+        int i = size++;
+        set(i, kind, 0, 0, color, (float) x, (float) y, (float) width, (float) height, points, 0, 0);
+        return i;
+    }
+    
+    /**
+     * 레코드 하나의 모든 필드를 채웁니다. LevelPack이 묶음으로 읽을 때 씁니다.
+     */
+    void set(int i, int kind, int flag, int param, int color, float x, float y, float width, float height,
+             int point, float first, float second) {
+        kinds[i] = (byte) kind;
+        flags[i] = (byte) flag;
+        params[i] = (short) param;
+        colors[i] = color;
+        xs[i] = x;
+        ys[i] = y;
+        widths[i] = width;
+        heights[i] = height;
+        points[i] = point;
+        firsts[i] = first;
+        seconds[i] = second;
+    }
+    
+    void setSize(int size) {
+        this.size = size;
+    }
+    
+    public void setParam(int i, int value) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("매개변수가 범위를 벗어났습니다: " + value);
+        }
+        params[i] = (short) value;
+    }
+    
+    /**
+     * @param slot 속성 번호 (0 또는 1)
+     * @param random true면 월드가 (난수 - 0.5) * value로 바꿔 씁니다
+     */
+    public void setAttribute(int i, int slot, double value, boolean random) {
+        int bit = slot == 0 ? RANDOM_FIRST : RANDOM_SECOND;
+        if (slot == 0) {
+            firsts[i] = (float) value;
+        } else {
+            seconds[i] = (float) value;
+        }
+        flags[i] = (byte) (random ? flags[i] | bit : flags[i] & ~bit);
+    }
+    
+    public float getAttribute(int i, int slot) {
+        return slot == 0 ? firsts[i] : seconds[i];
+    }
+    
+    public boolean isRandom(int i, int slot) {
+        return (flags[i] & (slot == 0 ? RANDOM_FIRST : RANDOM_SECOND)) != 0;
+    }
+    
+    /**
+     * 색상을 레코드에 담는 0xRRGGBBAA 값으로 바꿉니다.
+     */
+    public static int rgbaOf(Color color) {
+        return (int) Math.round(color.getRed() * 255) << 24
+               | (int) Math.round(color.getGreen() * 255) << 16
+               | (int) Math.round(color.getBlue() * 255) << 8
+               | (int) Math.round(color.getOpacity() * 255);
+    }
+    
+    /**
+     * 0xRRGGBBAA 값을 색상으로 바꿉니다.
+     * 같은 줄의 벽돌처럼 이웃한 레코드는 색상이 같은 경우가 많으므로 같으면 previous를 그대로 돌려줍니다.
+     * @param previous 직전에 만든 색상 (없으면 null)
+     */
+    public static Color toColor(int rgba, Color previous) {
+        if (previous != null && rgbaOf(previous) == rgba) {
+            return previous;
+        }
+        return Color.rgb(rgba >>> 24, (rgba >>> 16) & 0xFF, (rgba >>> 8) & 0xFF, (rgba & 0xFF) / 255.0);
+    }
+    
+    // Getters
+    public int size() { return size; }
+    public int capacity() { return kinds.length; }
+    public int getKind(int i) { return kinds[i]; }
+    public int getFlags(int i) { return flags[i]; }
+    public int getParam(int i) { return params[i]; }
+    public int getColor(int i) { return colors[i]; }
+    public float getX(int i) { return xs[i]; }
+    public float getY(int i) { return ys[i]; }
+    public float getWidth(int i) { return widths[i]; }
+    public float getHeight(int i) { return heights[i]; }
+    public int getPoints(int i) { return points[i]; }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.nhnacademy.game.level;
+
+import java.util.Arrays;
+
+/**
+ * 게임마다 다른 레벨 레코드의 해석 방법
+ * 레코드의 종류 번호가 어떤 이름(레벨 파일에 쓰는 단어)에 해당하는지와,
+ * 정수 매개변수 하나와 실수 속성 두 개를 레벨 파일에서 어떤 이름으로 쓰는지를 정합니다.
+ * 쓰지 않는 매개변수나 속성의 이름은 null입니다.
+ */
+public final class LevelSchema {
+    private final int worldKind;
+    private final String[] kindNames;
+    private final String paramName;
+    private final String[] attributeNames;
+    
+    /**
+     * @param worldKind 레벨 팩 헤더에 기록할 월드 종류 (다른 게임의 팩을 열지 않도록 합니다)
+     * @param kindNames 종류 번호 순서대로의 이름
+     * @param paramName 정수 매개변수 이름
+     * @param firstName 첫 번째 실수 속성 이름
+     * @param secondName 두 번째 실수 속성 이름
+     */
+    public LevelSchema(int worldKind, String[] kindNames, String paramName, String firstName, String secondName) {
+        if (kindNames.length == 0 || kindNames.length > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("종류는 1~127개여야 합니다: " + kindNames.length);
+        }
+        this.worldKind = worldKind;
+        this.kindNames = kindNames.clone();
+        this.paramName = paramName;
+        this.attributeNames = new String[] { firstName, secondName };
+    }
+    
+    /**
+     * @return 이름에 해당하는 종류 번호, 없으면 -1
+     */
+    public int kindOf(String name) {
+        for (int i = 0; i < kindNames.length; i++) {
+            if (kindNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * @return 이름에 해당하는 속성 번호(0 또는 1), 없으면 -1
+     */
+    public int attributeOf(String name) {
+        for (int i = 0; i < attributeNames.length; i++) {
+            if (name.equals(attributeNames[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    public String getKindName(int kind) {
+        if (kind < 0 || kind >= kindNames.length) {
+            throw new IllegalArgumentException("알 수 없는 종류 번호입니다: " + kind + " (0.." + (kindNames.length - 1) + ")");
+        }
+        return kindNames[kind];
+    }
+    
+    public String getAttributeName(int slot) {
+        return attributeNames[slot];
+    }
+    
+    @Override
+    public String toString() {
+        return "LevelSchema[0x" + Integer.toHexString(worldKind) + ", " + Arrays.toString(kindNames) + "]";
+    }
+    
+    // Getters
+    public int getWorldKind() { return worldKind; }
+    public int getKindCount() { return kindNames.length; }
+    public String getParamName() { return paramName; }
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.nhnacademy.game.loop;
+
+import com.nhnacademy.game.core.GameWorld;
+import com.nhnacademy.game.diagnostics.EventGate;
+import com.nhnacademy.game.diagnostics.RenderEvent;
+import com.nhnacademy.game.graphics.RenderQueue;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 별도 스레드에서 고정 간격으로 월드를 진행하고, 매 틱의 그리기 명령을 삼중 버퍼로 내놓는 루프
+ * FX 스레드는 acquire()로 가장 최근 프레임을 받아 그리기만 하므로,
+ * 물리 계산이 무거운 프레임이 있어도 화면 갱신이 멈추지 않습니다.
+ *
+ * 입력 처리처럼 월드를 바꾸는 작업은 post()로 넘기면 다음 틱 시작 시 시뮬레이션 스레드에서 실행됩니다.
+ * 뒤처지면 그리기 기록 없이 최대 MAX_CATCH_UP_STEPS 틱까지 따라잡고, 그 이상은 버립니다.
+ * 틱 도중 예외가 나면 로그를 남기고 루프를 멈춥니다. 원인은 getFailure()로 볼 수 있습니다.
+ */
+public class SimulationLoop implements Runnable {
+    private static final int MAX_CATCH_UP_STEPS = 5;
+    
+    private final GameWorld world;
+    private final TripleBuffer<RenderQueue> frames;
+    private final Queue<Runnable> inputs = new ConcurrentLinkedQueue<>();
+    private final long stepNanos;
+    private final double stepSeconds;
+    
+    private volatile boolean running = false;
+    private volatile Runnable tickListener;
+    private volatile Throwable failure;
+    private Thread thread;
+    
+    // 통계 (시뮬레이션 스레드에서 쓰고 다른 스레드에서 읽음)
+    private volatile long tickCount = 0;
+    private volatile long droppedSteps = 0;
+    private volatile long lastTickNanos = 0;
+    
+    /**
+     * @param world 진행할 월드
+     * @param frames 그리기 명령을 내놓을 삼중 버퍼
+     * @param ticksPerSecond 초당 틱 수
+     */
+    public SimulationLoop(GameWorld world, TripleBuffer<RenderQueue> frames, int ticksPerSecond) {
+        this.world = world;
+        this.frames = frames;
+        this.stepNanos = 1_000_000_000L / ticksPerSecond;
+        this.stepSeconds = 1.0 / ticksPerSecond;
+    }
+    
+    /**
+     * 시뮬레이션 스레드를 시작합니다.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * 시뮬레이션 스레드를 멈추고 끝날 때까지 기다립니다.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+    
+    /**
+     * 월드를 바꾸는 작업을 시뮬레이션 스레드로 넘깁니다.
+     * @param input 다음 틱 시작 시 실행할 작업
+     */
+    public void post(Runnable input) {
+        inputs.add(input);
+    }
+    
+    /**
+     * 매 틱 world.update() 뒤에 시뮬레이션 스레드에서 실행할 작업을 지정합니다.
+     * 리플레이 기록처럼 갱신된 월드를 틱마다 읽어야 하는 작업에 씁니다.
+     * @param listener 실행할 작업, 없애려면 null
+     */
+    public void setTickListener(Runnable listener) {
+        this.tickListener = listener;
+    }
+    
+    @Override
+    public void run() {
+        try {
+            loop();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            running = false;
+            System.err.println("[simulation] 틱을 진행하다 실패해 시뮬레이션을 멈춥니다: " + e);
+            e.printStackTrace();
+        }
+    }
+    
+    private void loop() {
+        long next = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            int steps = 0;
+            while (now - next >= 0 && steps < MAX_CATCH_UP_STEPS) {
+                long start = System.nanoTime();
+                drainInputs();
+                world.update(stepSeconds);
+                Runnable listener = tickListener;
+                if (listener != null) {
+                    listener.run();
+                }
+                lastTickNanos = System.nanoTime() - start;
+                tickCount++;
+                next += stepNanos;
+                steps++;
+            }
+            if (now - next >= 0) {
+                // 따라잡을 수 없을 만큼 밀렸으면 남은 틱을 버립니다.
+                droppedSteps += (now - next) / stepNanos + 1;
+                next = now + stepNanos;
+            }
+            
+            if (steps > 0) {
+                RenderEvent event = EventGate.RENDER.isEnabled() ? new RenderEvent() : null;
+                if (event != null) {
+                    event.begin();
+                }
+                RenderQueue queue = frames.getBackBuffer();
+                queue.clear();
+                world.record(queue);
+                queue.sort();
+                if (event != null) {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.pass = "record";
+                        event.commands = queue.size();
+                        event.culled = queue.getCulledCount();
+                        event.commit();
+                    }
+                }
+                frames.publish();
+            }
+            
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+    
+    private void drainInputs() {
+        Runnable input;
+        while ((input = inputs.poll()) != null) {
+            input.run();
+        }
+    }
+    
+    // Getters
+    public boolean isRunning() { return running; }
+    public Throwable getFailure() { return failure; }
+    public long getTickCount() { return tickCount; }
+    public long getDroppedSteps() { return droppedSteps; }
+    public long getLastTickNanos() { return lastTickNanos; }
+}
\ No newline at end of file
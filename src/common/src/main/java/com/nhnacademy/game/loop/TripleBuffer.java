@@ -0,0 +1,84 @@
+package com.nhnacademy.game.loop;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 잠금 없는 삼중 버퍼
+ * 생산자 스레드 하나가 뒤 버퍼에 쓰고 publish()로 내놓으면,
+ * 소비자 스레드 하나가 acquire()로 가장 최근에 완성된 버퍼를 가져갑니다.
+ *
+ * 두 스레드가 서로를 기다리지 않습니다. 생산자가 빠르면 중간 프레임은 건너뛰고,
+ * 소비자가 빠르면 같은 버퍼를 다시 읽습니다.
+ *
+ * @param <T> 버퍼 타입
+ */
+public final class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0x3;
+    private static final int FRESH = 0x4;
+    
+    private final Object[] buffers = new Object[3];
+    
+    // 중간 버퍼의 인덱스와 새 버퍼 여부
+    private final AtomicInteger middle = new AtomicInteger(1);
+    
+    // 생산자 전용
+    private int back = 2;
+    
+    // 소비자 전용
+    private int front = 0;
+    
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+    
+    /**
+     * 생산자가 쓸 버퍼를 반환합니다.
+     * @return 뒤 버퍼
+     */
+    @SuppressWarnings("unchecked")
+    public T getBackBuffer() {
+        return (T) buffers[back];
+    }
+    
+    /**
+     * 다 쓴 뒤 버퍼를 내놓고 새 뒤 버퍼로 교체합니다.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+    
+    /**
+     * 가장 최근에 내놓은 버퍼를 가져옵니다.
+     * 새 버퍼가 없으면 이전에 가져간 버퍼를 그대로 반환합니다.
+     * @return 앞 버퍼
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+    
+    /**
+     * 소비자가 아직 가져가지 않은 새 버퍼가 있는지 확인합니다.
+     */
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+    
+    /**
+     * 세 버퍼 모두에 같은 작업을 적용합니다.
+     * 스레드를 시작하기 전 초기 설정에만 사용합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<T> action) {
+        for (Object buffer : buffers) {
+            action.accept((T) buffer);
+        }
+    }
+}
\ No newline at end of file
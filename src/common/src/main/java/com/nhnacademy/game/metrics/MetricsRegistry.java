@@ -0,0 +1,77 @@
+package com.nhnacademy.game.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 실행 중인 월드 지표 목록
+ * 등록하면 플랫폼 MBean 서버에 "com.nhnacademy.game:type=World,name=<인스턴스>"로 올라가
+ * jconsole이나 VisualVM에서 볼 수 있고, PrometheusEndpoint도 이 목록을 읽습니다.
+ *
+ * 등록과 해제는 월드를 만들고 닫을 때만 일어나므로 복사 후 쓰기 리스트를 사용합니다.
+ * 읽는 쪽은 잠금 없이 순회합니다.
+ */
+public final class MetricsRegistry {
+    private static final String DOMAIN = "com.nhnacademy.game";
+    private static final List<WorldMetrics> WORLDS = new CopyOnWriteArrayList<>();
+    
+    private MetricsRegistry() {
+    }
+    
+    /**
+     * 월드 지표를 등록합니다.
+     * MBean 서버에 올리지 못해도 HTTP 엔드포인트에는 계속 노출됩니다.
+     * @param metrics 등록할 지표
+     */
+    public static void register(WorldMetrics metrics) {
+        if (WORLDS.contains(metrics)) {
+            return;
+        }
+        WORLDS.add(metrics);
+        
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(metrics);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(metrics, name);
+            }
+        } catch (JMException e) {
+            System.err.println("[metrics] MBean 등록 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 월드 지표를 해제합니다.
+     * @param metrics 해제할 지표
+     */
+    public static void unregister(WorldMetrics metrics) {
+        if (!WORLDS.remove(metrics)) {
+            return;
+        }
+        
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(metrics);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            System.err.println("[metrics] MBean 해제 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 등록된 지표 목록을 반환합니다.
+     */
+    public static List<WorldMetrics> getWorlds() {
+        return WORLDS;
+    }
+    
+    private static ObjectName objectName(WorldMetrics metrics) throws JMException {
+        return new ObjectName(DOMAIN + ":type=World,name=" + ObjectName.quote(metrics.getInstance()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.nhnacademy.game.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 시점의 월드 지표
+ * 종류별 객체 수와 풀 사용량은 고정 크기 배열에 담으므로, 시뮬레이션 스레드가 같은 스냅숏을
+ * 다시 채울 때는 할당이 일어나지 않습니다. 이름은 처음 기록될 때만 자리를 차지합니다.
+ * 읽는 쪽에는 WorldMetrics.getSnapshot()이 만든 복사본만 전달됩니다.
+ */
+public final class MetricsSnapshot {
+    static final int MAX_ENTRIES = 16;
+    
+    private final String[] entityNames = new String[MAX_ENTRIES];
+    private final long[] entityCounts = new long[MAX_ENTRIES];
+    private int entityCount;
+    
+    private final String[] poolNames = new String[MAX_ENTRIES];
+    private final long[] poolUsed = new long[MAX_ENTRIES];
+    private final long[] poolCapacity = new long[MAX_ENTRIES];
+    private int poolCount;
+    
+    private int level;
+    
+    // WorldMetrics가 채우는 값
+    double framesPerSecond;
+    long updateP50Nanos;
+    long updateP99Nanos;
+    long updateMaxNanos;
+    long frameCount;
+    
+    /**
+     * 객체 수를 기록합니다. 자리가 모자라면 무시합니다.
+     * @param kind 종류 (예: bricks, balls)
+     * @param count 개수
+     */
+    public void entity(String kind, long count) {
+        int index = indexOf(entityNames, entityCount, kind);
+        if (index < 0) {
+            if (entityCount == MAX_ENTRIES) {
+                return;
+            }
+            index = entityCount++;
+            entityNames[index] = kind;
+        }
+        entityCounts[index] = count;
+    }
+    
+    /**
+     * 고정 용량 풀의 사용량을 기록합니다. 자리가 모자라면 무시합니다.
+     * @param name 풀 이름
+     * @param used 사용 중인 슬롯 수
+     * @param capacity 전체 슬롯 수
+     */
+    public void pool(String name, long used, long capacity) {
+        int index = indexOf(poolNames, poolCount, name);
+        if (index < 0) {
+            if (poolCount == MAX_ENTRIES) {
+                return;
+            }
+            index = poolCount++;
+            poolNames[index] = name;
+        }
+        poolUsed[index] = used;
+        poolCapacity[index] = capacity;
+    }
+    
+    /**
+     * 현재 레벨 또는 웨이브를 기록합니다.
+     */
+    public void level(int level) {
+        this.level = level;
+    }
+    
+    private static int indexOf(String[] names, int count, String name) {
+        for (int i = 0; i < count; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * 모든 값을 다른 스냅숏으로 복사합니다. 할당하지 않습니다.
+     * @param target 복사할 대상
+     */
+    void copyTo(MetricsSnapshot target) {
+        System.arraycopy(entityNames, 0, target.entityNames, 0, MAX_ENTRIES);
+        System.arraycopy(entityCounts, 0, target.entityCounts, 0, MAX_ENTRIES);
+        target.entityCount = entityCount;
+        System.arraycopy(poolNames, 0, target.poolNames, 0, MAX_ENTRIES);
+        System.arraycopy(poolUsed, 0, target.poolUsed, 0, MAX_ENTRIES);
+        System.arraycopy(poolCapacity, 0, target.poolCapacity, 0, MAX_ENTRIES);
+        target.poolCount = poolCount;
+        target.level = level;
+        target.framesPerSecond = framesPerSecond;
+        target.updateP50Nanos = updateP50Nanos;
+        target.updateP99Nanos = updateP99Nanos;
+        target.updateMaxNanos = updateMaxNanos;
+        target.frameCount = frameCount;
+    }
+    
+    /**
+     * 종류별 객체 수를 반환합니다.
+     */
+    public Map<String, Long> getEntities() {
+        Map<String, Long> entities = new LinkedHashMap<>();
+        for (int i = 0; i < entityCount; i++) {
+            entities.put(entityNames[i], entityCounts[i]);
+        }
+        return Collections.unmodifiableMap(entities);
+    }
+    
+    /**
+     * 풀별 사용률(0.0 ~ 1.0)을 반환합니다.
+     */
+    public Map<String, Double> getPoolUtilization() {
+        Map<String, Double> utilization = new LinkedHashMap<>();
+        for (int i = 0; i < poolCount; i++) {
+            utilization.put(poolNames[i], poolCapacity[i] == 0 ? 0.0 : (double) poolUsed[i] / poolCapacity[i]);
+        }
+        return Collections.unmodifiableMap(utilization);
+    }
+    
+    @Override
+    public String toString() {
+        return "MetricsSnapshot(fps=" + framesPerSecond + ", level=" + level
+               + ", entities=" + Arrays.toString(Arrays.copyOf(entityNames, entityCount)) + ")";
+    }
+    
+    // Getters
+    public int getLevel() { return level; }
+    public double getFramesPerSecond() { return framesPerSecond; }
+    public long getUpdateP50Nanos() { return updateP50Nanos; }
+    public long getUpdateP99Nanos() { return updateP99Nanos; }
+    public long getUpdateMaxNanos() { return updateMaxNanos; }
+    public long getFrameCount() { return frameCount; }
+}
\ No newline at end of file
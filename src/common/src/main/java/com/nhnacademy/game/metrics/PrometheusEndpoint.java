@@ -0,0 +1,166 @@
+package com.nhnacademy.game.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 등록된 월드 지표를 Prometheus 텍스트 형식으로 내놓는 로컬 HTTP 엔드포인트
+ * 루프백 주소에만 바인딩하며 "/metrics" 요청마다 MetricsRegistry의 스냅숏을 읽어 응답합니다.
+ * 요청은 HTTP 서버의 스레드에서 처리되므로 시뮬레이션 스레드에는 영향을 주지 않습니다.
+ *
+ * 예: java -Dgame.metrics.port=9400 ... 후 curl http://127.0.0.1:9400/metrics
+ */
+public class PrometheusEndpoint implements AutoCloseable {
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    
+    private final HttpServer server;
+    
+    /**
+     * 엔드포인트를 열고 바로 요청을 받기 시작합니다.
+     * @param port 포트 번호 (0이면 임의의 빈 포트)
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public PrometheusEndpoint(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", this::handle);
+        server.start();
+    }
+    
+    /**
+     * game.metrics.port 시스템 속성이 있으면 그 포트로 엔드포인트를 엽니다.
+     * @return 열린 엔드포인트, 속성이 없거나 열지 못하면 null
+     */
+    public static PrometheusEndpoint startFromSystemProperty() {
+        Integer port = Integer.getInteger("game.metrics.port");
+        if (port == null) {
+            return null;
+        }
+        try {
+            return new PrometheusEndpoint(port);
+        } catch (IOException e) {
+            System.err.println("[metrics] 포트 " + port + "를 열 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    /**
+     * 등록된 모든 월드의 지표를 Prometheus 텍스트 형식으로 만듭니다.
+     * @return 응답 본문
+     */
+    public static String scrape() {
+        StringBuilder out = new StringBuilder(2048);
+        
+        // 한 월드의 값이 응답 안에서 서로 어긋나지 않도록 스냅숏을 한 번씩만 복사합니다.
+        List<WorldMetrics> worlds = new ArrayList<>(MetricsRegistry.getWorlds());
+        List<MetricsSnapshot> snapshots = new ArrayList<>(worlds.size());
+        for (WorldMetrics metrics : worlds) {
+            snapshots.add(metrics.getSnapshot());
+        }
+        
+        header(out, "game_frames_per_second", "gauge", "Simulation updates per second over the last window");
+        for (int i = 0; i < worlds.size(); i++) {
+            sample(out, "game_frames_per_second", worlds.get(i), null, null, snapshots.get(i).getFramesPerSecond());
+        }
+        
+        header(out, "game_frames_total", "counter", "Simulation updates since the world was created");
+        for (int i = 0; i < worlds.size(); i++) {
+            sample(out, "game_frames_total", worlds.get(i), null, null, snapshots.get(i).getFrameCount());
+        }
+        
+        header(out, "game_update_seconds", "summary", "Update time per frame over the last window");
+        for (int i = 0; i < worlds.size(); i++) {
+            MetricsSnapshot snapshot = snapshots.get(i);
+            sample(out, "game_update_seconds", worlds.get(i), "quantile", "0.5", snapshot.getUpdateP50Nanos() / 1e9);
+            sample(out, "game_update_seconds", worlds.get(i), "quantile", "0.99", snapshot.getUpdateP99Nanos() / 1e9);
+            sample(out, "game_update_seconds", worlds.get(i), "quantile", "1", snapshot.getUpdateMaxNanos() / 1e9);
+        }
+        
+        header(out, "game_render_seconds", "summary", "Render time per frame over the last window");
+        for (WorldMetrics metrics : worlds) {
+            sample(out, "game_render_seconds", metrics, "quantile", "0.5", metrics.getRenderP50Nanos() / 1e9);
+            sample(out, "game_render_seconds", metrics, "quantile", "0.99", metrics.getRenderP99Nanos() / 1e9);
+            sample(out, "game_render_seconds", metrics, "quantile", "1", metrics.getRenderMaxNanos() / 1e9);
+        }
+        
+        header(out, "game_entities", "gauge", "Live objects by kind");
+        for (int i = 0; i < worlds.size(); i++) {
+            for (Map.Entry<String, Long> entry : snapshots.get(i).getEntities().entrySet()) {
+                sample(out, "game_entities", worlds.get(i), "kind", entry.getKey(), entry.getValue());
+            }
+        }
+        
+        header(out, "game_pool_utilization", "gauge", "Used fraction of fixed-capacity pools");
+        for (int i = 0; i < worlds.size(); i++) {
+            for (Map.Entry<String, Double> entry : snapshots.get(i).getPoolUtilization().entrySet()) {
+                sample(out, "game_pool_utilization", worlds.get(i), "pool", entry.getKey(), entry.getValue());
+            }
+        }
+        
+        header(out, "game_level", "gauge", "Current level or wave");
+        for (int i = 0; i < worlds.size(); i++) {
+            sample(out, "game_level", worlds.get(i), null, null, snapshots.get(i).getLevel());
+        }
+        
+        return out.toString();
+    }
+    
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+    
+    private static void sample(StringBuilder out, String name, WorldMetrics metrics,
+                               String label, String labelValue, double value) {
+        out.append(name)
+           .append("{world=\"").append(metrics.getWorld())
+           .append("\",instance=\"").append(metrics.getInstance()).append('"');
+        if (label != null) {
+            out.append(',').append(label).append("=\"").append(labelValue).append('"');
+        }
+        out.append("} ");
+        if (value == (long) value) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+    
+    /**
+     * 실제로 바인딩된 포트를 반환합니다.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
\ No newline at end of file
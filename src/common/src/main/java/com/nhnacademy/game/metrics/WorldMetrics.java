@@ -0,0 +1,188 @@
+package com.nhnacademy.game.metrics;
+
+import com.nhnacademy.game.diagnostics.PhaseHistogram;
+
+import java.lang.invoke.VarHandle;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 월드 하나의 실시간 지표
+ * 업데이트 시간과 렌더링 시간은 각각 그 일을 하는 스레드에서만 기록하고, 1초마다 결과를 내놓습니다.
+ *
+ * 업데이트 쪽 결과는 미리 만들어 둔 스냅숏 하나에 시퀀스 잠금(seqlock) 방식으로 씁니다.
+ * 쓰기 전후로 volatile 버전을 하나씩 올리고, 읽는 쪽(JMX, HTTP)은 버전이 짝수이고
+ * 복사 전후로 같을 때까지 다시 복사합니다. 따라서 시뮬레이션 스레드는 잠금을 잡지도,
+ * 할당하지도 않으며 읽는 쪽이 기다리게 할 뿐입니다.
+ *
+ * 객체 수, 풀 사용량, 레벨처럼 월드 상태에서 읽어야 하는 값은 Sampler를 통해
+ * 스냅숏을 만들 때 시뮬레이션 스레드에서 함께 채웁니다.
+ */
+public class WorldMetrics implements WorldMetricsMXBean {
+    private static final long PUBLISH_INTERVAL_NANOS = 1_000_000_000L;
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+    
+    /**
+     * 스냅숏을 만들 때 월드 상태를 채우는 함수
+     */
+    public interface Sampler {
+        void sample(MetricsSnapshot snapshot);
+    }
+    
+    private final String world;
+    private final String instance;
+    private final Sampler sampler;
+    
+    // 시뮬레이션 스레드 전용
+    private final PhaseHistogram updateTimes = new PhaseHistogram();
+    private long windowStart = 0;
+    private long windowFrames = 0;
+    private long frameCount = 0;
+    private final MetricsSnapshot working = new MetricsSnapshot();
+    
+    // 시뮬레이션 스레드가 쓰고 다른 스레드가 복사해 가는 스냅숏 (버전이 홀수이면 쓰는 중)
+    private final MetricsSnapshot published = new MetricsSnapshot();
+    private volatile long version = 0;
+    
+    // 렌더링 스레드 전용
+    private final PhaseHistogram renderTimes = new PhaseHistogram();
+    private long renderWindowStart = 0;
+    private volatile long renderP50Nanos;
+    private volatile long renderP99Nanos;
+    private volatile long renderMaxNanos;
+    
+    /**
+     * 같은 종류의 월드를 구분할 수 있도록 "종류-번호" 형태의 인스턴스 이름을 붙입니다.
+     * @param world 월드 종류 (예: breakout, cannon)
+     * @param sampler 월드 상태를 채우는 함수
+     */
+    public WorldMetrics(String world, Sampler sampler) {
+        this.world = world;
+        this.instance = world + "-" + NEXT_ID.getAndIncrement();
+        this.sampler = sampler;
+    }
+    
+    /**
+     * 업데이트 한 번의 시간을 기록합니다. 시뮬레이션 스레드에서 호출합니다.
+     * 마지막 스냅숏 이후 1초가 지났으면 새 스냅숏을 만듭니다.
+     * @param updateNanos 업데이트에 걸린 시간 (나노초)
+     */
+    public void recordUpdate(long updateNanos) {
+        long now = System.nanoTime();
+        if (windowStart == 0) {
+            windowStart = now;
+        }
+        updateTimes.record(updateNanos);
+        windowFrames++;
+        frameCount++;
+        
+        long elapsed = now - windowStart;
+        if (elapsed >= PUBLISH_INTERVAL_NANOS) {
+            working.framesPerSecond = windowFrames * 1e9 / elapsed;
+            working.updateP50Nanos = updateTimes.getPercentile(50);
+            working.updateP99Nanos = updateTimes.getPercentile(99);
+            working.updateMaxNanos = updateTimes.getMax();
+            working.frameCount = frameCount;
+            if (sampler != null) {
+                sampler.sample(working);
+            }
+            publish();
+            
+            updateTimes.reset();
+            windowFrames = 0;
+            windowStart = now;
+        }
+    }
+    
+    /**
+     * 작업용 스냅숏을 공개 스냅숏으로 복사합니다. 시뮬레이션 스레드에서만 호출합니다.
+     */
+    private void publish() {
+        long next = version + 1;
+        version = next;
+        VarHandle.storeStoreFence();
+        working.copyTo(published);
+        version = next + 1;
+    }
+    
+    /**
+     * 가장 최근에 공개된 스냅숏의 복사본을 반환합니다.
+     * 시뮬레이션 스레드가 쓰는 중이면 끝날 때까지 다시 시도합니다.
+     * @return 스냅숏 복사본
+     */
+    public MetricsSnapshot getSnapshot() {
+        MetricsSnapshot copy = new MetricsSnapshot();
+        while (true) {
+            long before = version;
+            if ((before & 1) == 0) {
+                published.copyTo(copy);
+                VarHandle.loadLoadFence();
+                if (version == before) {
+                    return copy;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+    
+    /**
+     * 렌더링 한 번의 시간을 기록합니다. 렌더링 스레드에서 호출합니다.
+     * @param renderNanos 렌더링에 걸린 시간 (나노초)
+     */
+    public void recordRender(long renderNanos) {
+        long now = System.nanoTime();
+        if (renderWindowStart == 0) {
+            renderWindowStart = now;
+        }
+        renderTimes.record(renderNanos);
+        if (now - renderWindowStart >= PUBLISH_INTERVAL_NANOS) {
+            renderP50Nanos = renderTimes.getPercentile(50);
+            renderP99Nanos = renderTimes.getPercentile(99);
+            renderMaxNanos = renderTimes.getMax();
+            renderTimes.reset();
+            renderWindowStart = now;
+        }
+    }
+    
+    @Override
+    public String getWorld() { return world; }
+    
+    @Override
+    public int getLevel() { return getSnapshot().getLevel(); }
+    
+    @Override
+    public double getFramesPerSecond() { return getSnapshot().getFramesPerSecond(); }
+    
+    @Override
+    public long getFrameCount() { return getSnapshot().getFrameCount(); }
+    
+    @Override
+    public double getUpdateTimeP50Micros() { return getSnapshot().getUpdateP50Nanos() / 1000.0; }
+    
+    @Override
+    public double getUpdateTimeP99Micros() { return getSnapshot().getUpdateP99Nanos() / 1000.0; }
+    
+    @Override
+    public double getUpdateTimeMaxMicros() { return getSnapshot().getUpdateMaxNanos() / 1000.0; }
+    
+    @Override
+    public double getRenderTimeP50Micros() { return renderP50Nanos / 1000.0; }
+    
+    @Override
+    public double getRenderTimeP99Micros() { return renderP99Nanos / 1000.0; }
+    
+    @Override
+    public double getRenderTimeMaxMicros() { return renderMaxNanos / 1000.0; }
+    
+    @Override
+    public Map<String, Long> getEntityCounts() { return getSnapshot().getEntities(); }
+    
+    @Override
+    public Map<String, Double> getPoolUtilization() { return getSnapshot().getPoolUtilization(); }
+    
+    // Getters
+    public String getInstance() { return instance; }
+    public long getRenderP50Nanos() { return renderP50Nanos; }
+    public long getRenderP99Nanos() { return renderP99Nanos; }
+    public long getRenderMaxNanos() { return renderMaxNanos; }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.nhnacademy.game.metrics;
+
+import java.util.Map;
+
+/**
+ * 실행 중인 월드 하나의 지표를 JMX로 내놓는 인터페이스
+ * 시간 값은 최근 1초 구간의 마이크로초입니다.
+ */
+public interface WorldMetricsMXBean {
+    String getWorld();
+    
+    int getLevel();
+    
+    double getFramesPerSecond();
+    
+    long getFrameCount();
+    
+    double getUpdateTimeP50Micros();
+    
+    double getUpdateTimeP99Micros();
+    
+    double getUpdateTimeMaxMicros();
+    
+    double getRenderTimeP50Micros();
+    
+    double getRenderTimeP99Micros();
+    
+    double getRenderTimeMaxMicros();
+    
+    Map<String, Long> getEntityCounts();
+    
+    Map<String, Double> getPoolUtilization();
+}
\ No newline at end of file
@@ -0,0 +1,522 @@
+package com.nhnacademy.game.net;
+
+import com.nhnacademy.game.replay.FrameEncoder;
+import com.nhnacademy.game.replay.Replayable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 한 월드의 진행을 많은 관전자에게 내보내는 방송기
+ * 월드를 갱신하는 스레드가 틱마다 tick()을 부르면 그 틱을 FrameEncoder로 한 번만 인코딩해
+ * 미리 할당한 다이렉트 링 버퍼에 붙입니다. 관전자마다 다시 인코딩하거나 복사하지 않고,
+ * 방송 스레드("spectator-broadcaster")가 관전자마다 링의 같은 바이트를 가리키는 뷰 두 개로
+ * 모아 쓰기(gathering write)를 해서 내보냅니다. 링이 끝에서 처음으로 돌아가는 자리도 쓰기 한 번으로 보냅니다.
+ *
+ * 관전자마다 링의 어디까지 보냈는지만 기억하고, 소켓이 받지 않으면 OP_WRITE를 기다리므로 틱을 붙잡지 않습니다.
+ * 보낼 틱이 키프레임 간격 두 번보다 많이 밀리거나 링의 절반보다 많이 밀린 관전자는
+ * 보내던 프레임을 마저 보낸 뒤 중간의 델타를 건너뛰고 마지막 키프레임부터 다시 받습니다.
+ * 보내던 프레임조차 링에서 덮어쓰일 만큼, 또는 30초 분량의 틱보다 오래 멈춰 있는 관전자는 접속을 끊습니다.
+ * 관전자마다 커널 송신 버퍼를 작게 고정하므로 밀린 것을 일찍 알아채고, 커널 메모리도 관전자 수에 비례해서만 늘어납니다.
+ * 새 관전자도 마지막 키프레임부터 받으므로 FrameDecoder로 처음부터 읽을 수 있습니다.
+ * 링에 비해 너무 큰 프레임은 버리고, 뒤의 델타는 버린 프레임에 기대므로 다음 키프레임까지 빈 틱으로 둡니다.
+ * 관전자에게는 틱 번호가 건너뛴 뒤 키프레임이 오는 것으로 보입니다.
+ *
+ * 프레임: 길이(int, 이 필드 뒤의 바이트 수), 틱 번호(int), FrameEncoder 레코드 (리틀 엔디언)
+ * 관전자는 아무것도 보내지 않으며, 방송기는 관전자가 보낸 바이트를 읽어 버립니다.
+ * 방송은 정해진 간격마다 모아서 하므로, 관전자 수가 늘어도 시스템 호출은 관전자마다 간격당 한 번입니다.
+ */
+public final class SpectatorBroadcaster implements Closeable {
+    public static final int FRAME_HEADER_SIZE = 8;
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 60;
+    public static final int DEFAULT_RING_SIZE = 8 * 1024 * 1024;
+    public static final int DEFAULT_FLUSH_MILLIS = 100;
+    // 틱마다 프레임 시작 위치를 기억하는 개수 (2의 거듭제곱)
+    private static final int INDEX_SIZE = 4096;
+    private static final int INDEX_MASK = INDEX_SIZE - 1;
+    private static final int BACKLOG = 4096;
+    // 관전자마다 커널에 쌓아 둘 송신 버퍼 (자동으로 키우게 두면 느린 관전자가 밀린 것을 한참 뒤에야 알 수 있습니다)
+    private static final int SEND_BUFFER_SIZE = 8 * 1024;
+    
+    /**
+     * 관전자 하나와 보낸 위치
+     */
+    private final class Spectator {
+        final SocketChannel channel;
+        SelectionKey key;
+        // 링에 처음 쓴 바이트부터 센, 다음에 보낼 바이트의 위치
+        long cursor;
+        // cursor가 속한 프레임의 틱 (처음 키프레임을 기다리는 동안 -1)
+        int tick = -1;
+        boolean blocked = false;
+        int index;
+        // 링과 내용을 공유하는 뷰 (위치와 한계만 관전자마다 따로 둡니다)
+        final ByteBuffer[] views = { ring.duplicate(), ring.duplicate() };
+        
+        Spectator(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+    
+    private final FrameEncoder encoder;
+    private final int keyframeInterval;
+    private final int capacity;
+    private final int maxFrameSize;
+    private final int maxLagTicks;
+    private final int maxStallTicks;
+    private final long safeWindow;
+    private final long flushNanos;
+    private final ByteBuffer ring;
+    private final long[] frameStarts = new long[INDEX_SIZE];
+    private final ServerSocketChannel server;
+    private final Selector selector;
+    private final Thread thread;
+    private volatile boolean running = true;
+    
+    // 월드를 갱신하는 스레드 전용
+    private final ByteBuffer writer;
+    private final ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long writeTotal = 0;
+    private int nextTick = 0;
+    // 너무 큰 프레임을 버린 뒤 다음 키프레임을 기다리는 중이면 true
+    private boolean resync = false;
+    private volatile long oversizedFrames = 0;
+    
+    // 마지막으로 링에 붙인 틱 (frameStarts는 이 값을 쓰기 전에 채웁니다)
+    private volatile int latestTick = -1;
+    
+    // 방송 스레드 전용
+    private final List<Spectator> spectators = new ArrayList<>();
+    private final ByteBuffer discard = ByteBuffer.allocateDirect(256);
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    
+    // 통계 (방송 스레드가 쓰고 다른 스레드가 읽습니다)
+    private volatile int spectatorCount = 0;
+    private volatile long bytesSent = 0;
+    private volatile long keyframeDrops = 0;
+    private volatile long disconnects = 0;
+    private volatile long flushRounds = 0;
+    private volatile long broadcastCpuNanos = 0;
+    
+    /**
+     * 기본 키프레임 간격, 링 크기, 방송 간격으로 시작합니다.
+     * @param source 방송할 월드
+     * @param address 관전자를 받을 주소 (포트 0이면 빈 포트)
+     * @throws IOException 주소에 묶지 못한 경우
+     */
+    public SpectatorBroadcaster(Replayable source, InetSocketAddress address) throws IOException {
+        this(source, address, DEFAULT_KEYFRAME_INTERVAL, DEFAULT_RING_SIZE, DEFAULT_FLUSH_MILLIS);
+    }
+    
+    /**
+     * 주소에 묶고 방송 스레드를 시작합니다.
+     * @param source 방송할 월드
+     * @param address 관전자를 받을 주소 (포트 0이면 빈 포트)
+     * @param keyframeInterval 키프레임 사이의 틱 수 (밀린 관전자와 새 관전자는 키프레임에서 다시 시작합니다)
+     * @param ringSize 링 버퍼 크기 (바이트, 한 프레임은 키프레임 간격 두 번 분량이 들어갈 만큼 작아야 합니다)
+     * @param flushMillis 관전자에게 모아 보내는 간격 (밀리초)
+     * @throws IOException 주소에 묶지 못한 경우
+     */
+    public SpectatorBroadcaster(Replayable source, InetSocketAddress address, int keyframeInterval, int ringSize,
+                                int flushMillis) throws IOException {
+        if (keyframeInterval <= 0 || keyframeInterval * 4 > INDEX_SIZE) {
+            throw new IllegalArgumentException("키프레임 간격은 1에서 " + INDEX_SIZE / 4 + " 사이여야 합니다: " + keyframeInterval);
+        }
+        if (flushMillis <= 0) {
+            throw new IllegalArgumentException("방송 간격은 1 이상이어야 합니다: " + flushMillis);
+        }
+        this.encoder = new FrameEncoder(source);
+        this.keyframeInterval = keyframeInterval;
+        this.capacity = ringSize;
+        this.maxFrameSize = ringSize / (2 * keyframeInterval);
+        if (maxFrameSize < 1024) {
+            throw new IllegalArgumentException("링이 키프레임 간격에 비해 너무 작습니다: " + ringSize);
+        }
+        this.maxLagTicks = 2 * keyframeInterval;
+        // 프레임 위치를 기억하는 범위 안에서, 30초 분량의 틱 동안 아무것도 받지 않으면 떠난 것으로 봅니다.
+        this.maxStallTicks = Math.min(INDEX_SIZE / 2, 30 * keyframeInterval);
+        // 월드 스레드가 다음 프레임을 쓰더라도 덮어쓰지 않는 범위
+        this.safeWindow = ringSize - maxFrameSize;
+        this.flushNanos = flushMillis * 1_000_000L;
+        this.ring = ByteBuffer.allocateDirect(ringSize);
+        this.writer = ring.duplicate();
+        
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        try {
+            server.bind(address, BACKLOG);
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            server.close();
+            selector.close();
+            throw e;
+        }
+        thread = new Thread(this::run, "spectator-broadcaster");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * -Dgame.spectators=포트가 있으면 그 포트로 관전자를 받습니다.
+     * @param source 방송할 월드
+     * @return 시작한 방송기, 속성이 없거나 시작하지 못했으면 null
+     */
+    public static SpectatorBroadcaster startFromSystemProperty(Replayable source) {
+        String port = System.getProperty("game.spectators");
+        if (port == null) {
+            return null;
+        }
+        try {
+            SpectatorBroadcaster broadcaster = new SpectatorBroadcaster(source,
+                                                                        new InetSocketAddress(Integer.parseInt(port)));
+            System.err.println("[spectator] " + broadcaster.getPort() + " 포트로 관전자를 받습니다.");
+            return broadcaster;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("[spectator] " + port + " 포트로 관전자를 받을 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 현재 프레임을 인코딩해 링에 붙입니다. 월드를 갱신하는 스레드에서 update() 뒤에 호출해야 합니다.
+     * 관전자에게는 방송 스레드가 다음 방송 간격에 보내므로 여기서는 소켓을 건드리지 않습니다.
+     * 프레임이 링에 비해 너무 크면 버리고 다음 키프레임까지 빈 틱으로 둡니다(getOversizedFrames()로 셉니다).
+     * @return 이번 틱의 번호 (프레임을 버렸어도 번호는 씁니다), 닫힌 뒤에는 -1
+     */
+    public int tick() {
+        if (!running) {
+            return -1;
+        }
+        int tick = nextTick;
+        boolean keyframe = tick % keyframeInterval == 0;
+        if (keyframe || !resync) {
+            ByteBuffer record = encoder.encode(keyframe);
+            int size = FRAME_HEADER_SIZE + record.remaining();
+            if (size <= maxFrameSize) {
+                header.clear();
+                header.putInt(size - 4).putInt(tick).flip();
+                append(header);
+                append(record);
+                resync = false;
+            } else {
+                if (!resync) {
+                    System.err.println("[spectator] 프레임이 링에 비해 너무 커서(" + size + " > " + maxFrameSize
+                                       + "바이트) 다음 키프레임까지 보내지 않습니다.");
+                }
+                oversizedFrames++;
+                resync = true;
+            }
+        }
+        frameStarts[(tick + 1) & INDEX_MASK] = writeTotal;
+        latestTick = tick;
+        nextTick++;
+        return tick;
+    }
+    
+    private void append(ByteBuffer source) {
+        while (source.hasRemaining()) {
+            int position = (int) (writeTotal % capacity);
+            int length = Math.min(source.remaining(), capacity - position);
+            int limit = source.limit();
+            writer.clear();
+            writer.position(position);
+            source.limit(source.position() + length);
+            writer.put(source);
+            source.limit(limit);
+            writeTotal += length;
+        }
+    }
+    
+    /**
+     * 마지막으로 인코딩한 프레임의 요약값을 계산합니다. 월드를 갱신하는 스레드에서만 호출해야 합니다.
+     * 그 틱의 프레임을 받은 관전자의 FrameDecoder.digest()와 같아야 합니다.
+     */
+    public long digest() {
+        return encoder.digest();
+    }
+    
+    private void run() {
+        long nextFlush = System.nanoTime() + flushNanos;
+        long cpuMark = threads.getCurrentThreadCpuTime();
+        try {
+            while (running) {
+                long wait = nextFlush - System.nanoTime();
+                if (wait > 0) {
+                    selector.select(Math.max(1, wait / 1_000_000));
+                } else {
+                    selector.selectNow();
+                }
+                int latest = latestTick;
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key, latest);
+                }
+                
+                if (System.nanoTime() - nextFlush >= 0) {
+                    flushAll(latest);
+                    nextFlush += flushNanos;
+                    if (System.nanoTime() - nextFlush > flushNanos) {
+                        nextFlush = System.nanoTime() + flushNanos;
+                    }
+                    long cpu = threads.getCurrentThreadCpuTime();
+                    broadcastCpuNanos += cpu - cpuMark;
+                    cpuMark = cpu;
+                    flushRounds++;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[spectator] 방송이 멈췄습니다: " + e.getMessage());
+        } finally {
+            for (int i = spectators.size() - 1; i >= 0; i--) {
+                closeQuietly(spectators.get(i).channel);
+            }
+            spectatorCount = 0;
+            closeQuietly(server);
+            closeQuietly(selector);
+        }
+    }
+    
+    private void handle(SelectionKey key, int latest) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Spectator spectator = (Spectator) key.attachment();
+        try {
+            if (key.isReadable()) {
+                discard.clear();
+                if (spectator.channel.read(discard) < 0) {
+                    remove(spectator);
+                    return;
+                }
+            }
+            if (key.isValid() && key.isWritable() && latest >= 0) {
+                flush(spectator, latest);
+            }
+        } catch (IOException e) {
+            remove(spectator);
+        }
+    }
+    
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            try {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                channel.setOption(StandardSocketOptions.SO_SNDBUF, SEND_BUFFER_SIZE);
+                Spectator spectator = new Spectator(channel);
+                spectator.key = channel.register(selector, SelectionKey.OP_READ, spectator);
+                spectator.index = spectators.size();
+                spectators.add(spectator);
+                spectatorCount = spectators.size();
+            } catch (IOException e) {
+                closeQuietly(channel);
+            }
+        }
+    }
+    
+    /**
+     * 소켓을 기다리지 않는 관전자에게 밀린 프레임을 보냅니다.
+     * 소켓이 받지 않아 기다리는 관전자는 OP_WRITE가 오면 보내고, 여기서는 덮어쓰일 만큼 멈췄는지만 확인합니다.
+     */
+    private void flushAll(int latest) {
+        if (latest < 0) {
+            return;
+        }
+        long end = frameStarts[(latest + 1) & INDEX_MASK];
+        for (int i = spectators.size() - 1; i >= 0; i--) {
+            Spectator spectator = spectators.get(i);
+            if (!spectator.blocked) {
+                try {
+                    flush(spectator, latest);
+                } catch (IOException e) {
+                    remove(spectator);
+                }
+            } else if (spectator.tick >= 0 && overrun(spectator, latest, end)) {
+                evict(spectator);
+            }
+        }
+    }
+    
+    private void flush(Spectator spectator, int latest) throws IOException {
+        long end = frameStarts[(latest + 1) & INDEX_MASK];
+        int keyTick = latest - latest % keyframeInterval;
+        if (spectator.tick < 0) {
+            jump(spectator, keyTick);
+        }
+        while (true) {
+            if (latest - spectator.tick >= maxStallTicks) {
+                evict(spectator);
+                return;
+            }
+            boolean lagging = latest - spectator.tick > maxLagTicks || end - spectator.cursor > capacity / 2;
+            boolean boundary = spectator.cursor == frameStarts[spectator.tick & INDEX_MASK];
+            if (lagging && boundary && keyTick > spectator.tick) {
+                // 중간의 델타를 건너뛰고 마지막 키프레임부터 보냅니다.
+                jump(spectator, keyTick);
+                keyframeDrops++;
+                continue;
+            }
+            if (overrun(spectator, latest, end)) {
+                evict(spectator);
+                return;
+            }
+            // 밀린 관전자는 보내던 프레임까지만 보내고 다음 차례에 키프레임으로 건너뜁니다.
+            long limit = lagging ? frameStarts[(spectator.tick + 1) & INDEX_MASK] : end;
+            if (spectator.cursor == limit) {
+                setBlocked(spectator, false);
+                return;
+            }
+            
+            long start = spectator.cursor;
+            long written = spectator.channel.write(spectator.views, 0, prepareViews(spectator, limit));
+            spectator.cursor += written;
+            bytesSent += written;
+            // 쓰는 동안 월드 스레드가 보내던 자리를 덮어썼을 수 있으면 스트림을 믿을 수 없으므로 끊습니다.
+            int now = latestTick;
+            if (frameStarts[(now + 1) & INDEX_MASK] - start > safeWindow) {
+                evict(spectator);
+                return;
+            }
+            while (spectator.tick <= latest && spectator.cursor >= frameStarts[(spectator.tick + 1) & INDEX_MASK]) {
+                spectator.tick++;
+            }
+            if (spectator.cursor < limit) {
+                setBlocked(spectator, true);
+                return;
+            }
+            if (!lagging) {
+                setBlocked(spectator, false);
+                return;
+            }
+        }
+    }
+    
+    /**
+     * 관전자의 뷰를 cursor부터 limit까지로 맞춥니다.
+     * @return 쓸 뷰의 수 (링 끝에서 처음으로 넘어가면 2)
+     */
+    private int prepareViews(Spectator spectator, long limit) {
+        int position = (int) (spectator.cursor % capacity);
+        long length = limit - spectator.cursor;
+        ByteBuffer first = spectator.views[0];
+        first.clear();
+        first.position(position);
+        if (position + length <= capacity) {
+            first.limit((int) (position + length));
+            return 1;
+        }
+        ByteBuffer second = spectator.views[1];
+        second.clear();
+        second.limit((int) (position + length - capacity));
+        return 2;
+    }
+    
+    private void jump(Spectator spectator, int tick) {
+        spectator.tick = tick;
+        spectator.cursor = frameStarts[tick & INDEX_MASK];
+    }
+    
+    /**
+     * 보내던 프레임이 곧 덮어쓰이거나 너무 오래 아무것도 받지 않았는지 확인합니다.
+     */
+    private boolean overrun(Spectator spectator, int latest, long end) {
+        return end - spectator.cursor > safeWindow || latest - spectator.tick >= maxStallTicks;
+    }
+    
+    private void setBlocked(Spectator spectator, boolean blocked) {
+        if (spectator.blocked != blocked) {
+            spectator.blocked = blocked;
+            spectator.key.interestOps(blocked ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+    }
+    
+    private void evict(Spectator spectator) {
+        disconnects++;
+        remove(spectator);
+    }
+    
+    private void remove(Spectator spectator) {
+        if (spectator.index < 0) {
+            return;
+        }
+        spectator.key.cancel();
+        closeQuietly(spectator.channel);
+        // 마지막 관전자를 빈자리로 옮겨 목록을 당기지 않습니다.
+        Spectator last = spectators.remove(spectators.size() - 1);
+        if (last != spectator) {
+            spectators.set(spectator.index, last);
+            last.index = spectator.index;
+        }
+        spectator.index = -1;
+        spectatorCount = spectators.size();
+    }
+    
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // 닫는 중의 오류는 무시합니다.
+        }
+    }
+    
+    /**
+     * 관전자를 받는 주소의 포트
+     */
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+    
+    /**
+     * 관전자를 받는 루프백 주소 (같은 기계의 관전자와 검사기용)
+     */
+    public InetSocketAddress getLoopbackAddress() {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), getPort());
+    }
+    
+    /**
+     * 방송 스레드를 멈추고 모든 관전자의 접속을 닫습니다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // Getters
+    public int getKeyframeInterval() { return keyframeInterval; }
+    public int getLatestTick() { return latestTick; }
+    public int getSpectatorCount() { return spectatorCount; }
+    public long getBytesSent() { return bytesSent; }
+    public long getKeyframeDrops() { return keyframeDrops; }
+    public long getDisconnects() { return disconnects; }
+    public long getFlushRounds() { return flushRounds; }
+    public long getBroadcastCpuNanos() { return broadcastCpuNanos; }
+    public long getOversizedFrames() { return oversizedFrames; }
+}
\ No newline at end of file
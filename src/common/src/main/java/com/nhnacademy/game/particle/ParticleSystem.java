@@ -0,0 +1,231 @@
+package com.nhnacademy.game.particle;
+
+import com.nhnacademy.game.graphics.PixelLayer;
+import com.nhnacademy.game.physics.GravityEffect;
+import javafx.scene.paint.Color;
+
+/**
+ * 고정 용량 파티클 시스템
+ * 파티클을 객체 대신 기본형 배열(SoA)에 저장하고, 살아 있는 파티클을 배열 앞쪽에 모아 둡니다.
+ * 파티클이 죽으면 마지막 파티클을 그 자리로 옮기므로 배열 뒤쪽이 곧 빈 슬롯 목록이 되고,
+ * 생성과 제거 모두 할당 없이 O(1)입니다.
+ *
+ * 업데이트는 배열을 한 번 훑는 루프 하나로 끝나고, 그리기는 PixelLayer에 픽셀로 직접 찍습니다.
+ * 용량을 넘는 파티클은 버리고 개수만 셉니다.
+ */
+public class ParticleSystem {
+    private final int capacity;
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] life;
+    private final float[] maxLife;
+    private final byte[] size;
+    private final int[] rgb;
+    private int count = 0;
+    
+    // 중력 (없으면 null)
+    private GravityEffect gravity;
+    
+    // 초당 속도 감쇠 비율 (0이면 감쇠 없음)
+    private double drag = 0;
+    
+    // xorshift64* 난수 상태 (java.util.Random의 동기화와 할당을 피합니다)
+    private long seed;
+    
+    private long dropped = 0;
+    
+    public ParticleSystem(int capacity) {
+        this(capacity, System.nanoTime());
+    }
+    
+    public ParticleSystem(int capacity, long seed) {
+        this.capacity = capacity;
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.vx = new float[capacity];
+        this.vy = new float[capacity];
+        this.life = new float[capacity];
+        this.maxLife = new float[capacity];
+        this.size = new byte[capacity];
+        this.rgb = new int[capacity];
+        this.seed = seed == 0 ? 0x9E3779B97F4A7C15L : seed;
+    }
+    
+    /**
+     * 파티클 하나를 만듭니다.
+     * @return 용량이 가득 차서 버렸으면 false
+     */
+    public boolean emit(double px, double py, double velocityX, double velocityY,
+                        double lifeSeconds, int sizePixels, int color) {
+        if (count == capacity) {
+            dropped++;
+            return false;
+        }
+        int i = count++;
+        x[i] = (float) px;
+        y[i] = (float) py;
+        vx[i] = (float) velocityX;
+        vy[i] = (float) velocityY;
+        life[i] = (float) lifeSeconds;
+        maxLife[i] = (float) lifeSeconds;
+        size[i] = (byte) Math.max(1, Math.min(127, sizePixels));
+        rgb[i] = color & 0xFFFFFF;
+        return true;
+    }
+    
+    /**
+     * 한 지점에서 사방으로 흩어지는 파티클 묶음을 만듭니다.
+     * 수명은 주어진 값의 50 ~ 100% 사이에서 무작위로 정해집니다.
+     * @param px 중심 X 좌표
+     * @param py 중심 Y 좌표
+     * @param amount 파티클 개수
+     * @param minSpeed 최소 속력 (픽셀/초)
+     * @param maxSpeed 최대 속력 (픽셀/초)
+     * @param lifeSeconds 최대 수명 (초)
+     * @param sizePixels 크기 (픽셀)
+     * @param color 색상
+     * @return 실제로 만든 파티클 개수
+     */
+    public int burst(double px, double py, int amount, double minSpeed, double maxSpeed,
+                     double lifeSeconds, int sizePixels, Color color) {
+        int packed = ((int) Math.round(color.getRed() * 255) << 16) |
+                     ((int) Math.round(color.getGreen() * 255) << 8) |
+                     (int) Math.round(color.getBlue() * 255);
+        int created = 0;
+        for (int n = 0; n < amount; n++) {
+            double angle = nextFloat() * Math.PI * 2;
+            double speed = minSpeed + (maxSpeed - minSpeed) * nextFloat();
+            double particleLife = lifeSeconds * (0.5 + 0.5 * nextFloat());
+            if (!emit(px, py, Math.cos(angle) * speed, Math.sin(angle) * speed, particleLife, sizePixels, packed)) {
+                break;
+            }
+            created++;
+        }
+        return created;
+    }
+    
+    /**
+     * 모든 파티클을 한 단계 진행하고 수명이 다한 파티클을 제거합니다.
+     * @param deltaTime 경과 시간 (초)
+     */
+    public void update(double deltaTime) {
+        float dt = (float) deltaTime;
+        float damping = (float) Math.max(0, 1 - drag * deltaTime);
+        
+        // 중력 영역을 지역 변수로 옮겨 루프 안에서 호출이 없게 합니다.
+        boolean hasGravity = gravity != null;
+        float gx0 = 0, gy0 = 0, gx1 = 0, gy1 = 0, gForce = 0;
+        if (hasGravity) {
+            gx0 = (float) gravity.getX();
+            gy0 = (float) gravity.getY();
+            gx1 = (float) (gravity.getX() + gravity.getWidth());
+            gy1 = (float) (gravity.getY() + gravity.getHeight());
+            gForce = (float) (gravity.getForce() * deltaTime);
+        }
+        
+        int i = 0;
+        while (i < count) {
+            float remaining = life[i] - dt;
+            if (remaining <= 0) {
+                // 마지막 파티클을 이 자리로 옮기고 같은 인덱스를 다시 처리합니다.
+                int last = --count;
+                x[i] = x[last];
+                y[i] = y[last];
+                vx[i] = vx[last];
+                vy[i] = vy[last];
+                life[i] = life[last];
+                maxLife[i] = maxLife[last];
+                size[i] = size[last];
+                rgb[i] = rgb[last];
+                continue;
+            }
+            life[i] = remaining;
+            
+            float px = x[i];
+            float py = y[i];
+            float velocityY = vy[i];
+            if (hasGravity && px >= gx0 && px <= gx1 && py >= gy0 && py <= gy1) {
+                velocityY += gForce;
+            }
+            float velocityX = vx[i] * damping;
+            velocityY *= damping;
+            vx[i] = velocityX;
+            vy[i] = velocityY;
+            x[i] = px + velocityX * dt;
+            y[i] = py + velocityY * dt;
+            i++;
+        }
+    }
+    
+    /**
+     * 살아 있는 파티클을 레이어에 찍습니다. 남은 수명에 비례해 흐려집니다.
+     * @param layer 대상 레이어
+     * @param stride 1이면 모두, 2이면 둘 중 하나씩 그립니다 (세부 수준을 낮출 때 사용)
+     */
+    public void rasterize(PixelLayer layer, int stride) {
+        int width = layer.getWidth();
+        int height = layer.getHeight();
+        int minX = width, minY = height, maxX = 0, maxY = 0;
+        
+        for (int i = 0; i < count; i += stride) {
+            int s = size[i];
+            int left = (int) x[i] - (s >> 1);
+            int top = (int) y[i] - (s >> 1);
+            int right = Math.min(width, left + s);
+            int bottom = Math.min(height, top + s);
+            left = Math.max(0, left);
+            top = Math.max(0, top);
+            if (left >= right || top >= bottom) {
+                continue;
+            }
+            
+            int alpha = (int) (255 * life[i] / maxLife[i]);
+            int color = rgb[i];
+            for (int py = top; py < bottom; py++) {
+                int row = py * width;
+                for (int px = left; px < right; px++) {
+                    layer.blend(row + px, color, alpha);
+                }
+            }
+            
+            if (left < minX) minX = left;
+            if (top < minY) minY = top;
+            if (right > maxX) maxX = right;
+            if (bottom > maxY) maxY = bottom;
+        }
+        
+        if (minX < maxX) {
+            layer.include(minX, minY, maxX, maxY);
+        }
+    }
+    
+    /**
+     * 모든 파티클을 제거합니다.
+     */
+    public void clear() {
+        count = 0;
+    }
+    
+    private float nextFloat() {
+        seed ^= seed >>> 12;
+        seed ^= seed << 25;
+        seed ^= seed >>> 27;
+        return ((seed * 0x2545F4914F6CDD1DL) >>> 40) / (float) (1 << 24);
+    }
+    
+    public void setGravity(GravityEffect gravity) {
+        this.gravity = gravity;
+    }
+    
+    public void setDrag(double drag) {
+        this.drag = drag;
+    }
+    
+    // Getters
+    public int size() { return count; }
+    public int getCapacity() { return capacity; }
+    public long getDropped() { return dropped; }
+    public GravityEffect getGravity() { return gravity; }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.nhnacademy.game.physics;
 
 import com.nhnacademy.game.core.GameObject;
+import com.nhnacademy.game.movement.Movable;
 
 /**
  * 중력 효과를 구현하는 클래스
@@ -28,14 +29,28 @@ public class GravityEffect implements Effect {
     @Override
     public void apply(GameObject object, double deltaTime) {
         // 객체가 효과 영역 내에 있는지 확인
-        if (object.getX() >= x && object.getX() <= x + width &&
-            object.getY() >= y && object.getY() <= y + height) {
+        if (object instanceof Movable && contains(object.getX(), object.getY())) {
             // Y축 속도에 중력 가속도를 적용
-            object.setVelocity(object.getVx(), object.getVy() + force * deltaTime);
+            Movable movable = (Movable) object;
+            movable.setVelocity(movable.getVelocityX(), movable.getVelocityY() + force * deltaTime);
         }
     }
     
+    /**
+     * 좌표가 효과 영역 안에 있는지 확인합니다.
+     * @param px X 좌표
+     * @param py Y 좌표
+     * @return 영역 안이면 true
+     */
+    public boolean contains(double px, double py) {
+        return px >= x && px <= x + width && py >= y && py <= y + height;
+    }
+    
     // Getters and Setters
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
     public double getForce() { return force; }
     public void setForce(double force) { this.force = force; }
 }
\ No newline at end of file
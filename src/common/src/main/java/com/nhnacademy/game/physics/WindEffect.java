@@ -1,6 +1,7 @@
 package com.nhnacademy.game.physics;
 
 import com.nhnacademy.game.core.GameObject;
+import com.nhnacademy.game.movement.Movable;
 
 /**
  * 바람 효과를 구현하는 클래스
@@ -30,17 +31,23 @@ public class WindEffect implements Effect {
     @Override
     public void apply(GameObject object, double deltaTime) {
         // 객체가 효과 영역 내에 있는지 확인
-        if (object.getX() >= x && object.getX() <= x + width &&
+        if (object instanceof Movable &&
+            object.getX() >= x && object.getX() <= x + width &&
             object.getY() >= y && object.getY() <= y + height) {
             // 바람의 힘을 속도에 적용
-            object.setVelocity(
-                object.getVx() + forceX * deltaTime,
-                object.getVy() + forceY * deltaTime
+            Movable movable = (Movable) object;
+            movable.setVelocity(
+                movable.getVelocityX() + forceX * deltaTime,
+                movable.getVelocityY() + forceY * deltaTime
             );
         }
     }
     
     // Getters and Setters
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
     public double getForceX() { return forceX; }
     public double getForceY() { return forceY; }
     public void setForceX(double forceX) { this.forceX = forceX; }
@@ -0,0 +1,231 @@
+package com.nhnacademy.game.replay;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FrameEncoder가 만든 레코드를 차례로 적용해 월드 상태를 되살리는 디코더
+ * 키프레임을 읽으면 상태를 새로 채우고, 델타를 읽으면 모든 객체를 필드마다 가진 가속도와 변화량만큼 움직인 뒤
+ * 기록된 차이와 추가/제거된 객체를 반영합니다.
+ * 리플레이 파일(ReplayReader)과 네트워크 상태 동기화가 함께 씁니다.
+ */
+public final class FrameDecoder {
+    /**
+     * 디코딩한 객체 하나의 상태
+     */
+    public static final class Entry {
+        private final int id;
+        private final String type;
+        // x, y, width, height (1/16픽셀)와 예측에 쓰는 위치, 변화량, 가속도 (1/16픽셀의 1/MOTION_SCALE 단위)
+        private final int[] fields = new int[ReplayWriter.FIELD_COUNT];
+        private final long[] position = new long[ReplayWriter.FIELD_COUNT];
+        private final int[] motion = new int[ReplayWriter.FIELD_COUNT];
+        private final int[] accel = new int[ReplayWriter.FIELD_COUNT];
+        
+        Entry(int id, String type) {
+            this.id = id;
+            this.type = type;
+        }
+        
+        // Getters
+        public int getId() { return id; }
+        public String getType() { return type; }
+        public double getX() { return (double) fields[0] / ReplayWriter.POSITION_SCALE; }
+        public double getY() { return (double) fields[1] / ReplayWriter.POSITION_SCALE; }
+        public double getWidth() { return (double) fields[2] / ReplayWriter.POSITION_SCALE; }
+        public double getHeight() { return (double) fields[3] / ReplayWriter.POSITION_SCALE; }
+    }
+    
+    private final Map<Integer, Entry> entries = new LinkedHashMap<>();
+    private final List<String> classNames = new ArrayList<>();
+    private final int[] values = new int[ReplayWriter.MAX_VALUES];
+    private int valueCount = 0;
+    private int frame = -1;
+    
+    /**
+     * 버퍼의 현재 위치에서 레코드 하나를 읽어 적용합니다. 읽은 뒤 위치는 레코드 끝입니다.
+     * @param buffer 레코드가 담긴 버퍼
+     * @return 읽은 레코드가 키프레임이면 true
+     * @throws IllegalStateException 알 수 없는 레코드이거나, 키프레임 없이 델타를 받았거나, 없는 객체를 갱신하는 경우
+     */
+    public boolean read(ByteBuffer buffer) {
+        byte type = buffer.get();
+        int length = Varints.getVarint(buffer);
+        int recordEnd = buffer.position() + length;
+        boolean keyframe;
+        if (type == ReplayWriter.RECORD_KEYFRAME) {
+            readKeyframe(buffer);
+            keyframe = true;
+        } else if (type == ReplayWriter.RECORD_DELTA) {
+            if (frame < 0) {
+                throw new IllegalStateException("키프레임보다 델타가 먼저 왔습니다");
+            }
+            readDelta(buffer);
+            keyframe = false;
+        } else {
+            throw new IllegalStateException("알 수 없는 레코드 종류입니다: " + type);
+        }
+        buffer.position(recordEnd);
+        return keyframe;
+    }
+    
+    private void readKeyframe(ByteBuffer buffer) {
+        frame = Varints.getVarint(buffer);
+        
+        classNames.clear();
+        int classCount = Varints.getVarint(buffer);
+        for (int i = 0; i < classCount; i++) {
+            classNames.add(getName(buffer));
+        }
+        
+        valueCount = Varints.getVarint(buffer);
+        for (int i = 0; i < valueCount; i++) {
+            values[i] = Varints.getZigzag(buffer);
+        }
+        
+        entries.clear();
+        int objectCount = Varints.getVarint(buffer);
+        int id = 0;
+        for (int i = 0; i < objectCount; i++) {
+            id += Varints.getZigzag(buffer);
+            Entry entry = new Entry(id, classNames.get(Varints.getVarint(buffer)));
+            readFields(buffer, entry);
+            entries.put(id, entry);
+        }
+    }
+    
+    private void readDelta(ByteBuffer buffer) {
+        frame++;
+        
+        int changedValues = Varints.getVarint(buffer);
+        for (int i = 0; i < valueCount; i++) {
+            if ((changedValues & (1 << i)) != 0) {
+                values[i] += Varints.getZigzag(buffer);
+            }
+        }
+        
+        // 모든 객체를 가속도와 변화량만큼 움직이고, 기록된 필드는 실제 값과 움직임으로 다시 맞춥니다.
+        for (Entry entry : entries.values()) {
+            for (int f = 0; f < ReplayWriter.FIELD_COUNT; f++) {
+                entry.motion[f] += entry.accel[f];
+                entry.position[f] += entry.motion[f];
+                entry.fields[f] = FrameEncoder.toField(entry.position[f]);
+            }
+        }
+        
+        int id = 0;
+        int header;
+        while ((header = Varints.getVarint(buffer)) != 0) {
+            int idDelta = header >>> ReplayWriter.ENTRY_SHIFT;
+            id += (idDelta >>> 1) ^ -(idDelta & 1);
+            if ((header & ReplayWriter.ADDED_FLAG) != 0) {
+                int classId = Varints.getVarint(buffer);
+                if (classId == classNames.size()) {
+                    classNames.add(getName(buffer));
+                }
+                Entry entry = new Entry(id, classNames.get(classId));
+                readFields(buffer, entry);
+                entries.put(id, entry);
+                continue;
+            }
+            if ((header & ReplayWriter.FIELD_MASK) == 0) {
+                if (entries.remove(id) == null) {
+                    throw new IllegalStateException("없는 객체를 제거합니다: " + id + " (프레임 " + frame + ")");
+                }
+                continue;
+            }
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                throw new IllegalStateException("없는 객체를 갱신합니다: " + id + " (프레임 " + frame + ")");
+            }
+            for (int f = 0; f < ReplayWriter.FIELD_COUNT; f++) {
+                if ((header & (1 << f)) != 0) {
+                    entry.fields[f] += Varints.getZigzag(buffer);
+                    entry.position[f] = (long) entry.fields[f] * ReplayWriter.MOTION_SCALE;
+                    entry.motion[f] += Varints.getZigzag(buffer);
+                    entry.accel[f] += Varints.getZigzag(buffer);
+                }
+            }
+        }
+    }
+    
+    private static void readFields(ByteBuffer buffer, Entry entry) {
+        for (int f = 0; f < ReplayWriter.FIELD_COUNT; f++) {
+            entry.fields[f] = Varints.getZigzag(buffer);
+            entry.position[f] = (long) entry.fields[f] * ReplayWriter.MOTION_SCALE;
+        }
+    }
+    
+    private static String getName(ByteBuffer buffer) {
+        int length = Varints.getVarint(buffer);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * 현재 상태의 요약값을 계산합니다. 같은 프레임을 인코딩한 FrameEncoder.digest()와 비교할 때 씁니다.
+     * @return 객체 번호, 필드, 값으로 만든 요약값 (객체 순서와 무관)
+     */
+    public long digest() {
+        long digest = valuesDigest(values, valueCount);
+        for (Entry entry : entries.values()) {
+            digest += entryDigest(entry.id, entry.fields, 0);
+        }
+        return digest;
+    }
+    
+    static long valuesDigest(int[] values, int count) {
+        long hash = count;
+        for (int i = 0; i < count; i++) {
+            hash = hash * 0x9E3779B97F4A7C15L + values[i];
+        }
+        return mix(hash);
+    }
+    
+    static long entryDigest(int id, int[] fields, int base) {
+        long hash = id;
+        for (int f = 0; f < ReplayWriter.FIELD_COUNT; f++) {
+            hash = hash * 0x9E3779B97F4A7C15L + fields[base + f];
+        }
+        return mix(hash);
+    }
+    
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+    
+    /**
+     * 현재 프레임의 객체들을 반환합니다. 기록된 순서(처음 나타난 순서)를 따릅니다.
+     * @return 읽기 전용 객체 목록
+     */
+    public Collection<Entry> getObjects() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+    
+    /**
+     * 현재 프레임의 월드 값을 반환합니다.
+     * @param index Replayable.getReplayValues()가 채운 순서
+     * @return 값
+     */
+    public int getValue(int index) {
+        if (index < 0 || index >= valueCount) {
+            throw new IllegalArgumentException("값 번호가 범위를 벗어났습니다: " + index);
+        }
+        return values[index];
+    }
+    
+    // Getters
+    public int getFrame() { return frame; }
+    public int getValueCount() { return valueCount; }
+}
\ No newline at end of file
@@ -0,0 +1,402 @@
+package com.nhnacademy.game.replay;
+
+import com.nhnacademy.game.core.GameObject;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월드의 한 프레임을 키프레임 또는 델타 레코드로 바꾸는 인코더
+ * 키프레임에는 모든 객체를, 델타에는 예측과 달라진 필드(x, y, width, height)와 추가/제거된 객체만 기록합니다.
+ * 필드는 1/16픽셀 고정소수점으로 바꿉니다. 받는 쪽은 필드마다 1/16픽셀의 1/1024 정밀도로 위치, 변화량, 가속도를 두고
+ * 매 프레임 스스로 움직이므로, 멈춰 있거나 등속으로 움직이거나 중력을 받아 떨어지는 객체는 기록할 것이 거의 없습니다.
+ * 받는 쪽이 예측한 값이 실제와 1/8픽셀(POSITION_TOLERANCE) 넘게 어긋난 필드만 위치 차이, 변화량 차이, 가속도 차이를
+ * 지그재그 varint로 쓰고, 받는 쪽의 예측을 실제 움직임에 다시 맞춥니다. (재생한 필드의 오차는 1/8픽셀 이내)
+ * 객체 번호 차이와 예측이 빗나간 필드의 마스크는 varint 하나에 묶어 씁니다.
+ *
+ * 델타는 바로 전에 인코딩한 프레임을 기준으로 하므로, 받는 쪽(FrameDecoder)은 레코드를 빠짐없이 순서대로 읽어야 합니다.
+ * 레코드를 버려야 했다면 다음에는 키프레임을 인코딩해야 합니다.
+ * 리플레이 파일(ReplayWriter)과 네트워크 상태 동기화가 같은 레코드 형식을 씁니다.
+ *
+ * 레코드: 종류(byte), 본문 길이(varint), 본문
+ * 월드를 갱신하는 스레드에서만 사용해야 하며, 객체 수가 늘지 않는 동안에는 할당하지 않습니다.
+ */
+public final class FrameEncoder {
+    private static final int SCRATCH_SIZE = 64 * 1024;
+    private static final int UNKNOWN_FRAME = Integer.MIN_VALUE;
+    
+    private final Replayable source;
+    private ByteBuffer scratch = newBuffer(SCRATCH_SIZE);
+    private ByteBuffer record = newBuffer(SCRATCH_SIZE);
+    
+    // 이번 프레임의 객체와 값
+    private final List<GameObject> objects = new ArrayList<>();
+    private final int[] values = new int[ReplayWriter.MAX_VALUES];
+    private final int[] lastValues = new int[ReplayWriter.MAX_VALUES];
+    private int valueCount = 0;
+    
+    // 추적 중인 객체 (슬롯마다 객체, 번호, 클래스, 마지막으로 본 프레임, 받는 쪽이 가진 값)
+    private final IdentitySlotMap slotMap = new IdentitySlotMap();
+    private GameObject[] slotObjects = new GameObject[256];
+    private int[] slotIds = new int[256];
+    private int[] slotClasses = new int[256];
+    private int[] slotSeen = new int[256];
+    private int[] slotFields = new int[256 * ReplayWriter.FIELD_COUNT];
+    
+    // 받는 쪽의 예측 상태와 실제 움직임 (필드마다, 1/16픽셀의 1/MOTION_SCALE 단위)
+    private long[] slotPosition = new long[256 * ReplayWriter.FIELD_COUNT];
+    private int[] slotMotion = new int[256 * ReplayWriter.FIELD_COUNT];
+    private int[] slotAccel = new int[256 * ReplayWriter.FIELD_COUNT];
+    private long[] slotActual = new long[256 * ReplayWriter.FIELD_COUNT];
+    private int[] slotAnchorFrame = new int[256 * ReplayWriter.FIELD_COUNT];
+    private int[] slotAnchorMotion = new int[256 * ReplayWriter.FIELD_COUNT];
+    private final int[] residuals = new int[ReplayWriter.FIELD_COUNT * 3];
+    private int[] freeSlots = new int[256];
+    private int freeSlotCount = 0;
+    private int slotCount = 0;
+    private int nextId = 1;
+    
+    // 클래스 이름 표 (키프레임에는 전체를, 델타에는 처음 나온 클래스의 이름만 기록합니다)
+    private final Map<Class<?>, Integer> classIds = new HashMap<>();
+    private final List<byte[]> classNames = new ArrayList<>();
+    private int classNameBytes = 0;
+    
+    private int frame = 0;
+    
+    /**
+     * @param source 인코딩할 월드
+     */
+    public FrameEncoder(Replayable source) {
+        this.source = source;
+    }
+    
+    /**
+     * 월드의 현재 프레임을 레코드로 인코딩합니다. 월드를 갱신하는 스레드에서 update() 뒤에 호출해야 합니다.
+     * 첫 프레임은 keyframe과 관계없이 키프레임으로 인코딩합니다.
+     * @param keyframe 키프레임으로 인코딩할지
+     * @return 레코드를 담은 내부 버퍼 (위치 0, 한계는 레코드 끝), 다음 encode()에서 내용이 바뀝니다
+     */
+    public ByteBuffer encode(boolean keyframe) {
+        objects.clear();
+        source.collectReplayObjects(objects);
+        valueCount = source.getReplayValues(values);
+        
+        scratch = ensureCapacity(scratch, 64 + ReplayWriter.MAX_VALUES * 5 + objects.size() * 72 + slotCount * 5
+                                          + classNameBytes + classNames.size() * 5);
+        scratch.clear();
+        byte type;
+        if (keyframe || frame == 0) {
+            encodeKeyframe();
+            type = ReplayWriter.RECORD_KEYFRAME;
+        } else {
+            encodeDelta();
+            type = ReplayWriter.RECORD_DELTA;
+        }
+        frame++;
+        
+        scratch.flip();
+        record = ensureCapacity(record, 1 + 5 + scratch.remaining());
+        record.clear();
+        record.put(type);
+        Varints.putVarint(record, scratch.remaining());
+        record.put(scratch);
+        record.flip();
+        return record;
+    }
+    
+    /**
+     * 키프레임 본문: 프레임 번호, 전체 클래스 표, 값, 전체 객체
+     */
+    private void encodeKeyframe() {
+        int mark = frame + 1;
+        Varints.putVarint(scratch, frame);
+        
+        // 클래스 표가 객체보다 앞에 오도록 이번 키프레임의 클래스를 먼저 등록합니다.
+        for (int i = 0; i < objects.size(); i++) {
+            classIdOf(objects.get(i));
+        }
+        Varints.putVarint(scratch, classNames.size());
+        for (int i = 0; i < classNames.size(); i++) {
+            putName(classNames.get(i));
+        }
+        
+        Varints.putVarint(scratch, valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            Varints.putZigzag(scratch, values[i]);
+            lastValues[i] = values[i];
+        }
+        
+        Varints.putVarint(scratch, objects.size());
+        int previousId = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject object = objects.get(i);
+            boolean added = slotMap.get(object) < 0;
+            int slot = trackSlot(object, mark);
+            int base = slot * ReplayWriter.FIELD_COUNT;
+            Varints.putZigzag(scratch, slotIds[slot] - previousId);
+            previousId = slotIds[slot];
+            Varints.putVarint(scratch, slotClasses[slot]);
+            restart(object, base, added);
+            for (int f = 0; f < ReplayWriter.FIELD_COUNT; f++) {
+                Varints.putZigzag(scratch, slotFields[base + f]);
+            }
+        }
+        
+        // 이번 키프레임에 없는 객체는 추적을 멈춥니다.
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotObjects[slot] != null && slotSeen[slot] != mark) {
+                releaseSlot(slot);
+            }
+        }
+    }
+    
+    /**
+     * 델타 본문: 바뀐 값, 추가되거나 바뀌거나 제거된 객체(0으로 끝남)
+     * 추가된 객체의 클래스가 처음 나온 것이면 클래스 번호 뒤에 이름을 함께 기록합니다.
+     * 필드 마스크가 0이고 추가 표시도 없는 항목은 제거된 객체입니다.
+     */
+    private void encodeDelta() {
+        int mark = frame + 1;
+        
+        int changedValues = 0;
+        for (int i = 0; i < valueCount; i++) {
+            if (values[i] != lastValues[i]) {
+                changedValues |= 1 << i;
+            }
+        }
+        Varints.putVarint(scratch, changedValues);
+        for (int i = 0; i < valueCount; i++) {
+            if ((changedValues & (1 << i)) != 0) {
+                Varints.putZigzag(scratch, values[i] - lastValues[i]);
+                lastValues[i] = values[i];
+            }
+        }
+        
+        int previousId = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject object = objects.get(i);
+            int slot = slotMap.get(object);
+            if (slot < 0) {
+                int knownClasses = classNames.size();
+                slot = trackSlot(object, mark);
+                int base = slot * ReplayWriter.FIELD_COUNT;
+                restart(object, base, true);
+                Varints.putVarint(scratch, (zigzag(slotIds[slot] - previousId) << ReplayWriter.ENTRY_SHIFT)
+                                           | ReplayWriter.ADDED_FLAG);
+                Varints.putVarint(scratch, slotClasses[slot]);
+                if (slotClasses[slot] == knownClasses) {
+                    putName(classNames.get(knownClasses));
+                }
+                for (int f = 0; f < ReplayWriter.FIELD_COUNT; f++) {
+                    Varints.putZigzag(scratch, slotFields[base + f]);
+                }
+                previousId = slotIds[slot];
+                continue;
+            }
+            
+            slotSeen[slot] = mark;
+            int base = slot * ReplayWriter.FIELD_COUNT;
+            int mask = predict(base, 0, object.getX())
+                       | predict(base, 1, object.getY())
+                       | predict(base, 2, object.getWidth())
+                       | predict(base, 3, object.getHeight());
+            if (mask == 0) {
+                continue;
+            }
+            Varints.putVarint(scratch, (zigzag(slotIds[slot] - previousId) << ReplayWriter.ENTRY_SHIFT) | mask);
+            previousId = slotIds[slot];
+            for (int f = 0; f < ReplayWriter.FIELD_COUNT; f++) {
+                if ((mask & (1 << f)) != 0) {
+                    Varints.putZigzag(scratch, residuals[f * 3]);
+                    Varints.putZigzag(scratch, residuals[f * 3 + 1]);
+                    Varints.putZigzag(scratch, residuals[f * 3 + 2]);
+                }
+            }
+        }
+        
+        // 이번 프레임에 없는 객체는 바뀐 필드가 없는 항목으로 제거를 기록합니다.
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotObjects[slot] != null && slotSeen[slot] != mark) {
+                Varints.putVarint(scratch, zigzag(slotIds[slot] - previousId) << ReplayWriter.ENTRY_SHIFT);
+                previousId = slotIds[slot];
+                releaseSlot(slot);
+            }
+        }
+        scratch.put((byte) 0);
+    }
+    
+    /**
+     * 받는 쪽과 똑같이 가속도와 변화량만큼 움직여 보고, 실제 값과 허용 오차 넘게 어긋나면
+     * 위치, 변화량, 가속도를 실제 움직임으로 맞추는 차이를 residuals에 남깁니다.
+     * 멈춰 있거나 등속으로 움직이거나 일정하게 가속하는 객체는 대부분의 프레임에서 기록할 것이 없습니다.
+     * @return 기록해야 하면 필드의 마스크 비트, 아니면 0
+     */
+    private int predict(int base, int field, double value) {
+        int index = base + field;
+        long actual = fine(value);
+        int motion = (int) (actual - slotActual[index]);
+        slotActual[index] = actual;
+        
+        slotMotion[index] += slotAccel[index];
+        slotPosition[index] += slotMotion[index];
+        int predicted = toField(slotPosition[index]);
+        int residual = quantize(value) - predicted;
+        if (Math.abs(residual) <= ReplayWriter.POSITION_TOLERANCE) {
+            slotFields[index] = predicted;
+            return 0;
+        }
+        // 가속도는 지난번에 맞춘 뒤로 변화량이 바뀐 정도를 프레임 수로 나눠, 반올림 오차가 쌓이지 않게 구합니다.
+        // 막 추가된 객체는 변화량을 처음 보므로 0으로 둡니다.
+        int elapsed = frame - slotAnchorFrame[index];
+        int accel = slotAnchorFrame[index] == UNKNOWN_FRAME
+                    ? 0 : (int) Math.round((double) (motion - slotAnchorMotion[index]) / elapsed);
+        slotAnchorFrame[index] = frame;
+        slotAnchorMotion[index] = motion;
+        residuals[field * 3] = residual;
+        residuals[field * 3 + 1] = motion - slotMotion[index];
+        residuals[field * 3 + 2] = accel - slotAccel[index];
+        slotFields[index] = predicted + residual;
+        slotPosition[index] = (long) slotFields[index] * ReplayWriter.MOTION_SCALE;
+        slotMotion[index] = motion;
+        slotAccel[index] = accel;
+        return 1 << field;
+    }
+    
+    /**
+     * 객체의 슬롯을 찾고, 처음 보는 객체면 새 번호와 슬롯을 줍니다.
+     */
+    private int trackSlot(GameObject object, int mark) {
+        int slot = slotMap.get(object);
+        if (slot < 0) {
+            if (freeSlotCount > 0) {
+                slot = freeSlots[--freeSlotCount];
+            } else {
+                if (slotCount == slotObjects.length) {
+                    growSlots();
+                }
+                slot = slotCount++;
+            }
+            slotMap.put(object, slot);
+            slotObjects[slot] = object;
+            slotIds[slot] = nextId++;
+            slotClasses[slot] = classIdOf(object);
+        }
+        slotSeen[slot] = mark;
+        return slot;
+    }
+    
+    private void releaseSlot(int slot) {
+        slotMap.remove(slotObjects[slot]);
+        slotObjects[slot] = null;
+        freeSlots[freeSlotCount++] = slot;
+    }
+    
+    private void growSlots() {
+        int capacity = slotObjects.length * 2;
+        slotObjects = Arrays.copyOf(slotObjects, capacity);
+        slotIds = Arrays.copyOf(slotIds, capacity);
+        slotClasses = Arrays.copyOf(slotClasses, capacity);
+        slotSeen = Arrays.copyOf(slotSeen, capacity);
+        slotFields = Arrays.copyOf(slotFields, capacity * ReplayWriter.FIELD_COUNT);
+        slotPosition = Arrays.copyOf(slotPosition, capacity * ReplayWriter.FIELD_COUNT);
+        slotMotion = Arrays.copyOf(slotMotion, capacity * ReplayWriter.FIELD_COUNT);
+        slotAccel = Arrays.copyOf(slotAccel, capacity * ReplayWriter.FIELD_COUNT);
+        slotActual = Arrays.copyOf(slotActual, capacity * ReplayWriter.FIELD_COUNT);
+        slotAnchorFrame = Arrays.copyOf(slotAnchorFrame, capacity * ReplayWriter.FIELD_COUNT);
+        slotAnchorMotion = Arrays.copyOf(slotAnchorMotion, capacity * ReplayWriter.FIELD_COUNT);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+    
+    private int classIdOf(GameObject object) {
+        Class<?> type = object.getClass();
+        Integer id = classIds.get(type);
+        if (id == null) {
+            byte[] name = type.getName().getBytes(StandardCharsets.UTF_8);
+            id = classNames.size();
+            classIds.put(type, id);
+            classNames.add(name);
+            classNameBytes += name.length;
+        }
+        return id;
+    }
+    
+    private void putName(byte[] name) {
+        Varints.putVarint(scratch, name.length);
+        scratch.put(name);
+    }
+    
+    /**
+     * 키프레임이나 새 객체처럼 필드를 그대로 기록할 때, 받는 쪽처럼 멈춘 상태에서 예측을 다시 시작합니다.
+     * 이미 추적하던 객체는 실제 움직임을 이어서 보므로 다음 델타에서 바로 맞출 수 있습니다.
+     */
+    private void restart(GameObject object, int base, boolean added) {
+        restart(base, object.getX(), added);
+        restart(base + 1, object.getY(), added);
+        restart(base + 2, object.getWidth(), added);
+        restart(base + 3, object.getHeight(), added);
+    }
+    
+    private void restart(int index, double value, boolean added) {
+        long actual = fine(value);
+        if (added) {
+            slotAnchorFrame[index] = UNKNOWN_FRAME;
+        }
+        slotActual[index] = actual;
+        slotFields[index] = quantize(value);
+        slotPosition[index] = (long) slotFields[index] * ReplayWriter.MOTION_SCALE;
+        slotMotion[index] = 0;
+        slotAccel[index] = 0;
+    }
+    
+    private static int quantize(double value) {
+        return (int) Math.round(value * ReplayWriter.POSITION_SCALE);
+    }
+    
+    private static long fine(double value) {
+        return Math.round(value * ReplayWriter.POSITION_SCALE * ReplayWriter.MOTION_SCALE);
+    }
+    
+    static int toField(long position) {
+        return (int) Math.floorDiv(position + ReplayWriter.MOTION_SCALE / 2, ReplayWriter.MOTION_SCALE);
+    }
+    
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+    
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int required) {
+        if (buffer.capacity() >= required) {
+            return buffer;
+        }
+        return newBuffer(Math.max(required, buffer.capacity() * 2));
+    }
+    
+    private static ByteBuffer newBuffer(int capacity) {
+        return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    /**
+     * 마지막으로 인코딩한 프레임의 요약값을 계산합니다.
+     * 같은 레코드를 모두 읽은 FrameDecoder.digest()와 같으면 받는 쪽이 같은 상태를 가진 것입니다.
+     * @return 객체 번호, 필드, 값으로 만든 요약값
+     */
+    public long digest() {
+        long digest = FrameDecoder.valuesDigest(lastValues, valueCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotObjects[slot] != null) {
+                digest += FrameDecoder.entryDigest(slotIds[slot], slotFields, slot * ReplayWriter.FIELD_COUNT);
+            }
+        }
+        return digest;
+    }
+    
+    // Getters
+    public int getFrame() { return frame; }
+    public int getObjectCount() { return slotMap.size(); }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.nhnacademy.game.replay;
+
+/**
+ * 객체 동일성(==)으로 찾는 객체 -> 정수 맵
+ * 선형 탐사 방식의 열린 주소 해시 테이블이라 넣고 빼는 동안 노드나 박싱된 정수를 만들지 않습니다.
+ * 삭제할 때는 뒤따르는 항목을 앞으로 당겨 묘비(tombstone) 없이 탐사 사슬을 유지합니다.
+ */
+final class IdentitySlotMap {
+    private Object[] keys = new Object[64];
+    private int[] values = new int[64];
+    private int size = 0;
+    
+    /**
+     * @return 키에 연결된 값, 없으면 -1
+     */
+    int get(Object key) {
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (true) {
+            Object k = keys[i];
+            if (k == null) {
+                return -1;
+            }
+            if (k == key) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+    }
+    
+    void put(Object key, int value) {
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != null && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == null) {
+            size++;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+    
+    void remove(Object key) {
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != key) {
+            if (keys[i] == null) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = null;
+        size--;
+        
+        // 빈 칸 뒤의 항목 중 원래 자리가 빈 칸 이전인 것을 당겨 옵니다.
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            Object k = keys[j];
+            if (k == null) {
+                return;
+            }
+            int ideal = hash(k) & mask;
+            boolean move = j > i ? (ideal <= i || ideal > j) : (ideal <= i && ideal > j);
+            if (move) {
+                keys[i] = k;
+                values[i] = values[j];
+                keys[j] = null;
+                i = j;
+            }
+        }
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    private void resize(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new Object[capacity];
+        values = new int[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+    
+    private static int hash(Object key) {
+        int h = System.identityHashCode(key);
+        return h ^ (h >>> 16);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,215 @@
+package com.nhnacademy.game.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * ReplayWriter가 남긴 리플레이 파일을 읽는 재생기
+ * 파일을 읽기 전용으로 매핑하고, 꼬리의 키프레임 색인으로 원하는 프레임에 빠르게 이동합니다.
+ * 꼬리가 없는 파일(기록 중 비정상 종료)은 레코드를 처음부터 훑어 색인을 다시 만들고,
+ * 잘린 마지막 레코드는 버립니다.
+ */
+public class ReplayReader implements Closeable {
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int keyframeInterval;
+    private final long startMillis;
+    
+    // 키프레임 색인
+    private int[] keyframeFrames = new int[64];
+    private int[] keyframeOffsets = new int[64];
+    private int keyframeCount = 0;
+    private int frameCount = 0;
+    
+    // 현재 재생 상태
+    private final FrameDecoder decoder = new FrameDecoder();
+    
+    /**
+     * 리플레이 파일을 엽니다.
+     * @param file 리플레이 파일
+     * @throws IOException 파일을 읽을 수 없는 경우
+     * @throws IllegalArgumentException 리플레이 파일이 아니거나 지원하지 않는 버전인 경우
+     */
+    public ReplayReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < ReplayWriter.HEADER_SIZE) {
+                throw new IllegalArgumentException("리플레이 파일이 너무 짧습니다: " + size + " bytes");
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("리플레이 파일이 너무 큽니다: " + size + " bytes");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            
+            int magic = buffer.getInt(0);
+            if (magic != ReplayWriter.MAGIC) {
+                throw new IllegalArgumentException("리플레이 파일이 아닙니다: 0x" + Integer.toHexString(magic));
+            }
+            int version = buffer.getShort(4);
+            if (version != ReplayWriter.VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 리플레이 버전입니다: " + version);
+            }
+            int scale = buffer.getShort(6);
+            if (scale != ReplayWriter.POSITION_SCALE) {
+                throw new IllegalArgumentException("지원하지 않는 위치 배율입니다: " + scale);
+            }
+            keyframeInterval = buffer.getInt(8);
+            startMillis = buffer.getLong(12);
+            
+            if (!readIndex((int) size)) {
+                scanIndex((int) size);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * 꼬리의 색인 레코드를 읽습니다.
+     * @return 꼬리가 온전하면 true
+     */
+    private boolean readIndex(int size) {
+        if (size < ReplayWriter.HEADER_SIZE + ReplayWriter.TRAILER_SIZE
+            || buffer.getInt(size - 4) != ReplayWriter.INDEX_MAGIC) {
+            return false;
+        }
+        long indexOffset = buffer.getLong(size - ReplayWriter.TRAILER_SIZE);
+        if (indexOffset < ReplayWriter.HEADER_SIZE || indexOffset >= size - ReplayWriter.TRAILER_SIZE
+            || buffer.get((int) indexOffset) != ReplayWriter.RECORD_INDEX) {
+            return false;
+        }
+        buffer.position((int) indexOffset + 1);
+        Varints.getVarint(buffer);
+        frameCount = Varints.getVarint(buffer);
+        int count = Varints.getVarint(buffer);
+        int keyFrame = 0;
+        long keyOffset = 0;
+        for (int i = 0; i < count; i++) {
+            keyFrame += Varints.getVarint(buffer);
+            keyOffset += Varints.getVarlong(buffer);
+            addKeyframe(keyFrame, (int) keyOffset);
+        }
+        return true;
+    }
+    
+    /**
+     * 레코드를 처음부터 훑어 색인을 만듭니다. 잘린 레코드를 만나면 거기서 멈춥니다.
+     */
+    private void scanIndex(int size) {
+        int position = ReplayWriter.HEADER_SIZE;
+        int frames = 0;
+        while (position < size) {
+            buffer.position(position);
+            byte type = buffer.get();
+            if (type != ReplayWriter.RECORD_KEYFRAME && type != ReplayWriter.RECORD_DELTA) {
+                break;
+            }
+            int length;
+            try {
+                length = Varints.getVarint(buffer);
+            } catch (RuntimeException e) {
+                break;
+            }
+            int bodyStart = buffer.position();
+            if (length < 0 || bodyStart + length > size) {
+                break;
+            }
+            if (type == ReplayWriter.RECORD_KEYFRAME) {
+                addKeyframe(Varints.getVarint(buffer), position);
+            }
+            position = bodyStart + length;
+            frames++;
+        }
+        frameCount = frames;
+    }
+    
+    private void addKeyframe(int keyFrame, int keyOffset) {
+        if (keyframeCount == keyframeFrames.length) {
+            keyframeFrames = Arrays.copyOf(keyframeFrames, keyframeCount * 2);
+            keyframeOffsets = Arrays.copyOf(keyframeOffsets, keyframeCount * 2);
+        }
+        keyframeFrames[keyframeCount] = keyFrame;
+        keyframeOffsets[keyframeCount] = keyOffset;
+        keyframeCount++;
+    }
+    
+    /**
+     * 지정한 프레임으로 이동합니다.
+     * 그 프레임 이전의 가장 가까운 키프레임을 이진 탐색으로 찾아 읽은 뒤 델타를 차례로 적용합니다.
+     * @param target 이동할 프레임 (0부터)
+     * @throws IllegalArgumentException 범위를 벗어난 프레임인 경우
+     */
+    public void seek(int target) {
+        if (target < 0 || target >= frameCount) {
+            throw new IllegalArgumentException("프레임 범위를 벗어났습니다: " + target + " (0.." + (frameCount - 1) + ")");
+        }
+        int index = Arrays.binarySearch(keyframeFrames, 0, keyframeCount, target);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        // 현재 위치에서 델타를 이어 읽는 것보다 키프레임에서 시작하는 편이 가까우면 건너뜁니다.
+        if (target < decoder.getFrame() || decoder.getFrame() < keyframeFrames[index]) {
+            buffer.position(keyframeOffsets[index]);
+            decoder.read(buffer);
+        }
+        while (decoder.getFrame() < target) {
+            decoder.read(buffer);
+        }
+    }
+    
+    /**
+     * 다음 프레임으로 넘어갑니다.
+     * @return 다음 프레임이 있었으면 true, 이미 마지막 프레임이면 false
+     */
+    public boolean next() {
+        if (decoder.getFrame() + 1 >= frameCount) {
+            return false;
+        }
+        if (decoder.getFrame() < 0) {
+            seek(0);
+        } else {
+            decoder.read(buffer);
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    /**
+     * 현재 프레임의 객체들을 반환합니다. 기록된 순서(처음 나타난 순서)를 따릅니다.
+     * @return 읽기 전용 객체 목록
+     */
+    public Collection<FrameDecoder.Entry> getObjects() {
+        return decoder.getObjects();
+    }
+    
+    /**
+     * 현재 프레임의 월드 값을 반환합니다.
+     * @param index Replayable.getReplayValues()가 채운 순서
+     * @return 값
+     */
+    public int getValue(int index) {
+        return decoder.getValue(index);
+    }
+    
+    // Getters
+    public int getFrame() { return decoder.getFrame(); }
+    public int getFrameCount() { return frameCount; }
+    public int getKeyframeCount() { return keyframeCount; }
+    public int getValueCount() { return decoder.getValueCount(); }
+    public int getKeyframeInterval() { return keyframeInterval; }
+    public long getStartMillis() { return startMillis; }
+}
\ No newline at end of file
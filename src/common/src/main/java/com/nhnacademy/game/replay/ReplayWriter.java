@@ -0,0 +1,317 @@
+package com.nhnacademy.game.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 델타 압축 리플레이 기록기
+ * 일정 간격(키프레임 간격)마다 모든 객체를 기록하는 키프레임을 남기고,
+ * 그 사이 프레임에는 예측과 달라진 필드와 추가/제거된 객체만 기록합니다. (레코드 형식은 FrameEncoder 참고)
+ *
+ * 인코딩은 recordFrame()을 호출한 스레드(시뮬레이션 스레드)에서 재사용 버퍼에 하고,
+ * 파일 쓰기는 청크 단위로 백그라운드 스레드가 FileChannel로 처리합니다.
+ * 키프레임마다 채우던 청크를 넘기므로 비정상 종료 시에도 마지막 키프레임 간격 정도만 잃습니다.
+ * 디스크가 느려 빈 청크가 모자라면 기다리지 않고 청크를 새로 만들며, 청크가 MAX_CHUNK_COUNT개(4MB)에 이르면
+ * 그 뒤의 프레임은 기록하지 않고 버린 프레임 수만 셉니다. (델타는 앞 프레임에 기대므로 중간만 빼고 이어 쓸 수 없습니다)
+ *
+ * 파일 구조 (리틀 엔디언):
+ *   헤더: 매직("RPLY"), 버전(short), 위치 배율(short), 키프레임 간격(int), 시작 시각(long, epoch ms)
+ *   레코드: 종류(byte), 본문 길이(varint), 본문
+ *   꼬리: 색인 레코드, 색인 레코드 위치(long), 매직("RIDX")
+ * 꼬리가 없으면(비정상 종료) ReplayReader가 레코드를 훑어 색인을 다시 만듭니다.
+ */
+public class ReplayWriter implements Closeable {
+    static final int MAGIC = 0x52504C59;
+    static final int INDEX_MAGIC = 0x52494458;
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 20;
+    static final int TRAILER_SIZE = 12;
+    static final byte RECORD_KEYFRAME = 1;
+    static final byte RECORD_DELTA = 2;
+    static final byte RECORD_INDEX = 3;
+    static final int POSITION_SCALE = 16;
+    /** 받는 쪽이 예측에 쓰는 위치, 변화량, 가속도의 정밀도 (1/16픽셀을 다시 나눈 수) */
+    static final int MOTION_SCALE = 1024;
+    /** 예측이 이만큼(1/16픽셀 단위, 곧 1/8픽셀)까지 어긋난 필드는 기록하지 않습니다 */
+    static final int POSITION_TOLERANCE = 2;
+    static final int FIELD_COUNT = 4;
+    static final int FIELD_BITS = 4;
+    static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+    static final int ADDED_FLAG = 1 << FIELD_BITS;
+    static final int ENTRY_SHIFT = FIELD_BITS + 1;
+    
+    /** Replayable.getReplayValues()가 채울 수 있는 값의 최대 개수 */
+    public static final int MAX_VALUES = 8;
+    
+    private static final int DEFAULT_KEYFRAME_INTERVAL = 600;
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int CHUNK_COUNT = 8;
+    private static final int MAX_CHUNK_COUNT = 64;
+    private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+    
+    private final int keyframeInterval;
+    private final FileChannel channel;
+    private final Thread writerThread;
+    private final BlockingQueue<ByteBuffer> freeChunks = new LinkedBlockingQueue<>();
+    private final BlockingQueue<ByteBuffer> filledChunks = new LinkedBlockingQueue<>();
+    private ByteBuffer chunk;
+    private int chunkCount = CHUNK_COUNT;
+    private final FrameEncoder encoder;
+    
+    // 키프레임 색인
+    private int[] keyframeFrames = new int[64];
+    private long[] keyframeOffsets = new long[64];
+    private int keyframeCount = 0;
+    
+    private long offset = 0;
+    private int frame = 0;
+    private int droppedFrames = 0;
+    private boolean closed = false;
+    private volatile IOException failure;
+    
+    public ReplayWriter(Path file, Replayable source) throws IOException {
+        this(file, source, DEFAULT_KEYFRAME_INTERVAL);
+    }
+    
+    /**
+     * 파일을 새로 만들고 기록을 시작합니다.
+     * @param file 리플레이 파일 (이미 있으면 덮어씁니다)
+     * @param source 기록할 월드
+     * @param keyframeInterval 키프레임 사이의 프레임 수
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public ReplayWriter(Path file, Replayable source, int keyframeInterval) throws IOException {
+        this.encoder = new FrameEncoder(source);
+        this.keyframeInterval = keyframeInterval;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                        StandardOpenOption.TRUNCATE_EXISTING);
+        for (int i = 0; i < CHUNK_COUNT - 1; i++) {
+            freeChunks.add(newBuffer(CHUNK_SIZE, true));
+        }
+        chunk = newBuffer(CHUNK_SIZE, true);
+        
+        chunk.putInt(MAGIC);
+        chunk.putShort((short) VERSION);
+        chunk.putShort((short) POSITION_SCALE);
+        chunk.putInt(keyframeInterval);
+        chunk.putLong(System.currentTimeMillis());
+        offset = HEADER_SIZE;
+        
+        writerThread = new Thread(this::writeChunks, "replay-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+    
+    /**
+     * game.replay 시스템 속성이 있으면 그 경로에 기록을 시작합니다.
+     * @param source 기록할 월드
+     * @return 기록기, 속성이 없거나 파일을 열지 못하면 null
+     */
+    public static ReplayWriter startFromSystemProperty(Replayable source) {
+        String file = System.getProperty("game.replay");
+        if (file == null) {
+            return null;
+        }
+        try {
+            return new ReplayWriter(Paths.get(file), source);
+        } catch (IOException e) {
+            System.err.println("[replay] " + file + "을 열 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 현재 프레임을 기록합니다. 월드를 갱신하는 스레드에서 update() 뒤에 호출해야 하며, 쓰기를 기다리지 않습니다.
+     * 쓰기 스레드가 실패한 뒤에는 아무것도 하지 않으며, 실패는 close()에서 알려집니다.
+     * 청크가 모자라 기록을 멈춘 뒤에는 버린 프레임 수만 셉니다. (getDroppedFrameCount())
+     */
+    public void recordFrame() {
+        if (closed || failure != null) {
+            return;
+        }
+        if (droppedFrames > 0) {
+            droppedFrames++;
+            return;
+        }
+        boolean keyframe = frame % keyframeInterval == 0;
+        ByteBuffer record = encoder.encode(keyframe);
+        // 키프레임마다 모아 둔 청크를 넘겨 파일에 반영되도록 합니다.
+        if (keyframe && chunk.position() > 0 && !submitChunk(0)) {
+            dropFrames();
+            return;
+        }
+        if (chunk.remaining() < record.remaining() && !submitChunk(record.remaining())) {
+            dropFrames();
+            return;
+        }
+        if (keyframe) {
+            addKeyframe(frame, offset);
+        }
+        append(record);
+        frame++;
+    }
+    
+    private void dropFrames() {
+        droppedFrames = 1;
+        System.err.println("[replay] 파일 쓰기가 밀려 프레임 " + frame + "부터 기록하지 않습니다");
+    }
+    
+    private void addKeyframe(int keyFrame, long keyOffset) {
+        if (keyframeCount == keyframeFrames.length) {
+            keyframeFrames = Arrays.copyOf(keyframeFrames, keyframeCount * 2);
+            keyframeOffsets = Arrays.copyOf(keyframeOffsets, keyframeCount * 2);
+        }
+        keyframeFrames[keyframeCount] = keyFrame;
+        keyframeOffsets[keyframeCount] = keyOffset;
+        keyframeCount++;
+    }
+    
+    /**
+     * 레코드를 청크에 옮깁니다. 청크에 자리가 있어야 합니다.
+     */
+    private void append(ByteBuffer record) {
+        offset += record.remaining();
+        chunk.put(record);
+    }
+    
+    /**
+     * 채우던 청크를 쓰기 스레드에 넘기고 빈 청크를 받습니다. 기다리지 않습니다.
+     * 빈 청크가 없으면 MAX_CHUNK_COUNT개까지 새로 만듭니다.
+     * @param needed 다음에 쓸 바이트 수 (받은 청크가 이보다 작으면 새로 만듭니다)
+     * @return 청크를 넘겼으면 true, 청크가 이미 MAX_CHUNK_COUNT개라 넘기지 못했으면 false
+     */
+    private boolean submitChunk(int needed) {
+        ByteBuffer next = freeChunks.poll();
+        if (next == null) {
+            if (chunkCount == MAX_CHUNK_COUNT) {
+                return false;
+            }
+            chunkCount++;
+            next = newBuffer(CHUNK_SIZE, true);
+        }
+        if (next.capacity() < needed) {
+            next = newBuffer(Math.max(needed, CHUNK_SIZE), true);
+        }
+        filledChunks.add(chunk);
+        chunk = next;
+        return true;
+    }
+    
+    private static ByteBuffer newBuffer(int capacity, boolean direct) {
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    /**
+     * 쓰기 스레드: 넘겨받은 청크를 순서대로 파일에 쓰고 빈 청크로 돌려줍니다.
+     * 쓰기에 실패하면 실패를 기억하고, 기록 스레드가 멈추지 않도록 이후 청크는 버리기만 합니다.
+     */
+    private void writeChunks() {
+        try {
+            while (true) {
+                ByteBuffer filled = filledChunks.take();
+                if (filled == END_OF_STREAM) {
+                    return;
+                }
+                if (failure == null) {
+                    try {
+                        filled.flip();
+                        while (filled.hasRemaining()) {
+                            channel.write(filled);
+                        }
+                    } catch (IOException e) {
+                        failure = e;
+                    }
+                }
+                filled.clear();
+                freeChunks.add(filled);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 색인과 꼬리를 쓰고 파일을 닫습니다.
+     * 마지막 recordFrame()을 호출한 스레드에서, 또는 그 스레드가 멈춘 뒤에 호출해야 합니다.
+     * 기다리는 동안 인터럽트되어도 쓰기 스레드가 끝날 때까지 기다려 파일을 마저 닫고, 인터럽트 상태는 되살려 둡니다.
+     * @throws IOException 쓰기 스레드가 파일 쓰기에 실패했거나 파일을 닫지 못한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        
+        // 색인: 전체 프레임 수, 키프레임 수, (프레임 차이, 위치 차이) 목록
+        ByteBuffer body = newBuffer(16 + keyframeCount * 15, false);
+        Varints.putVarint(body, frame);
+        Varints.putVarint(body, keyframeCount);
+        int previousFrame = 0;
+        long previousOffset = 0;
+        for (int i = 0; i < keyframeCount; i++) {
+            Varints.putVarint(body, keyframeFrames[i] - previousFrame);
+            Varints.putVarlong(body, keyframeOffsets[i] - previousOffset);
+            previousFrame = keyframeFrames[i];
+            previousOffset = keyframeOffsets[i];
+        }
+        body.flip();
+        ByteBuffer record = newBuffer(1 + 5 + body.remaining(), false);
+        record.put(RECORD_INDEX);
+        Varints.putVarint(record, body.remaining());
+        record.put(body);
+        record.flip();
+        long indexOffset = offset;
+        if (chunk.remaining() < record.remaining() + TRAILER_SIZE) {
+            // 닫을 때는 청크 수와 관계없이 색인과 꼬리를 담을 청크를 하나 더 만듭니다.
+            filledChunks.add(chunk);
+            chunk = newBuffer(Math.max(record.remaining() + TRAILER_SIZE, CHUNK_SIZE), true);
+        }
+        append(record);
+        chunk.putLong(indexOffset);
+        chunk.putInt(INDEX_MAGIC);
+        
+        filledChunks.add(chunk);
+        filledChunks.add(END_OF_STREAM);
+        // FileChannel은 인터럽트된 스레드에서 쓰면 닫혀 버리므로, 인터럽트 상태를 잠시 지우고 마저 닫은 뒤 되살립니다.
+        boolean interrupted = Thread.interrupted();
+        try {
+            while (true) {
+                try {
+                    writerThread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            try {
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+    
+    // Getters
+    public int getFrameCount() { return frame; }
+    public int getKeyframeCount() { return keyframeCount; }
+    public long getBytesWritten() { return offset; }
+    public int getDroppedFrameCount() { return droppedFrames; }
+}
\ No newline at end of file
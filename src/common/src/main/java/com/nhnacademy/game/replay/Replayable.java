@@ -0,0 +1,26 @@
+package com.nhnacademy.game.replay;
+
+import com.nhnacademy.game.core.GameObject;
+
+import java.util.List;
+
+/**
+ * 리플레이 파일에 기록할 수 있는 월드의 인터페이스
+ * ReplayWriter는 매 프레임 객체 목록과 정수 값(점수, 생명 등)을 받아 바뀐 부분만 기록합니다.
+ * 두 메서드 모두 월드를 갱신하는 스레드에서 호출되며, 할당 없이 채워야 합니다.
+ */
+public interface Replayable {
+    /**
+     * 기록할 객체를 목록에 추가합니다.
+     * 같은 객체는 프레임이 바뀌어도 같은 인스턴스여야 하며, 그래야 위치 변화만 기록됩니다.
+     * @param out 비어 있는 목록
+     */
+    void collectReplayObjects(List<GameObject> out);
+    
+    /**
+     * 객체가 아닌 월드 상태를 정수로 채웁니다. 값의 순서와 개수는 프레임마다 같아야 합니다.
+     * @param out 값을 채울 배열 (길이 ReplayWriter.MAX_VALUES)
+     * @return 채운 값의 개수
+     */
+    int getReplayValues(int[] out);
+}
\ No newline at end of file
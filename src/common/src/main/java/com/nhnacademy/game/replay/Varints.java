@@ -0,0 +1,62 @@
+package com.nhnacademy.game.replay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 가변 길이 정수(LEB128) 인코딩
+ * 7비트씩 나눠 작은 값일수록 적은 바이트로 기록합니다.
+ * 음수가 될 수 있는 차이 값은 지그재그 인코딩으로 0에 가까운 양수로 바꾼 뒤 기록합니다.
+ */
+final class Varints {
+    private Varints() {
+    }
+    
+    static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+    
+    static void putVarlong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+    
+    static void putZigzag(ByteBuffer buffer, int value) {
+        putVarint(buffer, (value << 1) ^ (value >> 31));
+    }
+    
+    static int getVarint(ByteBuffer buffer) {
+        int result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return result;
+    }
+    
+    static long getVarlong(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return result;
+    }
+    
+    static int getZigzag(ByteBuffer buffer) {
+        int value = getVarint(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
\ No newline at end of file
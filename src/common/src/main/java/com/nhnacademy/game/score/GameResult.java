@@ -0,0 +1,72 @@
+package com.nhnacademy.game.score;
+
+import java.util.Objects;
+
+/**
+ * 한 판의 결과
+ * 모드와 레벨(또는 웨이브) 번호는 게임마다 정한 값을 씁니다. (예: GameMode의 ordinal())
+ * 시드는 그 판의 난수 시드로, 같은 입력과 함께 쓰면 판을 다시 만들 수 있습니다.
+ */
+public final class GameResult {
+    private final int mode;
+    private final int level;
+    private final int score;
+    private final int durationMillis;
+    private final long seed;
+    private final long timestamp;
+    
+    /**
+     * @param mode 게임 모드 번호 (0~127)
+     * @param level 레벨 또는 웨이브 번호 (0 이상)
+     * @param score 점수
+     * @param durationMillis 플레이 시간 (밀리초)
+     * @param seed 난수 시드
+     * @param timestamp 끝난 시각 (epoch ms)
+     */
+    public GameResult(int mode, int level, int score, int durationMillis, long seed, long timestamp) {
+        if (mode < 0 || mode > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("모드 번호는 0~127이어야 합니다: " + mode);
+        }
+        if (level < 0) {
+            throw new IllegalArgumentException("레벨 번호는 0 이상이어야 합니다: " + level);
+        }
+        this.mode = mode;
+        this.level = level;
+        this.score = score;
+        this.durationMillis = durationMillis;
+        this.seed = seed;
+        this.timestamp = timestamp;
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GameResult)) {
+            return false;
+        }
+        GameResult result = (GameResult) other;
+        return mode == result.mode && level == result.level && score == result.score
+            && durationMillis == result.durationMillis && seed == result.seed && timestamp == result.timestamp;
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, level, score, durationMillis, seed, timestamp);
+    }
+    
+    @Override
+    public String toString() {
+        return "GameResult[mode=" + mode + ", level=" + level + ", score=" + score
+            + ", duration=" + durationMillis + "ms, seed=" + seed + "]";
+    }
+    
+    // Getters
+    public int getMode() { return mode; }
+    public int getLevel() { return level; }
+    public int getScore() { return score; }
+    public int getDurationMillis() { return durationMillis; }
+    public long getSeed() { return seed; }
+    public long getTimestamp() { return timestamp; }
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.nhnacademy.game.score;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 점수 기록 파일의 메모리 색인
+ * 기록 하나당 모드(byte), 레벨(int), 점수(int)만 칸 번호 순서대로 배열에 담고,
+ * 나머지 필드는 필요할 때 파일에서 읽습니다. 백만 개 기록이 약 9MB입니다.
+ *
+ * 모드별, (모드, 레벨)별로 점수가 높은 BOARD_DEPTH개의 칸 번호를 정렬해 두어
+ * 그보다 적은 상위 N개 조회는 기록 수와 관계없이 바로 답합니다.
+ * 점수가 같으면 먼저 기록된 것이 앞섭니다.
+ *
+ * 동기화하지 않으므로 ScoreStore가 잠금을 잡고 사용합니다.
+ */
+final class ScoreIndex {
+    static final int BOARD_DEPTH = 100;
+    
+    // CRC가 맞지 않는 칸의 모드 (어느 순위표에도 들어가지 않습니다)
+    private static final byte INVALID = -1;
+    
+    /**
+     * 점수 내림차순으로 정렬한 상위 칸 번호
+     */
+    private final class Board {
+        final int[] slots = new int[BOARD_DEPTH];
+        int size;
+        
+        void offer(int slot) {
+            int score = scores[slot];
+            if (size == BOARD_DEPTH && scores[slots[size - 1]] >= score) {
+                return;
+            }
+            // 같은 점수 뒤에 넣을 위치를 이진 탐색으로 찾습니다.
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (scores[slots[middle]] >= score) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            int moved = Math.min(size, BOARD_DEPTH - 1) - low;
+            System.arraycopy(slots, low, slots, low + 1, moved);
+            slots[low] = slot;
+            size = Math.min(size + 1, BOARD_DEPTH);
+        }
+    }
+    
+    private byte[] modes;
+    private int[] levels;
+    private int[] scores;
+    private int slotCount = 0;
+    private int validCount = 0;
+    private final Map<Long, Board> boards = new HashMap<>();
+    
+    ScoreIndex(int capacity) {
+        capacity = Math.max(capacity, 16);
+        modes = new byte[capacity];
+        levels = new int[capacity];
+        scores = new int[capacity];
+    }
+    
+    private static long key(int mode, int level) {
+        return ((long) mode << 32) | (level & 0xFFFFFFFFL);
+    }
+    
+    private void ensureCapacity(int capacity) {
+        if (capacity > scores.length) {
+            int newCapacity = Math.max(capacity, scores.length * 2);
+            modes = Arrays.copyOf(modes, newCapacity);
+            levels = Arrays.copyOf(levels, newCapacity);
+            scores = Arrays.copyOf(scores, newCapacity);
+        }
+    }
+    
+    /**
+     * 다음 칸에 기록을 추가합니다.
+     * @return 칸 번호
+     */
+    int add(int mode, int level, int score) {
+        ensureCapacity(slotCount + 1);
+        int slot = slotCount++;
+        modes[slot] = (byte) mode;
+        levels[slot] = level;
+        scores[slot] = score;
+        validCount++;
+        boards.computeIfAbsent(key(mode, ScoreStore.ALL_LEVELS), k -> new Board()).offer(slot);
+        boards.computeIfAbsent(key(mode, level), k -> new Board()).offer(slot);
+        return slot;
+    }
+    
+    /**
+     * 손상된 기록이 있던 칸을 건너뜁니다. 칸 번호와 파일 위치를 맞추기 위해 자리만 차지합니다.
+     */
+    void addInvalid() {
+        ensureCapacity(slotCount + 1);
+        modes[slotCount++] = INVALID;
+    }
+    
+    /**
+     * 상위 기록의 칸 번호를 구합니다.
+     * n이 BOARD_DEPTH 이하이면 순위표에서, 더 크면 모든 칸을 훑어 구합니다.
+     * @param level 레벨, 모든 레벨이면 ScoreStore.ALL_LEVELS
+     * @param out 칸 번호를 순위 순서대로 담을 배열 (n 이상)
+     * @return 찾은 개수
+     */
+    int top(int mode, int level, int n, int[] out) {
+        if (n <= BOARD_DEPTH) {
+            Board board = boards.get(key(mode, level));
+            if (board == null) {
+                return 0;
+            }
+            int count = Math.min(n, board.size);
+            System.arraycopy(board.slots, 0, out, 0, count);
+            return count;
+        }
+        
+        // 점수를 상위 32비트에, 뒤집은 칸 번호를 하위 32비트에 두면 오름차순 정렬의 끝이 상위 순위입니다.
+        long[] keys = new long[validCount];
+        int matched = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (modes[slot] == mode && (level == ScoreStore.ALL_LEVELS || levels[slot] == level)) {
+                keys[matched++] = ((long) scores[slot] << 32) | (Integer.MAX_VALUE - slot);
+            }
+        }
+        Arrays.sort(keys, 0, matched);
+        int count = Math.min(n, matched);
+        for (int i = 0; i < count; i++) {
+            out[i] = Integer.MAX_VALUE - (int) keys[matched - 1 - i];
+        }
+        return count;
+    }
+    
+    /**
+     * 압축할 때 남길 칸을 고릅니다. (모드, 레벨)마다 점수가 높은 retain개를 남기고 손상된 칸은 버립니다.
+     * @return 칸마다 남길지 여부, 버릴 칸이 없으면 null
+     */
+    boolean[] selectRetained(int retain) {
+        // 레벨마다 기록 수를 세어 retain개를 넘는 레벨만 점수 기준선을 구합니다.
+        Map<Long, int[]> groups = new HashMap<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (modes[slot] != INVALID) {
+                groups.computeIfAbsent(key(modes[slot], levels[slot]), k -> new int[1])[0]++;
+            }
+        }
+        Map<Long, int[]> groupScores = new HashMap<>();
+        for (Map.Entry<Long, int[]> group : groups.entrySet()) {
+            if (group.getValue()[0] > retain) {
+                groupScores.put(group.getKey(), new int[group.getValue()[0] + 1]);
+            }
+        }
+        if (groupScores.isEmpty() && validCount == slotCount) {
+            return null;
+        }
+        // 배열 마지막 칸은 채운 개수로 씁니다.
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (modes[slot] != INVALID) {
+                int[] values = groupScores.get(key(modes[slot], levels[slot]));
+                if (values != null) {
+                    values[values[values.length - 1]++] = scores[slot];
+                }
+            }
+        }
+        
+        // 기준 점수와, 기준 점수와 같은 기록을 몇 개까지 남길지 정합니다. (먼저 기록된 것부터)
+        Map<Long, int[]> cutoffs = new HashMap<>();
+        for (Map.Entry<Long, int[]> group : groupScores.entrySet()) {
+            int[] values = group.getValue();
+            int count = values.length - 1;
+            Arrays.sort(values, 0, count);
+            int threshold = values[count - retain];
+            int above = 0;
+            for (int i = count - retain; i < count; i++) {
+                if (values[i] > threshold) {
+                    above++;
+                }
+            }
+            cutoffs.put(group.getKey(), new int[] { threshold, retain - above });
+        }
+        
+        boolean[] keep = new boolean[slotCount];
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (modes[slot] == INVALID) {
+                continue;
+            }
+            int[] cutoff = cutoffs.get(key(modes[slot], levels[slot]));
+            if (cutoff == null || scores[slot] > cutoff[0]) {
+                keep[slot] = true;
+            } else if (scores[slot] == cutoff[0] && cutoff[1] > 0) {
+                cutoff[1]--;
+                keep[slot] = true;
+            }
+        }
+        return keep;
+    }
+    
+    /**
+     * 남긴 칸만 순서대로 옮긴 새 색인을 만듭니다.
+     */
+    ScoreIndex retain(boolean[] keep) {
+        int kept = 0;
+        for (boolean k : keep) {
+            if (k) {
+                kept++;
+            }
+        }
+        ScoreIndex compacted = new ScoreIndex(kept);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (keep[slot]) {
+                compacted.add(modes[slot], levels[slot], scores[slot]);
+            }
+        }
+        return compacted;
+    }
+    
+    // Getters
+    int getSlotCount() { return slotCount; }
+    int getValidCount() { return validCount; }
+}
\ No newline at end of file
@@ -0,0 +1,426 @@
+package com.nhnacademy.game.score;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+
+/**
+ * 게임 결과를 쌓아 두는 추가 전용 점수 저장소
+ * 결과는 CRC32가 붙은 고정 크기 기록으로 파일 끝에만 덧붙이고,
+ * 열 때 파일을 한 번 훑어 모드, 레벨, 점수만 담은 메모리 색인(ScoreIndex)을 만듭니다.
+ *
+ * append()와 queryTop()은 작업을 큐에 넣기만 하므로 시뮬레이션 스레드나 FX 스레드를 막지 않습니다.
+ * 작업은 "score-store" 스레드 하나가 차례로 처리하고, 쌓인 기록을 한 번에 쓴 뒤 force()를 한 번만 부릅니다.
+ * 같은 스레드가 처리하므로 queryTop()의 결과에는 그 전에 넣은 결과가 항상 들어 있습니다.
+ *
+ * 기록 수가 지난 압축 때의 두 배를 넘으면 같은 스레드가 (모드, 레벨)마다 상위 retainPerLevel개만 남겨
+ * 임시 파일에 다시 쓰고 원래 파일과 바꿉니다. 손상된 기록도 이때 사라집니다.
+ *
+ * 파일 구조 (리틀 엔디언):
+ *   헤더: 매직("SCOR"), 버전(short), 기록 크기(short)
+ *   기록: 모드(int), 레벨(int), 점수(int), 플레이 시간(int, ms), 시드(long), 끝난 시각(long), CRC32(int)
+ * 끝에 잘린 기록(비정상 종료)은 열 때 잘라 내고, CRC가 맞지 않는 기록은 건너뜁니다.
+ */
+public class ScoreStore implements Closeable {
+    static final int MAGIC = 0x524F4353;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int BODY_SIZE = 32;
+    static final int RECORD_SIZE = BODY_SIZE + 4;
+    
+    /** 모든 레벨을 합친 순위를 조회할 때 쓰는 레벨 번호 */
+    public static final int ALL_LEVELS = -1;
+    
+    private static final int DEFAULT_RETAIN = 1000;
+    private static final int MIN_COMPACTION = 100_000;
+    private static final int READ_CHUNK = RECORD_SIZE * 32 * 1024;
+    
+    private final Path file;
+    private final int retainPerLevel;
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    
+    // 저장 스레드만 쓰는 버퍼와 상태
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32 crc = new CRC32();
+    private final List<Runnable> batch = new ArrayList<>();
+    private boolean running = true;
+    private boolean dirty = false;
+    private int compactAt;
+    
+    // 조회와 압축이 함께 쓰므로 this로 잠급니다.
+    private FileChannel channel;
+    private ScoreIndex index;
+    
+    private volatile boolean closed = false;
+    private volatile IOException failure;
+    
+    /**
+     * 점수 파일을 엽니다. 없으면 만듭니다.
+     * @param retainPerLevel 압축할 때 (모드, 레벨)마다 남길 기록 수
+     * @throws IOException 파일을 열거나 읽지 못한 경우
+     * @throws IllegalArgumentException 점수 파일이 아니거나 지원하지 않는 버전인 경우
+     */
+    public ScoreStore(Path file, int retainPerLevel) throws IOException {
+        if (retainPerLevel <= ScoreIndex.BOARD_DEPTH) {
+            throw new IllegalArgumentException("남길 기록 수는 " + ScoreIndex.BOARD_DEPTH + "보다 커야 합니다: " + retainPerLevel);
+        }
+        this.file = file;
+        this.retainPerLevel = retainPerLevel;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            this.index = load(channel, file);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.compactAt = Math.max(MIN_COMPACTION, index.getSlotCount() * 2);
+        
+        worker = new Thread(this::work, "score-store");
+        worker.setDaemon(true);
+        worker.start();
+    }
+    
+    public ScoreStore(Path file) throws IOException {
+        this(file, DEFAULT_RETAIN);
+    }
+    
+    /**
+     * 시스템 속성 game.scores에 지정한 파일을 엽니다.
+     * 지정하지 않으면 사용자 홈의 .simple_games 디렉터리에 defaultName으로 만듭니다.
+     * @return 점수 저장소, 열 수 없으면 null (게임은 점수를 저장하지 않고 계속합니다)
+     */
+    public static ScoreStore openFromSystemProperty(String defaultName) {
+        String property = System.getProperty("game.scores");
+        Path path = property != null ? Paths.get(property)
+                                     : Paths.get(System.getProperty("user.home"), ".simple_games", defaultName);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            return new ScoreStore(path);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("[scores] " + path + "을 열 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 파일을 처음부터 훑어 색인을 만듭니다.
+     * 빈 파일이면 헤더를 쓰고, 끝에 잘린 기록이 있으면 잘라 냅니다.
+     */
+    private static ScoreIndex load(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        long size = channel.size();
+        if (size == 0) {
+            header.putInt(MAGIC).putShort((short) VERSION).putShort((short) RECORD_SIZE).flip();
+            channel.write(header, 0);
+            return new ScoreIndex(0);
+        }
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // 헤더를 다 읽을 때까지 반복합니다.
+        }
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new IllegalArgumentException("점수 파일이 아닙니다: " + file);
+        }
+        int version = header.getShort();
+        int recordSize = header.getShort();
+        if (version > VERSION || recordSize != RECORD_SIZE) {
+            throw new IllegalArgumentException("지원하지 않는 점수 파일 버전입니다: " + version);
+        }
+        
+        long records = (size - HEADER_SIZE) / RECORD_SIZE;
+        long tail = (size - HEADER_SIZE) % RECORD_SIZE;
+        if (records > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("기록이 너무 많습니다: " + records);
+        }
+        if (tail != 0) {
+            System.err.println("[scores] " + file + " 끝의 잘린 기록 " + tail + "바이트를 잘라 냈습니다");
+            channel.truncate(size - tail);
+        }
+        
+        ScoreIndex index = new ScoreIndex((int) records);
+        ByteBuffer chunk = ByteBuffer.allocateDirect(READ_CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+        CRC32 checksum = new CRC32();
+        long position = HEADER_SIZE;
+        long end = HEADER_SIZE + records * RECORD_SIZE;
+        int invalid = 0;
+        while (position < end) {
+            chunk.clear();
+            chunk.limit((int) Math.min(READ_CHUNK, end - position));
+            while (chunk.hasRemaining()) {
+                if (channel.read(chunk, position + chunk.position()) < 0) {
+                    throw new IOException("점수 파일을 끝까지 읽지 못했습니다: " + file);
+                }
+            }
+            int filled = chunk.position();
+            for (int start = 0; start < filled; start += RECORD_SIZE) {
+                checksum.reset();
+                chunk.limit(start + BODY_SIZE).position(start);
+                checksum.update(chunk);
+                chunk.limit(filled);
+                int mode = chunk.getInt(start);
+                int level = chunk.getInt(start + 4);
+                if ((int) checksum.getValue() == chunk.getInt(start + BODY_SIZE)
+                    && mode >= 0 && mode <= Byte.MAX_VALUE && level >= 0) {
+                    index.add(mode, level, chunk.getInt(start + 8));
+                } else {
+                    index.addInvalid();
+                    invalid++;
+                }
+            }
+            position += filled;
+        }
+        if (invalid > 0) {
+            System.err.println("[scores] " + file + "에서 손상된 기록 " + invalid + "개를 건너뛰었습니다");
+        }
+        return index;
+    }
+    
+    /**
+     * 결과를 저장하도록 넘깁니다. 기다리지 않습니다.
+     * @throws IllegalStateException 저장소가 닫힌 경우
+     */
+    public void append(GameResult result) {
+        submit(() -> write(result));
+    }
+    
+    /**
+     * 상위 기록 조회를 저장 스레드에 넘깁니다. 그 전에 append()한 결과까지 반영한 순위가 나옵니다.
+     * @param level 레벨 번호, 모든 레벨을 합친 순위는 ALL_LEVELS
+     * @return 점수 내림차순 결과 목록으로 완료되는 future
+     */
+    public CompletableFuture<List<GameResult>> queryTop(int mode, int level, int n) {
+        CompletableFuture<List<GameResult>> future = new CompletableFuture<>();
+        submit(() -> {
+            try {
+                future.complete(top(mode, level, n));
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * 그 전에 넣은 결과가 모두 파일에 쓰이고 force()까지 끝나면 완료되는 future를 돌려줍니다.
+     */
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        submit(() -> {
+            forceIfDirty();
+            future.complete(null);
+        });
+        return future;
+    }
+    
+    /**
+     * 기록 수와 관계없이 압축을 저장 스레드에 넘깁니다.
+     */
+    public void compact() {
+        submit(this::compactNow);
+    }
+    
+    private void submit(Runnable task) {
+        if (closed) {
+            throw new IllegalStateException("점수 저장소가 닫혔습니다");
+        }
+        tasks.add(task);
+    }
+    
+    /**
+     * 상위 기록을 바로 조회합니다. 색인에서 순위를 정한 뒤 그 기록만 파일에서 읽습니다.
+     * 아직 저장 스레드가 처리하지 않은 append()는 빠질 수 있습니다.
+     * @param level 레벨 번호, 모든 레벨을 합친 순위는 ALL_LEVELS
+     * @return 점수 내림차순 결과 목록 (같은 점수는 먼저 기록된 순서)
+     * @throws IOException 기록을 읽지 못한 경우
+     */
+    public synchronized List<GameResult> top(int mode, int level, int n) throws IOException {
+        int[] slots = new int[Math.max(n, 0)];
+        int count = index.top(mode, level, n, slots);
+        List<GameResult> results = new ArrayList<>(count);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < count; i++) {
+            buffer.clear();
+            long position = HEADER_SIZE + (long) slots[i] * RECORD_SIZE;
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("점수 기록을 읽지 못했습니다: " + slots[i]);
+                }
+            }
+            results.add(new GameResult(buffer.getInt(0), buffer.getInt(4), buffer.getInt(8), buffer.getInt(12),
+                                       buffer.getLong(16), buffer.getLong(24)));
+        }
+        return results;
+    }
+    
+    /**
+     * 저장 스레드: 쌓인 작업을 한꺼번에 처리하고, 쓴 것이 있으면 force()를 한 번 부릅니다.
+     */
+    private void work() {
+        try {
+            while (running) {
+                batch.add(tasks.take());
+                tasks.drainTo(batch);
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).run();
+                }
+                batch.clear();
+                forceIfDirty();
+                if (running && failure == null && index.getSlotCount() >= compactAt) {
+                    compactNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void write(GameResult result) {
+        if (failure != null) {
+            return;
+        }
+        record.clear();
+        record.putInt(result.getMode());
+        record.putInt(result.getLevel());
+        record.putInt(result.getScore());
+        record.putInt(result.getDurationMillis());
+        record.putLong(result.getSeed());
+        record.putLong(result.getTimestamp());
+        crc.reset();
+        crc.update(record.array(), 0, BODY_SIZE);
+        record.putInt((int) crc.getValue());
+        record.flip();
+        try {
+            long position = HEADER_SIZE + (long) index.getSlotCount() * RECORD_SIZE;
+            while (record.hasRemaining()) {
+                channel.write(record, position + record.position());
+            }
+            dirty = true;
+            synchronized (this) {
+                index.add(result.getMode(), result.getLevel(), result.getScore());
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+    
+    private void forceIfDirty() {
+        if (dirty && failure == null) {
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+        dirty = false;
+    }
+    
+    /**
+     * (모드, 레벨)마다 상위 기록만 남긴 임시 파일을 만들어 원래 파일과 바꿉니다.
+     * 남길 기록은 파일 사이에서 그대로 옮기므로(transferTo) 다시 인코딩하지 않습니다.
+     */
+    private void compactNow() {
+        compactAt = Math.max(MIN_COMPACTION, index.getSlotCount() * 2);
+        boolean[] keep = index.selectRetained(retainPerLevel);
+        if (keep == null || failure != null) {
+            return;
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".compact");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putShort((short) VERSION).putShort((short) RECORD_SIZE).flip();
+                out.write(header);
+                // 이어서 남는 칸은 한 번에 옮깁니다.
+                int slot = 0;
+                while (slot < keep.length) {
+                    if (!keep[slot]) {
+                        slot++;
+                        continue;
+                    }
+                    int first = slot;
+                    while (slot < keep.length && keep[slot]) {
+                        slot++;
+                    }
+                    long position = HEADER_SIZE + (long) first * RECORD_SIZE;
+                    long length = (long) (slot - first) * RECORD_SIZE;
+                    while (length > 0) {
+                        long moved = channel.transferTo(position, length, out);
+                        position += moved;
+                        length -= moved;
+                    }
+                }
+                out.force(true);
+            }
+            ScoreIndex compacted = index.retain(keep);
+            int before = index.getSlotCount();
+            synchronized (this) {
+                channel.close();
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                index = compacted;
+            }
+            compactAt = Math.max(MIN_COMPACTION, compacted.getSlotCount() * 2);
+            System.err.println("[scores] 기록 " + before + "개를 " + compacted.getSlotCount() + "개로 압축했습니다");
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+    
+    private void fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+            System.err.println("[scores] " + file + "에 쓰지 못해 이후 결과는 저장하지 않습니다: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 남은 작업을 마치고 파일을 닫습니다.
+     * @throws IOException 저장 스레드가 쓰기에 실패했거나 파일을 닫지 못한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        tasks.add(() -> running = false);
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            channel.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+    
+    /**
+     * @return 저장 스레드가 처리한 결과 수 (손상되어 건너뛴 기록은 빼고)
+     */
+    public synchronized int getCount() {
+        return index.getValidCount();
+    }
+    
+    // Getters
+    public Path getFile() { return file; }
+}
\ No newline at end of file
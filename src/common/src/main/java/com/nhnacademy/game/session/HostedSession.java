@@ -0,0 +1,205 @@
+package com.nhnacademy.game.session;
+
+import com.nhnacademy.game.diagnostics.PhaseHistogram;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SessionHost가 돌리는 세션 하나와 그 스레드, 통계
+ * 세션 스레드는 스케줄러가 틱마다 차례를 줄 때까지 멈춰 있다가 한 틱만 진행하고 다시 기다립니다.
+ * 한 틱이 예산보다 오래 걸리면 넘친 시간을 빚으로 쌓고, 빚을 갚을 때까지는 틱마다 예산만큼 덜어 내며 차례를 건너뜁니다.
+ * 그래서 무거운 세션은 느리게 진행될 뿐, 다른 세션이 받을 틱을 빼앗지 못합니다.
+ *
+ * 예산은 스레드 CPU 시간으로 잽니다. 틱 안에서 기다리는(sleep, I/O) 시간은 다른 세션의 CPU를 쓰지 않으므로 빚이 되지 않습니다.
+ * 스레드 CPU 시간을 잴 수 없는 스레드(가상 스레드, 또는 JVM이 지원하지 않는 경우)에서는 벽시계 시간으로 재므로,
+ * 기다리는 작업은 SessionHost.await()로 감싸야 그동안 시계가 멈춥니다. 감싸지 않고 기다린 시간은 빚이 됩니다.
+ * JDK 21의 가상 스레드는 CPU 시간을 지원한다고 답하고도 getCurrentThreadCpuTime()에서 UnsupportedOperationException을 던지므로,
+ * 어느 쪽으로 잴지는 세션 스레드가 시작할 때 한 번 재 보고 정합니다.
+ */
+public final class HostedSession {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final ThreadLocal<HostedSession> CURRENT = new ThreadLocal<>();
+    
+    private final String name;
+    private final SessionHost.Session session;
+    private final long budgetNanos;
+    private final double deltaTime;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    Thread thread;
+    
+    // 스케줄러와 세션 스레드가 주고받는 상태
+    private volatile boolean granted = false;
+    private volatile boolean busy = false;
+    private volatile boolean cancelled = false;
+    private volatile long grantNanos;
+    final AtomicLong debtNanos = new AtomicLong();
+    
+    // 스케줄러 스레드가 쓰는 통계
+    volatile long lateTicks = 0;
+    volatile long throttledTicks = 0;
+    
+    // 세션 스레드가 쓰는 통계
+    private final PhaseHistogram startDelays = new PhaseHistogram();
+    private volatile long steps = 0;
+    private volatile long stepNanos = 0;
+    private volatile long maxStepNanos = 0;
+    private volatile long overruns = 0;
+    
+    // 세션 스레드 전용: 이번 틱에서 await()로 기다린 시간
+    private long awaitedNanos = 0;
+    private boolean awaiting = false;
+    private boolean cpuClock = false;
+    
+    HostedSession(String name, SessionHost.Session session, long budgetNanos, double deltaTime) {
+        this.name = name;
+        this.session = session;
+        this.budgetNanos = budgetNanos;
+        this.deltaTime = deltaTime;
+    }
+    
+    /**
+     * 세션 스레드의 본문입니다. 차례를 받을 때마다 한 틱씩 진행하고, 세션이 끝나거나 취소되면 돌아갑니다.
+     */
+    void run() {
+        CURRENT.set(this);
+        try {
+            cpuClock = isCpuClockAvailable();
+            while (true) {
+                while (!granted && !cancelled) {
+                    LockSupport.park(this);
+                }
+                if (cancelled) {
+                    completion.cancel(false);
+                    return;
+                }
+                granted = false;
+                long start = System.nanoTime();
+                startDelays.record(start - grantNanos);
+                long cpuStart = cpuNanos();
+                awaitedNanos = 0;
+                boolean alive = session.tick(deltaTime);
+                long elapsed = System.nanoTime() - start;
+                long charged = cpuStart < 0 ? elapsed - awaitedNanos : cpuNanos() - cpuStart;
+                
+                steps++;
+                stepNanos += elapsed;
+                if (elapsed > maxStepNanos) {
+                    maxStepNanos = elapsed;
+                }
+                if (charged > budgetNanos) {
+                    overruns++;
+                    debtNanos.addAndGet(charged - budgetNanos);
+                }
+                busy = false;
+                if (!alive) {
+                    completion.complete(null);
+                    return;
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            System.err.println("[session] " + name + " 세션이 실패했습니다: " + e);
+            completion.completeExceptionally(e);
+        } finally {
+            busy = false;
+            cancelled = true;
+            // 검사 예외를 몰래 던지는 세션처럼 위에서 잡지 못한 경우에도 기다리는 쪽이 멈춰 있지 않게 합니다.
+            if (!completion.isDone()) {
+                completion.completeExceptionally(new IllegalStateException(name + " 세션 스레드가 예기치 않게 끝났습니다"));
+            }
+        }
+    }
+    
+    /**
+     * 기다리는 작업을 실행하고, 세션 스레드라면 그동안의 시간을 이번 틱의 예산에서 빼도록 기록합니다.
+     * 세션 스레드가 아니거나 이미 await() 안이면 작업만 실행합니다.
+     * @see SessionHost#await(Callable)
+     */
+    static <T> T await(Callable<T> blocking) throws Exception {
+        HostedSession current = CURRENT.get();
+        if (current == null || current.awaiting) {
+            return blocking.call();
+        }
+        current.awaiting = true;
+        long start = System.nanoTime();
+        try {
+            return blocking.call();
+        } finally {
+            current.awaitedNanos += System.nanoTime() - start;
+            current.awaiting = false;
+        }
+    }
+    
+    /**
+     * @return 현재 스레드의 CPU 시간 (나노초), 이 세션 스레드에서 잴 수 없으면 -1
+     */
+    private long cpuNanos() {
+        return cpuClock ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+    
+    /**
+     * 현재 스레드의 CPU 시간을 실제로 잴 수 있는지 한 번 재 보고 확인합니다.
+     */
+    private static boolean isCpuClockAvailable() {
+        if (!THREADS.isCurrentThreadCpuTimeSupported()) {
+            return false;
+        }
+        try {
+            THREADS.getCurrentThreadCpuTime();
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * 이번 틱의 차례를 줍니다. 스케줄러 스레드에서만 호출합니다.
+     */
+    void grant(long now) {
+        busy = true;
+        grantNanos = now;
+        granted = true;
+        LockSupport.unpark(thread);
+    }
+    
+    /**
+     * 세션을 멈춥니다. 진행 중인 틱은 끝까지 진행하고, 다음 차례부터 받지 않습니다.
+     * 완료 Future는 취소된 상태가 됩니다.
+     */
+    public void cancel() {
+        cancelled = true;
+        LockSupport.unpark(thread);
+    }
+    
+    /**
+     * @return 세션이 끝났거나(tick()이 false) 실패했거나 취소되었으면 true
+     */
+    public boolean isDone() {
+        return cancelled || completion.isDone();
+    }
+    
+    /**
+     * 차례를 받은 때부터 세션 스레드가 실제로 틱을 시작하기까지의 시간입니다.
+     * 세션 스레드가 기록하므로 세션이 끝난 뒤에 읽어야 합니다.
+     */
+    public PhaseHistogram getStartDelays() {
+        return startDelays;
+    }
+    
+    // Getters
+    public String getName() { return name; }
+    public long getBudgetNanos() { return budgetNanos; }
+    public CompletableFuture<Void> getCompletion() { return completion; }
+    public boolean isBusy() { return busy; }
+    public long getSteps() { return steps; }
+    public long getStepNanos() { return stepNanos; }
+    public long getMaxStepNanos() { return maxStepNanos; }
+    public long getOverruns() { return overruns; }
+    public long getDebtNanos() { return debtNanos.get(); }
+    public long getLateTicks() { return lateTicks; }
+    public long getThrottledTicks() { return throttledTicks; }
+}
\ No newline at end of file
@@ -0,0 +1,249 @@
+package com.nhnacademy.game.session;
+
+import com.nhnacademy.game.metrics.MetricsSnapshot;
+import com.nhnacademy.game.metrics.WorldMetrics;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 가벼운 게임 세션(봇 대전, 튜토리얼, 비동기 퍼즐 풀이 등) 수천 개를 한 JVM에서 돌리는 호스트
+ * 세션마다 자기 스레드(기본 빌드에서는 스택이 작은 플랫폼 스레드, -Pjdk21로 빌드해 JDK 21 이상에서 실행하면 가상 스레드, SessionThreads 참고)를 두고,
+ * 스케줄러 스레드("session-scheduler") 하나가 정해진 틱마다 모든 세션에 한 틱씩 차례를 줍니다.
+ * 세션은 차례를 받아야만 진행하므로 어떤 세션도 한 틱에 두 번 진행하지 않고, 틱 안에서 기다리는(sleep, I/O) 세션은
+ * 자기 스레드만 멈출 뿐 다른 세션의 차례를 막지 않습니다.
+ *
+ * 공정성:
+ * - 아직 지난 틱을 진행 중인 세션은 이번 차례를 놓친 것으로 셉니다(late). 밀린 틱을 몰아서 주지 않습니다.
+ * - 세션마다 한 틱의 예산(CPU 시간, HostedSession 참고)을 두고, 넘친 시간만큼 다음 차례들을 건너뛰게 합니다(throttled).
+ *   무거운 세션은 느리게 진행될 뿐 다른 세션의 CPU 시간을 가져가지 못합니다.
+ *   가상 스레드처럼 CPU 시간을 잴 수 없으면 벽시계 시간으로 재므로, 틱 안에서 기다리는 작업은 await()로 감싸야 합니다.
+ * - 차례를 주는 순서의 시작 위치를 틱마다 옮겨, 늘 같은 세션이 마지막에 시작하지 않게 합니다.
+ *
+ * 세션은 월드를 만든 스레드가 아니라 세션 스레드에서 진행되므로, 한 세션의 월드는 그 세션의 tick()에서만 건드려야 합니다.
+ * 스케줄러의 차례 나누기 시간은 WorldMetrics("session-host")로 기록합니다.
+ */
+public final class SessionHost implements Closeable {
+    public static final int DEFAULT_TICK_RATE = 60;
+    public static final long DEFAULT_BUDGET_NANOS = 2_000_000;
+    // 틱이 이만큼 밀리면 따라잡지 않고 지금부터 다시 셉니다.
+    private static final int MAX_LATE_TICKS = 5;
+    // 차례를 주기 시작하는 위치를 틱마다 옮기는 간격 (세션 수와 서로소이기 쉬운 소수)
+    private static final int ROTATION_STRIDE = 7919;
+    
+    /**
+     * 세션 하나를 한 틱 진행하는 함수
+     */
+    public interface Session {
+        /**
+         * @param deltaTime 한 틱의 시간 (초)
+         * @return 계속 진행하려면 true, 세션이 끝났으면 false
+         */
+        boolean tick(double deltaTime);
+    }
+    
+    private final int tickRate;
+    private final long tickNanos;
+    private final double deltaTime;
+    private final ThreadFactory threads;
+    private final Thread scheduler;
+    private final Queue<HostedSession> added = new ConcurrentLinkedQueue<>();
+    private final WorldMetrics metrics = new WorldMetrics("session-host", this::sampleMetrics);
+    private volatile boolean running = true;
+    
+    // 스케줄러 스레드 전용
+    private final List<HostedSession> sessions = new ArrayList<>();
+    private int rotation = 0;
+    
+    // 통계 (스케줄러 스레드가 쓰고 다른 스레드가 읽습니다)
+    private volatile int sessionCount = 0;
+    private volatile long ticks = 0;
+    private volatile long grantedSteps = 0;
+    private volatile long lateTicks = 0;
+    private volatile long throttledTicks = 0;
+    private volatile long finishedSessions = 0;
+    
+    /**
+     * 이 JVM에서 쓸 수 있는 세션 스레드(SessionThreads.newFactory)로 호스트를 시작합니다.
+     * @param tickRate 초당 틱 수
+     */
+    public SessionHost(int tickRate) {
+        this(tickRate, SessionThreads.newFactory("session-"));
+    }
+    
+    /**
+     * 주어진 팩터리로 세션 스레드를 만드는 호스트를 시작합니다.
+     * @param tickRate 초당 틱 수
+     * @param threads 세션마다 스레드 하나를 만들 팩터리
+     */
+    public SessionHost(int tickRate, ThreadFactory threads) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("초당 틱 수는 1 이상이어야 합니다: " + tickRate);
+        }
+        this.tickRate = tickRate;
+        this.tickNanos = 1_000_000_000L / tickRate;
+        this.deltaTime = 1.0 / tickRate;
+        this.threads = threads;
+        scheduler = new Thread(this::run, "session-scheduler");
+        scheduler.setDaemon(true);
+        scheduler.start();
+    }
+    
+    /**
+     * 기본 예산으로 세션을 시작합니다.
+     * @see #start(String, Session, long)
+     */
+    public HostedSession start(String name, Session session) {
+        return start(name, session, DEFAULT_BUDGET_NANOS);
+    }
+    
+    /**
+     * 세션을 시작합니다. 세션 스레드는 바로 만들어지고, 다음 틱부터 차례를 받습니다.
+     * @param name 로그에 쓸 세션 이름
+     * @param session 한 틱씩 진행할 세션
+     * @param budgetNanos 한 틱에 쓸 수 있는 CPU 시간 (나노초, 넘치면 그만큼 다음 차례를 건너뜁니다,
+     *                    CPU 시간을 잴 수 없는 스레드에서는 await() 밖에서 쓴 벽시계 시간)
+     * @return 세션 핸들
+     * @throws IllegalStateException 호스트가 닫힌 경우
+     */
+    public HostedSession start(String name, Session session, long budgetNanos) {
+        if (budgetNanos <= 0) {
+            throw new IllegalArgumentException("예산은 0보다 커야 합니다: " + budgetNanos);
+        }
+        if (!running) {
+            throw new IllegalStateException("호스트가 닫혔습니다");
+        }
+        HostedSession hosted = new HostedSession(name, session, budgetNanos, deltaTime);
+        hosted.thread = threads.newThread(hosted::run);
+        hosted.thread.start();
+        added.add(hosted);
+        return hosted;
+    }
+    
+    /**
+     * 세션 틱 안에서 기다리는 작업(sleep, I/O, 원격 호출 등)을 실행합니다.
+     * 기다리는 동안은 세션의 예산 시간에 들어가지 않습니다. 플랫폼 스레드에서는 원래 CPU 시간으로 재므로 차이가 없고,
+     * 벽시계 시간으로 재는 가상 스레드에서 기다린 시간이 빚으로 쌓이지 않게 합니다.
+     * 세션 스레드가 아닌 곳에서 부르면 작업만 실행합니다.
+     * @param blocking 기다리는 작업
+     * @return 작업의 결과
+     * @throws Exception 작업이 던진 예외
+     */
+    public static <T> T await(Callable<T> blocking) throws Exception {
+        return HostedSession.await(blocking);
+    }
+    
+    private void run() {
+        long nextTick = System.nanoTime() + tickNanos;
+        while (running) {
+            long wait = nextTick - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+                continue;
+            }
+            long start = System.nanoTime();
+            grantAll(start);
+            metrics.recordUpdate(System.nanoTime() - start);
+            ticks++;
+            
+            nextTick += tickNanos;
+            if (System.nanoTime() - nextTick > MAX_LATE_TICKS * tickNanos) {
+                nextTick = System.nanoTime();
+            }
+        }
+        HostedSession hosted;
+        while ((hosted = added.poll()) != null) {
+            sessions.add(hosted);
+        }
+        for (HostedSession session : sessions) {
+            session.cancel();
+            session.thread.interrupt();
+        }
+        sessionCount = 0;
+    }
+    
+    /**
+     * 새 세션을 받고 끝난 세션을 치운 뒤, 모든 세션에 이번 틱의 차례를 줍니다.
+     */
+    private void grantAll(long now) {
+        HostedSession hosted;
+        while ((hosted = added.poll()) != null) {
+            sessions.add(hosted);
+        }
+        for (int i = sessions.size() - 1; i >= 0; i--) {
+            if (sessions.get(i).isDone()) {
+                // 마지막 세션을 빈자리로 옮겨 목록을 당기지 않습니다.
+                HostedSession last = sessions.remove(sessions.size() - 1);
+                if (i < sessions.size()) {
+                    sessions.set(i, last);
+                }
+                finishedSessions++;
+            }
+        }
+        int count = sessions.size();
+        sessionCount = count;
+        if (count == 0) {
+            return;
+        }
+        
+        rotation = (rotation + ROTATION_STRIDE) % count;
+        long granted = 0;
+        long late = 0;
+        long throttled = 0;
+        for (int i = 0; i < count; i++) {
+            HostedSession session = sessions.get((rotation + i) % count);
+            if (session.isBusy()) {
+                session.lateTicks++;
+                late++;
+            } else if (session.debtNanos.get() > 0) {
+                session.debtNanos.addAndGet(-session.getBudgetNanos());
+                session.throttledTicks++;
+                throttled++;
+            } else {
+                session.grant(now);
+                granted++;
+            }
+        }
+        grantedSteps += granted;
+        lateTicks += late;
+        throttledTicks += throttled;
+    }
+    
+    private void sampleMetrics(MetricsSnapshot snapshot) {
+        snapshot.entity("sessions", sessionCount);
+        snapshot.entity("grantedSteps", grantedSteps);
+        snapshot.entity("lateTicks", lateTicks);
+        snapshot.entity("throttledTicks", throttledTicks);
+        snapshot.entity("finishedSessions", finishedSessions);
+    }
+    
+    /**
+     * 스케줄러를 멈추고 모든 세션을 취소합니다. 기다리고 있는 세션 스레드는 인터럽트합니다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(scheduler);
+        try {
+            scheduler.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // Getters
+    public int getTickRate() { return tickRate; }
+    public WorldMetrics getMetrics() { return metrics; }
+    public int getSessionCount() { return sessionCount; }
+    public long getTicks() { return ticks; }
+    public long getGrantedSteps() { return grantedSteps; }
+    public long getLateTicks() { return lateTicks; }
+    public long getThrottledTicks() { return throttledTicks; }
+    public long getFinishedSessions() { return finishedSessions; }
+}
\ No newline at end of file
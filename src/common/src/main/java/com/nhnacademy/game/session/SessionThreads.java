@@ -0,0 +1,48 @@
+package com.nhnacademy.game.session;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션마다 하나씩 쓸 스레드를 만드는 곳
+ * 이 파일은 Java 11용 구현으로, 스택을 작게 잡은 데몬 플랫폼 스레드를 만듭니다.
+ * JDK 21 이상에서 -Pjdk21 프로필을 명시해 빌드하면 같은 이름의 클래스가 src/main/java21에서 컴파일되어
+ * 멀티 릴리스 JAR의 META-INF/versions/21에 들어가고, JDK 21 이상에서 실행할 때는 그쪽이 쓰여 가상 스레드를 만듭니다.
+ * 가상 스레드 구현은 JDK 21에서 검증하기 전까지 기본 빌드에 넣지 않습니다.
+ */
+public final class SessionThreads {
+    // 세션 하나는 깊게 호출하지 않으므로 기본(보통 1MB)보다 작은 스택으로 수천 개를 띄웁니다.
+    private static final long PLATFORM_STACK_SIZE = 256 * 1024;
+    
+    private SessionThreads() {
+    }
+    
+    /**
+     * 이 JVM에서 세션에 쓸 스레드를 만드는 팩터리를 반환합니다.
+     * @param prefix 스레드 이름 앞부분 (뒤에 번호가 붙습니다)
+     * @return Java 11 구현에서는 platform(prefix)와 같습니다
+     */
+    public static ThreadFactory newFactory(String prefix) {
+        return platform(prefix);
+    }
+    
+    /**
+     * 스택을 작게 잡은 데몬 플랫폼 스레드를 만드는 팩터리를 반환합니다.
+     * @param prefix 스레드 이름 앞부분 (뒤에 번호가 붙습니다)
+     */
+    public static ThreadFactory platform(String prefix) {
+        AtomicInteger next = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(null, runnable, prefix + next.getAndIncrement(), PLATFORM_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    /**
+     * @return newFactory()가 가상 스레드를 만들면 true
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,393 @@
+package com.nhnacademy.game.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 주기적으로 월드 스냅숏을 파일에 남기고, 다시 시작할 때 마지막 체크포인트로 되돌리는 서비스
+ * 시뮬레이션 스레드에서는 SnapshotBuffer.save()로 상태를 메모리 버퍼에 복사하기만 하고,
+ * 압축, CRC 계산, 파일 쓰기와 fsync는 "checkpoint-writer" 스레드가 합니다.
+ *
+ * 메모리 버퍼는 두 개를 번갈아 씁니다. 쓰기 스레드가 하나를 처리하는 동안에도 다음 체크포인트를 뜰 수 있고,
+ * 두 버퍼가 모두 쓰기를 기다리고 있으면 시뮬레이션을 기다리게 하지 않고 그 체크포인트를 건너뜁니다.
+ * 쓰기 스레드는 할 일이 없으면 잠들어 있다가 checkpoint()가 버퍼를 넘길 때 깨어나고,
+ * 깨어나면 먼저 양보하므로 코어가 하나뿐인 키오스크에서도 시뮬레이션 스레드를 밀어내지 않습니다.
+ * 파일도 두 개(이름.0.ckpt, 이름.1.ckpt)를 번갈아 덮어쓰므로, 쓰는 도중에 프로세스가 죽거나 전원이 꺼져도
+ * 다른 파일에 바로 전 체크포인트가 남습니다.
+ *
+ * 파일 구조 (리틀 엔디언):
+ *   헤더: 매직 넘버(int), 버전(short), 예약(short), 순번(long), 시각(long, epoch ms),
+ *         스냅숏 길이(int), 압축 길이(int), 압축한 본문의 CRC32(int)
+ *   본문: Deflate로 압축한 스냅숏 (SnapshotBuffer 헤더 포함)
+ *
+ * tick()과 checkpoint()는 월드를 갱신하는 스레드에서, restoreLatest()는 체크포인트를 뜨기 전에 호출해야 합니다.
+ */
+public final class CheckpointService implements Closeable {
+    /** "CKPT" */
+    public static final int MAGIC = 0x434B5054;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 36;
+    private static final int BUFFERS = 2;
+    
+    /**
+     * 파일에서 읽은 체크포인트
+     */
+    private static final class Checkpoint {
+        final long sequence;
+        final long timestamp;
+        final ByteBuffer snapshot;
+        
+        Checkpoint(long sequence, long timestamp, ByteBuffer snapshot) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.snapshot = snapshot;
+        }
+    }
+    
+    private final Snapshottable source;
+    private final Path[] files;
+    private final int intervalTicks;
+    private final Queue<SnapshotBuffer> free = new ConcurrentLinkedQueue<>();
+    private final Queue<SnapshotBuffer> filled = new ConcurrentLinkedQueue<>();
+    // 쓰기 스레드를 끝내라는 표시
+    private final SnapshotBuffer end = SnapshotBuffer.allocate(0);
+    private final Thread writer;
+    
+    // 시뮬레이션 스레드
+    private int ticks = 0;
+    private int taken = 0;
+    private int skipped = 0;
+    private long lastPauseNanos = 0;
+    private long maxPauseNanos = 0;
+    private boolean closed = false;
+    
+    // 쓰기 스레드
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer compressed = ByteBuffer.allocateDirect(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+    private long sequence;
+    private volatile int written = 0;
+    private volatile long lastWriteNanos = 0;
+    private volatile IOException failure;
+    
+    /**
+     * @param directory 체크포인트 파일을 둘 디렉터리 (없으면 만듭니다)
+     * @param name 파일 이름 앞부분
+     * @param source 체크포인트를 뜰 객체
+     * @param intervalTicks tick() 몇 번마다 체크포인트를 뜰지
+     * @throws IOException 디렉터리를 만들지 못한 경우
+     */
+    public CheckpointService(Path directory, String name, Snapshottable source, int intervalTicks) throws IOException {
+        if (intervalTicks <= 0) {
+            throw new IllegalArgumentException("체크포인트 간격은 1틱 이상이어야 합니다: " + intervalTicks);
+        }
+        Files.createDirectories(directory);
+        this.source = source;
+        this.intervalTicks = intervalTicks;
+        this.files = new Path[] { directory.resolve(name + ".0.ckpt"), directory.resolve(name + ".1.ckpt") };
+        
+        // 이전에 남은 체크포인트보다 큰 순번부터 씁니다.
+        sequence = Math.max(readSequence(files[0]), readSequence(files[1]));
+        
+        int capacity = SnapshotBuffer.HEADER_SIZE + source.getSnapshotSize();
+        for (int i = 0; i < BUFFERS; i++) {
+            free.add(SnapshotBuffer.allocate(capacity));
+        }
+        
+        writer = new Thread(this::writeCheckpoints, "checkpoint-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    /**
+     * -Dgame.checkpoint로 지정한 디렉터리에 체크포인트를 남기는 서비스를 시작합니다.
+     * @param source 체크포인트를 뜰 객체
+     * @param name 파일 이름 앞부분
+     * @param intervalTicks tick() 몇 번마다 체크포인트를 뜰지
+     * @return 서비스, 속성이 없거나 시작하지 못하면 null
+     */
+    public static CheckpointService startFromSystemProperty(Snapshottable source, String name, int intervalTicks) {
+        String directory = System.getProperty("game.checkpoint");
+        if (directory == null) {
+            return null;
+        }
+        try {
+            return new CheckpointService(Paths.get(directory), name, source, intervalTicks);
+        } catch (IOException e) {
+            System.err.println("[checkpoint] " + directory + "을 사용할 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 틱을 셉니다. 월드를 갱신하는 스레드에서 update() 뒤에 호출해야 하며, 간격마다 checkpoint()를 호출합니다.
+     */
+    public void tick() {
+        if (++ticks >= intervalTicks) {
+            ticks = 0;
+            checkpoint();
+        }
+    }
+    
+    /**
+     * 현재 상태를 메모리 버퍼에 복사해 쓰기 스레드로 넘깁니다.
+     * 시뮬레이션 스레드가 멈추는 시간은 save() 한 번뿐입니다.
+     * @return 체크포인트를 떴으면 true, 두 버퍼가 모두 쓰는 중이거나 닫혔으면 false
+     */
+    public boolean checkpoint() {
+        if (closed) {
+            return false;
+        }
+        long start = System.nanoTime();
+        SnapshotBuffer buffer = free.poll();
+        if (buffer == null) {
+            skipped++;
+            return false;
+        }
+        buffer.save(source);
+        filled.add(buffer);
+        LockSupport.unpark(writer);
+        
+        lastPauseNanos = System.nanoTime() - start;
+        maxPauseNanos = Math.max(maxPauseNanos, lastPauseNanos);
+        taken++;
+        return true;
+    }
+    
+    private void writeCheckpoints() {
+        try {
+            while (true) {
+                SnapshotBuffer buffer = filled.poll();
+                if (buffer == null) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    LockSupport.park(this);
+                    continue;
+                }
+                if (buffer == end) {
+                    return;
+                }
+                // 깨운 시뮬레이션 스레드가 checkpoint()에서 돌아갈 때까지 코어를 넘겨줍니다.
+                Thread.yield();
+                try {
+                    long start = System.nanoTime();
+                    write(buffer.getBuffer());
+                    lastWriteNanos = System.nanoTime() - start;
+                    written++;
+                    failure = null;
+                } catch (IOException e) {
+                    // 디스크가 잠시 가득 찬 경우 등은 다음 체크포인트에서 다시 시도합니다. 연속된 실패는 처음 것만 알립니다.
+                    if (failure == null) {
+                        System.err.println("[checkpoint] 체크포인트를 쓰지 못했습니다: " + e.getMessage());
+                    }
+                    failure = e;
+                }
+                free.add(buffer);
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    /**
+     * 스냅숏을 압축해 이번 순번의 파일에 쓰고 디스크에 반영될 때까지 기다립니다.
+     */
+    private void write(ByteBuffer snapshot) throws IOException {
+        int length = snapshot.remaining();
+        // 압축되지 않는 내용이어도 들어가도록 Deflate의 최대 증가량만큼 여유를 둡니다.
+        int bound = HEADER_SIZE + length + (length >> 10) + 64;
+        if (compressed.capacity() < bound) {
+            compressed = ByteBuffer.allocateDirect(Math.max(bound, compressed.capacity() * 2))
+                                   .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        
+        deflater.reset();
+        deflater.setInput(snapshot);
+        deflater.finish();
+        compressed.clear();
+        compressed.position(HEADER_SIZE);
+        while (!deflater.finished()) {
+            if (deflater.deflate(compressed) == 0 && !compressed.hasRemaining()) {
+                throw new IOException("압축한 체크포인트가 버퍼보다 큽니다");
+            }
+        }
+        int compressedLength = compressed.position() - HEADER_SIZE;
+        
+        compressed.flip();
+        compressed.position(HEADER_SIZE);
+        crc.reset();
+        crc.update(compressed);
+        
+        sequence++;
+        compressed.putInt(0, MAGIC);
+        compressed.putShort(4, (short) VERSION);
+        compressed.putShort(6, (short) 0);
+        compressed.putLong(8, sequence);
+        compressed.putLong(16, System.currentTimeMillis());
+        compressed.putInt(24, length);
+        compressed.putInt(28, compressedLength);
+        compressed.putInt(32, (int) crc.getValue());
+        compressed.position(0);
+        
+        Path file = files[(int) (sequence & 1)];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long position = 0;
+            while (compressed.hasRemaining()) {
+                position += channel.write(compressed, position);
+            }
+            channel.truncate(position);
+            channel.force(true);
+        }
+    }
+    
+    /**
+     * 두 파일 중 온전하고 순번이 큰 체크포인트로 객체를 되돌립니다.
+     * 최신 파일이 깨졌거나 복원할 수 없으면 다른 파일을 시도합니다.
+     * @param target 복원할 객체
+     * @return 복원했으면 true, 쓸 만한 체크포인트가 없으면 false
+     */
+    public boolean restoreLatest(Snapshottable target) {
+        Checkpoint first = read(files[0]);
+        Checkpoint second = read(files[1]);
+        if (first == null || (second != null && second.sequence > first.sequence)) {
+            Checkpoint swap = first;
+            first = second;
+            second = swap;
+        }
+        for (Checkpoint checkpoint : new Checkpoint[] { first, second }) {
+            if (checkpoint == null) {
+                continue;
+            }
+            try {
+                SnapshotBuffer.wrap(checkpoint.snapshot).restore(target);
+                System.err.println("[checkpoint] " + checkpoint.sequence + "번 체크포인트("
+                                   + Instant.ofEpochMilli(checkpoint.timestamp) + ")로 복원했습니다");
+                return true;
+            } catch (IllegalArgumentException e) {
+                System.err.println("[checkpoint] " + checkpoint.sequence + "번 체크포인트를 복원할 수 없습니다: "
+                                   + e.getMessage());
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 체크포인트 파일 하나를 읽어 CRC를 확인하고 압축을 풉니다.
+     * @return 체크포인트, 파일이 없거나 깨졌으면 null
+     */
+    private static Checkpoint read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Inflater inflater = new Inflater();
+        try {
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+            if (data.remaining() < HEADER_SIZE || data.getInt(0) != MAGIC
+                || (data.getShort(4) & 0xFFFF) > VERSION) {
+                System.err.println("[checkpoint] " + file + "은 체크포인트 파일이 아닙니다");
+                return null;
+            }
+            long sequence = data.getLong(8);
+            long timestamp = data.getLong(16);
+            int length = data.getInt(24);
+            int compressedLength = data.getInt(28);
+            if (length < 0 || compressedLength < 0 || compressedLength != data.remaining() - HEADER_SIZE) {
+                System.err.println("[checkpoint] " + file + "이 잘렸습니다");
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(data.array(), HEADER_SIZE, compressedLength);
+            if ((int) crc.getValue() != data.getInt(32)) {
+                System.err.println("[checkpoint] " + file + "의 CRC가 맞지 않습니다");
+                return null;
+            }
+            
+            ByteBuffer snapshot = ByteBuffer.allocate(length);
+            inflater.setInput(data.array(), HEADER_SIZE, compressedLength);
+            while (snapshot.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(snapshot) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+            }
+            if (snapshot.hasRemaining() || !inflater.finished()) {
+                System.err.println("[checkpoint] " + file + "의 압축을 풀 수 없습니다");
+                return null;
+            }
+            snapshot.clear();
+            return new Checkpoint(sequence, timestamp, snapshot);
+        } catch (IOException | DataFormatException e) {
+            System.err.println("[checkpoint] " + file + "을 읽을 수 없습니다: " + e.getMessage());
+            return null;
+        } finally {
+            inflater.end();
+        }
+    }
+    
+    /**
+     * 파일 헤더의 순번만 읽습니다.
+     * @return 순번, 파일이 없거나 체크포인트 파일이 아니면 0
+     */
+    private static long readSequence(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] bytes = in.readNBytes(HEADER_SIZE);
+            ByteBuffer header = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            if (bytes.length < HEADER_SIZE || header.getInt(0) != MAGIC) {
+                return 0;
+            }
+            return Math.max(0, header.getLong(8));
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+    
+    /**
+     * 남은 체크포인트를 모두 쓰고 쓰기 스레드를 끝냅니다. 체크포인트 파일은 다음 시작을 위해 남겨 둡니다.
+     * 월드를 갱신하는 스레드가 멈춘 뒤에 호출해야 합니다.
+     * @throws IOException 마지막 쓰기가 실패한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        filled.add(end);
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+    
+    // Getters
+    public int getTakenCount() { return taken; }
+    public int getSkippedCount() { return skipped; }
+    public int getWrittenCount() { return written; }
+    public long getLastPauseNanos() { return lastPauseNanos; }
+    public long getMaxPauseNanos() { return maxPauseNanos; }
+    public long getLastWriteNanos() { return lastWriteNanos; }
+}
\ No newline at end of file
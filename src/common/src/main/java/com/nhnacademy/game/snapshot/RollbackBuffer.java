@@ -0,0 +1,157 @@
+package com.nhnacademy.game.snapshot;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 클라이언트 예측과 되감기(rollback)를 위한 스냅숏, 입력 링 버퍼
+ * 원격 서버가 상태를 정하는 게임에서 클라이언트는 서버를 기다리지 않고 자기 입력으로 월드를 먼저 진행합니다.
+ * step()은 프레임마다 진행하기 전의 상태를 스냅숏으로 남기고 그 프레임의 입력을 기록합니다.
+ *
+ * 서버의 상태가 도착하면 reconcile()이 같은 프레임에 남겨 둔 스냅숏과 바이트 단위로 비교합니다.
+ * 같으면 예측이 맞았으므로 그 프레임까지를 확정하기만 하고, 다르면 서버 상태로 되돌린 뒤
+ * 기록해 둔 입력으로 현재 프레임까지 다시 진행합니다. 시뮬레이션이 결정적이면 되감기는 서버가
+ * 늦게 받은 입력을 다르게 적용했을 때만 일어납니다.
+ *
+ * 슬롯의 SnapshotBuffer는 처음에 할당해 두고 덮어쓰므로 프레임마다 할당하지 않습니다.
+ * 확정되지 않은 프레임이 용량만큼 쌓이면 canStep()이 false가 되므로, 그동안은 진행을 멈추고 서버를 기다려야 합니다.
+ * 스레드에 안전하지 않으므로 월드를 진행하는 스레드에서만 사용해야 합니다.
+ */
+public final class RollbackBuffer {
+    /**
+     * 입력 하나를 적용하고 월드를 고정된 한 프레임만큼 진행하는 함수
+     * 클라이언트와 서버가 같은 함수로 진행해야 같은 입력에서 같은 상태가 나옵니다.
+     */
+    public interface Simulation {
+        void step(int input);
+    }
+    
+    private final Snapshottable world;
+    private final Simulation simulation;
+    private final int capacity;
+    private final SnapshotBuffer[] snapshots;
+    private final int[] inputs;
+    private final int[] frames;
+    
+    // 다음에 진행할 프레임과 서버가 확정한 마지막 프레임 (처음 상태는 서버와 같은 0번 프레임입니다)
+    private int frame = 0;
+    private int confirmedFrame = 0;
+    
+    // 통계
+    private long confirmedCount = 0;
+    private long rollbackCount = 0;
+    private long resimulatedFrames = 0;
+    private int lastRollbackFrames = 0;
+    private long lastRollbackNanos = 0;
+    private long maxRollbackNanos = 0;
+    
+    /**
+     * 월드의 현재 상태를 서버와 합의한 0번 프레임으로 삼습니다.
+     * @param world 예측할 월드
+     * @param simulation 입력을 적용하고 한 프레임 진행하는 함수
+     * @param capacity 확정되지 않은 채로 쌓아 둘 수 있는 최대 프레임 수 (왕복 지연보다 넉넉해야 합니다)
+     * @param snapshotCapacity 슬롯마다 처음 할당할 스냅숏 크기 (바이트, 모자라면 그때 키웁니다)
+     */
+    public RollbackBuffer(Snapshottable world, Simulation simulation, int capacity, int snapshotCapacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("용량은 2 이상이어야 합니다: " + capacity);
+        }
+        this.world = world;
+        this.simulation = simulation;
+        this.capacity = capacity;
+        this.snapshots = new SnapshotBuffer[capacity];
+        this.inputs = new int[capacity];
+        this.frames = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            snapshots[i] = SnapshotBuffer.allocate(snapshotCapacity);
+            frames[i] = -1;
+        }
+    }
+    
+    /**
+     * 확정되지 않은 프레임이 용량보다 적어 더 예측할 수 있는지 확인합니다.
+     */
+    public boolean canStep() {
+        return frame - confirmedFrame < capacity - 1;
+    }
+    
+    /**
+     * 현재 상태를 남기고 입력을 적용해 한 프레임 진행합니다.
+     * @param input 이번 프레임의 입력
+     * @return 입력이 속한 프레임 번호 (서버에 입력과 함께 보냅니다)
+     * @throws IllegalStateException 확정되지 않은 프레임이 가득 찬 경우
+     */
+    public int step(int input) {
+        if (!canStep()) {
+            throw new IllegalStateException("서버가 확정하지 않은 프레임이 너무 많습니다: " + (frame - confirmedFrame));
+        }
+        int slot = frame % capacity;
+        snapshots[slot].save(world);
+        inputs[slot] = input;
+        frames[slot] = frame;
+        simulation.step(input);
+        return frame++;
+    }
+    
+    /**
+     * 서버가 보낸 상태를 반영합니다.
+     * @param serverFrame 상태의 프레임 번호 (그 프레임의 입력을 적용하기 전 상태)
+     * @param snapshot 현재 위치부터 한계까지 SnapshotBuffer 형식의 스냅숏이 담긴 버퍼 (위치는 바뀌지 않습니다)
+     * @return 예측이 어긋나 되감았으면 true, 예측이 맞았거나 이미 확정한 프레임이면 false
+     */
+    public boolean reconcile(int serverFrame, ByteBuffer snapshot) {
+        if (serverFrame <= confirmedFrame) {
+            // 늦게 도착했거나 중복된 상태
+            return false;
+        }
+        int slot = serverFrame % capacity;
+        if (serverFrame < frame && frames[slot] == serverFrame && snapshots[slot].getBuffer().equals(snapshot)) {
+            confirmedFrame = serverFrame;
+            confirmedCount++;
+            return false;
+        }
+        
+        long start = System.nanoTime();
+        SnapshotBuffer confirmed = snapshots[slot];
+        confirmed.load(snapshot);
+        confirmed.restore(world);
+        frames[slot] = serverFrame;
+        if (serverFrame >= frame) {
+            // 예측보다 앞선 상태이면 되풀이할 입력이 없으므로 그 프레임으로 건너뜁니다.
+            frame = serverFrame;
+        }
+        for (int f = serverFrame; f < frame; f++) {
+            int s = f % capacity;
+            if (f > serverFrame) {
+                snapshots[s].save(world);
+            }
+            simulation.step(inputs[s]);
+        }
+        confirmedFrame = serverFrame;
+        confirmedCount++;
+        
+        lastRollbackNanos = System.nanoTime() - start;
+        maxRollbackNanos = Math.max(maxRollbackNanos, lastRollbackNanos);
+        lastRollbackFrames = frame - serverFrame;
+        resimulatedFrames += lastRollbackFrames;
+        rollbackCount++;
+        return true;
+    }
+    
+    /**
+     * @return 확정되지 않은 프레임 수 (되감으면 다시 진행할 프레임 수)
+     */
+    public int getPendingFrames() {
+        return frame - confirmedFrame;
+    }
+    
+    // Getters
+    public int getFrame() { return frame; }
+    public int getConfirmedFrame() { return confirmedFrame; }
+    public int getCapacity() { return capacity; }
+    public long getConfirmedCount() { return confirmedCount; }
+    public long getRollbackCount() { return rollbackCount; }
+    public long getResimulatedFrames() { return resimulatedFrames; }
+    public int getLastRollbackFrames() { return lastRollbackFrames; }
+    public long getLastRollbackNanos() { return lastRollbackNanos; }
+    public long getMaxRollbackNanos() { return maxRollbackNanos; }
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+package com.nhnacademy.game.snapshot;
+
+import javafx.scene.paint.Color;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 스냅숏을 기록하고 읽는 재사용 버퍼
+ * 힙 버퍼, 다이렉트 버퍼, 메모리 매핑 파일 세 가지 중 하나를 감싸며,
+ * 저장할 때마다 새로 할당하지 않고 같은 버퍼를 덮어씁니다. 공간이 모자라면 그때만 키웁니다.
+ *
+ * 스냅숏은 16바이트 헤더와 본문으로 이루어집니다.
+ * 헤더: 매직 넘버(int), 종류(int), 버전(short), 예약(short), 본문 길이(int)
+ * 모든 값은 리틀 엔디언으로 기록합니다.
+ *
+ * 메모리 매핑 버퍼는 파일 내용이 곧 버퍼이므로 save()만으로 파일에 반영되고,
+ * 운영체제가 디스크에 쓰기 전에 프로세스가 죽어도 내용이 남습니다.
+ * 전원이 꺼져도 남아야 한다면 force()를 호출해야 합니다.
+ *
+ * 스레드에 안전하지 않으므로 저장하는 객체를 갱신하는 스레드에서만 사용해야 합니다.
+ */
+public final class SnapshotBuffer implements Closeable {
+    /** "SNAP" */
+    public static final int MAGIC = 0x534E4150;
+    public static final int HEADER_SIZE = 16;
+    
+    private ByteBuffer buffer;
+    private final boolean direct;
+    private final FileChannel channel;
+    private int size = 0;
+    
+    private SnapshotBuffer(ByteBuffer buffer, boolean direct, FileChannel channel) {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        this.direct = direct;
+        this.channel = channel;
+    }
+    
+    /**
+     * 힙 버퍼를 사용하는 스냅숏 버퍼를 만듭니다.
+     * @param capacity 처음 용량 (바이트)
+     */
+    public static SnapshotBuffer allocate(int capacity) {
+        return new SnapshotBuffer(ByteBuffer.allocate(capacity), false, null);
+    }
+    
+    /**
+     * 다이렉트 버퍼를 사용하는 스냅숏 버퍼를 만듭니다.
+     * 채널로 바로 내보낼 때 복사가 한 번 줄어듭니다.
+     * @param capacity 처음 용량 (바이트)
+     */
+    public static SnapshotBuffer allocateDirect(int capacity) {
+        return new SnapshotBuffer(ByteBuffer.allocateDirect(capacity), true, null);
+    }
+    
+    /**
+     * 파일을 메모리에 매핑한 스냅숏 버퍼를 만듭니다.
+     * 파일이 없으면 만들고, 이미 있으면 그 내용을 그대로 restore()할 수 있습니다.
+     * @param file 스냅숏 파일
+     * @param capacity 처음 용량 (바이트, 파일이 더 크면 파일 크기)
+     * @throws IOException 파일을 열거나 매핑하지 못한 경우
+     */
+    public static SnapshotBuffer map(Path file, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                                               StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long mappedSize = Math.max(capacity, channel.size());
+            return new SnapshotBuffer(channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize), true, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * 이미 스냅숏이 담긴 버퍼를 감쌉니다. 파일에서 읽거나 압축을 푼 스냅숏을 restore()할 때 씁니다.
+     * @param buffer 위치 0부터 스냅숏이 담긴 버퍼 (바이트 순서는 리틀 엔디언으로 바뀝니다)
+     */
+    public static SnapshotBuffer wrap(ByteBuffer buffer) {
+        return new SnapshotBuffer(buffer, buffer.isDirect(), null);
+    }
+    
+    /**
+     * 다른 곳에서 받은 스냅숏을 버퍼에 복사합니다. 이전 내용은 덮어쓰고, 이후 restore()로 복원할 수 있습니다.
+     * @param snapshot 현재 위치부터 한계까지 스냅숏이 담긴 버퍼 (위치는 바뀌지 않습니다)
+     */
+    public void load(ByteBuffer snapshot) {
+        int length = snapshot.remaining();
+        ensureCapacity(length);
+        buffer.clear();
+        buffer.put(snapshot.duplicate());
+        size = length;
+    }
+    
+    /**
+     * 객체의 현재 상태를 버퍼에 저장합니다. 이전 내용은 덮어씁니다.
+     * @param source 저장할 객체
+     * @return 헤더를 포함한 스냅숏 크기 (바이트)
+     */
+    public int save(Snapshottable source) {
+        ensureCapacity(HEADER_SIZE + source.getSnapshotSize());
+        
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putInt(source.getSnapshotKind());
+        buffer.putShort((short) source.getSnapshotVersion());
+        buffer.putShort((short) 0);
+        buffer.putInt(0);
+        source.writeSnapshot(buffer);
+        
+        size = buffer.position();
+        buffer.putInt(12, size - HEADER_SIZE);
+        return size;
+    }
+    
+    /**
+     * 버퍼에 저장된 스냅숏으로 객체의 상태를 되돌립니다.
+     * @param target 복원할 객체
+     * @throws IllegalArgumentException 스냅숏이 아니거나, 종류가 다르거나, 읽을 수 없는 버전인 경우
+     */
+    public void restore(Snapshottable target) {
+        buffer.clear();
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("스냅숏이 아닙니다");
+        }
+        int kind = buffer.getInt();
+        if (kind != target.getSnapshotKind()) {
+            throw new IllegalArgumentException("스냅숏 종류가 다릅니다: " + Integer.toHexString(kind));
+        }
+        int version = buffer.getShort() & 0xFFFF;
+        if (version > target.getSnapshotVersion()) {
+            throw new IllegalArgumentException("지원하지 않는 스냅숏 버전입니다: " + version);
+        }
+        buffer.getShort();
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("스냅숏이 잘렸습니다: " + length + " 바이트");
+        }
+        
+        buffer.limit(HEADER_SIZE + length);
+        target.readSnapshot(buffer, version);
+        size = HEADER_SIZE + length;
+    }
+    
+    /**
+     * 버퍼가 최소한 주어진 크기가 되도록 키웁니다.
+     * 키울 때는 두 배씩 늘리며, 기존 내용은 옮기지 않습니다.
+     */
+    private void ensureCapacity(int required) {
+        if (buffer.capacity() >= required) {
+            return;
+        }
+        int capacity = Math.max(required, buffer.capacity() * 2);
+        if (channel != null) {
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            } catch (IOException e) {
+                throw new IllegalStateException("스냅숏 파일을 늘리지 못했습니다", e);
+            }
+        } else if (direct) {
+            buffer = ByteBuffer.allocateDirect(capacity);
+        } else {
+            buffer = ByteBuffer.allocate(capacity);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    /**
+     * 메모리 매핑 버퍼의 내용을 디스크에 기록합니다. 다른 버퍼에서는 아무 일도 하지 않습니다.
+     */
+    public void force() {
+        if (buffer instanceof MappedByteBuffer) {
+            ((MappedByteBuffer) buffer).force();
+        }
+    }
+    
+    /**
+     * 마지막으로 저장하거나 복원한 스냅숏을 담은 버퍼를 반환합니다.
+     * 위치는 0, 한계는 스냅숏 크기로 설정되며 다음 save()에서 내용이 바뀝니다.
+     * @return 내부 버퍼
+     */
+    public ByteBuffer getBuffer() {
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+    
+    /**
+     * 색상을 float 네 개로 기록합니다. JavaFX 색상은 float로 저장되므로 그대로 되돌릴 수 있습니다.
+     */
+    public static void putColor(ByteBuffer buffer, Color color) {
+        buffer.putFloat((float) color.getRed());
+        buffer.putFloat((float) color.getGreen());
+        buffer.putFloat((float) color.getBlue());
+        buffer.putFloat((float) color.getOpacity());
+    }
+    
+    /**
+     * putColor()로 기록한 색상을 읽습니다.
+     * 읽은 값이 previous와 같으면 새로 만들지 않고 previous를 반환하므로,
+     * 같은 색상이 이어지는 목록을 복원할 때 색상 객체를 공유할 수 있습니다.
+     * @param previous 직전에 읽은 색상 (없으면 null)
+     */
+    public static Color getColor(ByteBuffer buffer, Color previous) {
+        float red = buffer.getFloat();
+        float green = buffer.getFloat();
+        float blue = buffer.getFloat();
+        float opacity = buffer.getFloat();
+        if (previous != null && (float) previous.getRed() == red && (float) previous.getGreen() == green &&
+            (float) previous.getBlue() == blue && (float) previous.getOpacity() == opacity) {
+            return previous;
+        }
+        return new Color(red, green, blue, opacity);
+    }
+    
+    // Getters
+    public int size() { return size; }
+    public int capacity() { return buffer.capacity(); }
+    public boolean isMapped() { return channel != null; }
+}
\ No newline at end of file
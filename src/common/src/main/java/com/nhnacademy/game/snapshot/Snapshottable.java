@@ -0,0 +1,43 @@
+package com.nhnacademy.game.snapshot;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 상태를 바이너리 스냅숏으로 저장하고 복원할 수 있는 객체의 인터페이스
+ * 헤더(매직 넘버, 종류, 버전, 길이)는 SnapshotBuffer가 기록하고,
+ * 구현 클래스는 그 뒤에 오는 본문만 읽고 씁니다.
+ */
+public interface Snapshottable {
+    /**
+     * 스냅숏 종류를 반환합니다. 다른 종류의 스냅숏을 복원하지 않도록 헤더에 기록됩니다.
+     * @return 종류 값 (보통 네 글자 ASCII를 int로 묶은 값)
+     */
+    int getSnapshotKind();
+    
+    /**
+     * 현재 본문 형식의 버전을 반환합니다.
+     * 형식을 바꿀 때마다 올리고, readSnapshot()은 그 이하의 버전을 모두 읽을 수 있어야 합니다.
+     * @return 형식 버전
+     */
+    int getSnapshotVersion();
+    
+    /**
+     * 현재 상태를 기록하는 데 필요한 최대 바이트 수를 반환합니다.
+     * SnapshotBuffer는 기록하기 전에 이만큼의 공간을 확보합니다.
+     * @return 본문 크기의 상한 (바이트)
+     */
+    int getSnapshotSize();
+    
+    /**
+     * 현재 상태를 버퍼에 기록합니다.
+     * @param buffer 본문을 기록할 버퍼 (getSnapshotSize()만큼의 공간이 남아 있습니다)
+     */
+    void writeSnapshot(ByteBuffer buffer);
+    
+    /**
+     * 버퍼의 본문으로 상태를 되돌립니다.
+     * @param buffer 본문이 담긴 버퍼
+     * @param version 본문을 기록할 때의 형식 버전
+     */
+    void readSnapshot(ByteBuffer buffer, int version);
+}
\ No newline at end of file
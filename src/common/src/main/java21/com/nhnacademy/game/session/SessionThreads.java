@@ -0,0 +1,47 @@
+package com.nhnacademy.game.session;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션마다 하나씩 쓸 스레드를 만드는 곳
+ * 이 파일은 JDK 21 이상용 구현으로, 멀티 릴리스 JAR의 META-INF/versions/21에 들어갑니다.
+ * 세션 스레드는 가상 스레드이므로 세션 수천 개가 몇 개의 캐리어 스레드를 나눠 쓰고,
+ * 세션이 틱 안에서 기다리는(sleep, I/O) 동안에는 캐리어를 다른 세션에 내줍니다.
+ */
+public final class SessionThreads {
+    // 세션 하나는 깊게 호출하지 않으므로 기본(보통 1MB)보다 작은 스택으로 수천 개를 띄웁니다.
+    private static final long PLATFORM_STACK_SIZE = 256 * 1024;
+    
+    private SessionThreads() {
+    }
+    
+    /**
+     * 이 JVM에서 세션에 쓸 스레드를 만드는 팩터리를 반환합니다.
+     * @param prefix 스레드 이름 앞부분 (뒤에 번호가 붙습니다)
+     * @return 가상 스레드를 만드는 팩터리
+     */
+    public static ThreadFactory newFactory(String prefix) {
+        return Thread.ofVirtual().name(prefix, 0).factory();
+    }
+    
+    /**
+     * 스택을 작게 잡은 데몬 플랫폼 스레드를 만드는 팩터리를 반환합니다.
+     * @param prefix 스레드 이름 앞부분 (뒤에 번호가 붙습니다)
+     */
+    public static ThreadFactory platform(String prefix) {
+        AtomicInteger next = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(null, runnable, prefix + next.getAndIncrement(), PLATFORM_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    /**
+     * @return newFactory()가 가상 스레드를 만들면 true
+     */
+    public static boolean isVirtual() {
+        return true;
+    }
+}
\ No newline at end of file